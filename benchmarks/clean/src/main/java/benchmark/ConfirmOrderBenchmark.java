@@ -0,0 +1,87 @@
+package benchmark;
+
+import order.entity.model.*;
+import order.framework.config.OrderModuleConfiguration;
+import order.interfaceadapter.controller.OrderController;
+import order.usecase.boundary.output.OrderGateway;
+import order.usecase.dto.OrderConfirmationResponse;
+import org.openjdk.jmh.annotations.*;
+import product.entity.model.Product;
+import product.framework.config.ProductModuleConfiguration;
+import product.usecase.boundary.output.ProductGateway;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * confirmOrder - the hot path: external check, stock reservation,
+ * calculation, two saves, notification.
+ *
+ * A fresh DRAFT order 1 is saved before every call (Level.Invocation, on top
+ * of the stored version - save is a compare-and-set);
+ * the wiring is rebuilt per iteration so the in-memory confirmations
+ * do not grow across the whole run.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ConfirmOrderBenchmark {
+
+    private static final Long ORDER_ID = 1L;
+
+    @Param({"BIG_DECIMAL", "LONG_CENTS"})
+    private MoneyArithmetic arithmetic;
+
+    private OrderController controller;
+    private OrderGateway orderGateway;
+
+    @Setup(Level.Trial)
+    public void muteStdout() {
+        Stdout.mute();
+    }
+
+    @TearDown(Level.Trial)
+    public void restoreStdout() {
+        Stdout.restore();
+    }
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        ProductModuleConfiguration productConfig = new ProductModuleConfiguration();
+        OrderModuleConfiguration orderConfig = new OrderModuleConfiguration(
+                productConfig.getProductGateway(),
+                productConfig.getReserveStockUseCase(),
+                arithmetic
+        );
+        controller = orderConfig.getOrderController();
+        orderGateway = orderConfig.getOrderGateway();
+
+        // Enough stock so no iteration fails with InsufficientStockException
+        replenishStock(productConfig.getProductGateway(), 1L);
+        replenishStock(productConfig.getProductGateway(), 2L);
+    }
+
+    @Setup(Level.Invocation)
+    public void resetOrder() {
+        Order order = Order.create(new OrderId(ORDER_ID), new CustomerId("CUST-001"));
+        order.addItem(new ProductId(1L), new Quantity(2), Money.of(29.99));
+        order.addItem(new ProductId(2L), new Quantity(1), Money.of(49.99));
+        long version = orderGateway.findById(order.getId()).map(Order::getVersion).orElse(0L);
+        orderGateway.save(Order.reconstitute(order.getId(), order.getCustomerId(), order.getItems(),
+                order.getStatus(), version));
+    }
+
+    @Benchmark
+    public OrderConfirmationResponse confirmOrder() {
+        return controller.confirmOrder(ORDER_ID);
+    }
+
+    private static void replenishStock(ProductGateway productGateway, Long productId) {
+        Product stocked = productGateway.findById(new product.entity.model.ProductId(productId))
+                .orElseThrow();
+        stocked.releaseStock(Integer.MAX_VALUE - stocked.getStock());
+        productGateway.save(stocked);
+    }
+}
@@ -0,0 +1,43 @@
+package benchmark;
+
+import order.entity.model.*;
+import order.usecase.dto.OrderMapper;
+import order.usecase.dto.OrderResponse;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * OrderMapper.toResponse depending on the number of items.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class OrderMapperBenchmark {
+
+    @Param({"1", "10", "100"})
+    private int itemCount;
+
+    @Param({"BIG_DECIMAL", "LONG_CENTS"})
+    private MoneyArithmetic arithmetic;
+
+    private OrderMapper mapper;
+    private Order order;
+
+    @Setup
+    public void setUp() {
+        mapper = new OrderMapper(arithmetic);
+        order = Order.create(new OrderId(1L), new CustomerId("CUST-001"));
+        for (int i = 1; i <= itemCount; i++) {
+            order.addItem(new ProductId((long) i), new Quantity(i), Money.of(9.99 + i));
+        }
+    }
+
+    @Benchmark
+    public OrderResponse toResponse() {
+        return mapper.toResponse(order);
+    }
+}
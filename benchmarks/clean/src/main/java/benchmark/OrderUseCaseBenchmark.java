@@ -0,0 +1,69 @@
+package benchmark;
+
+import order.entity.model.*;
+import order.framework.config.OrderModuleConfiguration;
+import order.interfaceadapter.controller.OrderController;
+import order.usecase.dto.OrderItemRequest;
+import order.usecase.dto.OrderResponse;
+import order.usecase.dto.UpdateOrderRequest;
+import org.openjdk.jmh.annotations.*;
+import product.framework.config.ProductModuleConfiguration;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * getOrder / updateOrder through the full path:
+ * Controller → Input Boundary → Interactor → Gateway → Mapper.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class OrderUseCaseBenchmark {
+
+    private static final Long ORDER_ID = 1L;
+
+    private OrderController controller;
+    private UpdateOrderRequest request;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Stdout.mute();
+        ProductModuleConfiguration productConfig = new ProductModuleConfiguration();
+        OrderModuleConfiguration orderConfig = new OrderModuleConfiguration(
+                productConfig.getProductGateway(),
+                productConfig.getReserveStockUseCase()
+        );
+        controller = orderConfig.getOrderController();
+
+        // The clean module has no seed order
+        Order order = Order.create(new OrderId(ORDER_ID), new CustomerId("CUST-001"));
+        order.addItem(new ProductId(1L), new Quantity(2), Money.of(29.99));
+        order.addItem(new ProductId(2L), new Quantity(1), Money.of(49.99));
+        orderConfig.getOrderGateway().save(order);
+
+        request = new UpdateOrderRequest(List.of(
+                new OrderItemRequest(1L, 2, new BigDecimal("29.99")),
+                new OrderItemRequest(2L, 1, new BigDecimal("49.99"))
+        ));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        Stdout.restore();
+    }
+
+    @Benchmark
+    public OrderResponse getOrder() {
+        return controller.getOrder(ORDER_ID);
+    }
+
+    @Benchmark
+    public OrderResponse updateOrder() {
+        return controller.updateOrder(ORDER_ID, request);
+    }
+}
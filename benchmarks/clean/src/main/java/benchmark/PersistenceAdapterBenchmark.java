@@ -0,0 +1,70 @@
+package benchmark;
+
+import order.entity.model.*;
+import order.interfaceadapter.gateway.InMemoryOrderGateway;
+import org.openjdk.jmh.annotations.*;
+import product.entity.model.Price;
+import product.entity.model.Product;
+import product.entity.model.ProductName;
+import product.interfaceadapter.gateway.InMemoryProductGateway;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Gateway implementations directly, without an interactor in front.
+ *
+ * Both in-memory gateways store the entity instances as-is (no mapping).
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class PersistenceAdapterBenchmark {
+
+    private final OrderId orderId = new OrderId(1L);
+    private final product.entity.model.ProductId productId = new product.entity.model.ProductId(1L);
+
+    private InMemoryOrderGateway orderGateway;
+    private InMemoryProductGateway productGateway;
+    private Order order;
+    private Product product;
+
+    @Setup
+    public void setUp() {
+        orderGateway = new InMemoryOrderGateway();
+        productGateway = new InMemoryProductGateway();
+
+        order = Order.create(orderId, new CustomerId("CUST-001"));
+        order.addItem(new ProductId(1L), new Quantity(2), Money.of(29.99));
+        order.addItem(new ProductId(2L), new Quantity(1), Money.of(49.99));
+        order = orderGateway.save(order);
+
+        product = Product.create(productId, new ProductName("Laptop"), Price.of(999.99), 100);
+        productGateway.save(product);
+    }
+
+    @Benchmark
+    public Optional<Order> loadOrder() {
+        return orderGateway.findById(orderId);
+    }
+
+    @Benchmark
+    public Order saveOrder() {
+        // Compare-and-set: continue from the stored version
+        order = orderGateway.save(order);
+        return order;
+    }
+
+    @Benchmark
+    public Optional<Product> loadProduct() {
+        return productGateway.findById(productId);
+    }
+
+    @Benchmark
+    public Product saveProduct() {
+        return productGateway.save(product);
+    }
+}
@@ -0,0 +1,28 @@
+package benchmark;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+
+/**
+ * Silences System.out while measuring.
+ *
+ * The gateways log through the EventLog; publishing into the ring stays in
+ * the measurement, the writer thread writes into the void (a full ring drops
+ * events instead of blocking).
+ */
+final class Stdout {
+
+    private static final PrintStream ORIGINAL = System.out;
+    private static final PrintStream MUTED = new PrintStream(OutputStream.nullOutputStream());
+
+    private Stdout() {
+    }
+
+    static void mute() {
+        System.setOut(MUTED);
+    }
+
+    static void restore() {
+        System.setOut(ORIGINAL);
+    }
+}
@@ -0,0 +1,104 @@
+package benchmark;
+
+import order.adapter.config.OrderConfiguration;
+import order.adapter.input.rest.OrderController;
+import order.application.dto.OrderConfirmationResponse;
+import order.application.port.output.LoadOrderPort;
+import order.application.port.output.SaveOrderPort;
+import order.domain.model.*;
+import org.openjdk.jmh.annotations.*;
+import product.adapter.config.ProductConfiguration;
+import product.application.port.output.LoadProductPort;
+import product.application.port.output.SaveProductPort;
+import product.domain.model.Product;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * confirmOrder - der Hot Path: externe Prüfung, Produktinfos,
+ * Stock-Reservierung, Berechnung, zwei Saves, Benachrichtigung
+ * (Benachrichtigung nur Einstellen in die Outbox, Versand asynchron).
+ *
+ * Vor jedem Aufruf wird Order 1 wieder als DRAFT gespeichert (Level.Invocation,
+ * auf der aktuellen Version - save ist ein Compare-and-Set),
+ * die Verdrahtung wird pro Iteration neu aufgebaut, damit die
+ * In-Memory-Confirmations nicht über die gesamte Messung wachsen.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ConfirmOrderBenchmark {
+
+    private static final OrderId ORDER_ID = OrderId.of(1L);
+    private static final CustomerId CUSTOMER_ID = CustomerId.of("CUST-001");
+    private static final List<OrderItem> ITEMS = List.of(
+        OrderItem.create(ProductId.of(1L), Quantity.of(2), Money.of(29.99)),
+        OrderItem.create(ProductId.of(2L), Quantity.of(1), Money.of(49.99))
+    );
+
+    @Param({"BIG_DECIMAL", "LONG_CENTS"})
+    private MoneyArithmetic arithmetic;
+
+    private OrderController controller;
+    private LoadOrderPort loadOrderPort;
+    private SaveOrderPort saveOrderPort;
+    private OrderConfiguration orderConfig;
+
+    @Setup(Level.Trial)
+    public void muteStdout() {
+        Stdout.mute();
+    }
+
+    @TearDown(Level.Trial)
+    public void restoreStdout() {
+        Stdout.restore();
+    }
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        ProductConfiguration productConfig = new ProductConfiguration();
+        orderConfig = new OrderConfiguration(
+            productConfig.loadProductPort(),
+            productConfig.reserveStockUseCase(),
+            arithmetic
+        );
+        controller = orderConfig.orderController();
+        loadOrderPort = orderConfig.loadOrderPort();
+        saveOrderPort = orderConfig.saveOrderPort();
+
+        // Genug Bestand, damit keine Iteration an InsufficientStockException scheitert
+        for (OrderItem item : ITEMS) {
+            replenishStock(productConfig.loadProductPort(), productConfig.saveProductPort(),
+                item.getProductId().value());
+        }
+    }
+
+    // Threads der Konfiguration (Outbox-Dispatcher) pro Iteration beenden
+    @TearDown(Level.Iteration)
+    public void closeConfiguration() {
+        orderConfig.close();
+    }
+
+    @Setup(Level.Invocation)
+    public void resetOrder() {
+        long version = loadOrderPort.loadById(ORDER_ID).orElseThrow().getVersion();
+        saveOrderPort.save(Order.reconstitute(ORDER_ID, CUSTOMER_ID, ITEMS, OrderStatus.DRAFT, version));
+    }
+
+    @Benchmark
+    public OrderConfirmationResponse confirmOrder() {
+        return controller.confirmOrder(ORDER_ID.value());
+    }
+
+    private static void replenishStock(LoadProductPort loadProductPort, SaveProductPort saveProductPort,
+                                       Long productId) {
+        Product stocked = loadProductPort.loadById(product.domain.model.ProductId.of(productId))
+            .orElseThrow();
+        stocked.releaseStock(Integer.MAX_VALUE - stocked.getStockQuantity());
+        saveProductPort.save(stocked);
+    }
+}
@@ -0,0 +1,70 @@
+package benchmark;
+
+import order.adapter.output.persistence.ConfirmationPersistenceAdapter;
+import order.domain.model.Money;
+import order.domain.model.OrderConfirmation;
+import order.domain.model.OrderId;
+import org.openjdk.jmh.annotations.*;
+import shared.collection.ConcurrentLongHashMap;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * "Alle Confirmations zwischen T1 und T2" bei 30 Tagen Daten.
+ *
+ * fullScan: bisheriges Layout (Hash-Map nach ID), jede Abfrage prüft alle Einträge.
+ * findBetween: nach Tag partitioniert und sortiert, liest nur den Zeitraum.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConfirmationRangeBenchmark {
+
+    private static final int DAYS = 30;
+    private static final LocalDateTime START = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+    @Param({"100000"})
+    public int confirmations;
+
+    // Länge des abgefragten Zeitraums
+    @Param({"1", "24"})
+    public int hours;
+
+    private final ConcurrentLongHashMap<OrderConfirmation> hashMap = new ConcurrentLongHashMap<>();
+    private ConfirmationPersistenceAdapter adapter;
+    private LocalDateTime from;
+    private LocalDateTime to;
+
+    @Setup
+    public void setUp() {
+        adapter = new ConfirmationPersistenceAdapter();
+        Random random = new Random(42);
+        Money amount = Money.of(99.99);
+        for (long id = 1; id <= confirmations; id++) {
+            LocalDateTime confirmedAt = START.plusSeconds(random.nextInt(DAYS * 24 * 3600));
+            OrderConfirmation saved = adapter.save(OrderConfirmation.reconstitute(
+                null, OrderId.of(id), amount, amount, amount, confirmedAt));
+            hashMap.put(saved.getId(), saved);
+        }
+        from = START.plusDays(DAYS / 2).plusHours(7);
+        to = from.plusHours(hours);
+    }
+
+    @Benchmark
+    public List<OrderConfirmation> fullScan() {
+        return hashMap.values().stream()
+            .filter(c -> !c.getConfirmedAt().isBefore(from) && c.getConfirmedAt().isBefore(to))
+            .toList();
+    }
+
+    @Benchmark
+    public List<OrderConfirmation> findBetween() {
+        return adapter.findBetween(from, to).toList();
+    }
+}
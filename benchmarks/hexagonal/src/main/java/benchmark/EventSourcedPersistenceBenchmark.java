@@ -0,0 +1,81 @@
+package benchmark;
+
+import order.adapter.output.persistence.EventSourcedOrderPersistenceAdapter;
+import order.adapter.output.persistence.OrderPersistenceAdapter;
+import order.application.port.output.LoadOrderPort;
+import order.application.port.output.SaveOrderPort;
+import order.domain.model.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Eine Position hinzufügen und speichern, auf einer großen Order.
+ *
+ * snapshotAdapter: OrderPersistenceAdapter schreibt die ganze Order (O(Positionen)).
+ * eventSourced: nur das ItemAdded-Event (O(Delta)), Snapshot alle 32 Events.
+ *
+ * Die Order wächst mit jedem Aufruf - daher SingleShotTime über einen festen
+ * Batch, vor jeder Iteration wird die Order neu angelegt.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 20, batchSize = EventSourcedPersistenceBenchmark.BATCH)
+@Measurement(iterations = 20, batchSize = EventSourcedPersistenceBenchmark.BATCH)
+@Fork(1)
+public class EventSourcedPersistenceBenchmark {
+
+    static final int BATCH = 256;
+
+    private final OrderItem item = OrderItem.create(ProductId.of(3L), Quantity.of(1), Money.of(new BigDecimal("9.99")));
+
+    @Param({"10", "500"})
+    public int items;
+
+    private OrderPersistenceAdapter snapshotAdapter;
+    private EventSourcedOrderPersistenceAdapter eventSourcedAdapter;
+    private Order snapshotOrder;
+    private Order eventSourcedOrder;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        snapshotAdapter = new OrderPersistenceAdapter();
+        eventSourcedAdapter = new EventSourcedOrderPersistenceAdapter();
+        snapshotOrder = largeOrder(snapshotAdapter, snapshotAdapter);
+        eventSourcedOrder = largeOrder(eventSourcedAdapter, eventSourcedAdapter);
+    }
+
+    private Order largeOrder(LoadOrderPort load, SaveOrderPort save) {
+        Order order = load.loadById(OrderId.of(1L)).orElseThrow();
+        List<OrderItem> lines = new ArrayList<>(items);
+        for (int i = 0; i < items; i++) {
+            lines.add(OrderItem.create(ProductId.of((long) (i % 3) + 1), Quantity.of(1), Money.of(new BigDecimal("19.99"))));
+        }
+        order.replaceItems(lines);
+        return save.save(order);
+    }
+
+    @Benchmark
+    public Order snapshotAdapter() {
+        snapshotOrder.addItem(item);
+        snapshotOrder = snapshotAdapter.save(snapshotOrder);
+        return snapshotOrder;
+    }
+
+    @Benchmark
+    public Order eventSourced() {
+        eventSourcedOrder.addItem(item);
+        eventSourcedOrder = eventSourcedAdapter.save(eventSourcedOrder);
+        return eventSourcedOrder;
+    }
+
+    @Benchmark
+    public Order eventSourcedLoad() {
+        // Snapshot plus höchstens 31 Events nachspielen
+        return eventSourcedAdapter.loadById(OrderId.of(1L)).orElseThrow();
+    }
+}
@@ -0,0 +1,110 @@
+package benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import shared.collection.ConcurrentLongHashMap;
+import shared.collection.LongHashMap;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Lookup mit zufälligen Schlüsseln bei 1M Einträgen: HashMap/ConcurrentHashMap
+ * mit Long-Schlüsseln gegen LongHashMap/ConcurrentLongHashMap.
+ *
+ * Der Speicherbedarf ergibt sich aus populate* mit -prof gc
+ * (gc.alloc.rate.norm = Bytes für den Aufbau der ganzen Map, inkl. Resize).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgs = {"-Xms2g", "-Xmx2g"})
+public class LongMapBenchmark {
+
+    @Param({"1000000"})
+    private int size;
+
+    private final Object value = new Object();
+
+    private long[] keys;
+    private HashMap<Long, Object> hashMap;
+    private ConcurrentHashMap<Long, Object> concurrentHashMap;
+    private LongHashMap<Object> longHashMap;
+    private ConcurrentLongHashMap<Object> concurrentLongHashMap;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        keys = new long[size];
+        SplittableRandom random = new SplittableRandom(42);
+        for (int i = 0; i < size; i++) {
+            keys[i] = random.nextLong(1, Long.MAX_VALUE);
+        }
+        hashMap = new HashMap<>();
+        concurrentHashMap = new ConcurrentHashMap<>();
+        longHashMap = new LongHashMap<>();
+        concurrentLongHashMap = new ConcurrentLongHashMap<>();
+        for (long key : keys) {
+            hashMap.put(key, value);
+            concurrentHashMap.put(key, value);
+            longHashMap.put(key, value);
+            concurrentLongHashMap.put(key, value);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Cursor {
+        private final SplittableRandom random = new SplittableRandom();
+
+        int next(int bound) {
+            return random.nextInt(bound);
+        }
+    }
+
+    @Benchmark
+    public Object getHashMap(Cursor cursor) {
+        return hashMap.get(keys[cursor.next(size)]);
+    }
+
+    @Benchmark
+    public Object getLongHashMap(Cursor cursor) {
+        return longHashMap.get(keys[cursor.next(size)]);
+    }
+
+    @Benchmark
+    public Object getConcurrentHashMap(Cursor cursor) {
+        return concurrentHashMap.get(keys[cursor.next(size)]);
+    }
+
+    @Benchmark
+    public Object getConcurrentLongHashMap(Cursor cursor) {
+        return concurrentLongHashMap.get(keys[cursor.next(size)]);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Measurement(iterations = 5)
+    public Map<Long, Object> populateHashMap() {
+        HashMap<Long, Object> map = new HashMap<>();
+        for (long key : keys) {
+            map.put(key, value);
+        }
+        return map;
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Measurement(iterations = 5)
+    public LongHashMap<Object> populateLongHashMap() {
+        LongHashMap<Object> map = new LongHashMap<>();
+        for (long key : keys) {
+            map.put(key, value);
+        }
+        return map;
+    }
+}
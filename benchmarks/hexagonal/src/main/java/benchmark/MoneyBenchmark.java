@@ -0,0 +1,61 @@
+package benchmark;
+
+import order.domain.model.Money;
+import order.domain.model.MoneyCents;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Money-Arithmetik (BigDecimal + setScale bei jeder Operation)
+ * im Vergleich zu MoneyCents (long).
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class MoneyBenchmark {
+
+    // Nicht final: verhindert Constant Folding durch den JIT
+    private Money price = Money.of(29.99);
+    private Money other = Money.of(49.99);
+    private int quantity = 3;
+    private BigDecimal taxRate = new BigDecimal("0.19");
+
+    private MoneyCents priceCents = MoneyCents.of(price);
+    private MoneyCents otherCents = MoneyCents.of(other);
+    private MoneyCents.Rate taxRateCents = MoneyCents.Rate.of(taxRate);
+
+    @Benchmark
+    public Money add() {
+        return price.add(other);
+    }
+
+    @Benchmark
+    public Money multiplyByQuantity() {
+        return price.multiply(quantity);
+    }
+
+    @Benchmark
+    public Money multiplyByRate() {
+        return price.multiply(taxRate);
+    }
+
+    @Benchmark
+    public MoneyCents addCents() {
+        return priceCents.add(otherCents);
+    }
+
+    @Benchmark
+    public MoneyCents multiplyByQuantityCents() {
+        return priceCents.multiply(quantity);
+    }
+
+    @Benchmark
+    public MoneyCents multiplyByRateCents() {
+        return priceCents.multiply(taxRateCents);
+    }
+}
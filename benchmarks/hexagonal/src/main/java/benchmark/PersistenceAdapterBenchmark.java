@@ -0,0 +1,65 @@
+package benchmark;
+
+import order.adapter.output.persistence.OrderPersistenceAdapter;
+import order.domain.model.Order;
+import order.domain.model.OrderId;
+import org.openjdk.jmh.annotations.*;
+import product.adapter.output.persistence.ProductPersistenceAdapter;
+import product.domain.model.Product;
+import product.domain.model.ProductId;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Output Adapter direkt, ohne Service davor.
+ *
+ * Order-Adapter: Mapping Domain ↔ Entity bei jedem load/save.
+ * Product-Adapter: ConcurrentHashMap, keine Kopie.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class PersistenceAdapterBenchmark {
+
+    private final OrderId orderId = OrderId.of(1L);
+    private final ProductId productId = ProductId.of(1L);
+
+    private OrderPersistenceAdapter orderAdapter;
+    private ProductPersistenceAdapter productAdapter;
+    private Order order;
+    private Product product;
+
+    @Setup
+    public void setUp() {
+        orderAdapter = new OrderPersistenceAdapter();
+        productAdapter = new ProductPersistenceAdapter();
+        order = orderAdapter.loadById(orderId).orElseThrow();
+        product = productAdapter.loadById(productId).orElseThrow();
+    }
+
+    @Benchmark
+    public Optional<Order> loadOrder() {
+        return orderAdapter.loadById(orderId);
+    }
+
+    @Benchmark
+    public Order saveOrder() {
+        // Compare-and-Set: mit der gespeicherten Version weiterarbeiten
+        order = orderAdapter.save(order);
+        return order;
+    }
+
+    @Benchmark
+    public Optional<Product> loadProduct() {
+        return productAdapter.loadById(productId);
+    }
+
+    @Benchmark
+    public Product saveProduct() {
+        return productAdapter.save(product);
+    }
+}
@@ -0,0 +1,28 @@
+package benchmark;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+
+/**
+ * Schaltet System.out während der Messung stumm.
+ *
+ * Die Services loggen über das EventLog. Das Einstellen in den Ring bleibt
+ * im Messwert - das kostet auch in Produktion -, der Writer-Thread schreibt
+ * ins Leere (ist der Ring voll, werden Events verworfen statt zu blockieren).
+ */
+final class Stdout {
+
+    private static final PrintStream ORIGINAL = System.out;
+    private static final PrintStream MUTED = new PrintStream(OutputStream.nullOutputStream());
+
+    private Stdout() {
+    }
+
+    static void mute() {
+        System.setOut(MUTED);
+    }
+
+    static void restore() {
+        System.setOut(ORIGINAL);
+    }
+}
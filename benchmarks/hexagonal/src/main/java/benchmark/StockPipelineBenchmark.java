@@ -0,0 +1,78 @@
+package benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import product.adapter.config.ProductConfiguration;
+import product.adapter.input.pipeline.StockCommandPipeline;
+import product.application.port.input.ReserveStockUseCase;
+import product.domain.model.Product;
+import product.domain.model.ProductId;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * reserveStock mit 4 gleichzeitigen Threads auf dasselbe Produkt:
+ * direkt am ProductService (Produkt-Lock) gegen die StockCommandPipeline
+ * (ein Business-Thread wendet alle Befehle an).
+ *
+ * pipelineBatched: BATCH Befehle veröffentlichen, dann auf alle warten -
+ * Durchsatz, wenn der Aufrufer nicht nach jedem Befehl blockiert.
+ * Zeit pro Aufruf, also pro BATCH Befehle.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+public class StockPipelineBenchmark {
+
+    private static final ProductId PRODUCT_ID = ProductId.of(1L);
+    private static final int BATCH = 16;
+
+    private ProductConfiguration productConfig;
+    private ReserveStockUseCase direct;
+    private StockCommandPipeline pipeline;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Stdout.mute();
+        productConfig = new ProductConfiguration();
+        direct = productConfig.reserveStockUseCase();
+        pipeline = new StockCommandPipeline(direct);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        pipeline.close();
+        Stdout.restore();
+    }
+
+    // Genug Bestand, damit keine Iteration an InsufficientStockException scheitert
+    @Setup(Level.Iteration)
+    public void replenishStock() {
+        Product stocked = productConfig.loadProductPort().loadById(PRODUCT_ID).orElseThrow();
+        stocked.releaseStock(Integer.MAX_VALUE - stocked.getStockQuantity());
+        productConfig.saveProductPort().save(stocked);
+    }
+
+    @Benchmark
+    public void direct() {
+        direct.reserveStock(PRODUCT_ID, 1);
+    }
+
+    @Benchmark
+    public void pipeline() {
+        pipeline.reserveStock(PRODUCT_ID, 1);
+    }
+
+    @Benchmark
+    public void pipelineBatched() {
+        CompletableFuture<?>[] results = new CompletableFuture<?>[BATCH];
+        for (int i = 0; i < BATCH; i++) {
+            results[i] = pipeline.reserveStockAsync(PRODUCT_ID, 1);
+        }
+        CompletableFuture.allOf(results).join();
+    }
+}
@@ -0,0 +1,94 @@
+package benchmark;
+
+import order.adapter.output.persistence.FsyncPolicy;
+import order.adapter.output.persistence.WalOrderPersistenceAdapter;
+import order.domain.model.Order;
+import order.domain.model.OrderId;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * WAL-Adapter mit 8 gleichzeitigen Threads.
+ *
+ * fsyncMillis = 0: fsync pro save, Group Commit über alle wartenden Threads.
+ * fsyncMillis > 0: fsync im Hintergrund, save wartet nur auf das write().
+ *
+ * save ist ein Compare-and-Set über die Version - jeder Thread schreibt
+ * deshalb seine eigene Order (Kopie von Order 1) und arbeitet mit der
+ * jeweils gespeicherten Version weiter.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(8)
+public class WalPersistenceBenchmark {
+
+    @Param({"0", "10"})
+    private long fsyncMillis;
+
+    private Path directory;
+    private WalOrderPersistenceAdapter adapter;
+    private Order order;
+
+    @State(Scope.Thread)
+    public static class ThreadOrder {
+
+        private Order order;
+
+        @Setup(Level.Trial)
+        public void setUp(WalPersistenceBenchmark benchmark) {
+            Order template = benchmark.order;
+            order = benchmark.adapter.save(Order.reconstitute(null, template.getCustomerId(),
+                template.getItems(), template.getStatus()));
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        Stdout.mute();
+        directory = Files.createTempDirectory("wal-benchmark");
+        FsyncPolicy policy = fsyncMillis == 0
+            ? FsyncPolicy.everyWrite()
+            : FsyncPolicy.every(Duration.ofMillis(fsyncMillis));
+        adapter = new WalOrderPersistenceAdapter(directory, policy);
+        order = adapter.loadById(OrderId.of(1L)).orElseThrow();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        adapter.close();
+        try (Stream<Path> files = Files.walk(directory)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> {
+                try {
+                    Files.delete(path);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        }
+        Stdout.restore();
+    }
+
+    @Benchmark
+    public Order saveOrder(ThreadOrder threadOrder) {
+        threadOrder.order = adapter.save(threadOrder.order);
+        return threadOrder.order;
+    }
+
+    @Benchmark
+    public Optional<Order> loadOrder() {
+        return adapter.loadById(OrderId.of(1L));
+    }
+}
@@ -0,0 +1,84 @@
+package benchmark;
+
+import order.config.OrderConfiguration;
+import order.dto.OrderConfirmationResponse;
+import order.model.*;
+import order.presentation.OrderController;
+import order.repository.OrderRepository;
+import org.openjdk.jmh.annotations.*;
+import product.config.ProductConfiguration;
+import product.model.Product;
+import product.repository.ProductRepository;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * confirmOrder - der Hot Path: externe Prüfung, Produktinfos,
+ * Stock-Reservierung, Berechnung, zwei Saves, Benachrichtigung.
+ *
+ * Vor jedem Aufruf wird Order 1 wieder als DRAFT gespeichert (Level.Invocation),
+ * die Verdrahtung wird pro Iteration neu aufgebaut, damit die
+ * In-Memory-Confirmations nicht über die gesamte Messung wachsen.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ConfirmOrderBenchmark {
+
+    private static final OrderId ORDER_ID = OrderId.of(1L);
+    private static final CustomerId CUSTOMER_ID = CustomerId.of("CUST-001");
+    private static final List<OrderItem> ITEMS = List.of(
+        OrderItem.create(ProductId.of(1L), Quantity.of(2), Money.of(29.99)),
+        OrderItem.create(ProductId.of(2L), Quantity.of(1), Money.of(49.99))
+    );
+
+    @Param({"BIG_DECIMAL", "LONG_CENTS"})
+    private MoneyArithmetic arithmetic;
+
+    private OrderController controller;
+    private OrderRepository orderRepository;
+
+    @Setup(Level.Trial)
+    public void muteStdout() {
+        Stdout.mute();
+    }
+
+    @TearDown(Level.Trial)
+    public void restoreStdout() {
+        Stdout.restore();
+    }
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        ProductConfiguration productConfig = new ProductConfiguration();
+        OrderConfiguration orderConfig = new OrderConfiguration(productConfig.productRepository(), arithmetic);
+        controller = orderConfig.orderController();
+        orderRepository = orderConfig.orderRepository();
+
+        // Genug Bestand, damit keine Iteration an InsufficientStockException scheitert
+        for (OrderItem item : ITEMS) {
+            replenishStock(productConfig.productRepository(), item.getProductId().value());
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void resetOrder() {
+        orderRepository.save(Order.reconstitute(ORDER_ID, CUSTOMER_ID, ITEMS, OrderStatus.DRAFT));
+    }
+
+    @Benchmark
+    public OrderConfirmationResponse confirmOrder() {
+        return controller.confirmOrder(ORDER_ID.value());
+    }
+
+    private static void replenishStock(ProductRepository productRepository, Long productId) {
+        Product stocked = productRepository.findById(product.model.ProductId.of(productId))
+            .orElseThrow();
+        stocked.releaseStock(Integer.MAX_VALUE - stocked.getStockQuantity());
+        productRepository.save(stocked);
+    }
+}
@@ -0,0 +1,46 @@
+package benchmark;
+
+import order.dto.OrderResponse;
+import order.service.OrderMapper;
+import order.model.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * OrderMapper.toResponse in Abhängigkeit von der Anzahl Positionen.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class OrderMapperBenchmark {
+
+    @Param({"1", "10", "100"})
+    private int itemCount;
+
+    @Param({"BIG_DECIMAL", "LONG_CENTS"})
+    private MoneyArithmetic arithmetic;
+
+    private OrderMapper mapper;
+    private Order order;
+
+    @Setup
+    public void setUp() {
+        mapper = new OrderMapper(arithmetic);
+        List<OrderItem> items = new ArrayList<>();
+        for (int i = 1; i <= itemCount; i++) {
+            items.add(OrderItem.create(ProductId.of((long) i), Quantity.of(i), Money.of(9.99 + i)));
+        }
+        order = Order.reconstitute(OrderId.of(1L), CustomerId.of("CUST-001"), items, OrderStatus.DRAFT);
+    }
+
+    @Benchmark
+    public OrderResponse toResponse() {
+        return mapper.toResponse(order);
+    }
+}
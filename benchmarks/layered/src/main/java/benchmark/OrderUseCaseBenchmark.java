@@ -0,0 +1,73 @@
+package benchmark;
+
+import order.config.OrderConfiguration;
+import order.dto.OrderItemRequest;
+import order.dto.OrderResponse;
+import order.dto.UpdateOrderRequest;
+import order.presentation.JsonResponse;
+import order.presentation.OrderController;
+import org.openjdk.jmh.annotations.*;
+import product.config.ProductConfiguration;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * getOrder / updateOrder über den kompletten Pfad:
+ * Controller → Service → Repository → Mapper.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class OrderUseCaseBenchmark {
+
+    private static final Long ORDER_ID = 1L;
+
+    private OrderController controller;
+    private String etag;
+    private UpdateOrderRequest request;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Stdout.mute();
+        ProductConfiguration productConfig = new ProductConfiguration();
+        OrderConfiguration orderConfig = new OrderConfiguration(productConfig.productRepository());
+        controller = orderConfig.orderController();
+        etag = controller.getOrderJson(ORDER_ID, null).etag();
+        request = new UpdateOrderRequest(List.of(
+            new OrderItemRequest(1L, 2, new BigDecimal("29.99")),
+            new OrderItemRequest(2L, 1, new BigDecimal("49.99"))
+        ));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        Stdout.restore();
+    }
+
+    @Benchmark
+    public OrderResponse getOrder() {
+        return controller.getOrder(ORDER_ID);
+    }
+
+    // Serialisierte Antwort aus dem Cache
+    @Benchmark
+    public JsonResponse getOrderJson() {
+        return controller.getOrderJson(ORDER_ID, null);
+    }
+
+    // If-None-Match mit aktuellem ETag → 304
+    @Benchmark
+    public JsonResponse getOrderJsonNotModified() {
+        return controller.getOrderJson(ORDER_ID, etag);
+    }
+
+    @Benchmark
+    public OrderResponse updateOrder() {
+        return controller.updateOrder(ORDER_ID, request);
+    }
+}
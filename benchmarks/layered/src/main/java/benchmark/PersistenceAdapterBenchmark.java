@@ -0,0 +1,64 @@
+package benchmark;
+
+import order.model.Order;
+import order.model.OrderId;
+import order.repository.InMemoryOrderRepository;
+import order.repository.OrderRepository;
+import org.openjdk.jmh.annotations.*;
+import product.model.Product;
+import product.model.ProductId;
+import product.repository.ProductRepository;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Repositories (Data Access Layer) direkt, ohne Service davor.
+ *
+ * Order-Repository: Mapping Domain ↔ Daten-Klasse bei jedem findById/save.
+ * Product-Repository: HashMap, keine Kopie.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class PersistenceAdapterBenchmark {
+
+    private final OrderId orderId = OrderId.of(1L);
+    private final ProductId productId = ProductId.of(1L);
+
+    private OrderRepository orderRepository;
+    private ProductRepository productRepository;
+    private Order order;
+    private Product product;
+
+    @Setup
+    public void setUp() {
+        orderRepository = new InMemoryOrderRepository();
+        productRepository = new ProductRepository();
+        order = orderRepository.findById(orderId).orElseThrow();
+        product = productRepository.findById(productId).orElseThrow();
+    }
+
+    @Benchmark
+    public Optional<Order> loadOrder() {
+        return orderRepository.findById(orderId);
+    }
+
+    @Benchmark
+    public Order saveOrder() {
+        return orderRepository.save(order);
+    }
+
+    @Benchmark
+    public Optional<Product> loadProduct() {
+        return productRepository.findById(productId);
+    }
+
+    @Benchmark
+    public Product saveProduct() {
+        return productRepository.save(product);
+    }
+}
@@ -0,0 +1,90 @@
+package benchmark;
+
+import order.application.dto.OrderConfirmationResponse;
+import order.application.repository.OrderRepository;
+import order.core.model.*;
+import order.infrastructure.config.OrderModuleConfiguration;
+import order.infrastructure.web.OrderController;
+import org.openjdk.jmh.annotations.*;
+import product.application.repository.ProductRepository;
+import product.core.model.Product;
+import product.infrastructure.config.ProductModuleConfiguration;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * confirmOrder - der Hot Path: externe Prüfung, Produktinfos,
+ * Stock-Reservierung, Berechnung, zwei Saves, Benachrichtigung.
+ *
+ * Vor jedem Aufruf wird Order 1 wieder als DRAFT gespeichert (Level.Invocation,
+ * auf der aktuellen Version - save ist ein Compare-and-Set),
+ * die Verdrahtung wird pro Iteration neu aufgebaut, damit die
+ * In-Memory-Confirmations nicht über die gesamte Messung wachsen.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ConfirmOrderBenchmark {
+
+    private static final OrderId ORDER_ID = OrderId.of(1L);
+    private static final CustomerId CUSTOMER_ID = CustomerId.of("CUST-001");
+    private static final List<OrderItem> ITEMS = List.of(
+        OrderItem.create(ProductId.of(1L), Quantity.of(2), Money.of(29.99)),
+        OrderItem.create(ProductId.of(2L), Quantity.of(1), Money.of(49.99))
+    );
+
+    @Param({"BIG_DECIMAL", "LONG_CENTS"})
+    private MoneyArithmetic arithmetic;
+
+    private OrderController controller;
+    private OrderRepository orderRepository;
+
+    @Setup(Level.Trial)
+    public void muteStdout() {
+        Stdout.mute();
+    }
+
+    @TearDown(Level.Trial)
+    public void restoreStdout() {
+        Stdout.restore();
+    }
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        ProductModuleConfiguration productConfig = new ProductModuleConfiguration();
+        OrderModuleConfiguration orderConfig = new OrderModuleConfiguration(
+            productConfig.productRepository(),
+            productConfig.productStockService(),
+            arithmetic
+        );
+        controller = orderConfig.orderController();
+        orderRepository = orderConfig.orderRepository();
+
+        // Genug Bestand, damit keine Iteration an InsufficientStockException scheitert
+        for (OrderItem item : ITEMS) {
+            replenishStock(productConfig.productRepository(), item.getProductId().value());
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void resetOrder() {
+        long version = orderRepository.findById(ORDER_ID).orElseThrow().getVersion();
+        orderRepository.save(Order.reconstitute(ORDER_ID, CUSTOMER_ID, ITEMS, OrderStatus.DRAFT, version));
+    }
+
+    @Benchmark
+    public OrderConfirmationResponse confirmOrder() {
+        return controller.confirmOrder(ORDER_ID.value());
+    }
+
+    private static void replenishStock(ProductRepository productRepository, Long productId) {
+        Product stocked = productRepository.findById(product.core.model.ProductId.of(productId))
+            .orElseThrow();
+        stocked.releaseStock(Integer.MAX_VALUE - stocked.getStockQuantity());
+        productRepository.save(stocked);
+    }
+}
@@ -0,0 +1,76 @@
+package benchmark;
+
+import order.application.dto.OrderItemRequest;
+import order.application.dto.OrderResponse;
+import order.application.dto.UpdateOrderCommand;
+import order.infrastructure.config.OrderModuleConfiguration;
+import order.infrastructure.web.JsonResponse;
+import order.infrastructure.web.OrderController;
+import org.openjdk.jmh.annotations.*;
+import product.infrastructure.config.ProductModuleConfiguration;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * getOrder / updateOrder über den kompletten Pfad:
+ * Controller → Application Service → Repository → Mapper.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class OrderUseCaseBenchmark {
+
+    private static final Long ORDER_ID = 1L;
+
+    private OrderController controller;
+    private String etag;
+    private UpdateOrderCommand command;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Stdout.mute();
+        ProductModuleConfiguration productConfig = new ProductModuleConfiguration();
+        OrderModuleConfiguration orderConfig = new OrderModuleConfiguration(
+            productConfig.productRepository(),
+            productConfig.productStockService()
+        );
+        controller = orderConfig.orderController();
+        etag = controller.getOrderJson(ORDER_ID, null).etag();
+        command = new UpdateOrderCommand(List.of(
+            new OrderItemRequest(1L, 2, new BigDecimal("29.99")),
+            new OrderItemRequest(2L, 1, new BigDecimal("49.99"))
+        ));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        Stdout.restore();
+    }
+
+    @Benchmark
+    public OrderResponse getOrder() {
+        return controller.getOrder(ORDER_ID);
+    }
+
+    // Serialisierte Antwort aus dem Cache
+    @Benchmark
+    public JsonResponse getOrderJson() {
+        return controller.getOrderJson(ORDER_ID, null);
+    }
+
+    // If-None-Match mit aktuellem ETag → 304
+    @Benchmark
+    public JsonResponse getOrderJsonNotModified() {
+        return controller.getOrderJson(ORDER_ID, etag);
+    }
+
+    @Benchmark
+    public OrderResponse updateOrder() {
+        return controller.updateOrder(ORDER_ID, command);
+    }
+}
@@ -0,0 +1,65 @@
+package benchmark;
+
+import order.core.model.Order;
+import order.core.model.OrderId;
+import order.infrastructure.persistence.InMemoryOrderRepository;
+import org.openjdk.jmh.annotations.*;
+import product.core.model.Product;
+import product.core.model.ProductId;
+import product.infrastructure.persistence.InMemoryProductRepository;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Repository-Implementierungen direkt, ohne Service davor.
+ *
+ * Order-Repository: Mapping Domain ↔ Daten-Klasse bei jedem findById/save.
+ * Product-Repository: HashMap, keine Kopie.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class PersistenceAdapterBenchmark {
+
+    private final OrderId orderId = OrderId.of(1L);
+    private final ProductId productId = ProductId.of(1L);
+
+    private InMemoryOrderRepository orderRepository;
+    private InMemoryProductRepository productRepository;
+    private Order order;
+    private Product product;
+
+    @Setup
+    public void setUp() {
+        orderRepository = new InMemoryOrderRepository();
+        productRepository = new InMemoryProductRepository();
+        order = orderRepository.findById(orderId).orElseThrow();
+        product = productRepository.findById(productId).orElseThrow();
+    }
+
+    @Benchmark
+    public Optional<Order> loadOrder() {
+        return orderRepository.findById(orderId);
+    }
+
+    @Benchmark
+    public Order saveOrder() {
+        // Compare-and-Set: mit der gespeicherten Version weiterarbeiten
+        order = orderRepository.save(order);
+        return order;
+    }
+
+    @Benchmark
+    public Optional<Product> loadProduct() {
+        return productRepository.findById(productId);
+    }
+
+    @Benchmark
+    public Product saveProduct() {
+        return productRepository.save(product);
+    }
+}
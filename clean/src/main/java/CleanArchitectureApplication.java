@@ -8,6 +8,7 @@ import order.usecase.dto.OrderItemRequest;
 import order.usecase.dto.OrderResponse;
 import order.usecase.dto.UpdateOrderRequest;
 import product.framework.config.ProductModuleConfiguration;
+import shared.log.EventLog;
 
 import java.math.BigDecimal;
 import java.util.List;
@@ -41,6 +42,8 @@ import java.util.List;
  */
 public class CleanArchitectureApplication {
 
+    private static final long LOG_FLUSH_MILLIS = 1_000;
+
     public static void main(String[] args) {
         System.out.println("=== Clean Architecture Demo ===\n");
 
@@ -68,6 +71,7 @@ public class CleanArchitectureApplication {
         // 4. Get the order via Controller
         System.out.println("\n--- Getting Order ---");
         OrderResponse orderResponse = controller.getOrder(1L);
+        EventLog.flush(LOG_FLUSH_MILLIS);  // use case events before the presenter output
         System.out.println(presenter.presentOrder(orderResponse));
 
         // 5. Update the order
@@ -78,11 +82,13 @@ public class CleanArchitectureApplication {
                 new OrderItemRequest(3L, 3, BigDecimal.valueOf(29.99))
         ));
         OrderResponse updatedResponse = controller.updateOrder(1L, updateRequest);
+        EventLog.flush(LOG_FLUSH_MILLIS);  // use case events before the presenter output
         System.out.println(presenter.presentOrder(updatedResponse));
 
         // 6. Confirm the order
         System.out.println("\n--- Confirming Order ---");
         OrderConfirmationResponse confirmationResponse = controller.confirmOrder(1L);
+        EventLog.flush(LOG_FLUSH_MILLIS);  // use case events before the presenter output
         System.out.println(presenter.presentConfirmation(confirmationResponse));
 
         System.out.println("\n=== Demo Complete ===");
@@ -0,0 +1,72 @@
+import order.entity.exception.OrderException;
+import order.entity.exception.OrderNotFoundException;
+import order.entity.model.*;
+import order.framework.config.OrderModuleConfiguration;
+import order.framework.web.OrderHttpRoutes;
+import product.entity.exception.InsufficientStockException;
+import product.entity.exception.ProductNotFoundException;
+import product.framework.config.ProductModuleConfiguration;
+import product.framework.web.ProductHttpRoutes;
+import shared.http.HttpServerAdapter;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.util.concurrent.Executors;
+
+/**
+ * Runs the Clean Architecture variant behind a real HTTP server.
+ *
+ *   GET  /orders/{id}
+ *   PUT  /orders/{id}            {"items":[{"productId":1,"quantity":2,"price":999.99}]}
+ *   POST /orders/{id}/confirm
+ *   GET  /products, /products/{id}
+ *
+ * Usage: java CleanHttpApplication [port], default 8080.
+ *
+ * The in-memory gateways are not thread-safe, so requests are handled
+ * one at a time (single worker thread). Keep-alive and concurrent
+ * connections still work.
+ */
+public class CleanHttpApplication {
+
+    private static final int DEFAULT_PORT = 8080;
+
+    public static void main(String[] args) throws IOException {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_PORT;
+
+        ProductModuleConfiguration productConfig = new ProductModuleConfiguration();
+        OrderModuleConfiguration orderConfig = new OrderModuleConfiguration(
+                productConfig.getProductGateway(),
+                productConfig.getReserveStockUseCase()
+        );
+
+        // Same sample order as CleanArchitectureApplication - the order gateway starts empty
+        Order order = Order.create(new OrderId(1L), new CustomerId("CUST-001"));
+        order.addItem(new ProductId(1L), new Quantity(2), Money.of(999.99));
+        order.addItem(new ProductId(2L), new Quantity(1), Money.of(79.99));
+        orderConfig.getOrderGateway().save(order);
+
+        HttpServerAdapter server = new HttpServerAdapter(
+                new InetSocketAddress(port), Executors.newSingleThreadExecutor(), CleanHttpApplication::statusOf);
+        new OrderHttpRoutes(orderConfig.getOrderController()).registerOn(server);
+        new ProductHttpRoutes(productConfig.getGetProductUseCase(), productConfig.getProductGateway()).registerOn(server);
+        server.start();
+
+        Runtime.getRuntime().addShutdownHook(new Thread(server::close));
+        System.out.println("Clean HTTP server listening on port " + server.port());
+    }
+
+    static int statusOf(RuntimeException e) {
+        if (e instanceof OrderNotFoundException || e instanceof ProductNotFoundException) {
+            return 404;
+        }
+        if (e instanceof OrderException || e instanceof InsufficientStockException
+                || e instanceof IllegalStateException) {
+            return 409;
+        }
+        if (e instanceof IllegalArgumentException || e instanceof ArithmeticException) {
+            return 400;
+        }
+        return 500;
+    }
+}
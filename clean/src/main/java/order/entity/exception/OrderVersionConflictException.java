@@ -0,0 +1,28 @@
+package order.entity.exception;
+
+import order.entity.model.OrderId;
+
+/**
+ * Exception thrown when an Order was saved by someone else since it was loaded.
+ * Nothing was written; the caller may reload, reapply the change and retry.
+ */
+public class OrderVersionConflictException extends OrderException {
+
+    private final long expectedVersion;
+    private final long actualVersion;
+
+    public OrderVersionConflictException(OrderId orderId, long expectedVersion, long actualVersion) {
+        super("Order modified concurrently: " + orderId
+                + " (expected version " + expectedVersion + ", current version " + actualVersion + ")");
+        this.expectedVersion = expectedVersion;
+        this.actualVersion = actualVersion;
+    }
+
+    public long getExpectedVersion() {
+        return expectedVersion;
+    }
+
+    public long getActualVersion() {
+        return actualVersion;
+    }
+}
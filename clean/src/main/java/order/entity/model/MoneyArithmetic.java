@@ -0,0 +1,12 @@
+package order.entity.model;
+
+/**
+ * Selects the money arithmetic used for totals and confirmations.
+ *
+ * BIG_DECIMAL: Money (BigDecimal) - default.
+ * LONG_CENTS: MoneyCents (long) - same results, no allocation per item.
+ */
+public enum MoneyArithmetic {
+    BIG_DECIMAL,
+    LONG_CENTS
+}
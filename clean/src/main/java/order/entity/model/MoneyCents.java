@@ -0,0 +1,111 @@
+package order.entity.model;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Objects;
+
+/**
+ * Value Object representing a monetary amount in cents.
+ *
+ * Alternative to Money for the hot path: long arithmetic instead of
+ * BigDecimal, no intermediate objects per item.
+ * Overflow throws ArithmeticException instead of wrapping silently.
+ */
+public class MoneyCents {
+
+    private final long cents;
+
+    public MoneyCents(long cents) {
+        this.cents = cents;
+    }
+
+    public static MoneyCents of(long cents) {
+        return new MoneyCents(cents);
+    }
+
+    /**
+     * Money always has scale 2, so its unscaled value is exactly the cents.
+     */
+    public static MoneyCents of(Money money) {
+        return new MoneyCents(money.getAmount().unscaledValue().longValueExact());
+    }
+
+    public static MoneyCents zero() {
+        return new MoneyCents(0);
+    }
+
+    public long getCents() {
+        return cents;
+    }
+
+    public MoneyCents add(MoneyCents other) {
+        return new MoneyCents(Math.addExact(cents, other.cents));
+    }
+
+    public MoneyCents multiply(int factor) {
+        return new MoneyCents(Math.multiplyExact(cents, factor));
+    }
+
+    /**
+     * Multiplies by a rate (e.g. tax), rounded like Money: HALF_UP.
+     */
+    public MoneyCents multiply(Rate rate) {
+        long scaled = Math.multiplyExact(Math.abs(cents), rate.getBasisPoints());
+        long rounded = Math.addExact(scaled, Rate.BASIS / 2) / Rate.BASIS;
+        return new MoneyCents(cents < 0 ? -rounded : rounded);
+    }
+
+    public boolean isGreaterThanOrEqual(MoneyCents other) {
+        return cents >= other.cents;
+    }
+
+    public Money toMoney() {
+        return new Money(BigDecimal.valueOf(cents, 2));
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        MoneyCents that = (MoneyCents) o;
+        return cents == that.cents;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(cents);
+    }
+
+    @Override
+    public String toString() {
+        return BigDecimal.valueOf(cents, 2) + " EUR";
+    }
+
+    /**
+     * Rate in basis points (1/10000), e.g. 0.19 → 1900.
+     */
+    public static class Rate {
+
+        static final long BASIS = 10_000;
+
+        private final long basisPoints;
+
+        public Rate(long basisPoints) {
+            if (basisPoints < 0) {
+                throw new IllegalArgumentException("Rate cannot be negative");
+            }
+            this.basisPoints = basisPoints;
+        }
+
+        /**
+         * Throws ArithmeticException if the rate has more than 4 decimal places.
+         */
+        public static Rate of(BigDecimal rate) {
+            return new Rate(rate.setScale(4, RoundingMode.UNNECESSARY).unscaledValue().longValueExact());
+        }
+
+        public long getBasisPoints() {
+            return basisPoints;
+        }
+    }
+}
@@ -19,25 +19,43 @@ public class Order {
     private final List<OrderItem> items;
     private OrderStatus status;
 
-    private Order(OrderId id, CustomerId customerId, List<OrderItem> items, OrderStatus status) {
+    // Optimistic locking: the persisted version this instance was loaded from, 0 = never saved
+    private final long version;
+
+    // Running totals, kept in sync on every item change
+    private Money total = Money.zero();
+    private long totalCents;
+    private int totalItemCount;
+
+    private Order(OrderId id, CustomerId customerId, List<OrderItem> items, OrderStatus status, long version) {
         this.id = id;
         this.customerId = customerId;
-        this.items = new ArrayList<>(items);
+        this.items = new ArrayList<>();
         this.status = status;
+        this.version = version;
+        items.forEach(this::appendItem);
     }
 
     /**
      * Factory method to create a new Order in DRAFT status.
      */
     public static Order create(OrderId id, CustomerId customerId) {
-        return new Order(id, customerId, new ArrayList<>(), OrderStatus.DRAFT);
+        return new Order(id, customerId, new ArrayList<>(), OrderStatus.DRAFT, 0);
     }
 
     /**
      * Factory method to reconstruct an Order from persistence.
      */
+    public static Order reconstitute(OrderId id, CustomerId customerId, List<OrderItem> items, OrderStatus status,
+                                     long version) {
+        return new Order(id, customerId, items, status, version);
+    }
+
+    /**
+     * Same as above, for an Order that has never been saved (version 0).
+     */
     public static Order reconstitute(OrderId id, CustomerId customerId, List<OrderItem> items, OrderStatus status) {
-        return new Order(id, customerId, items, status);
+        return reconstitute(id, customerId, items, status, 0);
     }
 
     public OrderId getId() {
@@ -56,6 +74,10 @@ public class Order {
         return status;
     }
 
+    public long getVersion() {
+        return version;
+    }
+
     /**
      * Adds an item to the order or updates quantity if product already exists.
      * DDD: Ersetzt existierendes Item durch neue Instanz (Immutability).
@@ -69,10 +91,9 @@ public class Order {
             OrderItem newItem = oldItem
                 .withQuantity(oldItem.getQuantity().add(quantity))
                 .withPrice(price);
-            items.remove(oldItem);
-            items.add(newItem);
+            replaceItem(oldItem, newItem);
         } else {
-            items.add(OrderItem.create(productId, quantity, price));
+            appendItem(OrderItem.create(productId, quantity, price));
         }
     }
 
@@ -81,7 +102,10 @@ public class Order {
      */
     public void removeItem(ProductId productId) {
         ensureModifiable();
-        items.removeIf(item -> item.getProductId().equals(productId));
+        items.stream()
+                .filter(item -> item.getProductId().equals(productId))
+                .toList()
+                .forEach(this::dropItem);
     }
 
     /**
@@ -91,11 +115,8 @@ public class Order {
     public void updateItemQuantity(ProductId productId, Quantity newQuantity) {
         ensureModifiable();
 
-        findItemByProductId(productId).ifPresent(oldItem -> {
-            OrderItem newItem = oldItem.withQuantity(newQuantity);
-            items.remove(oldItem);
-            items.add(newItem);
-        });
+        findItemByProductId(productId).ifPresent(oldItem ->
+                replaceItem(oldItem, oldItem.withQuantity(newQuantity)));
     }
 
     /**
@@ -119,21 +140,57 @@ public class Order {
     }
 
     /**
-     * Calculates the total amount of the order.
+     * Returns the total amount of the order. O(1), maintained on every change.
      */
     public Money calculateTotal() {
-        return items.stream()
-                .map(OrderItem::calculateTotal)
-                .reduce(Money.zero(), Money::add);
+        return total;
     }
 
     /**
-     * Returns the total number of items in the order.
+     * Returns the total amount in cents. O(1), maintained on every change.
+     */
+    public MoneyCents calculateTotalCents() {
+        return MoneyCents.of(totalCents);
+    }
+
+    /**
+     * Returns the total number of items in the order. O(1), maintained on every change.
      */
     public int getTotalItemCount() {
-        return items.stream()
-                .mapToInt(item -> item.getQuantity().getValue())
-                .sum();
+        return totalItemCount;
+    }
+
+    // Item list changes go through these three methods so the running totals stay in sync.
+    // The exact (overflow-checked) sums are computed before anything is mutated.
+
+    private void appendItem(OrderItem item) {
+        long newTotalCents = Math.addExact(totalCents, item.calculateTotalCents().getCents());
+        int newItemCount = Math.addExact(totalItemCount, item.getQuantity().getValue());
+        items.add(item);
+        total = total.add(item.calculateTotal());
+        totalCents = newTotalCents;
+        totalItemCount = newItemCount;
+    }
+
+    private void dropItem(OrderItem item) {
+        items.remove(item);
+        total = total.subtract(item.calculateTotal());
+        totalCents -= item.calculateTotalCents().getCents();
+        totalItemCount -= item.getQuantity().getValue();
+    }
+
+    private void replaceItem(OrderItem oldItem, OrderItem newItem) {
+        long newTotalCents = Math.addExact(
+                totalCents - oldItem.calculateTotalCents().getCents(),
+                newItem.calculateTotalCents().getCents());
+        int newItemCount = Math.addExact(
+                totalItemCount - oldItem.getQuantity().getValue(),
+                newItem.getQuantity().getValue());
+        items.remove(oldItem);
+        items.add(newItem);
+        total = total.subtract(oldItem.calculateTotal()).add(newItem.calculateTotal());
+        totalCents = newTotalCents;
+        totalItemCount = newItemCount;
     }
 
     private Optional<OrderItem> findItemByProductId(ProductId productId) {
@@ -14,7 +14,26 @@ public class OrderConfirmationCalculator {
     private static final Money BASE_SHIPPING_COST = Money.of(5.99);
     private static final Money PER_ITEM_SHIPPING_COST = Money.of(1.00);
 
+    private static final MoneyCents.Rate TAX_RATE_CENTS = MoneyCents.Rate.of(TAX_RATE);
+    private static final MoneyCents FREE_SHIPPING_THRESHOLD_CENTS = MoneyCents.of(FREE_SHIPPING_THRESHOLD);
+    private static final MoneyCents BASE_SHIPPING_COST_CENTS = MoneyCents.of(BASE_SHIPPING_COST);
+    private static final MoneyCents PER_ITEM_SHIPPING_COST_CENTS = MoneyCents.of(PER_ITEM_SHIPPING_COST);
+
+    private final MoneyArithmetic arithmetic;
+
+    public OrderConfirmationCalculator() {
+        this(MoneyArithmetic.BIG_DECIMAL);
+    }
+
+    public OrderConfirmationCalculator(MoneyArithmetic arithmetic) {
+        this.arithmetic = arithmetic;
+    }
+
     public OrderConfirmation calculate(Order order) {
+        if (arithmetic == MoneyArithmetic.LONG_CENTS) {
+            return calculateInCents(order);
+        }
+
         Money subtotal = order.calculateTotal();
         Money tax = calculateTax(subtotal);
         Money shipping = calculateShipping(order, subtotal);
@@ -30,6 +49,28 @@ public class OrderConfirmationCalculator {
         );
     }
 
+    /**
+     * Same calculation in cents. Only the results are converted to Money,
+     * summing over the items runs without BigDecimal.
+     */
+    private OrderConfirmation calculateInCents(Order order) {
+        MoneyCents subtotal = order.calculateTotalCents();
+        MoneyCents tax = subtotal.multiply(TAX_RATE_CENTS);
+        MoneyCents shipping = subtotal.isGreaterThanOrEqual(FREE_SHIPPING_THRESHOLD_CENTS)
+                ? MoneyCents.zero()
+                : BASE_SHIPPING_COST_CENTS.add(PER_ITEM_SHIPPING_COST_CENTS.multiply(order.getTotalItemCount()));
+        MoneyCents total = subtotal.add(tax).add(shipping);
+
+        return new OrderConfirmation(
+                order.getId(),
+                LocalDateTime.now(),
+                subtotal.toMoney(),
+                tax.toMoney(),
+                shipping.toMoney(),
+                total.toMoney()
+        );
+    }
+
     private Money calculateTax(Money subtotal) {
         return subtotal.multiply(TAX_RATE);
     }
@@ -12,11 +12,13 @@ public class OrderItem {
     private final ProductId productId;
     private final Quantity quantity;
     private final Money price;
+    private final MoneyCents priceCents;  // Converted once, used for LONG_CENTS
 
     private OrderItem(ProductId productId, Quantity quantity, Money price) {
         this.productId = Objects.requireNonNull(productId, "ProductId cannot be null");
         this.quantity = Objects.requireNonNull(quantity, "Quantity cannot be null");
         this.price = Objects.requireNonNull(price, "Price cannot be null");
+        this.priceCents = MoneyCents.of(price);
     }
 
     /**
@@ -65,6 +67,10 @@ public class OrderItem {
         return price.multiply(quantity.getValue());
     }
 
+    public MoneyCents calculateTotalCents() {
+        return priceCents.multiply(quantity.getValue());
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
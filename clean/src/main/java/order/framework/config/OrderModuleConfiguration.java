@@ -1,5 +1,6 @@
 package order.framework.config;
 
+import order.entity.model.MoneyArithmetic;
 import order.entity.model.OrderConfirmationCalculator;
 import order.interfaceadapter.controller.OrderController;
 import order.interfaceadapter.gateway.InMemoryOrderConfirmationGateway;
@@ -30,18 +31,34 @@ public class OrderModuleConfiguration {
     private final OrderGateway orderGateway;
 
     public OrderModuleConfiguration(ProductGateway productGateway, ReserveStockInputBoundary reserveStockUseCase) {
+        this(productGateway, reserveStockUseCase, MoneyArithmetic.BIG_DECIMAL);
+    }
+
+    /**
+     * Same as above, with a choice of money arithmetic (LONG_CENTS for the hot path).
+     */
+    public OrderModuleConfiguration(ProductGateway productGateway, ReserveStockInputBoundary reserveStockUseCase,
+                                    MoneyArithmetic arithmetic) {
+        this(productGateway, reserveStockUseCase, arithmetic, new ExternalOrderApiGateway());
+    }
+
+    /**
+     * Same as above, with a different external order system
+     * (e.g. for load tests, where the demo rule "id > 1000 exists" gets in the way).
+     */
+    public OrderModuleConfiguration(ProductGateway productGateway, ReserveStockInputBoundary reserveStockUseCase,
+                                    MoneyArithmetic arithmetic, ExternalOrderGateway externalOrderGateway) {
         // Gateways (Output Boundaries)
         this.orderGateway = new InMemoryOrderGateway();
         OrderConfirmationGateway confirmationGateway = new InMemoryOrderConfirmationGateway();
-        ExternalOrderGateway externalOrderGateway = new ExternalOrderApiGateway();
         NotificationGateway notificationGateway = new EmailNotificationGateway();
         ProductInfoGateway productInfoGateway = new ProductInfoGatewayImpl(productGateway);
 
         // Domain Services
-        OrderConfirmationCalculator confirmationCalculator = new OrderConfirmationCalculator();
+        OrderConfirmationCalculator confirmationCalculator = new OrderConfirmationCalculator(arithmetic);
 
         // Mapper
-        OrderMapper mapper = new OrderMapper();
+        OrderMapper mapper = new OrderMapper(arithmetic);
 
         // Use Cases (Interactors)
         GetOrderInputBoundary getOrderUseCase = new GetOrderInteractor(orderGateway, productInfoGateway, mapper);
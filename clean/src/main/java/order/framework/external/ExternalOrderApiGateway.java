@@ -2,6 +2,8 @@ package order.framework.external;
 
 import order.entity.model.OrderId;
 import order.usecase.boundary.output.ExternalOrderGateway;
+import shared.log.EventLog;
+import shared.log.EventLogger;
 
 /**
  * Framework layer implementation for external order API integration.
@@ -10,10 +12,12 @@ import order.usecase.boundary.output.ExternalOrderGateway;
  */
 public class ExternalOrderApiGateway implements ExternalOrderGateway {
 
+    private static final EventLogger LOG = EventLog.logger("EXTERNAL API");
+
     @Override
     public boolean existsInExternalSystem(OrderId orderId) {
         // Simulate external API call
-        System.out.println("Checking if order " + orderId + " exists in external system...");
+        LOG.info("Checking if order {} exists in external system...", orderId);
 
         // For demo purposes, order IDs > 1000 are considered to exist in external system
         return orderId.getValue() > 1000;
@@ -0,0 +1,105 @@
+package order.framework.web;
+
+import com.sun.net.httpserver.HttpExchange;
+import order.interfaceadapter.controller.OrderController;
+import order.usecase.dto.OrderConfirmationResponse;
+import order.usecase.dto.OrderItemRequest;
+import order.usecase.dto.OrderItemResponse;
+import order.usecase.dto.OrderResponse;
+import order.usecase.dto.UpdateOrderRequest;
+import shared.http.HttpServerAdapter;
+import shared.http.Json;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * HTTP routes for orders (Frameworks & Drivers layer).
+ *
+ * Translates HTTP into controller calls and the response DTOs into JSON.
+ * Field names follow the record components.
+ */
+public class OrderHttpRoutes {
+
+    private final OrderController controller;
+
+    public OrderHttpRoutes(OrderController controller) {
+        this.controller = controller;
+    }
+
+    public void registerOn(HttpServerAdapter server) {
+        server.route("GET", "/orders/{id}", this::getOrder)
+            .route("PUT", "/orders/{id}", this::updateOrder)
+            .route("POST", "/orders/{id}/confirm", this::confirmOrder);
+    }
+
+    private void getOrder(HttpExchange exchange, long id) throws IOException {
+        HttpServerAdapter.sendJson(exchange, 200, write(controller.getOrder(id)));
+    }
+
+    /**
+     * Body: {"items":[{"productId":1,"quantity":2,"price":999.99}]}
+     */
+    private void updateOrder(HttpExchange exchange, long id) throws IOException {
+        UpdateOrderRequest request = toRequest(Json.parseObject(HttpServerAdapter.readBody(exchange)));
+        HttpServerAdapter.sendJson(exchange, 200, write(controller.updateOrder(id, request)));
+    }
+
+    private void confirmOrder(HttpExchange exchange, long id) throws IOException {
+        HttpServerAdapter.sendJson(exchange, 200, write(controller.confirmOrder(id)));
+    }
+
+    private static UpdateOrderRequest toRequest(Map<String, Object> body) {
+        List<OrderItemRequest> items = Json.asArray(body.get("items"), "items").stream()
+            .map(item -> toItemRequest(Json.asObject(item, "item")))
+            .toList();
+        return new UpdateOrderRequest(items);
+    }
+
+    private static OrderItemRequest toItemRequest(Map<String, Object> item) {
+        return new OrderItemRequest(
+            Json.asNumber(item.get("productId"), "productId").longValueExact(),
+            Json.asNumber(item.get("quantity"), "quantity").intValueExact(),
+            Json.asNumber(item.get("price"), "price")
+        );
+    }
+
+    private static byte[] write(OrderResponse order) {
+        StringBuilder json = new StringBuilder(128 + order.items().size() * 80);
+        json.append("{\"orderId\":").append(order.orderId())
+            .append(",\"customerId\":");
+        Json.appendString(json, order.customerId());
+        json.append(",\"status\":");
+        Json.appendString(json, order.status());
+        json.append(",\"items\":[");
+        for (int i = 0; i < order.items().size(); i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            OrderItemResponse item = order.items().get(i);
+            json.append("{\"productId\":").append(item.productId())
+                .append(",\"quantity\":").append(item.quantity())
+                .append(",\"price\":").append(item.price().toPlainString())
+                .append(",\"total\":").append(item.total().toPlainString())
+                .append('}');
+        }
+        json.append("],\"total\":").append(order.total().toPlainString())
+            .append('}');
+        return json.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static byte[] write(OrderConfirmationResponse confirmation) {
+        StringBuilder json = new StringBuilder(256);
+        json.append("{\"orderId\":").append(confirmation.orderId())
+            .append(",\"confirmedAt\":");
+        Json.appendString(json, String.valueOf(confirmation.confirmedAt()));
+        json.append(",\"subtotal\":").append(confirmation.subtotal().toPlainString())
+            .append(",\"tax\":").append(confirmation.tax().toPlainString())
+            .append(",\"shipping\":").append(confirmation.shipping().toPlainString())
+            .append(",\"total\":").append(confirmation.total().toPlainString())
+            .append('}');
+        return json.toString().getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -1,22 +1,23 @@
 package order.interfaceadapter.gateway;
 
 import order.entity.model.OrderConfirmation;
-import order.entity.model.OrderId;
 import order.usecase.boundary.output.OrderConfirmationGateway;
-
-import java.util.HashMap;
-import java.util.Map;
+import shared.collection.LongHashMap;
+import shared.log.EventLog;
+import shared.log.EventLogger;
 
 /**
  * In-memory implementation of the OrderConfirmationGateway.
  */
 public class InMemoryOrderConfirmationGateway implements OrderConfirmationGateway {
 
-    private final Map<OrderId, OrderConfirmation> confirmations = new HashMap<>();
+    private static final EventLogger LOG = EventLog.logger("CONFIRMATION");
+
+    private final LongHashMap<OrderConfirmation> confirmations = new LongHashMap<>();
 
     @Override
     public void save(OrderConfirmation confirmation) {
-        confirmations.put(confirmation.getOrderId(), confirmation);
-        System.out.println("Saved order confirmation: " + confirmation);
+        confirmations.put(confirmation.getOrderId().getValue(), confirmation);
+        LOG.info("Saved order confirmation: {}", confirmation);
     }
 }
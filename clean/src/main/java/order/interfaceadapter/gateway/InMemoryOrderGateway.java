@@ -1,37 +1,63 @@
 package order.interfaceadapter.gateway;
 
+import order.entity.exception.OrderVersionConflictException;
 import order.entity.model.Order;
 import order.entity.model.OrderId;
 import order.usecase.boundary.output.OrderGateway;
+import shared.collection.LongHashMap;
 
 import java.util.*;
 
 /**
  * In-memory implementation of the OrderGateway.
  * In Clean Architecture, Gateway implementations live in the Interface Adapter layer.
+ *
+ * Stores a snapshot per order and hands out copies, so changes only become visible
+ * through save. save is a compare-and-set on the version: a stale copy is rejected
+ * instead of overwriting a newer state. Like the other in-memory gateways, not thread-safe.
  */
 public class InMemoryOrderGateway implements OrderGateway {
 
-    private final Map<OrderId, Order> orders = new HashMap<>();
+    // Keyed by the raw id - no boxed Long or OrderId per entry
+    private final LongHashMap<Order> orders = new LongHashMap<>();
 
     @Override
     public Optional<Order> findById(OrderId orderId) {
-        return Optional.ofNullable(orders.get(orderId));
+        return Optional.ofNullable(orders.get(orderId.getValue())).map(InMemoryOrderGateway::copyOf);
     }
 
     @Override
     public List<Order> findAll() {
-        return new ArrayList<>(orders.values());
+        return orders.values().stream()
+                .map(InMemoryOrderGateway::copyOf)
+                .toList();
     }
 
     @Override
     public Order save(Order order) {
-        orders.put(order.getId(), order);
-        return order;
+        long expectedVersion = order.getVersion();
+        Order snapshot = Order.reconstitute(order.getId(), order.getCustomerId(), order.getItems(),
+                order.getStatus(), expectedVersion + 1);
+        Order stored = orders.compute(order.getId().getValue(),
+                current -> versionOf(current) == expectedVersion ? snapshot : current);
+        if (stored != snapshot) {
+            throw new OrderVersionConflictException(order.getId(), expectedVersion, versionOf(stored));
+        }
+        return copyOf(snapshot);
+    }
+
+    // OrderItems are immutable - copying the list is enough
+    private static Order copyOf(Order order) {
+        return Order.reconstitute(order.getId(), order.getCustomerId(), order.getItems(),
+                order.getStatus(), order.getVersion());
+    }
+
+    private static long versionOf(Order order) {
+        return order != null ? order.getVersion() : 0;
     }
 
     @Override
     public void delete(OrderId orderId) {
-        orders.remove(orderId);
+        orders.remove(orderId.getValue());
     }
 }
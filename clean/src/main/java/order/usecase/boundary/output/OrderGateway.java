@@ -17,6 +17,13 @@ public interface OrderGateway {
 
     List<Order> findAll();
 
+    /**
+     * Compare-and-set on the version: only saves if the Order is unchanged since it
+     * was loaded. The returned Order carries the new version.
+     *
+     * @throws order.entity.exception.OrderVersionConflictException if the stored
+     *         version is no longer order.getVersion()
+     */
     Order save(Order order);
 
     void delete(OrderId orderId);
@@ -1,9 +1,11 @@
 package order.usecase.dto;
 
+import order.entity.model.MoneyArithmetic;
 import order.entity.model.Order;
 import order.entity.model.OrderConfirmation;
 import order.entity.model.OrderItem;
 
+import java.math.BigDecimal;
 import java.util.List;
 
 /**
@@ -11,6 +13,16 @@ import java.util.List;
  */
 public class OrderMapper {
 
+    private final MoneyArithmetic arithmetic;
+
+    public OrderMapper() {
+        this(MoneyArithmetic.BIG_DECIMAL);
+    }
+
+    public OrderMapper(MoneyArithmetic arithmetic) {
+        this.arithmetic = arithmetic;
+    }
+
     public OrderResponse toResponse(Order order) {
         List<OrderItemResponse> itemResponses = order.getItems().stream()
                 .map(this::toItemResponse)
@@ -21,7 +33,7 @@ public class OrderMapper {
                 order.getCustomerId().getValue(),
                 order.getStatus().name(),
                 itemResponses,
-                order.calculateTotal().getAmount()
+                totalOf(order)
         );
     }
 
@@ -30,7 +42,7 @@ public class OrderMapper {
                 item.getProductId().getValue(),
                 item.getQuantity().getValue(),
                 item.getPrice().getAmount(),
-                item.calculateTotal().getAmount()
+                totalOf(item)
         );
     }
 
@@ -44,4 +56,18 @@ public class OrderMapper {
                 confirmation.getTotal().getAmount()
         );
     }
+
+    private BigDecimal totalOf(Order order) {
+        if (arithmetic == MoneyArithmetic.LONG_CENTS) {
+            return BigDecimal.valueOf(order.calculateTotalCents().getCents(), 2);
+        }
+        return order.calculateTotal().getAmount();
+    }
+
+    private BigDecimal totalOf(OrderItem item) {
+        if (arithmetic == MoneyArithmetic.LONG_CENTS) {
+            return BigDecimal.valueOf(item.calculateTotalCents().getCents(), 2);
+        }
+        return item.calculateTotal().getAmount();
+    }
 }
@@ -8,6 +8,8 @@ import order.usecase.boundary.output.OrderGateway;
 import order.usecase.boundary.output.ProductInfoGateway;
 import order.usecase.dto.OrderMapper;
 import order.usecase.dto.OrderResponse;
+import shared.log.EventLog;
+import shared.log.EventLogger;
 
 /**
  * Interactor (Use Case Implementation) for getting an Order.
@@ -15,6 +17,8 @@ import order.usecase.dto.OrderResponse;
  */
 public class GetOrderInteractor implements GetOrderInputBoundary {
 
+    private static final EventLogger LOG = EventLog.logger("GET ORDER");
+
     private final OrderGateway orderGateway;
     private final ProductInfoGateway productInfoGateway;
     private final OrderMapper mapper;
@@ -35,7 +39,7 @@ public class GetOrderInteractor implements GetOrderInputBoundary {
         // Load and print product info for each item (demonstrating ACL usage)
         order.getItems().forEach(item -> {
             ProductInfoGateway.ProductInfo productInfo = productInfoGateway.loadProductInfo(item.getProductId());
-            System.out.println("Product: " + productInfo.name() + " from " + productInfo.manufacturer());
+            LOG.info("Product: {} from {}", productInfo.name(), productInfo.manufacturer());
         });
 
         return mapper.toResponse(order);
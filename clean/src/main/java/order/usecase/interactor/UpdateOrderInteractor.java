@@ -8,6 +8,8 @@ import order.usecase.dto.OrderMapper;
 import order.usecase.dto.OrderResponse;
 import order.usecase.dto.UpdateOrderRequest;
 
+import java.util.List;
+
 /**
  * Interactor (Use Case Implementation) for updating an Order.
  */
@@ -29,7 +31,7 @@ public class UpdateOrderInteractor implements UpdateOrderInputBoundary {
                 .orElseThrow(() -> new OrderNotFoundException(id));
 
         // Clear existing items and add new ones
-        order.getItems().forEach(item -> order.removeItem(item.getProductId()));
+        List.copyOf(order.getItems()).forEach(item -> order.removeItem(item.getProductId()));
 
         request.items().forEach(itemRequest -> {
             order.addItem(
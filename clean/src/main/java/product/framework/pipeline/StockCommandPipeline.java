@@ -0,0 +1,253 @@
+package product.framework.pipeline;
+
+import product.usecase.boundary.input.ReserveStockInputBoundary;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Stock reservations as commands through a ring buffer (Disruptor style).
+ *
+ * Callers claim a pre-allocated slot via CAS, fill in the command and
+ * publish it through the slot's (volatile) sequence number. A single
+ * business-logic thread applies the commands strictly in sequence order
+ * to the wrapped interactor and reports the result through a
+ * CompletableFuture.
+ *
+ * - No locks: only one thread changes stock. The interactor itself does
+ *   find, reserve, save without a lock - through the pipeline, concurrent
+ *   reservations of the same product no longer interleave.
+ * - Backpressure: when the ring is full the caller waits up to
+ *   publishTimeout, then gets an IllegalStateException.
+ * - Journal point: the business thread sees every command in its final
+ *   order - that is where journaling or replication would go.
+ *
+ * PRAGMATIC: a decorator in the framework layer, the use case layer stays
+ * untouched. The HTTP application serializes all calls anyway; the pipeline
+ * only matters when several threads call the input boundary directly.
+ */
+public class StockCommandPipeline implements ReserveStockInputBoundary, AutoCloseable {
+
+    private static final int DEFAULT_CAPACITY = 1 << 12;
+    private static final Duration DEFAULT_PUBLISH_TIMEOUT = Duration.ofMillis(50);
+    // Busy-waiting only pays off if another core can publish at the same time
+    private static final int SPINS_BEFORE_PARK = Runtime.getRuntime().availableProcessors() > 1 ? 1_000 : 0;
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final long FULL_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(10);
+
+    private final ReserveStockInputBoundary reserveStock;
+    private final Slot[] slots;
+    private final int mask;
+    private final long publishTimeoutNanos;
+    private final AtomicLong claimed = new AtomicLong();
+    private final AtomicLong processed = new AtomicLong();
+    private final Thread processor;
+    private volatile boolean processorParked;
+    private volatile boolean running = true;
+    // Processor has exited: nothing is applied anymore, pending commands fail
+    private volatile boolean terminated;
+    // close(timeout) expired: the processor stops after the current command
+    private volatile boolean aborted;
+
+    /**
+     * @param capacity number of slots, rounded up to the next power of two
+     */
+    public StockCommandPipeline(ReserveStockInputBoundary reserveStock, int capacity, Duration publishTimeout) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be positive");
+        }
+        this.reserveStock = reserveStock;
+        int size = Integer.highestOneBit(Math.max(2, capacity - 1)) << 1;
+        this.slots = new Slot[size];
+        for (int i = 0; i < size; i++) {
+            slots[i] = new Slot(i - (long) size);
+        }
+        this.mask = size - 1;
+        this.publishTimeoutNanos = publishTimeout.toNanos();
+
+        this.processor = new Thread(this::processLoop, "stock-command-processor");
+        processor.setDaemon(true);
+        processor.start();
+    }
+
+    public StockCommandPipeline(ReserveStockInputBoundary reserveStock) {
+        this(reserveStock, DEFAULT_CAPACITY, DEFAULT_PUBLISH_TIMEOUT);
+    }
+
+    public CompletableFuture<Void> executeAsync(Long productId, int quantity) {
+        if (!running || terminated) {
+            throw closed();
+        }
+        long sequence = claim();
+
+        CompletableFuture<Void> result = new CompletableFuture<>();
+        Slot slot = slots[(int) (sequence & mask)];
+        slot.productId = productId;
+        slot.quantity = quantity;
+        slot.result = result;
+        slot.sequence = sequence;  // publishes the slot
+        if (terminated) {
+            // The processor is already gone and may not have seen this slot
+            result.completeExceptionally(closed());
+        }
+
+        if (processorParked) {
+            LockSupport.unpark(processor);
+        }
+        return result;
+    }
+
+    /**
+     * Waits for the command and rethrows its exception unchanged
+     * (e.g. InsufficientStockException).
+     */
+    @Override
+    public void execute(Long productId, int quantity) {
+        try {
+            executeAsync(productId, quantity).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+
+    // Published but not yet applied - only a snapshot while calls are running
+    public long backlog() {
+        return claimed.get() - processed.get();
+    }
+
+    /**
+     * Stops accepting commands and waits until all published commands
+     * are applied (at most timeout). Commands still pending after that
+     * fail with an IllegalStateException.
+     */
+    public void close(Duration timeout) {
+        running = false;
+        LockSupport.unpark(processor);
+        try {
+            processor.join(Math.max(1, timeout.toMillis()));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (processor.isAlive()) {
+            // Timed out: fail the remaining commands instead of leaving callers waiting
+            aborted = true;
+            LockSupport.unpark(processor);
+        }
+    }
+
+    @Override
+    public void close() {
+        close(Duration.ofSeconds(5));
+    }
+
+    // Next free sequence number - waits while the ring is full, at most publishTimeout
+    private long claim() {
+        long deadline = System.nanoTime() + publishTimeoutNanos;
+        while (true) {
+            if (terminated) {
+                throw closed();
+            }
+            long sequence = claimed.get();
+            if (sequence - processed.get() < slots.length) {
+                if (claimed.compareAndSet(sequence, sequence + 1)) {
+                    return sequence;
+                }
+            } else if (System.nanoTime() - deadline > 0) {
+                throw new IllegalStateException("Stock command pipeline full");
+            } else {
+                LockSupport.parkNanos(FULL_PARK_NANOS);
+            }
+        }
+    }
+
+    private void processLoop() {
+        long next = 0;
+        int idleSpins = 0;
+        try {
+            while (!aborted && (running || next < claimed.get())) {
+                Slot slot = slots[(int) (next & mask)];
+                if (slot.sequence != next) {
+                    idleSpins = waitForCommand(idleSpins);
+                    continue;
+                }
+                idleSpins = 0;
+                apply(slot);
+                slot.clear();
+                processed.set(++next);  // hands the slot back to callers
+            }
+        } finally {
+            terminated = true;
+            failUnprocessed(next);
+        }
+    }
+
+    // Published but not applied - slots not yet published fail when they are published
+    private void failUnprocessed(long next) {
+        for (long sequence = next; sequence < claimed.get(); sequence++) {
+            Slot slot = slots[(int) (sequence & mask)];
+            if (slot.sequence == sequence) {
+                slot.result.completeExceptionally(closed());
+            }
+        }
+    }
+
+    private static IllegalStateException closed() {
+        return new IllegalStateException("Stock command pipeline is closed");
+    }
+
+    private void apply(Slot slot) {
+        // PSEUDO-CODE: journal.append(slot.sequence, slot) - order is final here
+        CompletableFuture<Void> result = slot.result;
+        try {
+            reserveStock.execute(slot.productId, slot.quantity);
+            result.complete(null);
+        } catch (Throwable e) {
+            result.completeExceptionally(e);
+        }
+    }
+
+    // Spin briefly, then park - executeAsync() wakes the thread up again
+    private int waitForCommand(int idleSpins) {
+        if (idleSpins < SPINS_BEFORE_PARK) {
+            Thread.onSpinWait();
+            return idleSpins + 1;
+        }
+        processorParked = true;
+        if (running && slots[(int) (processed.get() & mask)].sequence != processed.get()) {
+            LockSupport.parkNanos(IDLE_PARK_NANOS);
+        }
+        processorParked = false;
+        return idleSpins;
+    }
+
+    /**
+     * A pre-allocated command in the ring. sequence tells which lap the
+     * slot was filled for - only then are the other fields valid.
+     */
+    private static final class Slot {
+        volatile long sequence;
+        Long productId;
+        int quantity;
+        CompletableFuture<Void> result;
+
+        Slot(long initialSequence) {
+            this.sequence = initialSequence;
+        }
+
+        // Don't hold on to references longer than necessary
+        void clear() {
+            productId = null;
+            result = null;
+        }
+    }
+}
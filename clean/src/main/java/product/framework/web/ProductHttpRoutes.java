@@ -0,0 +1,63 @@
+package product.framework.web;
+
+import com.sun.net.httpserver.HttpExchange;
+import product.entity.model.Product;
+import product.usecase.boundary.input.GetProductInputBoundary;
+import product.usecase.boundary.output.ProductGateway;
+import shared.http.HttpServerAdapter;
+import shared.http.Json;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * HTTP routes for products (Frameworks & Drivers layer).
+ *
+ * The product module has no controller and no "get all" use case,
+ * so the list is read from the gateway directly.
+ */
+public class ProductHttpRoutes {
+
+    private final GetProductInputBoundary getProductUseCase;
+    private final ProductGateway productGateway;
+
+    public ProductHttpRoutes(GetProductInputBoundary getProductUseCase, ProductGateway productGateway) {
+        this.getProductUseCase = getProductUseCase;
+        this.productGateway = productGateway;
+    }
+
+    public void registerOn(HttpServerAdapter server) {
+        server.route("GET", "/products", this::getAllProducts)
+            .route("GET", "/products/{id}", this::getProduct);
+    }
+
+    private void getAllProducts(HttpExchange exchange, long id) throws IOException {
+        List<Product> products = productGateway.findAll();
+        StringBuilder json = new StringBuilder(32 + products.size() * 96);
+        json.append('[');
+        for (int i = 0; i < products.size(); i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            appendProduct(json, products.get(i));
+        }
+        json.append(']');
+        HttpServerAdapter.sendJson(exchange, 200, json.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    private void getProduct(HttpExchange exchange, long id) throws IOException {
+        StringBuilder json = new StringBuilder(96);
+        appendProduct(json, getProductUseCase.execute(id));
+        HttpServerAdapter.sendJson(exchange, 200, json.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void appendProduct(StringBuilder json, Product product) {
+        json.append("{\"id\":").append(product.getId().getValue())
+            .append(",\"name\":");
+        Json.appendString(json, product.getName().getValue());
+        json.append(",\"price\":").append(product.getPrice().getValue().toPlainString())
+            .append(",\"stock\":").append(product.getStock())
+            .append('}');
+    }
+}
@@ -3,6 +3,7 @@ package product.interfaceadapter.gateway;
 import product.entity.model.Product;
 import product.entity.model.ProductId;
 import product.usecase.boundary.output.ProductGateway;
+import shared.collection.LongHashMap;
 
 import java.util.*;
 
@@ -11,21 +12,21 @@ import java.util.*;
  */
 public class InMemoryProductGateway implements ProductGateway {
 
-    private final Map<ProductId, Product> products = new HashMap<>();
+    private final LongHashMap<Product> products = new LongHashMap<>();
 
     @Override
     public Optional<Product> findById(ProductId productId) {
-        return Optional.ofNullable(products.get(productId));
+        return Optional.ofNullable(products.get(productId.getValue()));
     }
 
     @Override
     public List<Product> findAll() {
-        return new ArrayList<>(products.values());
+        return products.values();
     }
 
     @Override
     public Product save(Product product) {
-        products.put(product.getId(), product);
+        products.put(product.getId().getValue(), product);
         return product;
     }
 }
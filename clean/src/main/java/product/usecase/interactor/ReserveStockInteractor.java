@@ -5,12 +5,16 @@ import product.entity.model.Product;
 import product.entity.model.ProductId;
 import product.usecase.boundary.input.ReserveStockInputBoundary;
 import product.usecase.boundary.output.ProductGateway;
+import shared.log.EventLog;
+import shared.log.EventLogger;
 
 /**
  * Interactor (Use Case Implementation) for reserving product stock.
  */
 public class ReserveStockInteractor implements ReserveStockInputBoundary {
 
+    private static final EventLogger LOG = EventLog.logger("PRODUCT");
+
     private final ProductGateway productGateway;
 
     public ReserveStockInteractor(ProductGateway productGateway) {
@@ -29,6 +33,6 @@ public class ReserveStockInteractor implements ReserveStockInputBoundary {
 
         productGateway.save(product);
 
-        System.out.println("Reserved " + quantity + " units of product " + productId);
+        LOG.info("Reserved {} units of product {}", quantity, productId);
     }
 }
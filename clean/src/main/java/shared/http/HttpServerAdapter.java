@@ -0,0 +1,232 @@
+package shared.http;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.reflect.Method;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.ToIntFunction;
+
+/**
+ * Embedded HTTP server in front of the controllers (JDK com.sun.net.httpserver).
+ *
+ * - A single context "/", routed through a small table: method + path template
+ *   with at most one numeric placeholder, e.g. "/orders/{id}/confirm".
+ *   No regex, no substrings - the id is read straight from the path.
+ * - Keep-alive: every response has a fixed Content-Length, the connection stays open.
+ * - errorStatus maps handler exceptions to an HTTP status.
+ */
+public final class HttpServerAdapter implements AutoCloseable {
+
+    /**
+     * Handler of a route. id is the path placeholder, -1 if the route has none.
+     * The response is written as the last step.
+     */
+    @FunctionalInterface
+    public interface Handler {
+        void handle(HttpExchange exchange, long id) throws IOException;
+    }
+
+    private static final int BACKLOG = 1024;
+    private static final int POOL_THREADS = 200;
+    private static final int MAX_BODY_BYTES = 1 << 20;
+    private static final String CONTENT_TYPE_JSON = "application/json; charset=utf-8";
+
+    static {
+        // Headers and body go out as two writes - with Nagle the body waits for the client's
+        // delayed ACK, about 40 ms per request on a keep-alive connection
+        if (System.getProperty("sun.net.httpserver.nodelay") == null) {
+            System.setProperty("sun.net.httpserver.nodelay", "true");
+        }
+    }
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final ToIntFunction<RuntimeException> errorStatus;
+    private final List<Route> routes = new CopyOnWriteArrayList<>();
+
+    public HttpServerAdapter(InetSocketAddress address, ExecutorService executor,
+                             ToIntFunction<RuntimeException> errorStatus) throws IOException {
+        this.server = HttpServer.create(address, BACKLOG);
+        this.executor = executor;
+        this.errorStatus = errorStatus;
+        server.setExecutor(executor);
+        server.createContext("/", this::dispatch);
+    }
+
+    // Convenience constructor: all interfaces, executor from defaultExecutor()
+    public HttpServerAdapter(int port, ToIntFunction<RuntimeException> errorStatus) throws IOException {
+        this(new InetSocketAddress(port), defaultExecutor(), errorStatus);
+    }
+
+    /**
+     * Virtual threads if the JVM has them (Java 21+) - the project builds with
+     * Java 17, hence reflection. Otherwise a fixed pool: blocking handlers
+     * (fsync, external calls) need more threads than cores.
+     */
+    public static ExecutorService defaultExecutor() {
+        try {
+            Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) factory.invoke(null);
+        } catch (ReflectiveOperationException | UnsupportedOperationException e) {
+            AtomicInteger threadNumber = new AtomicInteger();
+            return Executors.newFixedThreadPool(POOL_THREADS, task -> {
+                Thread thread = new Thread(task, "http-" + threadNumber.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
+
+    public HttpServerAdapter route(String method, String pathTemplate, Handler handler) {
+        routes.add(new Route(method, PathTemplate.parse(pathTemplate), handler));
+        return this;
+    }
+
+    public void start() {
+        server.start();
+    }
+
+    public int port() {
+        return server.getAddress().getPort();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdown();
+    }
+
+    // ==================== RESPONSES ====================
+
+    public static void sendJson(HttpExchange exchange, int status, byte[] body) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", CONTENT_TYPE_JSON);
+        exchange.sendResponseHeaders(status, body.length == 0 ? -1 : body.length);
+        if (body.length > 0) {
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        }
+    }
+
+    public static void sendJson(HttpExchange exchange, int status, byte[] body, String etag) throws IOException {
+        exchange.getResponseHeaders().set("ETag", etag);
+        sendJson(exchange, status, body);
+    }
+
+    public static void sendNotModified(HttpExchange exchange, String etag) throws IOException {
+        exchange.getResponseHeaders().set("ETag", etag);
+        exchange.sendResponseHeaders(304, -1);
+    }
+
+    public static void sendError(HttpExchange exchange, int status, String message) throws IOException {
+        StringBuilder json = new StringBuilder(32 + (message == null ? 0 : message.length()));
+        json.append("{\"error\":");
+        Json.appendString(json, message);
+        json.append('}');
+        sendJson(exchange, status, json.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Request body, at most 1 MB (otherwise IllegalArgumentException → errorStatus).
+     */
+    public static byte[] readBody(HttpExchange exchange) throws IOException {
+        try (InputStream in = exchange.getRequestBody()) {
+            byte[] body = in.readNBytes(MAX_BODY_BYTES + 1);
+            if (body.length > MAX_BODY_BYTES) {
+                throw new IllegalArgumentException("Request body too large");
+            }
+            return body;
+        }
+    }
+
+    // ==================== ROUTING ====================
+
+    private void dispatch(HttpExchange exchange) throws IOException {
+        try {
+            String path = exchange.getRequestURI().getRawPath();
+            String method = exchange.getRequestMethod();
+            boolean pathMatched = false;
+            for (Route route : routes) {
+                long id = route.template().match(path);
+                if (id == PathTemplate.NO_MATCH) {
+                    continue;
+                }
+                pathMatched = true;
+                if (route.method().equals(method)) {
+                    invoke(route, exchange, id);
+                    return;
+                }
+            }
+            if (pathMatched) {
+                sendError(exchange, 405, "Method not allowed");
+            } else {
+                sendError(exchange, 404, "Not found");
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private void invoke(Route route, HttpExchange exchange, long id) throws IOException {
+        try {
+            route.handler().handle(exchange, id);
+        } catch (RuntimeException e) {
+            sendError(exchange, errorStatus.applyAsInt(e), e.getMessage());
+        }
+    }
+
+    private record Route(String method, PathTemplate template, Handler handler) {}
+
+    /**
+     * "/orders/{id}/confirm" → prefix "/orders/", suffix "/confirm", id in between.
+     */
+    private record PathTemplate(String prefix, String suffix, boolean hasId) {
+
+        static final long NO_MATCH = -2;
+
+        // More digits do not safely fit into a long
+        private static final int MAX_ID_DIGITS = 18;
+
+        static PathTemplate parse(String template) {
+            int open = template.indexOf("{id}");
+            if (open < 0) {
+                return new PathTemplate(template, "", false);
+            }
+            if (template.indexOf('{', open + 1) >= 0) {
+                throw new IllegalArgumentException("Only one {id} per route: " + template);
+            }
+            return new PathTemplate(template.substring(0, open), template.substring(open + 4), true);
+        }
+
+        long match(String path) {
+            if (!hasId) {
+                return path.equals(prefix) ? -1 : NO_MATCH;
+            }
+            int start = prefix.length();
+            int end = path.length() - suffix.length();
+            if (end <= start || end - start > MAX_ID_DIGITS
+                    || !path.startsWith(prefix) || !path.startsWith(suffix, end)) {
+                return NO_MATCH;
+            }
+            long id = 0;
+            for (int i = start; i < end; i++) {
+                char c = path.charAt(i);
+                if (c < '0' || c > '9') {
+                    return NO_MATCH;
+                }
+                id = id * 10 + (c - '0');
+            }
+            return id;
+        }
+    }
+}
@@ -0,0 +1,207 @@
+package shared.log;
+
+import java.io.PrintStream;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+/**
+ * Asynchronous event log: lock-free ring buffer, one writer thread.
+ *
+ * Callers claim a slot in the ring via CAS, fill its preallocated fields
+ * and publish it through the slot's (volatile) sequence number. The writer
+ * thread reads the slots in order, formats and writes them - it is the only
+ * thread holding System.out's lock.
+ *
+ * When the ring is full the event is dropped and counted (dropped()):
+ * logging never slows down the hot path.
+ *
+ * Global level, INFO by default, set via -Deventlog.level=WARN or setLevel().
+ * Output: 2024-01-01T12:00:00.123Z INFO  [CATEGORY] message
+ */
+public final class EventLog {
+
+    private static final int DEFAULT_CAPACITY = 1 << 14;
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final long SHUTDOWN_FLUSH_MILLIS = 1_000;
+
+    private static final EventLog INSTANCE = new EventLog(DEFAULT_CAPACITY, () -> System.out);
+    private static volatile LogLevel level = LogLevel.valueOf(System.getProperty("eventlog.level", "INFO"));
+
+    private final Slot[] slots;
+    private final int mask;
+    private final AtomicLong claimed = new AtomicLong();
+    private final AtomicLong written = new AtomicLong();
+    private final LongAdder dropped = new LongAdder();
+    // Resolve System.out on every write - benchmarks mute it via setOut
+    private final Supplier<PrintStream> output;
+    private final StringBuilder line = new StringBuilder(256);
+
+    private EventLog(int capacity, Supplier<PrintStream> output) {
+        this.slots = new Slot[capacity];
+        for (int i = 0; i < capacity; i++) {
+            slots[i] = new Slot(i - (long) capacity);
+        }
+        this.mask = capacity - 1;
+        this.output = output;
+
+        Thread writer = new Thread(this::writeLoop, "event-log-writer");
+        writer.setDaemon(true);
+        writer.start();
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> flush(SHUTDOWN_FLUSH_MILLIS)));
+    }
+
+    public static EventLogger logger(String category) {
+        return new EventLogger(category, INSTANCE);
+    }
+
+    public static LogLevel level() {
+        return level;
+    }
+
+    public static void setLevel(LogLevel newLevel) {
+        level = newLevel;
+    }
+
+    // Events dropped because the ring was full
+    public static long dropped() {
+        return INSTANCE.dropped.sum();
+    }
+
+    /**
+     * Waits until all events published so far have been written.
+     *
+     * @return false if that did not happen within timeoutMillis
+     */
+    public static boolean flush(long timeoutMillis) {
+        long target = INSTANCE.claimed.get();
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        while (INSTANCE.written.get() < target) {
+            if (System.nanoTime() - deadline > 0) {
+                return false;
+            }
+            LockSupport.parkNanos(IDLE_PARK_NANOS);
+        }
+        return true;
+    }
+
+    void publish(LogLevel eventLevel, String category, String pattern, int argCount,
+                 Object arg0, Object arg1, Object arg2) {
+        long sequence;
+        do {
+            sequence = claimed.get();
+            if (sequence - written.get() >= slots.length) {
+                dropped.increment();
+                return;
+            }
+        } while (!claimed.compareAndSet(sequence, sequence + 1));
+
+        Slot slot = slots[(int) (sequence & mask)];
+        slot.timestampMillis = System.currentTimeMillis();
+        slot.level = eventLevel;
+        slot.category = category;
+        slot.pattern = pattern;
+        slot.argCount = argCount;
+        slot.arg0 = arg0;
+        slot.arg1 = arg1;
+        slot.arg2 = arg2;
+        slot.sequence = sequence;  // publishes the slot
+    }
+
+    private void writeLoop() {
+        while (true) {
+            if (writeAvailable() == 0) {
+                LockSupport.parkNanos(IDLE_PARK_NANOS);
+            }
+        }
+    }
+
+    private int writeAvailable() {
+        long next = written.get();
+        int count = 0;
+        Slot slot;
+        while ((slot = slots[(int) (next & mask)]).sequence == next) {
+            line.setLength(0);
+            try {
+                slot.formatTo(line);
+            } catch (RuntimeException e) {
+                // An argument's toString() is foreign code - it must not kill the writer thread
+                line.setLength(0);
+                slot.formatFallbackTo(line, e);
+            }
+            slot.clear();
+            written.set(++next);  // hands the slot back to callers
+            output.get().println(line);
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * A preallocated entry in the ring. sequence tells which lap the slot
+     * has been filled for - only then are the other fields valid.
+     */
+    private static final class Slot {
+        volatile long sequence;
+        long timestampMillis;
+        LogLevel level;
+        String category;
+        String pattern;
+        int argCount;
+        Object arg0;
+        Object arg1;
+        Object arg2;
+
+        Slot(long initialSequence) {
+            this.sequence = initialSequence;
+        }
+
+        void formatTo(StringBuilder out) {
+            formatHeaderTo(out);
+
+            int argIndex = 0;
+            int from = 0;
+            int placeholder;
+            while (argIndex < argCount && (placeholder = pattern.indexOf("{}", from)) >= 0) {
+                out.append(pattern, from, placeholder).append(arg(argIndex++));
+                from = placeholder + 2;
+            }
+            out.append(pattern, from, pattern.length());
+        }
+
+        // Header, raw pattern and a note about the failure - without calling the arguments' toString()
+        void formatFallbackTo(StringBuilder out, RuntimeException failure) {
+            formatHeaderTo(out);
+            out.append(pattern).append(" <formatting failed: ").append(failure.getClass().getName()).append('>');
+        }
+
+        private void formatHeaderTo(StringBuilder out) {
+            out.append(Instant.ofEpochMilli(timestampMillis)).append(' ');
+            out.append(level);
+            for (int i = level.name().length(); i < 6; i++) {
+                out.append(' ');
+            }
+            out.append('[').append(category).append("] ");
+        }
+
+        private Object arg(int index) {
+            return switch (index) {
+                case 0 -> arg0;
+                case 1 -> arg1;
+                default -> arg2;
+            };
+        }
+
+        // Do not hold on to references longer than needed
+        void clear() {
+            category = null;
+            pattern = null;
+            arg0 = null;
+            arg1 = null;
+            arg2 = null;
+        }
+    }
+}
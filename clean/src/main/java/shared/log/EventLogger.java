@@ -0,0 +1,96 @@
+package shared.log;
+
+/**
+ * Logger for one category, e.g. EventLog.logger("PRODUCT").
+ *
+ * Messages are patterns with {} placeholders; the arguments are filled in
+ * on the writer thread. If the level is disabled nothing happens at all -
+ * no formatting, no event. Up to three arguments without a varargs array.
+ *
+ * Arguments are read later: pass immutable values only (ids, strings,
+ * numbers), not objects the caller modifies afterwards.
+ */
+public final class EventLogger {
+
+    private final String category;
+    private final EventLog log;
+
+    EventLogger(String category, EventLog log) {
+        this.category = category;
+        this.log = log;
+    }
+
+    public boolean isEnabled(LogLevel level) {
+        return level.isAtLeast(EventLog.level());
+    }
+
+    public void debug(String message) {
+        log(LogLevel.DEBUG, message, 0, null, null, null);
+    }
+
+    public void debug(String pattern, Object arg0) {
+        log(LogLevel.DEBUG, pattern, 1, arg0, null, null);
+    }
+
+    public void debug(String pattern, Object arg0, Object arg1) {
+        log(LogLevel.DEBUG, pattern, 2, arg0, arg1, null);
+    }
+
+    public void debug(String pattern, Object arg0, Object arg1, Object arg2) {
+        log(LogLevel.DEBUG, pattern, 3, arg0, arg1, arg2);
+    }
+
+    public void info(String message) {
+        log(LogLevel.INFO, message, 0, null, null, null);
+    }
+
+    public void info(String pattern, Object arg0) {
+        log(LogLevel.INFO, pattern, 1, arg0, null, null);
+    }
+
+    public void info(String pattern, Object arg0, Object arg1) {
+        log(LogLevel.INFO, pattern, 2, arg0, arg1, null);
+    }
+
+    public void info(String pattern, Object arg0, Object arg1, Object arg2) {
+        log(LogLevel.INFO, pattern, 3, arg0, arg1, arg2);
+    }
+
+    public void warn(String message) {
+        log(LogLevel.WARN, message, 0, null, null, null);
+    }
+
+    public void warn(String pattern, Object arg0) {
+        log(LogLevel.WARN, pattern, 1, arg0, null, null);
+    }
+
+    public void warn(String pattern, Object arg0, Object arg1) {
+        log(LogLevel.WARN, pattern, 2, arg0, arg1, null);
+    }
+
+    public void warn(String pattern, Object arg0, Object arg1, Object arg2) {
+        log(LogLevel.WARN, pattern, 3, arg0, arg1, arg2);
+    }
+
+    public void error(String message) {
+        log(LogLevel.ERROR, message, 0, null, null, null);
+    }
+
+    public void error(String pattern, Object arg0) {
+        log(LogLevel.ERROR, pattern, 1, arg0, null, null);
+    }
+
+    public void error(String pattern, Object arg0, Object arg1) {
+        log(LogLevel.ERROR, pattern, 2, arg0, arg1, null);
+    }
+
+    public void error(String pattern, Object arg0, Object arg1, Object arg2) {
+        log(LogLevel.ERROR, pattern, 3, arg0, arg1, arg2);
+    }
+
+    private void log(LogLevel level, String pattern, int argCount, Object arg0, Object arg1, Object arg2) {
+        if (level.isAtLeast(EventLog.level())) {
+            log.publish(level, category, pattern, argCount, arg0, arg1, arg2);
+        }
+    }
+}
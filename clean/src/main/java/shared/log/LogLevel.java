@@ -0,0 +1,15 @@
+package shared.log;
+
+/**
+ * Log levels, in increasing severity.
+ */
+public enum LogLevel {
+    DEBUG,
+    INFO,
+    WARN,
+    ERROR;
+
+    boolean isAtLeast(LogLevel other) {
+        return ordinal() >= other.ordinal();
+    }
+}
@@ -0,0 +1,74 @@
+import order.adapter.config.ConfirmExecutors;
+import order.adapter.config.OrderConfiguration;
+import order.adapter.input.http.OrderHttpRoutes;
+import order.domain.exception.OrderException;
+import order.domain.exception.OrderNotFoundException;
+import order.domain.model.MoneyArithmetic;
+import product.adapter.config.ProductConfiguration;
+import product.adapter.input.http.ProductHttpRoutes;
+import product.domain.exception.InsufficientStockException;
+import product.domain.exception.ProductNotFoundException;
+import shared.http.HttpServerAdapter;
+import shared.metrics.MetricsHttpRoutes;
+import shared.metrics.MetricsRegistry;
+
+import java.io.IOException;
+
+/**
+ * Startet die Hexagonal-Variante hinter einem echten HTTP-Server.
+ *
+ *   GET  /orders/{id}            (ETag, If-None-Match → 304)
+ *   PUT  /orders/{id}            {"items":[{"productId":1,"quantity":2,"unitPrice":29.99}]}
+ *   POST /orders/{id}/confirm
+ *   GET  /products, /products/{id}
+ *   GET  /metrics                (Prometheus: Aufrufe, Latenz, Fehler pro Port und Use Case)
+ *
+ * Aufruf: java HexagonalHttpApplication [port] [shards], Standard 8080 und 0.
+ * shards > 0: Use Cases laufen auf so vielen Single-Writer-Shards (ShardedOrderUseCases).
+ */
+public class HexagonalHttpApplication {
+
+    private static final int DEFAULT_PORT = 8080;
+
+    public static void main(String[] args) throws IOException {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_PORT;
+        int shards = args.length > 1 ? Integer.parseInt(args[1]) : 0;
+
+        MetricsRegistry metrics = new MetricsRegistry();
+        ProductConfiguration productConfig = new ProductConfiguration();
+        OrderConfiguration orderConfig = new OrderConfiguration(
+            productConfig.loadProductPort(),
+            productConfig.reserveStockUseCase(),
+            MoneyArithmetic.BIG_DECIMAL,
+            ConfirmExecutors.sequential(),
+            metrics,
+            shards
+        );
+
+        HttpServerAdapter server = new HttpServerAdapter(port, HexagonalHttpApplication::statusOf);
+        new OrderHttpRoutes(orderConfig.orderController()).registerOn(server);
+        new ProductHttpRoutes(productConfig.productController()).registerOn(server);
+        new MetricsHttpRoutes(metrics).registerOn(server);
+        server.start();
+
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            server.close();
+            orderConfig.close();
+        }));
+        System.out.println("Hexagonal HTTP server listening on port " + server.port());
+    }
+
+    static int statusOf(RuntimeException e) {
+        if (e instanceof OrderNotFoundException || e instanceof ProductNotFoundException) {
+            return 404;
+        }
+        if (e instanceof OrderException || e instanceof InsufficientStockException
+                || e instanceof IllegalStateException) {
+            return 409;
+        }
+        if (e instanceof IllegalArgumentException || e instanceof ArithmeticException) {
+            return 400;
+        }
+        return 500;
+    }
+}
@@ -1,15 +1,29 @@
 package order.adapter.config;
 
+import order.adapter.input.metrics.MeteredOrderUseCases;
 import order.adapter.input.rest.OrderController;
+import order.adapter.input.rest.OrderJsonCache;
+import order.adapter.input.sharding.ShardedOrderUseCases;
+import order.adapter.output.external.CachingCheckOrderExistsAdapter;
 import order.adapter.output.external.ExternalOrderApiAdapter;
-import order.adapter.output.notification.EmailNotificationAdapter;
+import order.adapter.output.metrics.*;
+import order.adapter.output.notification.NotificationOutbox;
 import order.adapter.output.persistence.ConfirmationPersistenceAdapter;
 import order.adapter.output.persistence.OrderPersistenceAdapter;
 import order.adapter.output.product.ProductInfoAdapter;
+import order.adapter.output.projection.OrderProjectionAdapter;
+import order.application.mapper.OrderMapper;
+import order.application.port.input.ConfirmOrderUseCase;
+import order.application.port.input.GetOrderUseCase;
+import order.application.port.input.UpdateOrderUseCase;
 import order.application.port.output.*;
 import order.application.service.OrderService;
+import order.domain.model.MoneyArithmetic;
 import product.application.port.input.ReserveStockUseCase;
 import product.application.port.output.LoadProductPort;
+import shared.metrics.MetricsRegistry;
+
+import java.util.concurrent.Executor;
 
 /**
  * Konfiguration - Dependency Injection.
@@ -17,14 +31,18 @@ import product.application.port.output.LoadProductPort;
  * PRAGMATISCH: Nimmt Product's Use Case direkt entgegen.
  * Kein eigener Adapter für Stock - Product verwaltet das selbst.
  */
-public class OrderConfiguration {
+public class OrderConfiguration implements AutoCloseable {
 
     private final OrderPersistenceAdapter orderPersistenceAdapter;
+    private final OrderProjectionAdapter orderProjectionAdapter;
+    private final OrderJsonCache orderJsonCache;
     private final ConfirmationPersistenceAdapter confirmationPersistenceAdapter;
-    private final EmailNotificationAdapter emailNotificationAdapter;
+    private final NotificationOutbox notificationOutbox;
     private final ExternalOrderApiAdapter externalOrderApiAdapter;
+    private final CachingCheckOrderExistsAdapter checkOrderExistsAdapter;
     private final ProductInfoAdapter productInfoAdapter;
     private final OrderService orderService;
+    private final ShardedOrderUseCases orderShards;  // null: Aufrufe im aufrufenden Thread
     private final OrderController orderController;
 
     /**
@@ -33,29 +51,113 @@ public class OrderConfiguration {
      * PRAGMATISCH: Nimmt Product's ReserveStockUseCase direkt!
      */
     public OrderConfiguration(LoadProductPort loadProductPort, ReserveStockUseCase reserveStockUseCase) {
+        this(loadProductPort, reserveStockUseCase, MoneyArithmetic.BIG_DECIMAL);
+    }
+
+    /**
+     * Wie oben, mit Auswahl der Geld-Arithmetik (LONG_CENTS für den Hot Path).
+     */
+    public OrderConfiguration(LoadProductPort loadProductPort, ReserveStockUseCase reserveStockUseCase,
+                              MoneyArithmetic arithmetic) {
+        this(loadProductPort, reserveStockUseCase, arithmetic, ConfirmExecutors.sequential());
+    }
+
+    /**
+     * Wie oben, zusätzlich mit Executor für die I/O-Schritte in confirmOrder
+     * (ConfirmExecutors.concurrent() für gleichzeitige Prüfung und Produktinfos).
+     */
+    public OrderConfiguration(LoadProductPort loadProductPort, ReserveStockUseCase reserveStockUseCase,
+                              MoneyArithmetic arithmetic, Executor confirmExecutor) {
+        this(loadProductPort, reserveStockUseCase, arithmetic, confirmExecutor, null);
+    }
+
+    /**
+     * Wie oben, zusätzlich mit Metriken: jeder Output Port und jeder Use Case
+     * wird in einen Decorator gewickelt (Aufrufe, Latenz, Fehler).
+     */
+    public OrderConfiguration(LoadProductPort loadProductPort, ReserveStockUseCase reserveStockUseCase,
+                              MoneyArithmetic arithmetic, Executor confirmExecutor,
+                              MetricsRegistry metrics) {  // null: keine Metriken
+        this(loadProductPort, reserveStockUseCase, arithmetic, confirmExecutor, metrics, 0);
+    }
+
+    /**
+     * Wie oben, zusätzlich mit Sharding: die Use Cases laufen auf shardCount
+     * Single-Writer-Threads, jede Order immer auf demselben (ShardedOrderUseCases).
+     */
+    public OrderConfiguration(LoadProductPort loadProductPort, ReserveStockUseCase reserveStockUseCase,
+                              MoneyArithmetic arithmetic, Executor confirmExecutor,
+                              MetricsRegistry metrics,  // null: keine Metriken
+                              int shardCount) {  // 0: kein Sharding
         // 1. Output Adapters
         this.orderPersistenceAdapter = new OrderPersistenceAdapter();
+        // Read Model: jeder save aktualisiert die fertige OrderResponse für getOrder
+        // und invalidiert die serialisierte GET-Antwort
+        this.orderJsonCache = new OrderJsonCache();
+        this.orderProjectionAdapter = new OrderProjectionAdapter(
+            orderPersistenceAdapter, orderPersistenceAdapter, new OrderMapper(arithmetic),
+            orderJsonCache::invalidate);
         this.confirmationPersistenceAdapter = new ConfirmationPersistenceAdapter();
-        this.emailNotificationAdapter = new EmailNotificationAdapter();
+        this.notificationOutbox = new NotificationOutbox();  // asynchron, eigener Dispatcher-Thread
         this.externalOrderApiAdapter = new ExternalOrderApiAdapter();
+        // Optional dazwischen: new BloomFilterCheckOrderExistsAdapter(externalOrderApiAdapter)
+        this.checkOrderExistsAdapter = new CachingCheckOrderExistsAdapter(externalOrderApiAdapter);
         this.productInfoAdapter = new ProductInfoAdapter(loadProductPort);
 
+        LoadOrderPort loadOrderPort = orderPersistenceAdapter;
+        SaveOrderPort saveOrderPort = orderProjectionAdapter;  // speichert und projiziert
+        SaveConfirmationPort saveConfirmationPort = confirmationPersistenceAdapter;
+        CheckOrderExistsPort checkOrderExistsPort = checkOrderExistsAdapter;  // Cache vor dem HTTP-Aufruf
+        SendNotificationPort sendNotificationPort = notificationOutbox;
+        LoadProductInfoPort loadProductInfoPort = productInfoAdapter;
+        if (metrics != null) {
+            loadOrderPort = new MeteredLoadOrderPort(loadOrderPort, metrics);
+            saveOrderPort = new MeteredSaveOrderPort(saveOrderPort, metrics);
+            saveConfirmationPort = new MeteredSaveConfirmationPort(saveConfirmationPort, metrics);
+            checkOrderExistsPort = new MeteredCheckOrderExistsPort(checkOrderExistsPort, metrics);
+            sendNotificationPort = new MeteredSendNotificationPort(sendNotificationPort, metrics);
+            loadProductInfoPort = new MeteredLoadProductInfoPort(loadProductInfoPort, metrics);
+        }
+
         // 2. Application Service - nutzt Product's Use Case direkt!
         this.orderService = new OrderService(
-            orderPersistenceAdapter,
-            orderPersistenceAdapter,
-            confirmationPersistenceAdapter,
-            externalOrderApiAdapter,
-            emailNotificationAdapter,
-            productInfoAdapter,
-            reserveStockUseCase  // Product's Use Case direkt!
+            loadOrderPort,
+            saveOrderPort,
+            saveConfirmationPort,
+            checkOrderExistsPort,
+            sendNotificationPort,
+            loadProductInfoPort,
+            reserveStockUseCase,  // Product's Use Case direkt!
+            arithmetic,
+            confirmExecutor,
+            orderProjectionAdapter
         );
 
         // 3. Input Adapter
+        GetOrderUseCase getOrderUseCase = orderService;
+        UpdateOrderUseCase updateOrderUseCase = orderService;
+        ConfirmOrderUseCase confirmOrderUseCase = orderService;
+        if (shardCount > 0) {
+            this.orderShards = new ShardedOrderUseCases(orderService, orderService, orderService, shardCount);
+            getOrderUseCase = orderShards;
+            updateOrderUseCase = orderShards;
+            confirmOrderUseCase = orderShards;
+        } else {
+            this.orderShards = null;
+        }
+        if (metrics != null) {
+            // Außen um das Sharding: die Latenz enthält die Wartezeit in der Mailbox
+            MeteredOrderUseCases metered = new MeteredOrderUseCases(
+                getOrderUseCase, updateOrderUseCase, confirmOrderUseCase, metrics);
+            getOrderUseCase = metered;
+            updateOrderUseCase = metered;
+            confirmOrderUseCase = metered;
+        }
         this.orderController = new OrderController(
-            orderService,
-            orderService,
-            orderService
+            getOrderUseCase,
+            updateOrderUseCase,
+            confirmOrderUseCase,
+            orderJsonCache
         );
     }
 
@@ -67,19 +169,51 @@ public class OrderConfiguration {
         return orderService;
     }
 
+    // Für Shutdown (close() arbeitet die Mailboxen ab), null ohne Sharding
+    public ShardedOrderUseCases orderShards() {
+        return orderShards;
+    }
+
     public LoadOrderPort loadOrderPort() {
         return orderPersistenceAdapter;
     }
 
+    // Über das Read Model, damit getOrder den gespeicherten Stand sieht
     public SaveOrderPort saveOrderPort() {
-        return orderPersistenceAdapter;
+        return orderProjectionAdapter;
+    }
+
+    public LoadOrderViewPort loadOrderViewPort() {
+        return orderProjectionAdapter;
+    }
+
+    public LoadConfirmationsPort loadConfirmationsPort() {
+        return confirmationPersistenceAdapter;
     }
 
     public SendNotificationPort sendNotificationPort() {
-        return emailNotificationAdapter;
+        return notificationOutbox;
+    }
+
+    // Für Metriken und Shutdown (close() leert die Outbox)
+    public NotificationOutbox notificationOutbox() {
+        return notificationOutbox;
     }
 
     public CheckOrderExistsPort checkOrderExistsPort() {
-        return externalOrderApiAdapter;
+        return checkOrderExistsAdapter;
+    }
+
+    /**
+     * Beendet die Threads dieser Konfiguration: erst die Shards (arbeiten ihre
+     * Mailboxen ab), dann den Batcher der externen API, dann die Outbox (leert sich).
+     */
+    @Override
+    public void close() {
+        if (orderShards != null) {
+            orderShards.close();
+        }
+        externalOrderApiAdapter.close();
+        notificationOutbox.close();
     }
 }
@@ -0,0 +1,82 @@
+package order.adapter.input.metrics;
+
+import order.application.dto.OrderConfirmationResponse;
+import order.application.dto.OrderResponse;
+import order.application.dto.UpdateOrderCommand;
+import order.application.port.input.ConfirmOrderUseCase;
+import order.application.port.input.GetOrderUseCase;
+import order.application.port.input.UpdateOrderUseCase;
+import order.domain.model.OrderId;
+import shared.metrics.MetricsRegistry;
+import shared.metrics.Timer;
+
+/**
+ * Decorator vor den Input Ports: misst jeden Use Case als Ganzes
+ * (Metrik order_use_case_call, Label use_case).
+ *
+ * Zusammen mit den Output-Port-Metriken sieht man, welcher Anteil
+ * eines Use Case auf welchen Port entfällt.
+ */
+public class MeteredOrderUseCases implements GetOrderUseCase, UpdateOrderUseCase, ConfirmOrderUseCase {
+
+    private static final String NAME = "order_use_case_call";
+    private static final String HELP = "Calls to order use cases";
+
+    private final GetOrderUseCase getOrderUseCase;
+    private final UpdateOrderUseCase updateOrderUseCase;
+    private final ConfirmOrderUseCase confirmOrderUseCase;
+    private final Timer getOrderTimer;
+    private final Timer updateOrderTimer;
+    private final Timer confirmOrderTimer;
+
+    public MeteredOrderUseCases(GetOrderUseCase getOrderUseCase,
+                                UpdateOrderUseCase updateOrderUseCase,
+                                ConfirmOrderUseCase confirmOrderUseCase,
+                                MetricsRegistry registry) {
+        this.getOrderUseCase = getOrderUseCase;
+        this.updateOrderUseCase = updateOrderUseCase;
+        this.confirmOrderUseCase = confirmOrderUseCase;
+        this.getOrderTimer = registry.timer(NAME, HELP, "use_case", "getOrder");
+        this.updateOrderTimer = registry.timer(NAME, HELP, "use_case", "updateOrder");
+        this.confirmOrderTimer = registry.timer(NAME, HELP, "use_case", "confirmOrder");
+    }
+
+    @Override
+    public OrderResponse getOrder(OrderId orderId) {
+        long start = System.nanoTime();
+        try {
+            OrderResponse response = getOrderUseCase.getOrder(orderId);
+            getOrderTimer.record(System.nanoTime() - start);
+            return response;
+        } catch (RuntimeException e) {
+            getOrderTimer.recordError(System.nanoTime() - start);
+            throw e;
+        }
+    }
+
+    @Override
+    public OrderResponse updateOrder(OrderId orderId, UpdateOrderCommand command) {
+        long start = System.nanoTime();
+        try {
+            OrderResponse response = updateOrderUseCase.updateOrder(orderId, command);
+            updateOrderTimer.record(System.nanoTime() - start);
+            return response;
+        } catch (RuntimeException e) {
+            updateOrderTimer.recordError(System.nanoTime() - start);
+            throw e;
+        }
+    }
+
+    @Override
+    public OrderConfirmationResponse confirmOrder(OrderId orderId) {
+        long start = System.nanoTime();
+        try {
+            OrderConfirmationResponse response = confirmOrderUseCase.confirmOrder(orderId);
+            confirmOrderTimer.record(System.nanoTime() - start);
+            return response;
+        } catch (RuntimeException e) {
+            confirmOrderTimer.recordError(System.nanoTime() - start);
+            throw e;
+        }
+    }
+}
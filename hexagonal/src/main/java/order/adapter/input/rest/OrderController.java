@@ -4,6 +4,8 @@ import order.application.dto.*;
 import order.application.port.input.*;
 import order.domain.model.OrderId;
 
+import java.util.function.LongFunction;
+
 /**
  * Primary Adapter - REST Controller.
  *
@@ -15,14 +17,30 @@ public class OrderController {
     private final GetOrderUseCase getOrderUseCase;
     private final UpdateOrderUseCase updateOrderUseCase;
     private final ConfirmOrderUseCase confirmOrderUseCase;
+    private final OrderJsonCache jsonCache;  // null: jedes GET wird neu serialisiert
+    private final LongFunction<OrderResponse> loadOrder;
 
     public OrderController(
             GetOrderUseCase getOrderUseCase,
             UpdateOrderUseCase updateOrderUseCase,
             ConfirmOrderUseCase confirmOrderUseCase) {
+        this(getOrderUseCase, updateOrderUseCase, confirmOrderUseCase, null);
+    }
+
+    /**
+     * Mit Cache der serialisierten GET-Antworten.
+     * Der Cache muss bei jedem save der Order invalidiert werden.
+     */
+    public OrderController(
+            GetOrderUseCase getOrderUseCase,
+            UpdateOrderUseCase updateOrderUseCase,
+            ConfirmOrderUseCase confirmOrderUseCase,
+            OrderJsonCache jsonCache) {
         this.getOrderUseCase = getOrderUseCase;
         this.updateOrderUseCase = updateOrderUseCase;
         this.confirmOrderUseCase = confirmOrderUseCase;
+        this.jsonCache = jsonCache;
+        this.loadOrder = id -> getOrderUseCase.getOrder(OrderId.of(id));
     }
 
     // GET /orders/{id}
@@ -30,6 +48,14 @@ public class OrderController {
         return getOrderUseCase.getOrder(OrderId.of(id));
     }
 
+    // GET /orders/{id} - fertige JSON-Bytes mit ETag, 304 bei passendem If-None-Match
+    public JsonResponse getOrderJson(Long id, String ifNoneMatch) {
+        if (jsonCache == null) {
+            return OrderJsonCache.render(id, loadOrder.apply(id), ifNoneMatch);
+        }
+        return jsonCache.get(id, ifNoneMatch, loadOrder);
+    }
+
     // PUT /orders/{id}
     public OrderResponse updateOrder(Long id, UpdateOrderCommand command) {
         return updateOrderUseCase.updateOrder(OrderId.of(id), command);
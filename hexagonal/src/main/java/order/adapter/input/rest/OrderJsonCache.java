@@ -0,0 +1,102 @@
+package order.adapter.input.rest;
+
+import order.application.dto.OrderResponse;
+import shared.collection.ConcurrentLongHashMap;
+
+import java.util.function.LongFunction;
+import java.util.zip.CRC32C;
+
+/**
+ * Cache der fertig serialisierten GET-Antworten pro Order.
+ *
+ * Jeder save erhöht die Version der Order (invalidate). Ein Eintrag gilt nur
+ * für die Version, die vor dem Laden gelesen wurde - ein gleichzeitiger save
+ * kann also höchstens einen unnötigen Neuaufbau auslösen, nie alte Daten.
+ *
+ * Treffer: zwei Map-Lookups, keine Allokation, kein Use Case.
+ * If-None-Match mit passendem ETag → 304 ohne Body.
+ */
+public class OrderJsonCache {
+
+    private final ConcurrentLongHashMap<Long> versions = new ConcurrentLongHashMap<>();
+    private final ConcurrentLongHashMap<Entry> entries = new ConcurrentLongHashMap<>();
+
+    // Aufruf bei jedem save der Order
+    public void invalidate(long orderId) {
+        versions.compute(orderId, version -> version == null ? 1L : version + 1);
+    }
+
+    public JsonResponse get(long orderId, String ifNoneMatch, LongFunction<OrderResponse> loader) {
+        Long current = versions.get(orderId);
+        long version = current == null ? 0 : current;
+
+        Entry entry = entries.get(orderId);
+        if (entry == null || entry.version != version) {
+            Entry loaded = Entry.of(version, orderId, OrderJson.write(loader.apply(orderId)));
+            // Ein neuerer Eintrag eines anderen Threads bleibt stehen
+            entry = entries.compute(orderId,
+                existing -> existing != null && existing.version >= version ? existing : loaded);
+        }
+        return entry.respond(ifNoneMatch);
+    }
+
+    /**
+     * Ohne Cache: Antwort für eine gerade geladene Order, ETag wie im Cache.
+     */
+    public static JsonResponse render(long orderId, OrderResponse order, String ifNoneMatch) {
+        return Entry.of(0, orderId, OrderJson.write(order)).respond(ifNoneMatch);
+    }
+
+    /**
+     * If-None-Match: "*", ein ETag oder eine Liste, schwache ETags (W/) zählen mit.
+     */
+    static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        // Ohne split/substring: der 304-Pfad soll nichts allokieren
+        int length = ifNoneMatch.length();
+        int start = 0;
+        while (start < length) {
+            int end = ifNoneMatch.indexOf(',', start);
+            if (end < 0) {
+                end = length;
+            }
+            int from = start;
+            int to = end;
+            while (from < to && ifNoneMatch.charAt(from) == ' ') {
+                from++;
+            }
+            while (to > from && ifNoneMatch.charAt(to - 1) == ' ') {
+                to--;
+            }
+            if (ifNoneMatch.startsWith("W/", from)) {
+                from += 2;
+            }
+            int tagLength = to - from;
+            if (tagLength == 1 && ifNoneMatch.charAt(from) == '*') {
+                return true;
+            }
+            if (tagLength == etag.length() && ifNoneMatch.regionMatches(from, etag, 0, tagLength)) {
+                return true;
+            }
+            start = end + 1;
+        }
+        return false;
+    }
+
+    private record Entry(long version, JsonResponse ok, JsonResponse notModified) {
+
+        // ETag aus dem Inhalt: bleibt über Neustarts gültig, obwohl die Versionen bei 0 beginnen
+        static Entry of(long version, long orderId, byte[] body) {
+            CRC32C crc = new CRC32C();
+            crc.update(body);
+            String etag = "\"" + Long.toHexString(orderId) + "-" + Long.toHexString(crc.getValue()) + "\"";
+            return new Entry(version, JsonResponse.ok(etag, body), JsonResponse.notModified(etag));
+        }
+
+        JsonResponse respond(String ifNoneMatch) {
+            return matches(ifNoneMatch, ok.etag()) ? notModified : ok;
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package order.adapter.input.sharding;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Ein Shard: ein Thread mit eigener Mailbox, arbeitet die Aufrufe
+ * streng nacheinander ab (Single Writer für alle Orders des Shards).
+ *
+ * Der Aufrufer stellt den Aufruf ein und wartet auf das Ergebnis.
+ * Exceptions aus dem Use Case kommen unverändert beim Aufrufer an.
+ *
+ * Beim Beenden bekommt jeder nicht mehr ausgeführte Aufruf eine
+ * IllegalStateException - kein Aufrufer wartet für immer.
+ */
+final class OrderShard {
+
+    private static final long IDLE_POLL_MILLIS = 10;
+
+    private final int index;
+    private final BlockingQueue<Task<?>> mailbox;
+    private final long enqueueTimeoutNanos;
+    private final Thread thread;
+    private volatile boolean running = true;
+
+    OrderShard(int index, int mailboxCapacity, long enqueueTimeoutNanos) {
+        this.index = index;
+        this.mailbox = new ArrayBlockingQueue<>(mailboxCapacity);
+        this.enqueueTimeoutNanos = enqueueTimeoutNanos;
+        this.thread = new Thread(this::eventLoop, "order-shard-" + index);
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Führt action im Shard-Thread aus und liefert das Ergebnis.
+     *
+     * Backpressure wie bei der NotificationOutbox: ist die Mailbox voll, blockiert
+     * der Aufrufer bis enqueueTimeout und bekommt danach eine IllegalStateException.
+     */
+    <T> T call(Supplier<T> action) {
+        // Verschachtelter Aufruf aus dem eigenen Shard: direkt, sonst wartet der Shard auf sich selbst
+        if (Thread.currentThread() == thread) {
+            return action.get();
+        }
+        if (!running) {
+            throw closed();
+        }
+        Task<T> task = new Task<>(action);
+        boolean accepted;
+        try {
+            accepted = mailbox.offer(task, enqueueTimeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            accepted = false;
+        }
+        if (!accepted) {
+            throw new IllegalStateException("Order shard " + index + " mailbox full");
+        }
+        // stop() kam dazwischen: der Event Loop arbeitet die Mailbox eventuell nicht mehr ab
+        if (!running && mailbox.remove(task)) {
+            task.fail(closed());
+        }
+        return await(task.result);
+    }
+
+    int queueDepth() {
+        return mailbox.size();
+    }
+
+    // Nimmt keine neuen Aufrufe mehr an, die Mailbox wird noch abgearbeitet
+    void stop() {
+        running = false;
+    }
+
+    // Wartet nach stop() auf die leere Mailbox, höchstens timeoutNanos
+    void awaitTermination(long timeoutNanos) throws InterruptedException {
+        long remainingMillis = TimeUnit.NANOSECONDS.toMillis(timeoutNanos);
+        if (remainingMillis > 0) {
+            thread.join(remainingMillis);
+        }
+        thread.interrupt();
+    }
+
+    private void eventLoop() {
+        try {
+            while (running || !mailbox.isEmpty()) {
+                Task<?> task = mailbox.poll(IDLE_POLL_MILLIS, TimeUnit.MILLISECONDS);
+                if (task != null) {
+                    task.run();
+                }
+            }
+        } catch (InterruptedException e) {
+            // awaitTermination: Zeit abgelaufen
+        } finally {
+            // Was jetzt noch in der Mailbox liegt, wird nie ausgeführt
+            Task<?> task;
+            while ((task = mailbox.poll()) != null) {
+                task.fail(closed());
+            }
+        }
+    }
+
+    private IllegalStateException closed() {
+        return new IllegalStateException("Order shard " + index + " is closed");
+    }
+
+    // Wie OrderService.await: Exception des Use Case unverändert weiterwerfen
+    private static <T> T await(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+
+    // Ein Aufruf in der Mailbox: wird entweder ausgeführt oder mit fail abgebrochen
+    private static final class Task<T> {
+        final Supplier<T> action;
+        final CompletableFuture<T> result = new CompletableFuture<>();
+
+        Task(Supplier<T> action) {
+            this.action = action;
+        }
+
+        void run() {
+            try {
+                result.complete(action.get());
+            } catch (Throwable e) {
+                result.completeExceptionally(e);
+            }
+        }
+
+        void fail(Throwable cause) {
+            result.completeExceptionally(cause);
+        }
+    }
+}
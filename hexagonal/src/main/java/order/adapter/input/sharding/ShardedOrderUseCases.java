@@ -0,0 +1,134 @@
+package order.adapter.input.sharding;
+
+import order.application.dto.OrderConfirmationResponse;
+import order.application.dto.OrderResponse;
+import order.application.dto.UpdateOrderCommand;
+import order.application.port.input.ConfirmOrderUseCase;
+import order.application.port.input.GetOrderUseCase;
+import order.application.port.input.UpdateOrderUseCase;
+import order.domain.model.OrderId;
+
+import java.time.Duration;
+
+/**
+ * Alternative Laufzeit vor den Input Ports: Orders werden über den Hash
+ * ihrer OrderId auf N Shards verteilt, jeder Shard gehört genau einem Thread.
+ *
+ * Alle Aufrufe für dieselbe Order laufen nacheinander im selben Thread -
+ * kein Lock und kein Versionskonflikt zwischen Aufrufen über diese Laufzeit,
+ * das Aggregate bleibt im Cache des Kerns, der es zuletzt bearbeitet hat.
+ * Verschiedene Orders auf verschiedenen Shards laufen parallel.
+ *
+ * PRAGMATISCH: Der OrderService und seine Ports bleiben unverändert (und
+ * thread-safe) - geteilte Ressourcen wie der Lagerbestand im Product-Modul
+ * sind nicht geshardet und synchronisieren weiterhin selbst.
+ * Blockierende Schritte (externe Prüfung in confirmOrder) halten den ganzen
+ * Shard auf, auch die anderen Orders darauf.
+ */
+public class ShardedOrderUseCases implements GetOrderUseCase, UpdateOrderUseCase, ConfirmOrderUseCase,
+        AutoCloseable {
+
+    private static final int DEFAULT_MAILBOX_CAPACITY = 1_024;
+    private static final Duration DEFAULT_ENQUEUE_TIMEOUT = Duration.ofMillis(50);
+
+    private final GetOrderUseCase getOrderUseCase;
+    private final UpdateOrderUseCase updateOrderUseCase;
+    private final ConfirmOrderUseCase confirmOrderUseCase;
+    private final OrderShard[] shards;
+
+    public ShardedOrderUseCases(GetOrderUseCase getOrderUseCase,
+                                UpdateOrderUseCase updateOrderUseCase,
+                                ConfirmOrderUseCase confirmOrderUseCase,
+                                int shardCount, int mailboxCapacity, Duration enqueueTimeout) {
+        if (shardCount < 1 || mailboxCapacity < 1) {
+            throw new IllegalArgumentException("Shard settings must be positive");
+        }
+        this.getOrderUseCase = getOrderUseCase;
+        this.updateOrderUseCase = updateOrderUseCase;
+        this.confirmOrderUseCase = confirmOrderUseCase;
+        this.shards = new OrderShard[shardCount];
+        for (int i = 0; i < shardCount; i++) {
+            shards[i] = new OrderShard(i, mailboxCapacity, enqueueTimeout.toNanos());
+        }
+    }
+
+    public ShardedOrderUseCases(GetOrderUseCase getOrderUseCase,
+                                UpdateOrderUseCase updateOrderUseCase,
+                                ConfirmOrderUseCase confirmOrderUseCase,
+                                int shardCount) {
+        this(getOrderUseCase, updateOrderUseCase, confirmOrderUseCase, shardCount,
+            DEFAULT_MAILBOX_CAPACITY, DEFAULT_ENQUEUE_TIMEOUT);
+    }
+
+    // Convenience Constructor: ein Shard pro Kern
+    public ShardedOrderUseCases(GetOrderUseCase getOrderUseCase,
+                                UpdateOrderUseCase updateOrderUseCase,
+                                ConfirmOrderUseCase confirmOrderUseCase) {
+        this(getOrderUseCase, updateOrderUseCase, confirmOrderUseCase,
+            Runtime.getRuntime().availableProcessors());
+    }
+
+    @Override
+    public OrderResponse getOrder(OrderId orderId) {
+        return shardFor(orderId).call(() -> getOrderUseCase.getOrder(orderId));
+    }
+
+    @Override
+    public OrderResponse updateOrder(OrderId orderId, UpdateOrderCommand command) {
+        return shardFor(orderId).call(() -> updateOrderUseCase.updateOrder(orderId, command));
+    }
+
+    @Override
+    public OrderConfirmationResponse confirmOrder(OrderId orderId) {
+        return shardFor(orderId).call(() -> confirmOrderUseCase.confirmOrder(orderId));
+    }
+
+    public int shardCount() {
+        return shards.length;
+    }
+
+    /**
+     * Fibonacci-Hashing wie bei den StripedLocks: fortlaufende IDs werden
+     * gleichmäßig verteilt, dieselbe ID landet immer auf demselben Shard.
+     */
+    public int shardOf(OrderId orderId) {
+        long hash = (orderId.value() * 0x9E3779B97F4A7C15L) >>> 32;
+        return (int) (hash % shards.length);
+    }
+
+    // Summe über alle Mailboxen - bei laufenden Aufrufen nur eine Momentaufnahme
+    public int queueDepth() {
+        int depth = 0;
+        for (OrderShard shard : shards) {
+            depth += shard.queueDepth();
+        }
+        return depth;
+    }
+
+    /**
+     * Nimmt keine neuen Aufrufe mehr an und wartet, bis alle Mailboxen
+     * abgearbeitet sind (höchstens timeout insgesamt).
+     */
+    public void close(Duration timeout) {
+        for (OrderShard shard : shards) {
+            shard.stop();
+        }
+        long deadline = System.nanoTime() + timeout.toNanos();
+        try {
+            for (OrderShard shard : shards) {
+                shard.awaitTermination(deadline - System.nanoTime());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public void close() {
+        close(Duration.ofSeconds(5));
+    }
+
+    private OrderShard shardFor(OrderId orderId) {
+        return shards[shardOf(orderId)];
+    }
+}
@@ -0,0 +1,123 @@
+package order.adapter.output.external;
+
+import order.application.port.output.CheckOrderExistsPort;
+import order.domain.model.OrderId;
+import shared.log.EventLog;
+import shared.log.EventLogger;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Decorator - Bloom-Filter vor der externen Existenz-Prüfung.
+ *
+ * Die meisten Orders existieren extern NICHT. Sagt der Filter "sicher nicht enthalten",
+ * wird sofort false geliefert, nur mögliche Treffer gehen an den Delegate.
+ *
+ * Der Filter wird aus einem Export aller externen Order-IDs gebaut und periodisch
+ * neu geladen (neuer Filter, dann Referenz tauschen). Solange noch kein Filter geladen
+ * ist, geht jede Prüfung an den Delegate. Schlägt ein Reload fehl, bleibt der alte Filter.
+ *
+ * ACHTUNG: Orders, die extern nach dem letzten Export angelegt wurden, kennt der Filter
+ * nicht - das Refresh-Intervall ist das Fenster, in dem solche Duplikate durchrutschen.
+ */
+public class BloomFilterCheckOrderExistsAdapter implements CheckOrderExistsPort, AutoCloseable {
+
+    private static final EventLogger LOG = EventLog.logger("BLOOM");
+
+    private static final double DEFAULT_FALSE_POSITIVE_RATE = 0.01;
+    private static final Duration DEFAULT_REFRESH_INTERVAL = Duration.ofMinutes(5);
+
+    private final CheckOrderExistsPort delegate;
+    private final Supplier<long[]> orderIdExport;
+    private final double falsePositiveRate;
+    private final ScheduledExecutorService refresher;
+    private volatile OffHeapBloomFilter filter;
+
+    private final LongAdder definiteNegatives = new LongAdder();
+    private final LongAdder delegated = new LongAdder();
+
+    public BloomFilterCheckOrderExistsAdapter(CheckOrderExistsPort delegate, Supplier<long[]> orderIdExport,
+                                              double falsePositiveRate, Duration refreshInterval) {
+        this.delegate = delegate;
+        this.orderIdExport = orderIdExport;
+        this.falsePositiveRate = falsePositiveRate;
+        this.refresher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "external-order-bloom-refresh");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long intervalMillis = refreshInterval.toMillis();
+        refresher.scheduleWithFixedDelay(this::refresh, 0, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    // Export direkt vom ExternalOrderApiAdapter, Standard-Rate und -Intervall
+    public BloomFilterCheckOrderExistsAdapter(ExternalOrderApiAdapter externalOrderApi) {
+        this(externalOrderApi, externalOrderApi::exportOrderIds,
+            DEFAULT_FALSE_POSITIVE_RATE, DEFAULT_REFRESH_INTERVAL);
+    }
+
+    @Override
+    public boolean existsInExternalSystem(OrderId orderId) {
+        OffHeapBloomFilter current = filter;
+        if (current != null && !current.mightContain(orderId.value())) {
+            definiteNegatives.increment();
+            return false;
+        }
+        delegated.increment();
+        return delegate.existsInExternalSystem(orderId);
+    }
+
+    @Override
+    public Set<OrderId> existsInExternalSystem(Collection<OrderId> orderIds) {
+        OffHeapBloomFilter current = filter;
+        if (current == null) {
+            delegated.add(orderIds.size());
+            return delegate.existsInExternalSystem(orderIds);
+        }
+        List<OrderId> candidates = orderIds.stream()
+            .distinct()
+            .filter(orderId -> current.mightContain(orderId.value()))
+            .toList();
+        definiteNegatives.add(orderIds.size() - candidates.size());
+        delegated.add(candidates.size());
+        return candidates.isEmpty() ? Set.of() : delegate.existsInExternalSystem(candidates);
+    }
+
+    /**
+     * Baut den Filter aus dem aktuellen Export neu auf.
+     */
+    public void refresh() {
+        try {
+            long[] orderIds = orderIdExport.get();
+            OffHeapBloomFilter rebuilt = OffHeapBloomFilter.create(orderIds.length, falsePositiveRate);
+            for (long orderId : orderIds) {
+                rebuilt.add(orderId);
+            }
+            filter = rebuilt;
+            LOG.info("Loaded {} external order ids ({} bits, {} hashes)",
+                orderIds.length, rebuilt.bitCount(), rebuilt.hashFunctions());
+        } catch (RuntimeException e) {
+            // Alten Filter behalten - lieber veraltet als gar keiner
+            LOG.warn("Refresh failed: {}", e.getMessage());
+        }
+    }
+
+    public Stats stats() {
+        return new Stats(filter != null, definiteNegatives.sum(), delegated.sum());
+    }
+
+    @Override
+    public void close() {
+        refresher.shutdownNow();
+    }
+
+    public record Stats(boolean loaded, long definiteNegatives, long delegated) {}
+}
@@ -0,0 +1,270 @@
+package order.adapter.output.external;
+
+import order.application.port.output.CheckOrderExistsPort;
+import order.domain.model.OrderId;
+import shared.collection.ConcurrentLongHashMap;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Decorator - Cache vor der externen Existenz-Prüfung.
+ *
+ * - Begrenzte Größe, näherungsweise LRU: Treffer laufen ohne gemeinsamen Lock
+ *   (ConcurrentLongHashMap, optimistisches Lesen) und vermerken nur den
+ *   Zugriffszeitpunkt. Wird maxEntries überschritten, räumt ein einzelner Thread
+ *   auf 90 % ab - erst Abgelaufenes, dann die am längsten nicht benutzten
+ *   Einträge. Bis dahin kann der Cache kurz über maxEntries liegen.
+ * - Getrennte TTLs: "existiert" ändert sich praktisch nie zurück und darf lange
+ *   gecached werden, "existiert nicht" nur kurz - die Order kann jederzeit
+ *   im externen System angelegt werden.
+ * - Request Coalescing: Gleichzeitige Prüfungen derselben OrderId teilen sich
+ *   einen Aufruf an den Delegate.
+ *
+ * Fehler des Delegates werden nicht gecached, der nächste Aufruf versucht es erneut.
+ */
+public class CachingCheckOrderExistsAdapter implements CheckOrderExistsPort {
+
+    private static final int DEFAULT_MAX_ENTRIES = 10_000;
+    private static final Duration DEFAULT_POSITIVE_TTL = Duration.ofMinutes(10);
+    private static final Duration DEFAULT_NEGATIVE_TTL = Duration.ofSeconds(5);
+    // Zugriffszeit nur in dieser Auflösung schreiben - heiße Einträge nicht bei jedem Treffer
+    private static final long ACCESS_GRANULARITY_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final CheckOrderExistsPort delegate;
+    private final long positiveTtlNanos;
+    private final long negativeTtlNanos;
+    private final int maxEntries;
+    private final ConcurrentLongHashMap<CachedResult> entries;
+    private final AtomicInteger size = new AtomicInteger();
+    private final ReentrantLock evictionLock = new ReentrantLock();  // nur ein Thread räumt auf
+    private final ConcurrentLongHashMap<CompletableFuture<Boolean>> inFlight = new ConcurrentLongHashMap<>();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+
+    public CachingCheckOrderExistsAdapter(CheckOrderExistsPort delegate, int maxEntries,
+                                          Duration positiveTtl, Duration negativeTtl) {
+        if (maxEntries < 1) {
+            throw new IllegalArgumentException("maxEntries must be positive");
+        }
+        this.delegate = delegate;
+        this.positiveTtlNanos = positiveTtl.toNanos();
+        this.negativeTtlNanos = negativeTtl.toNanos();
+        this.maxEntries = maxEntries;
+        this.entries = new ConcurrentLongHashMap<>(maxEntries);
+    }
+
+    public CachingCheckOrderExistsAdapter(CheckOrderExistsPort delegate) {
+        this(delegate, DEFAULT_MAX_ENTRIES, DEFAULT_POSITIVE_TTL, DEFAULT_NEGATIVE_TTL);
+    }
+
+    @Override
+    public boolean existsInExternalSystem(OrderId orderId) {
+        long id = orderId.value();
+        Boolean cached = lookup(id);
+        if (cached != null) {
+            hits.increment();
+            return cached;
+        }
+
+        CompletableFuture<Boolean> call = new CompletableFuture<>();
+        CompletableFuture<Boolean> running = inFlight.putIfAbsent(id, call);
+        if (running != null) {
+            coalesced.increment();
+            return await(running);
+        }
+
+        try {
+            // Ein anderer Thread kann zwischen lookup() und putIfAbsent() fertig geworden sein
+            cached = lookup(id);
+            boolean exists;
+            if (cached != null) {
+                exists = cached;
+            } else {
+                misses.increment();
+                exists = delegate.existsInExternalSystem(orderId);
+                store(id, exists);
+            }
+            call.complete(exists);
+            return exists;
+        } catch (Throwable e) {
+            // Auch bei einem Error: wartende Aufrufer dürfen nicht hängen bleiben
+            call.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(id, call);
+        }
+    }
+
+    /**
+     * Bulk: Nur die nicht gecachten IDs gehen in einem Aufruf an den Delegate.
+     * Kein Coalescing mit laufenden Einzel-Prüfungen.
+     */
+    @Override
+    public Set<OrderId> existsInExternalSystem(Collection<OrderId> orderIds) {
+        Set<OrderId> existing = new HashSet<>();
+        List<OrderId> uncached = new ArrayList<>();
+        for (OrderId orderId : new HashSet<>(orderIds)) {
+            Boolean cached = lookup(orderId.value());
+            if (cached == null) {
+                uncached.add(orderId);
+            } else {
+                hits.increment();
+                if (cached) {
+                    existing.add(orderId);
+                }
+            }
+        }
+
+        if (!uncached.isEmpty()) {
+            misses.add(uncached.size());
+            Set<OrderId> found = delegate.existsInExternalSystem(uncached);
+            uncached.forEach(orderId -> store(orderId.value(), found.contains(orderId)));
+            existing.addAll(found);
+        }
+        return Set.copyOf(existing);
+    }
+
+    public void invalidate(OrderId orderId) {
+        if (entries.remove(orderId.value()) != null) {
+            size.decrementAndGet();
+        }
+    }
+
+    public Stats stats() {
+        return new Stats(size.get(), hits.sum(), misses.sum(), coalesced.sum());
+    }
+
+    private Boolean lookup(long id) {
+        CachedResult result = entries.get(id);
+        if (result == null) {
+            return null;
+        }
+        long now = System.nanoTime();
+        if (result.expiresAtNanos - now <= 0) {
+            removeEntry(id, result);
+            return null;
+        }
+        if (now - result.lastAccessNanos > ACCESS_GRANULARITY_NANOS) {
+            result.lastAccessNanos = now;
+        }
+        return result.exists;
+    }
+
+    private void store(long id, boolean exists) {
+        long ttl = exists ? positiveTtlNanos : negativeTtlNanos;
+        if (ttl <= 0) {
+            return;
+        }
+        long now = System.nanoTime();
+        if (entries.put(id, new CachedResult(exists, now + ttl, now)) == null
+                && size.incrementAndGet() > maxEntries) {
+            evict();
+        }
+    }
+
+    private void removeEntry(long id, CachedResult expected) {
+        if (entries.remove(id, expected)) {
+            size.decrementAndGet();
+        }
+    }
+
+    /**
+     * Räumt auf 90 % von maxEntries ab. O(Einträge log Einträge), läuft aber
+     * nur alle ~maxEntries/10 Einfügungen. Wer den Lock nicht bekommt, geht
+     * einfach weiter - ein anderer Thread räumt schon auf.
+     */
+    private void evict() {
+        if (!evictionLock.tryLock()) {
+            return;
+        }
+        try {
+            if (size.get() <= maxEntries) {
+                return;
+            }
+            // Erst sammeln, dann entfernen: forEach hält den Lese-Lock des Segments.
+            // Was parallel dazukommt und nicht mehr passt, wird in dieser Runde übergangen
+            int capacity = size.get() + maxEntries / 10 + 16;
+            long[] keys = new long[capacity];
+            CachedResult[] results = new CachedResult[capacity];
+            int[] count = {0};
+            entries.forEach((key, result) -> {
+                if (count[0] < capacity) {
+                    keys[count[0]] = key;
+                    results[count[0]++] = result;
+                }
+            });
+
+            long now = System.nanoTime();
+            long[] lastAccess = new long[count[0]];
+            int live = 0;
+            for (int i = 0; i < count[0]; i++) {
+                CachedResult result = results[i];
+                if (result.expiresAtNanos - now <= 0) {
+                    removeEntry(keys[i], result);
+                } else {
+                    lastAccess[live++] = result.lastAccessNanos;
+                }
+            }
+
+            int excess = size.get() - (maxEntries - maxEntries / 10);
+            if (excess <= 0 || live == 0) {
+                return;
+            }
+            long[] sorted = Arrays.copyOf(lastAccess, live);
+            Arrays.sort(sorted);
+            long cutoff = sorted[Math.min(excess, live) - 1];
+            for (int i = 0; i < count[0] && excess > 0; i++) {
+                CachedResult result = results[i];
+                if (result.expiresAtNanos - now > 0 && result.lastAccessNanos <= cutoff) {
+                    removeEntry(keys[i], result);
+                    excess--;
+                }
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    private static boolean await(CompletableFuture<Boolean> call) {
+        try {
+            return call.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private static final class CachedResult {
+        final boolean exists;
+        final long expiresAtNanos;
+        // Kein CAS: ein verlorenes Update macht die LRU nur ungenauer
+        volatile long lastAccessNanos;
+
+        CachedResult(boolean exists, long expiresAtNanos, long lastAccessNanos) {
+            this.exists = exists;
+            this.expiresAtNanos = expiresAtNanos;
+            this.lastAccessNanos = lastAccessNanos;
+        }
+    }
+
+    public record Stats(int size, long hits, long misses, long coalesced) {}
+}
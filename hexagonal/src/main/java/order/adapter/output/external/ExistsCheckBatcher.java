@@ -0,0 +1,202 @@
+package order.adapter.output.external;
+
+import order.domain.model.OrderId;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Micro-Batching für Einzel-Prüfungen.
+ *
+ * Gleichzeitige Einzel-Aufrufe werden gesammelt, bis das Zeitfenster abläuft
+ * oder maxBatchSize erreicht ist, und dann mit einem Bulk-Request geprüft.
+ * Der Aufrufer blockiert bis sein Batch beantwortet ist, höchstens requestTimeout.
+ *
+ * Der Dispatcher-Thread sammelt nur; die Bulk-Requests laufen auf einem Pool
+ * mit maxConcurrentRequests Threads, ein langsamer Request hält die nächsten
+ * Batches nicht auf. Jeder Fehler (auch ein Error) beendet alle Aufrufe des
+ * Batches. Nach close() bekommt jeder noch wartende Aufruf eine
+ * IllegalStateException.
+ */
+final class ExistsCheckBatcher {
+
+    private final Function<List<OrderId>, Set<OrderId>> bulkCheck;
+    private final long windowNanos;
+    private final int maxBatchSize;
+    private final long requestTimeoutNanos;
+    private final LinkedBlockingQueue<PendingCheck> pending = new LinkedBlockingQueue<>();
+    private final ExecutorService requests;
+    private final Thread dispatcher;
+    private volatile boolean running = true;
+
+    // 5 Sekunden Timeout, 4 gleichzeitige Requests
+    ExistsCheckBatcher(Function<List<OrderId>, Set<OrderId>> bulkCheck, Duration window, int maxBatchSize) {
+        this(bulkCheck, window, maxBatchSize, Duration.ofSeconds(5), 4);
+    }
+
+    ExistsCheckBatcher(Function<List<OrderId>, Set<OrderId>> bulkCheck, Duration window, int maxBatchSize,
+                       Duration requestTimeout, int maxConcurrentRequests) {
+        if (maxBatchSize < 1) {
+            throw new IllegalArgumentException("maxBatchSize must be positive");
+        }
+        if (maxConcurrentRequests < 1) {
+            throw new IllegalArgumentException("maxConcurrentRequests must be positive");
+        }
+        this.bulkCheck = bulkCheck;
+        this.windowNanos = window.toNanos();
+        this.maxBatchSize = maxBatchSize;
+        this.requestTimeoutNanos = requestTimeout.toNanos();
+
+        AtomicInteger counter = new AtomicInteger();
+        this.requests = Executors.newFixedThreadPool(maxConcurrentRequests, runnable -> {
+            Thread thread = new Thread(runnable, "external-exists-request-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.dispatcher = new Thread(this::dispatchLoop, "external-exists-batcher");
+        dispatcher.setDaemon(true);
+        dispatcher.start();
+    }
+
+    boolean exists(OrderId orderId) {
+        if (!running) {
+            throw closed();
+        }
+        PendingCheck check = new PendingCheck(orderId, new CompletableFuture<>());
+        pending.add(check);
+        // close() kann zwischen Prüfung und add gelaufen sein - dann holt der Dispatcher den Aufruf nicht mehr
+        if (!running && pending.remove(check)) {
+            throw closed();
+        }
+        try {
+            return check.result().get(requestTimeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("External exists check failed", e.getCause());
+        } catch (TimeoutException e) {
+            throw new IllegalStateException("External exists check for order " + orderId.value() + " timed out");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while checking order " + orderId.value());
+        }
+    }
+
+    /**
+     * Beendet den Dispatcher, laufende Requests dürfen bis timeout fertig werden.
+     */
+    void close(Duration timeout) {
+        running = false;
+        dispatcher.interrupt();
+        requests.shutdown();
+        try {
+            dispatcher.join(timeout.toMillis());
+            if (!requests.awaitTermination(timeout.toNanos(), TimeUnit.NANOSECONDS)) {
+                abortRequests();
+            }
+        } catch (InterruptedException e) {
+            abortRequests();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // Nicht mehr gestartete Batches sofort beenden statt bis zum Timeout warten lassen
+    private void abortRequests() {
+        for (Runnable request : requests.shutdownNow()) {
+            fail(((BatchRequest) request).batch, closed());
+        }
+    }
+
+    void close() {
+        close(Duration.ofSeconds(5));
+    }
+
+    private void dispatchLoop() {
+        List<PendingCheck> batch = new ArrayList<>(maxBatchSize);
+        try {
+            while (running) {
+                collectBatch(batch);
+                List<PendingCheck> ready = List.copyOf(batch);
+                batch.clear();
+                try {
+                    requests.execute(new BatchRequest(ready));
+                } catch (RejectedExecutionException e) {
+                    fail(ready, closed());
+                }
+            }
+        } catch (InterruptedException e) {
+            // close()
+        } finally {
+            pending.drainTo(batch);
+            fail(batch, closed());
+        }
+    }
+
+    // Das Fenster beginnt mit dem ersten Aufruf, nicht mit dem letzten Flush
+    private void collectBatch(List<PendingCheck> batch) throws InterruptedException {
+        batch.add(pending.take());
+        long deadline = System.nanoTime() + windowNanos;
+        while (batch.size() < maxBatchSize) {
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                pending.drainTo(batch, maxBatchSize - batch.size());
+                return;
+            }
+            PendingCheck next = pending.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                return;
+            }
+            batch.add(next);
+        }
+    }
+
+    private void flush(List<PendingCheck> batch) {
+        try {
+            List<OrderId> orderIds = batch.stream().map(PendingCheck::orderId).distinct().toList();
+            Set<OrderId> existing = bulkCheck.apply(orderIds);
+            batch.forEach(check -> check.result().complete(existing.contains(check.orderId())));
+        } catch (Throwable e) {
+            fail(batch, e);
+        }
+    }
+
+    private static void fail(List<PendingCheck> batch, Throwable cause) {
+        batch.forEach(check -> check.result().completeExceptionally(cause));
+    }
+
+    private static IllegalStateException closed() {
+        return new IllegalStateException("External exists batcher is closed");
+    }
+
+    private final class BatchRequest implements Runnable {
+
+        private final List<PendingCheck> batch;
+
+        BatchRequest(List<PendingCheck> batch) {
+            this.batch = batch;
+        }
+
+        @Override
+        public void run() {
+            flush(batch);
+        }
+    }
+
+    private record PendingCheck(OrderId orderId, CompletableFuture<Boolean> result) {}
+}
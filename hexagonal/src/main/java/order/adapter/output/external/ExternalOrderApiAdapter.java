@@ -2,26 +2,53 @@ package order.adapter.output.external;
 
 import order.application.port.output.CheckOrderExistsPort;
 import order.domain.model.OrderId;
+import shared.log.EventLog;
+import shared.log.EventLogger;
+import shared.log.LogLevel;
 
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
  * Secondary Adapter - Externe API.
  *
  * Implementiert Prüfung gegen externes System.
  * In echter Anwendung: HTTP Client (RestTemplate, WebClient, etc.)
+ *
+ * Einzel-Prüfungen werden per Micro-Batching zu Bulk-Requests zusammengefasst
+ * (Zeitfenster oder maxBatchSize, je nachdem was zuerst eintritt).
+ * close() beendet die Threads des Batchers.
  */
-public class ExternalOrderApiAdapter implements CheckOrderExistsPort {
+public class ExternalOrderApiAdapter implements CheckOrderExistsPort, AutoCloseable {
+
+    private static final EventLogger LOG = EventLog.logger("EXTERNAL API");
+
+    private static final Duration DEFAULT_BATCH_WINDOW = Duration.ofMillis(2);
+    private static final int DEFAULT_MAX_BATCH_SIZE = 100;
 
     private final String apiBaseUrl;
     private final String apiKey;
+    private final ExistsCheckBatcher batcher;
 
     // Simulierte "externe" Datenbank für Demo
     private final Set<Long> existingExternalOrders = Set.of(999L, 1000L, 1001L);
 
-    public ExternalOrderApiAdapter(String apiBaseUrl, String apiKey) {
+    /**
+     * batchWindow = 0: kein Micro-Batching, jede Einzel-Prüfung ist ein eigener Request.
+     */
+    public ExternalOrderApiAdapter(String apiBaseUrl, String apiKey, Duration batchWindow, int maxBatchSize) {
         this.apiBaseUrl = apiBaseUrl;
         this.apiKey = apiKey;
+        this.batcher = batchWindow.isZero()
+            ? null
+            : new ExistsCheckBatcher(this::requestBulk, batchWindow, maxBatchSize);
+    }
+
+    public ExternalOrderApiAdapter(String apiBaseUrl, String apiKey) {
+        this(apiBaseUrl, apiKey, DEFAULT_BATCH_WINDOW, DEFAULT_MAX_BATCH_SIZE);
     }
 
     // Convenience Constructor für lokale Entwicklung
@@ -31,25 +58,73 @@ public class ExternalOrderApiAdapter implements CheckOrderExistsPort {
 
     @Override
     public boolean existsInExternalSystem(OrderId orderId) {
+        if (batcher != null) {
+            return batcher.exists(orderId);
+        }
+        return requestSingle(orderId);
+    }
+
+    @Override
+    public Set<OrderId> existsInExternalSystem(Collection<OrderId> orderIds) {
+        if (orderIds.isEmpty()) {
+            return Set.of();
+        }
+        return requestBulk(orderIds.stream().distinct().toList());
+    }
+
+    @Override
+    public void close() {
+        if (batcher != null) {
+            batcher.close();
+        }
+    }
+
+    /**
+     * Alle externen Order-IDs, Quelle für den BloomFilterCheckOrderExistsAdapter.
+     */
+    public long[] exportOrderIds() {
+        // In echter Implementierung: Export-Datei / Stream vom externen System
+        // GET {apiBaseUrl}/orders/export
+        // Header: X-API-Key: {apiKey}
+
+        LOG.info("Exporting order ids from {}", apiBaseUrl);
+
+        return existingExternalOrders.stream().mapToLong(Long::longValue).toArray();
+    }
+
+    private boolean requestSingle(OrderId orderId) {
         // In echter Implementierung: HTTP Request an externes System
         // GET {apiBaseUrl}/orders/{orderId}/exists
         // Header: X-API-Key: {apiKey}
 
-        System.out.printf(
-            "[EXTERNAL API] Checking order %d at %s%n",
-            orderId.value(),
-            apiBaseUrl
-        );
+        LOG.info("Checking order {} at {}", orderId.value(), apiBaseUrl);
 
         // Simulierte Antwort
         boolean exists = existingExternalOrders.contains(orderId.value());
 
-        System.out.printf(
-            "[EXTERNAL API] Order %d exists: %s%n",
-            orderId.value(),
-            exists
-        );
+        LOG.info("Order {} exists: {}", orderId.value(), exists);
 
         return exists;
     }
+
+    private Set<OrderId> requestBulk(List<OrderId> orderIds) {
+        // In echter Implementierung: ein HTTP Request für alle IDs
+        // POST {apiBaseUrl}/orders/exists
+        // Header: X-API-Key: {apiKey}
+        // Body: {"ids": [...]} → Response: {"existing": [...]}
+
+        LOG.info("Checking {} orders at {}", orderIds.size(), apiBaseUrl);
+
+        // Simulierte Antwort
+        Set<OrderId> existing = orderIds.stream()
+            .filter(orderId -> existingExternalOrders.contains(orderId.value()))
+            .collect(Collectors.toUnmodifiableSet());
+
+        // Liste nur bauen, wenn sie auch geschrieben wird
+        if (LOG.isEnabled(LogLevel.INFO)) {
+            LOG.info("Existing orders: {}", existing.stream().map(OrderId::value).sorted().toList());
+        }
+
+        return existing;
+    }
 }
@@ -0,0 +1,92 @@
+package order.adapter.output.external;
+
+import java.nio.ByteBuffer;
+import java.nio.LongBuffer;
+
+/**
+ * Bloom-Filter für Order-IDs mit Bit-Array außerhalb des Heaps (Direct Buffer).
+ *
+ * Wird einmal befüllt und danach nur gelesen - kein Locking nötig,
+ * solange die Instanz erst nach dem Befüllen veröffentlicht wird.
+ * Der Speicher wird freigegeben, sobald die Instanz nicht mehr referenziert ist.
+ */
+final class OffHeapBloomFilter {
+
+    // Grenze des Direct Buffers: int-Index in Bytes
+    private static final long MAX_BITS = (long) (Integer.MAX_VALUE - 7) * Byte.SIZE;
+
+    private final LongBuffer words;
+    private final long bitCount;
+    private final int hashFunctions;
+
+    private OffHeapBloomFilter(long bitCount, int hashFunctions) {
+        int wordCount = (int) ((bitCount + Long.SIZE - 1) / Long.SIZE);
+        this.words = ByteBuffer.allocateDirect(wordCount * Long.BYTES).asLongBuffer();
+        this.bitCount = (long) wordCount * Long.SIZE;
+        this.hashFunctions = hashFunctions;
+    }
+
+    /**
+     * Dimensioniert nach erwarteter Anzahl und gewünschter False-Positive-Rate:
+     * m = -n·ln(p) / ln(2)², k = m/n · ln(2).
+     */
+    static OffHeapBloomFilter create(long expectedEntries, double falsePositiveRate) {
+        if (falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("False positive rate must be between 0 and 1");
+        }
+        long n = Math.max(1, expectedEntries);
+        double ln2 = Math.log(2);
+        long bits = (long) Math.ceil(-n * Math.log(falsePositiveRate) / (ln2 * ln2));
+        if (bits > MAX_BITS) {
+            throw new IllegalArgumentException("Bloom filter too large for " + n + " entries");
+        }
+        int k = Math.max(1, (int) Math.round((double) bits / n * ln2));
+        return new OffHeapBloomFilter(Math.max(Long.SIZE, bits), k);
+    }
+
+    void add(long orderId) {
+        long h1 = mix(orderId);
+        long h2 = mix(h1) | 1;
+        for (int i = 0; i < hashFunctions; i++) {
+            long bit = Long.remainderUnsigned(h1 + i * h2, bitCount);
+            int word = (int) (bit >>> 6);
+            words.put(word, words.get(word) | (1L << bit));
+        }
+    }
+
+    /**
+     * false: sicher nicht enthalten. true: möglicherweise enthalten.
+     */
+    boolean mightContain(long orderId) {
+        long h1 = mix(orderId);
+        long h2 = mix(h1) | 1;
+        for (int i = 0; i < hashFunctions; i++) {
+            long bit = Long.remainderUnsigned(h1 + i * h2, bitCount);
+            if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    long bitCount() {
+        return bitCount;
+    }
+
+    int hashFunctions() {
+        return hashFunctions;
+    }
+
+    /**
+     * Finalizer von MurmurHash3 (fmix64) - verteilt auch fortlaufende IDs gleichmäßig.
+     */
+    private static long mix(long value) {
+        long h = value;
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
@@ -0,0 +1,52 @@
+package order.adapter.output.metrics;
+
+import order.application.port.output.CheckOrderExistsPort;
+import order.domain.model.OrderId;
+import shared.metrics.MetricsRegistry;
+import shared.metrics.Timer;
+
+import java.util.Collection;
+import java.util.Set;
+
+/**
+ * Decorator: misst Aufrufe, Latenz und Fehler von CheckOrderExistsPort.
+ *
+ * Die Bulk-Prüfung wird als ein Aufruf gezählt und unverändert weitergereicht,
+ * damit die Bulk-API des Adapters erhalten bleibt.
+ */
+public class MeteredCheckOrderExistsPort implements CheckOrderExistsPort {
+
+    private final CheckOrderExistsPort delegate;
+    private final Timer timer;
+
+    public MeteredCheckOrderExistsPort(CheckOrderExistsPort delegate, MetricsRegistry registry) {
+        this.delegate = delegate;
+        this.timer = PortMetrics.timer(registry, CheckOrderExistsPort.class);
+    }
+
+    @Override
+    public boolean existsInExternalSystem(OrderId orderId) {
+        long start = System.nanoTime();
+        try {
+            boolean exists = delegate.existsInExternalSystem(orderId);
+            timer.record(System.nanoTime() - start);
+            return exists;
+        } catch (RuntimeException e) {
+            timer.recordError(System.nanoTime() - start);
+            throw e;
+        }
+    }
+
+    @Override
+    public Set<OrderId> existsInExternalSystem(Collection<OrderId> orderIds) {
+        long start = System.nanoTime();
+        try {
+            Set<OrderId> existing = delegate.existsInExternalSystem(orderIds);
+            timer.record(System.nanoTime() - start);
+            return existing;
+        } catch (RuntimeException e) {
+            timer.recordError(System.nanoTime() - start);
+            throw e;
+        }
+    }
+}
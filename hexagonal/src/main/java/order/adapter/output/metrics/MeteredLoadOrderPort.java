@@ -0,0 +1,37 @@
+package order.adapter.output.metrics;
+
+import order.application.port.output.LoadOrderPort;
+import order.domain.model.Order;
+import order.domain.model.OrderId;
+import shared.metrics.MetricsRegistry;
+import shared.metrics.Timer;
+
+import java.util.Optional;
+
+/**
+ * Decorator: misst Aufrufe, Latenz und Fehler von LoadOrderPort.
+ * Eine leere Antwort ist kein Fehler, nur eine Exception.
+ */
+public class MeteredLoadOrderPort implements LoadOrderPort {
+
+    private final LoadOrderPort delegate;
+    private final Timer timer;
+
+    public MeteredLoadOrderPort(LoadOrderPort delegate, MetricsRegistry registry) {
+        this.delegate = delegate;
+        this.timer = PortMetrics.timer(registry, LoadOrderPort.class);
+    }
+
+    @Override
+    public Optional<Order> loadById(OrderId orderId) {
+        long start = System.nanoTime();
+        try {
+            Optional<Order> order = delegate.loadById(orderId);
+            timer.record(System.nanoTime() - start);
+            return order;
+        } catch (RuntimeException e) {
+            timer.recordError(System.nanoTime() - start);
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package order.adapter.output.metrics;
+
+import order.application.port.output.LoadProductInfoPort;
+import order.domain.model.ProductId;
+import shared.metrics.MetricsRegistry;
+import shared.metrics.Timer;
+
+import java.util.Optional;
+
+/**
+ * Decorator: misst Aufrufe, Latenz und Fehler von LoadProductInfoPort.
+ */
+public class MeteredLoadProductInfoPort implements LoadProductInfoPort {
+
+    private final LoadProductInfoPort delegate;
+    private final Timer timer;
+
+    public MeteredLoadProductInfoPort(LoadProductInfoPort delegate, MetricsRegistry registry) {
+        this.delegate = delegate;
+        this.timer = PortMetrics.timer(registry, LoadProductInfoPort.class);
+    }
+
+    @Override
+    public Optional<ProductInfo> loadProductInfo(ProductId productId) {
+        long start = System.nanoTime();
+        try {
+            Optional<ProductInfo> info = delegate.loadProductInfo(productId);
+            timer.record(System.nanoTime() - start);
+            return info;
+        } catch (RuntimeException e) {
+            timer.recordError(System.nanoTime() - start);
+            throw e;
+        }
+    }
+}
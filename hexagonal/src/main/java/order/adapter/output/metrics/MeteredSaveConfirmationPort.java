@@ -0,0 +1,33 @@
+package order.adapter.output.metrics;
+
+import order.application.port.output.SaveConfirmationPort;
+import order.domain.model.OrderConfirmation;
+import shared.metrics.MetricsRegistry;
+import shared.metrics.Timer;
+
+/**
+ * Decorator: misst Aufrufe, Latenz und Fehler von SaveConfirmationPort.
+ */
+public class MeteredSaveConfirmationPort implements SaveConfirmationPort {
+
+    private final SaveConfirmationPort delegate;
+    private final Timer timer;
+
+    public MeteredSaveConfirmationPort(SaveConfirmationPort delegate, MetricsRegistry registry) {
+        this.delegate = delegate;
+        this.timer = PortMetrics.timer(registry, SaveConfirmationPort.class);
+    }
+
+    @Override
+    public OrderConfirmation save(OrderConfirmation confirmation) {
+        long start = System.nanoTime();
+        try {
+            OrderConfirmation saved = delegate.save(confirmation);
+            timer.record(System.nanoTime() - start);
+            return saved;
+        } catch (RuntimeException e) {
+            timer.recordError(System.nanoTime() - start);
+            throw e;
+        }
+    }
+}
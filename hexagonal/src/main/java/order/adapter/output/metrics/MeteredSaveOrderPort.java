@@ -0,0 +1,33 @@
+package order.adapter.output.metrics;
+
+import order.application.port.output.SaveOrderPort;
+import order.domain.model.Order;
+import shared.metrics.MetricsRegistry;
+import shared.metrics.Timer;
+
+/**
+ * Decorator: misst Aufrufe, Latenz und Fehler von SaveOrderPort.
+ */
+public class MeteredSaveOrderPort implements SaveOrderPort {
+
+    private final SaveOrderPort delegate;
+    private final Timer timer;
+
+    public MeteredSaveOrderPort(SaveOrderPort delegate, MetricsRegistry registry) {
+        this.delegate = delegate;
+        this.timer = PortMetrics.timer(registry, SaveOrderPort.class);
+    }
+
+    @Override
+    public Order save(Order order) {
+        long start = System.nanoTime();
+        try {
+            Order saved = delegate.save(order);
+            timer.record(System.nanoTime() - start);
+            return saved;
+        } catch (RuntimeException e) {
+            timer.recordError(System.nanoTime() - start);
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package order.adapter.output.metrics;
+
+import order.application.port.output.SendNotificationPort;
+import order.domain.model.CustomerId;
+import order.domain.model.OrderConfirmation;
+import shared.metrics.MetricsRegistry;
+import shared.metrics.Timer;
+
+/**
+ * Decorator: misst Aufrufe, Latenz und Fehler von SendNotificationPort.
+ * Mit der Outbox dahinter ist das nur das Einstellen, nicht der Versand.
+ */
+public class MeteredSendNotificationPort implements SendNotificationPort {
+
+    private final SendNotificationPort delegate;
+    private final Timer timer;
+
+    public MeteredSendNotificationPort(SendNotificationPort delegate, MetricsRegistry registry) {
+        this.delegate = delegate;
+        this.timer = PortMetrics.timer(registry, SendNotificationPort.class);
+    }
+
+    @Override
+    public void sendOrderConfirmation(CustomerId customerId, OrderConfirmation confirmation) {
+        long start = System.nanoTime();
+        try {
+            delegate.sendOrderConfirmation(customerId, confirmation);
+            timer.record(System.nanoTime() - start);
+        } catch (RuntimeException e) {
+            timer.recordError(System.nanoTime() - start);
+            throw e;
+        }
+    }
+}
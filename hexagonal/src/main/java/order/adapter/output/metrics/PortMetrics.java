@@ -0,0 +1,20 @@
+package order.adapter.output.metrics;
+
+import shared.metrics.MetricsRegistry;
+import shared.metrics.Timer;
+
+/**
+ * Gemeinsamer Metrikname für alle Output Ports, unterschieden über das Label port.
+ */
+final class PortMetrics {
+
+    static final String NAME = "order_port_call";
+    static final String HELP = "Calls to order output ports";
+
+    private PortMetrics() {
+    }
+
+    static Timer timer(MetricsRegistry registry, Class<?> port) {
+        return registry.timer(NAME, HELP, "port", port.getSimpleName());
+    }
+}
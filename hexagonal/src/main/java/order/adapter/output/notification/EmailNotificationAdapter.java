@@ -9,6 +9,8 @@ import order.domain.model.OrderConfirmation;
  *
  * Implementiert den Notification Output Port.
  * In echter Anwendung: SMTP Client, SendGrid, etc.
+ *
+ * Sendet synchron im Thread des Aufrufers. Asynchrone Variante: NotificationOutbox.
  */
 public class EmailNotificationAdapter implements SendNotificationPort {
 
@@ -27,45 +29,11 @@ public class EmailNotificationAdapter implements SendNotificationPort {
 
     @Override
     public void sendOrderConfirmation(CustomerId customerId, OrderConfirmation confirmation) {
-        // In echter Implementierung: Email zusammenbauen und senden
-        String emailContent = buildEmailContent(customerId, confirmation);
-
-        // Simulierter Email-Versand
-        System.out.printf(
-            "[EMAIL] Sending to customer %s via %s:%d%n",
-            customerId.value(),
-            smtpHost,
-            smtpPort
-        );
-        System.out.println("[EMAIL] Content: " + emailContent);
-    }
-
-    private String buildEmailContent(CustomerId customerId, OrderConfirmation confirmation) {
-        return String.format(
-            """
-            Sehr geehrter Kunde %s,
-
-            Ihre Bestellung wurde bestätigt.
-
-            Bestätigungs-Nr.: %d
-            Bestellsumme: %.2f EUR
-            MwSt.: %.2f EUR
-            Versand: %.2f EUR
-            ─────────────────
-            Gesamtsumme: %.2f EUR
-
-            Bestätigt am: %s
+        NotificationRecord record = NotificationRecord.of(customerId, confirmation, System.nanoTime());
 
-            Mit freundlichen Grüßen,
-            Ihr Shop-Team
-            """,
-            customerId.value(),
-            confirmation.getId(),
-            confirmation.getTotalAmount().amount(),
-            confirmation.getTaxAmount().amount(),
-            confirmation.getShippingCost().amount(),
-            confirmation.getGrandTotal().amount(),
-            confirmation.getConfirmedAt()
-        );
+        // Simulierter Email-Versand - eine Verbindung pro Email
+        try (SmtpConnection connection = new FakeSmtpConnection(smtpHost, smtpPort)) {
+            connection.send(record.customerId(), EmailTemplate.orderConfirmation(record));
+        }
     }
 }
@@ -0,0 +1,45 @@
+package order.adapter.output.notification;
+
+import java.math.BigDecimal;
+
+/**
+ * Email-Text für Bestellbestätigungen.
+ */
+final class EmailTemplate {
+
+    private EmailTemplate() {
+    }
+
+    static String orderConfirmation(NotificationRecord record) {
+        return String.format(
+            """
+            Sehr geehrter Kunde %s,
+
+            Ihre Bestellung wurde bestätigt.
+
+            Bestätigungs-Nr.: %d
+            Bestellsumme: %.2f EUR
+            MwSt.: %.2f EUR
+            Versand: %.2f EUR
+            ─────────────────
+            Gesamtsumme: %.2f EUR
+
+            Bestätigt am: %s
+
+            Mit freundlichen Grüßen,
+            Ihr Shop-Team
+            """,
+            record.customerId(),
+            record.confirmationId(),
+            euros(record.totalCents()),
+            euros(record.taxCents()),
+            euros(record.shippingCents()),
+            euros(record.grandTotalCents()),
+            record.confirmedAt()
+        );
+    }
+
+    private static BigDecimal euros(long cents) {
+        return BigDecimal.valueOf(cents, 2);
+    }
+}
@@ -0,0 +1,42 @@
+package order.adapter.output.notification;
+
+import shared.log.EventLog;
+import shared.log.EventLogger;
+
+/**
+ * Lokale SMTP-Verbindung - gibt die Email nur auf der Konsole aus.
+ *
+ * PSEUDO-CODE: In Produktion eine echte SMTP-Session (z.B. Jakarta Mail Transport).
+ */
+public class FakeSmtpConnection implements SmtpConnection {
+
+    private static final EventLogger LOG = EventLog.logger("EMAIL");
+
+    private final String smtpHost;
+    private final int smtpPort;
+    private boolean open = true;
+
+    public FakeSmtpConnection(String smtpHost, int smtpPort) {
+        this.smtpHost = smtpHost;
+        this.smtpPort = smtpPort;
+    }
+
+    @Override
+    public void send(String recipient, String content) {
+        if (!open) {
+            throw new IllegalStateException("SMTP connection closed");
+        }
+        LOG.info("Sending to customer {} via {}:{}", recipient, smtpHost, smtpPort);
+        LOG.info("Content: {}", content);
+    }
+
+    @Override
+    public boolean isOpen() {
+        return open;
+    }
+
+    @Override
+    public void close() {
+        open = false;
+    }
+}
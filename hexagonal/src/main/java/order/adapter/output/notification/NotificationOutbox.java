@@ -0,0 +1,250 @@
+package order.adapter.output.notification;
+
+import order.application.port.output.SendNotificationPort;
+import order.domain.model.CustomerId;
+import order.domain.model.OrderConfirmation;
+import shared.log.EventLog;
+import shared.log.EventLogger;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Secondary Adapter - asynchrone Email-Benachrichtigung über eine Outbox.
+ *
+ * sendOrderConfirmation() stellt nur einen kompakten NotificationRecord ein.
+ * Dispatcher-Threads holen die Einträge in Batches ab und senden sie über
+ * gepoolte SMTP-Verbindungen. Der Aufrufer (confirmOrder) wartet nicht auf SMTP.
+ *
+ * - Backpressure: Outbox ist begrenzt. Ist sie voll, blockiert der Aufrufer bis
+ *   enqueueTimeout, danach wird die Email verworfen: gezählt (rejected) und als
+ *   Dead Letter geloggt. Keine Exception - die Bestätigung ist zu diesem
+ *   Zeitpunkt schon gespeichert, ein Fehler würde dem Client einen
+ *   fehlgeschlagenen Confirm für eine bestätigte Order melden. Ebenso nach close().
+ * - Retry: Fehlgeschlagene Emails werden mit exponentiellem Backoff erneut versucht,
+ *   nach maxAttempts landen sie im Dead Letter.
+ * - Metriken: Queue-Tiefe, Dispatch-Lag, Zähler (siehe OutboxMetrics).
+ *
+ * PRAGMATISCH: Outbox im Speicher. Eine echte transaktionale Outbox wäre eine Tabelle,
+ * in die im selben Commit wie die Bestätigung geschrieben wird.
+ */
+public class NotificationOutbox implements SendNotificationPort, AutoCloseable {
+
+    private static final EventLogger LOG = EventLog.logger("EMAIL");
+
+    private static final int DEFAULT_CAPACITY = 10_000;
+    private static final int DEFAULT_BATCH_SIZE = 100;
+    private static final int DEFAULT_MAX_ATTEMPTS = 5;
+    private static final Duration DEFAULT_ENQUEUE_TIMEOUT = Duration.ofMillis(50);
+    private static final Duration DEFAULT_INITIAL_BACKOFF = Duration.ofMillis(100);
+    private static final Duration MAX_BACKOFF = Duration.ofSeconds(30);
+    private static final long IDLE_POLL_MILLIS = 10;
+
+    private final BlockingQueue<NotificationRecord> outbox;
+    private final DelayQueue<PendingRetry> retries = new DelayQueue<>();
+    private final SmtpConnectionPool connectionPool;
+    private final OutboxMetrics metrics;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final long enqueueTimeoutNanos;
+    private final long initialBackoffNanos;
+    private final List<Thread> dispatchers = new ArrayList<>();
+    private volatile boolean running = true;
+
+    public NotificationOutbox(Supplier<SmtpConnection> connectionFactory, int dispatcherThreads,
+                              int capacity, int batchSize, int maxAttempts,
+                              Duration enqueueTimeout, Duration initialBackoff) {
+        if (dispatcherThreads < 1 || capacity < 1 || batchSize < 1 || maxAttempts < 1) {
+            throw new IllegalArgumentException("Outbox settings must be positive");
+        }
+        this.outbox = new ArrayBlockingQueue<>(capacity);
+        this.connectionPool = new SmtpConnectionPool(connectionFactory, dispatcherThreads);
+        this.metrics = new OutboxMetrics(outbox::size, retries::size);
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.enqueueTimeoutNanos = enqueueTimeout.toNanos();
+        this.initialBackoffNanos = initialBackoff.toNanos();
+
+        for (int i = 0; i < dispatcherThreads; i++) {
+            Thread dispatcher = new Thread(this::dispatchLoop, "notification-dispatcher-" + i);
+            dispatcher.setDaemon(true);
+            dispatchers.add(dispatcher);
+            dispatcher.start();
+        }
+    }
+
+    public NotificationOutbox(String smtpHost, int smtpPort) {
+        this(() -> new FakeSmtpConnection(smtpHost, smtpPort), 1,
+            DEFAULT_CAPACITY, DEFAULT_BATCH_SIZE, DEFAULT_MAX_ATTEMPTS,
+            DEFAULT_ENQUEUE_TIMEOUT, DEFAULT_INITIAL_BACKOFF);
+    }
+
+    // Convenience Constructor für lokale Entwicklung
+    public NotificationOutbox() {
+        this("localhost", 25);
+    }
+
+    @Override
+    public void sendOrderConfirmation(CustomerId customerId, OrderConfirmation confirmation) {
+        NotificationRecord record = NotificationRecord.of(customerId, confirmation, System.nanoTime());
+        if (!running) {
+            reject(record, "outbox closed");
+            return;
+        }
+        boolean accepted;
+        try {
+            accepted = outbox.offer(record, enqueueTimeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            accepted = false;
+        }
+        if (!accepted) {
+            reject(record, "outbox full");
+            return;
+        }
+        metrics.recordEnqueued();
+    }
+
+    private void reject(NotificationRecord record, String reason) {
+        metrics.recordRejected();
+        // PSEUDO-CODE: In Produktion in eine Dead-Letter-Tabelle schreiben und alarmieren
+        LOG.error("Dropping confirmation {}: {}", record.confirmationId(), reason);
+    }
+
+    public OutboxMetrics metrics() {
+        return metrics;
+    }
+
+    /**
+     * Nimmt keine neuen Einträge mehr an und wartet bis die Outbox geleert ist
+     * (höchstens timeout). Noch ausstehende Retries werden nicht mehr abgewartet.
+     */
+    public void close(Duration timeout) {
+        running = false;
+        long deadline = System.nanoTime() + timeout.toNanos();
+        try {
+            for (Thread dispatcher : dispatchers) {
+                long remainingMillis = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+                if (remainingMillis > 0) {
+                    dispatcher.join(remainingMillis);
+                }
+                dispatcher.interrupt();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        connectionPool.close();
+    }
+
+    @Override
+    public void close() {
+        close(Duration.ofSeconds(5));
+    }
+
+    private void dispatchLoop() {
+        List<NotificationRecord> batch = new ArrayList<>(batchSize);
+        while (running || !outbox.isEmpty()) {
+            try {
+                collectBatch(batch);
+                if (!batch.isEmpty()) {
+                    dispatch(batch);
+                }
+            } catch (InterruptedException e) {
+                return;
+            } catch (RuntimeException e) {
+                // Letzte Absicherung - ein toter Dispatcher ließe die Outbox volllaufen
+                LOG.error("Notification dispatch failed: {}", e.getMessage());
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * Fällige Retries zuerst, dann neue Einträge. Wartet kurz, wenn beides leer ist.
+     */
+    private void collectBatch(List<NotificationRecord> batch) throws InterruptedException {
+        PendingRetry retry;
+        while (batch.size() < batchSize && (retry = retries.poll()) != null) {
+            batch.add(retry.record());
+        }
+        if (batch.isEmpty()) {
+            NotificationRecord first = outbox.poll(IDLE_POLL_MILLIS, TimeUnit.MILLISECONDS);
+            if (first == null) {
+                return;
+            }
+            batch.add(first);
+        }
+        outbox.drainTo(batch, batchSize - batch.size());
+    }
+
+    /**
+     * Ein Batch über eine Verbindung. Bei Fehler wird die Verbindung verworfen
+     * und der Rest des Batches über eine neue Verbindung gesendet. Kommt keine
+     * Verbindung zustande, geht der ungesendete Rest in die Retries.
+     */
+    private void dispatch(List<NotificationRecord> batch) throws InterruptedException {
+        metrics.recordBatch();
+        SmtpConnection connection = null;
+        try {
+            for (int i = 0; i < batch.size(); i++) {
+                NotificationRecord record = batch.get(i);
+                try {
+                    if (connection == null) {
+                        connection = connectionPool.borrow();
+                    }
+                } catch (RuntimeException e) {
+                    for (NotificationRecord unsent : batch.subList(i, batch.size())) {
+                        retryLater(unsent, e);
+                    }
+                    return;
+                }
+                try {
+                    connection.send(record.customerId(), EmailTemplate.orderConfirmation(record));
+                    metrics.recordSent(System.nanoTime() - record.enqueuedAtNanos());
+                } catch (RuntimeException e) {
+                    retryLater(record, e);
+                    connectionPool.discard(connection);
+                    connection = null;
+                }
+            }
+        } finally {
+            if (connection != null) {
+                connectionPool.release(connection);
+            }
+        }
+    }
+
+    private void retryLater(NotificationRecord record, RuntimeException cause) {
+        if (record.attempt() >= maxAttempts) {
+            metrics.recordDeadLettered();
+            // PSEUDO-CODE: In Produktion in eine Dead-Letter-Tabelle schreiben und alarmieren
+            LOG.error("Giving up on confirmation {} after {} attempts: {}",
+                record.confirmationId(), record.attempt(), cause.getMessage());
+            return;
+        }
+        long backoff = Math.min(initialBackoffNanos << (record.attempt() - 1), MAX_BACKOFF.toNanos());
+        retries.add(new PendingRetry(record.nextAttempt(), System.nanoTime() + backoff));
+        metrics.recordRetried();
+    }
+
+    private record PendingRetry(NotificationRecord record, long dueAtNanos) implements Delayed {
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(dueAtNanos - System.nanoTime(), TimeUnit.NANOSECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            return Long.compare(dueAtNanos, ((PendingRetry) other).dueAtNanos);
+        }
+    }
+}
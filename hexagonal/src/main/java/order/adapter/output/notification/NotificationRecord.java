@@ -0,0 +1,48 @@
+package order.adapter.output.notification;
+
+import order.domain.model.CustomerId;
+import order.domain.model.MoneyCents;
+import order.domain.model.OrderConfirmation;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * Outbox-Eintrag für eine Bestätigungs-Email.
+ *
+ * Kompakt: nur IDs, Cent-Beträge und Zeitstempel, keine Referenz auf Domain-Objekte.
+ * Der Email-Text wird erst beim Versand gerendert.
+ */
+record NotificationRecord(
+    String customerId,
+    long confirmationId,
+    long totalCents,
+    long taxCents,
+    long shippingCents,
+    LocalDateTime confirmedAt,
+    long enqueuedAtNanos,
+    int attempt
+) {
+
+    static NotificationRecord of(CustomerId customerId, OrderConfirmation confirmation, long enqueuedAtNanos) {
+        return new NotificationRecord(
+            customerId.value(),
+            Objects.requireNonNull(confirmation.getId(), "Confirmation must be persisted"),
+            MoneyCents.of(confirmation.getTotalAmount()).cents(),
+            MoneyCents.of(confirmation.getTaxAmount()).cents(),
+            MoneyCents.of(confirmation.getShippingCost()).cents(),
+            confirmation.getConfirmedAt(),
+            enqueuedAtNanos,
+            1
+        );
+    }
+
+    long grandTotalCents() {
+        return totalCents + taxCents + shippingCents;
+    }
+
+    NotificationRecord nextAttempt() {
+        return new NotificationRecord(customerId, confirmationId, totalCents, taxCents, shippingCents,
+            confirmedAt, enqueuedAtNanos, attempt + 1);
+    }
+}
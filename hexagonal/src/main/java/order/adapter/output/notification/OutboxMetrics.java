@@ -0,0 +1,85 @@
+package order.adapter.output.notification;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntSupplier;
+
+/**
+ * Kennzahlen der Notification-Outbox.
+ *
+ * Queue-Tiefe wird beim Abfragen gelesen, Zähler laufen lock-frei (LongAdder).
+ * Dispatch-Lag = Zeit vom Einstellen in die Outbox bis zum erfolgreichen Versand.
+ */
+public final class OutboxMetrics {
+
+    private final IntSupplier queueDepth;
+    private final IntSupplier retryDepth;
+    private final LongAdder enqueued = new LongAdder();
+    private final LongAdder sent = new LongAdder();
+    private final LongAdder retried = new LongAdder();
+    private final LongAdder deadLettered = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder batches = new LongAdder();
+    private final AtomicLong lastLagNanos = new AtomicLong();
+    private final AtomicLong maxLagNanos = new AtomicLong();
+
+    OutboxMetrics(IntSupplier queueDepth, IntSupplier retryDepth) {
+        this.queueDepth = queueDepth;
+        this.retryDepth = retryDepth;
+    }
+
+    void recordEnqueued() {
+        enqueued.increment();
+    }
+
+    void recordRejected() {
+        rejected.increment();
+    }
+
+    void recordBatch() {
+        batches.increment();
+    }
+
+    void recordSent(long lagNanos) {
+        sent.increment();
+        lastLagNanos.set(lagNanos);
+        maxLagNanos.accumulateAndGet(lagNanos, Math::max);
+    }
+
+    void recordRetried() {
+        retried.increment();
+    }
+
+    void recordDeadLettered() {
+        deadLettered.increment();
+    }
+
+    public Snapshot snapshot() {
+        return new Snapshot(
+            queueDepth.getAsInt(),
+            retryDepth.getAsInt(),
+            enqueued.sum(),
+            sent.sum(),
+            retried.sum(),
+            deadLettered.sum(),
+            rejected.sum(),
+            batches.sum(),
+            TimeUnit.NANOSECONDS.toMillis(lastLagNanos.get()),
+            TimeUnit.NANOSECONDS.toMillis(maxLagNanos.get())
+        );
+    }
+
+    public record Snapshot(
+        int queueDepth,
+        int retryDepth,
+        long enqueued,
+        long sent,
+        long retried,
+        long deadLettered,
+        long rejected,
+        long batches,
+        long lastDispatchLagMillis,
+        long maxDispatchLagMillis
+    ) {}
+}
@@ -0,0 +1,20 @@
+package order.adapter.output.notification;
+
+/**
+ * Verbindung zum SMTP-Server.
+ *
+ * Eine Verbindung wird für viele Emails wiederverwendet (Batch),
+ * statt pro Email neu aufgebaut zu werden.
+ */
+public interface SmtpConnection extends AutoCloseable {
+
+    /**
+     * Sendet eine Email. Wirft eine RuntimeException wenn der Versand fehlschlägt.
+     */
+    void send(String recipient, String content);
+
+    boolean isOpen();
+
+    @Override
+    void close();
+}
@@ -0,0 +1,60 @@
+package order.adapter.output.notification;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.function.Supplier;
+
+/**
+ * Pool von SMTP-Verbindungen.
+ *
+ * Höchstens maxConnections gleichzeitig offen. Verbindungen werden erst bei Bedarf
+ * aufgebaut und nach einem Fehler verworfen statt zurück in den Pool gelegt.
+ */
+final class SmtpConnectionPool implements AutoCloseable {
+
+    private final Supplier<SmtpConnection> connectionFactory;
+    private final BlockingQueue<SmtpConnection> idle;
+    private final Semaphore permits;
+
+    SmtpConnectionPool(Supplier<SmtpConnection> connectionFactory, int maxConnections) {
+        this.connectionFactory = connectionFactory;
+        this.idle = new ArrayBlockingQueue<>(maxConnections);
+        this.permits = new Semaphore(maxConnections);
+    }
+
+    SmtpConnection borrow() throws InterruptedException {
+        permits.acquire();
+        try {
+            SmtpConnection connection = idle.poll();
+            while (connection != null && !connection.isOpen()) {
+                connection = idle.poll();
+            }
+            return connection != null ? connection : connectionFactory.get();
+        } catch (RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    void release(SmtpConnection connection) {
+        if (connection.isOpen()) {
+            idle.offer(connection);
+        }
+        permits.release();
+    }
+
+    // Nach Versandfehler: Verbindung nicht wiederverwenden
+    void discard(SmtpConnection connection) {
+        connection.close();
+        permits.release();
+    }
+
+    @Override
+    public void close() {
+        SmtpConnection connection;
+        while ((connection = idle.poll()) != null) {
+            connection.close();
+        }
+    }
+}
@@ -1,27 +1,35 @@
 package order.adapter.output.persistence;
 
+import order.application.port.output.LoadConfirmationsPort;
 import order.application.port.output.SaveConfirmationPort;
 import order.domain.model.OrderConfirmation;
+import shared.collection.DayPartitionedStore;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
 
 /**
  * Secondary Adapter - Persistenz für Confirmations.
  *
  * Separater Adapter, da Confirmation ein eigenes Aggregate ist.
+ *
+ * Partitioniert nach Tag, innerhalb sortiert nach confirmedAt: Zeitraum-
+ * Abfragen lesen nur die betroffenen Tage, Retention verwirft ganze Tage.
+ * In echter App: Tabelle mit Range-Partitionierung auf confirmed_at.
  */
-public class ConfirmationPersistenceAdapter implements SaveConfirmationPort {
+public class ConfirmationPersistenceAdapter implements SaveConfirmationPort, LoadConfirmationsPort {
 
-    private final Map<Long, OrderConfirmation> database = new HashMap<>();
-    private long idSequence = 1;
+    private final DayPartitionedStore<OrderConfirmation> database = new DayPartitionedStore<>();
+    private final AtomicLong idSequence = new AtomicLong(1);
 
     @Override
     public OrderConfirmation save(OrderConfirmation confirmation) {
-        Long id = idSequence++;
+        long id = idSequence.getAndIncrement();
 
         // Neue Confirmation mit generierter ID
-        OrderConfirmation persisted = OrderConfirmation.create(
+        OrderConfirmation persisted = OrderConfirmation.reconstitute(
             id,
             confirmation.getOrderId(),
             confirmation.getTotalAmount(),
@@ -30,7 +38,22 @@ public class ConfirmationPersistenceAdapter implements SaveConfirmationPort {
             confirmation.getConfirmedAt()
         );
 
-        database.put(id, persisted);
+        database.put(persisted.getConfirmedAt(), id, persisted);
         return persisted;
     }
+
+    @Override
+    public Stream<OrderConfirmation> findBetween(LocalDateTime from, LocalDateTime to) {
+        return database.findBetween(from, to);
+    }
+
+    /**
+     * Retention: verwirft alle Confirmations vor day, tageweise.
+     * PSEUDO-CODE: täglicher Job, z.B. dropBefore(LocalDate.now().minusYears(10))
+     *
+     * @return Anzahl verworfener Tage
+     */
+    public int dropBefore(LocalDate day) {
+        return database.dropBefore(day);
+    }
 }
@@ -0,0 +1,324 @@
+package order.adapter.output.persistence;
+
+import order.application.port.output.LoadOrderPort;
+import order.application.port.output.SaveOrderPort;
+import order.domain.event.OrderEvent;
+import order.domain.exception.OrderVersionConflictException;
+import order.domain.model.*;
+import shared.collection.ConcurrentLongHashMap;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Secondary Adapter - Persistenz als Event-Stream pro Order.
+ *
+ * save() schreibt nur die Änderungen seit dem Laden (Order.getPendingEvents)
+ * statt der ganzen Order mit allen Positionen - Schreiben kostet O(Delta),
+ * nicht O(Positionen). Geladen wird aus dem letzten Snapshot plus den Events
+ * danach. Alle snapshotInterval Events wird ein neuer Snapshot gezogen, damit
+ * das Nachspielen beim Laden begrenzt bleibt.
+ *
+ * Orders ohne passende Events (z.B. per Order.reconstitute gebaut) werden
+ * nicht still verworfen: weicht ihr Stand vom gespeicherten ab, schreibt
+ * save den vollen Stand als ItemsReplaced plus Status-Event. Geprüft wird
+ * über einen Fingerabdruck (Positionen, Summe, Status) - O(1) pro save.
+ *
+ * Der Stream wird nie umgeschrieben und ist gleichzeitig die Historie
+ * (history) - Snapshots begrenzen nur das Nachspielen, nicht die Historie.
+ *
+ * Optimistic Locking wie OrderPersistenceAdapter: jedes save erhöht die
+ * Version um 1, egal wie viele Events es enthält (Compare-and-Set pro Order).
+ *
+ * PRAGMATISCH: Stream, Events und Snapshots liegen als unveränderliche
+ * Objekte im Speicher - Leser sehen immer einen konsistenten Stand ohne Lock.
+ * In echter App: Event Store (append-only Tabelle/Log), Snapshots separat.
+ */
+public class EventSourcedOrderPersistenceAdapter implements LoadOrderPort, SaveOrderPort {
+
+    private static final int DEFAULT_SNAPSHOT_INTERVAL = 32;
+
+    private final ConcurrentLongHashMap<EventStream> streams = new ConcurrentLongHashMap<>();
+    private final AtomicLong idSequence = new AtomicLong(1);
+    private final int snapshotInterval;
+
+    /**
+     * @param snapshotInterval neuer Snapshot, sobald so viele Events seit dem letzten anliegen
+     */
+    public EventSourcedOrderPersistenceAdapter(int snapshotInterval) {
+        if (snapshotInterval < 1) {
+            throw new IllegalArgumentException("Snapshot interval must be positive");
+        }
+        this.snapshotInterval = snapshotInterval;
+
+        // Seed-Daten für Demo
+        seedData();
+    }
+
+    public EventSourcedOrderPersistenceAdapter() {
+        this(DEFAULT_SNAPSHOT_INTERVAL);
+    }
+
+    @Override
+    public Optional<Order> loadById(OrderId orderId) {
+        EventStream stream = streams.get(orderId.value());
+        if (stream == null) {
+            return Optional.empty();
+        }
+        return Optional.of(rehydrate(orderId, stream));
+    }
+
+    @Override
+    public Order save(Order order) {
+        // Neue Order bekommt generierte ID
+        long id = order.getId() != null ? order.getId().value() : idSequence.getAndIncrement();
+        long expectedVersion = order.getVersion();
+        long newVersion = expectedVersion + 1;
+
+        EventStream[] appended = new EventStream[1];
+        EventStream stored = streams.compute(id, current -> {
+            if (versionOf(current) != expectedVersion) {
+                return current;
+            }
+            appended[0] = current == null
+                ? start(order, newVersion)
+                : append(current, eventsFor(OrderId.of(id), current, order), newVersion);
+            return appended[0];
+        });
+        if (stored != appended[0]) {
+            throw new OrderVersionConflictException(OrderId.of(id), expectedVersion, versionOf(stored));
+        }
+
+        // Stand des Aufrufers übernehmen statt nachzuspielen - Events sind damit gespeichert
+        if (order.getId() == null) {
+            return Order.reconstitute(OrderId.of(id), order.getCustomerId(), order.getItems(),
+                order.getStatus(), newVersion);
+        }
+        return order.withVersion(newVersion);
+    }
+
+    /**
+     * Alle gespeicherten Events einer Order in Reihenfolge (Audit).
+     * Das erste save einer Order schreibt ihren Ausgangsstand als Events.
+     */
+    public List<RecordedEvent> history(OrderId orderId) {
+        EventStream stream = streams.get(orderId.value());
+        if (stream == null) {
+            return List.of();
+        }
+        List<RecordedEvent> history = new ArrayList<>();
+        for (EventNode node = stream.head(); node != null; node = node.previous()) {
+            history.add(new RecordedEvent(node.version(), node.event()));
+        }
+        Collections.reverse(history);
+        return history;
+    }
+
+    private static long versionOf(EventStream stream) {
+        return stream != null ? stream.version() : 0;
+    }
+
+    /**
+     * Erstes save: Snapshot des kompletten Stands, dazu der Stand als Events
+     * für die Historie. Vorher gesammelte Events gehen im Snapshot auf.
+     */
+    private static EventStream start(Order order, long version) {
+        Snapshot snapshot = new Snapshot(version, order.getCustomerId(),
+            List.copyOf(order.getItems()), order.getStatus());
+
+        EventNode head = new EventNode(version, new OrderEvent.ItemsReplaced(order.getItems()), null);
+        if (order.getStatus() == OrderStatus.CONFIRMED) {
+            head = new EventNode(version, new OrderEvent.Confirmed(), head);
+        } else if (order.getStatus() == OrderStatus.CANCELLED) {
+            head = new EventNode(version, new OrderEvent.Cancelled(), head);
+        }
+        return new EventStream(version, snapshot, head, 0, Fingerprint.of(order));
+    }
+
+    /**
+     * Normalfall: die Events der Order führen genau vom gespeicherten Stand
+     * zum Stand der Order. Sonst (keine oder unvollständige Events) wird der
+     * volle Stand als Events geschrieben.
+     */
+    private static List<OrderEvent> eventsFor(OrderId orderId, EventStream current, Order order) {
+        List<OrderEvent> pending = order.getPendingEvents();
+        Fingerprint expected = current.state();
+        for (OrderEvent event : pending) {
+            expected = expected.apply(event);
+        }
+        if (!pending.isEmpty() && expected.equals(Fingerprint.of(order))) {
+            return pending;
+        }
+
+        // Selten: Stand vergleichen, O(Positionen)
+        OrderState stored = replay(current);
+        List<OrderEvent> events = new ArrayList<>(2);
+        if (!sameItems(stored.items, order.getItems())) {
+            events.add(new OrderEvent.ItemsReplaced(order.getItems()));
+        }
+        if (stored.status != order.getStatus()) {
+            events.add(statusEvent(orderId, stored.status, order.getStatus()));
+        }
+        return events;
+    }
+
+    private static OrderEvent statusEvent(OrderId orderId, OrderStatus from, OrderStatus to) {
+        return switch (to) {
+            case CONFIRMED -> new OrderEvent.Confirmed();
+            case CANCELLED -> new OrderEvent.Cancelled();
+            // Kein Event für den Weg zurück - lieber ablehnen als still verwerfen
+            case DRAFT -> throw new IllegalStateException("Order " + orderId.value()
+                + " cannot go back from " + from + " to DRAFT");
+        };
+    }
+
+    private static boolean sameItems(List<OrderItem> stored, List<OrderItem> items) {
+        if (stored.size() != items.size()) {
+            return false;
+        }
+        for (int i = 0; i < items.size(); i++) {
+            OrderItem a = stored.get(i);
+            OrderItem b = items.get(i);
+            if (!a.getProductId().equals(b.getProductId())
+                    || !a.getQuantity().equals(b.getQuantity())
+                    || a.getUnitPrice().amount().compareTo(b.getUnitPrice().amount()) != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // O(Delta): nur die neuen Events vorne anhängen, der Rest wird geteilt
+    private EventStream append(EventStream current, List<OrderEvent> events, long version) {
+        EventNode head = current.head();
+        Fingerprint state = current.state();
+        for (OrderEvent event : events) {
+            head = new EventNode(version, event, head);
+            state = state.apply(event);
+        }
+        EventStream next = new EventStream(version, current.snapshot(), head,
+            current.eventsSinceSnapshot() + events.size(), state);
+
+        if (next.eventsSinceSnapshot() >= snapshotInterval) {
+            OrderState replayed = replay(next);
+            Snapshot snapshot = new Snapshot(version, replayed.customerId, List.copyOf(replayed.items),
+                replayed.status);
+            next = new EventStream(version, snapshot, head, 0, state);
+        }
+        return next;
+    }
+
+    private static Order rehydrate(OrderId orderId, EventStream stream) {
+        OrderState state = replay(stream);
+        return Order.reconstitute(orderId, state.customerId, state.items, state.status, stream.version());
+    }
+
+    // Snapshot plus alle Events danach, in Schreibreihenfolge
+    private static OrderState replay(EventStream stream) {
+        Snapshot snapshot = stream.snapshot();
+        EventNode[] tail = new EventNode[stream.eventsSinceSnapshot()];
+        EventNode node = stream.head();
+        for (int i = tail.length - 1; i >= 0; i--) {
+            tail[i] = node;
+            node = node.previous();
+        }
+
+        OrderState state = new OrderState(snapshot);
+        for (EventNode event : tail) {
+            state.apply(event.event());
+        }
+        return state;
+    }
+
+    private void seedData() {
+        Order order = Order.reconstitute(
+            OrderId.of(idSequence.getAndIncrement()),
+            CustomerId.of("CUST-001"),
+            List.of(
+                OrderItem.reconstitute(ProductId.of(1L), Quantity.of(2), Money.of(new BigDecimal("29.99"))),
+                OrderItem.reconstitute(ProductId.of(2L), Quantity.of(1), Money.of(new BigDecimal("49.99")))
+            ),
+            OrderStatus.DRAFT
+        );
+        streams.put(order.getId().value(), start(order, 1));
+    }
+
+    /**
+     * Ein Eintrag der Historie: Event und die Version, mit der es gespeichert wurde.
+     */
+    public record RecordedEvent(long version, OrderEvent event) {
+    }
+
+    // Unveränderlich - compute ersetzt den ganzen Stream, Leser brauchen keinen Lock
+    private record EventStream(long version, Snapshot snapshot, EventNode head, int eventsSinceSnapshot,
+                               Fingerprint state) {
+    }
+
+    // Fingerabdruck des Stands am Kopf des Streams, pro Event nachgeführt
+    private record Fingerprint(int itemCount, long totalCents, OrderStatus status) {
+
+        static Fingerprint of(Order order) {
+            return new Fingerprint(order.getItemCount(), order.calculateTotalCents().cents(), order.getStatus());
+        }
+
+        static Fingerprint of(List<OrderItem> items, OrderStatus status) {
+            long totalCents = 0;
+            for (OrderItem item : items) {
+                totalCents += item.calculateSubtotalCents().cents();
+            }
+            return new Fingerprint(items.size(), totalCents, status);
+        }
+
+        Fingerprint apply(OrderEvent event) {
+            if (event instanceof OrderEvent.ItemsReplaced replaced) {
+                return of(replaced.items(), status);
+            } else if (event instanceof OrderEvent.ItemAdded added) {
+                return new Fingerprint(itemCount + 1, totalCents + added.item().calculateSubtotalCents().cents(),
+                    status);
+            } else if (event instanceof OrderEvent.Confirmed) {
+                return new Fingerprint(itemCount, totalCents, OrderStatus.CONFIRMED);
+            } else if (event instanceof OrderEvent.Cancelled) {
+                return new Fingerprint(itemCount, totalCents, OrderStatus.CANCELLED);
+            }
+            throw new IllegalStateException("Unknown order event " + event);
+        }
+    }
+
+    // Neuestes Event zuerst, previous zeigt auf das vorherige
+    private record EventNode(long version, OrderEvent event, EventNode previous) {
+    }
+
+    private record Snapshot(long version, CustomerId customerId, List<OrderItem> items, OrderStatus status) {
+    }
+
+    // Veränderlicher Zwischenstand beim Nachspielen
+    private static final class OrderState {
+        final CustomerId customerId;
+        List<OrderItem> items;
+        OrderStatus status;
+
+        OrderState(Snapshot snapshot) {
+            this.customerId = snapshot.customerId();
+            this.items = new ArrayList<>(snapshot.items());
+            this.status = snapshot.status();
+        }
+
+        void apply(OrderEvent event) {
+            if (event instanceof OrderEvent.ItemsReplaced replaced) {
+                items = new ArrayList<>(replaced.items());
+            } else if (event instanceof OrderEvent.ItemAdded added) {
+                items.add(added.item());
+            } else if (event instanceof OrderEvent.Confirmed) {
+                status = OrderStatus.CONFIRMED;
+            } else if (event instanceof OrderEvent.Cancelled) {
+                status = OrderStatus.CANCELLED;
+            } else {
+                throw new IllegalStateException("Unknown order event " + event);
+            }
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package order.adapter.output.persistence;
+
+import java.time.Duration;
+
+/**
+ * Wann das Write-Ahead-Log auf die Platte geschrieben wird (fsync).
+ *
+ * everyWrite(): save() kehrt erst zurück, wenn der Eintrag auf der Platte ist.
+ *               Gleichzeitige saves teilen sich ein fsync (Group Commit).
+ * every(n):     save() kehrt nach dem write() zurück, ein Hintergrund-Thread
+ *               synct alle n. Bei Absturz gehen höchstens die letzten n verloren.
+ */
+public record FsyncPolicy(Duration interval) {
+
+    public FsyncPolicy {
+        if (interval.isNegative()) {
+            throw new IllegalArgumentException("Fsync interval cannot be negative");
+        }
+    }
+
+    public static FsyncPolicy everyWrite() {
+        return new FsyncPolicy(Duration.ZERO);
+    }
+
+    public static FsyncPolicy every(Duration interval) {
+        if (interval.isZero()) {
+            throw new IllegalArgumentException("Use everyWrite() for synchronous fsync");
+        }
+        return new FsyncPolicy(interval);
+    }
+
+    public boolean isEveryWrite() {
+        return interval.isZero();
+    }
+}
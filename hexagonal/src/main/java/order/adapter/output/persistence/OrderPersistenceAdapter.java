@@ -2,21 +2,28 @@ package order.adapter.output.persistence;
 
 import order.application.port.output.LoadOrderPort;
 import order.application.port.output.SaveOrderPort;
+import order.domain.exception.OrderVersionConflictException;
 import order.domain.model.*;
+import shared.collection.ConcurrentLongHashMap;
 
 import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Secondary Adapter - Persistenz.
  *
  * Implementiert Output Ports für Order-Persistierung.
  * In echter Anwendung: JPA Repository, JDBC, etc.
+ *
+ * Optimistic Locking: jede Entity trägt eine Version, save ist ein
+ * Compare-and-Set pro Order. Parallele Writer auf verschiedene Orders
+ * blockieren sich nicht, auf dieselbe Order gewinnt genau einer.
  */
 public class OrderPersistenceAdapter implements LoadOrderPort, SaveOrderPort {
 
-    // Simulierte Datenbank
-    private final Map<Long, OrderEntity> database = new HashMap<>();
-    private long idSequence = 1;
+    // Simulierte Datenbank - long-Schlüssel ohne Boxing, thread-safe für parallele confirmOrder
+    private final ConcurrentLongHashMap<OrderEntity> database = new ConcurrentLongHashMap<>();
+    private final AtomicLong idSequence = new AtomicLong(1);
 
     public OrderPersistenceAdapter() {
         // Seed-Daten für Demo
@@ -38,13 +45,23 @@ public class OrderPersistenceAdapter implements LoadOrderPort, SaveOrderPort {
 
         // Neue Order bekommt generierte ID
         if (entity.id == null) {
-            entity.id = idSequence++;
+            entity.id = idSequence.getAndIncrement();
         }
 
-        database.put(entity.id, entity);
+        long expectedVersion = order.getVersion();
+        entity.version = expectedVersion + 1;
+        OrderEntity stored = database.compute(entity.id,
+            current -> versionOf(current) == expectedVersion ? entity : current);
+        if (stored != entity) {
+            throw new OrderVersionConflictException(OrderId.of(entity.id), expectedVersion, versionOf(stored));
+        }
         return mapToDomain(entity);
     }
 
+    private static long versionOf(OrderEntity entity) {
+        return entity != null ? entity.version : 0;
+    }
+
     private Order mapToDomain(OrderEntity entity) {
         List<OrderItem> items = entity.items.stream()
             .map(this::mapItemToDomain)
@@ -54,7 +71,8 @@ public class OrderPersistenceAdapter implements LoadOrderPort, SaveOrderPort {
             OrderId.of(entity.id),
             CustomerId.of(entity.customerId),
             items,
-            OrderStatus.valueOf(entity.status)
+            OrderStatus.valueOf(entity.status),
+            entity.version
         );
     }
 
@@ -87,9 +105,10 @@ public class OrderPersistenceAdapter implements LoadOrderPort, SaveOrderPort {
 
     private void seedData() {
         OrderEntity order = new OrderEntity();
-        order.id = idSequence++;
+        order.id = idSequence.getAndIncrement();
         order.customerId = "CUST-001";
         order.status = "DRAFT";
+        order.version = 1;
         order.items = List.of(
             createItemEntity(1L, 2, new java.math.BigDecimal("29.99")),
             createItemEntity(2L, 1, new java.math.BigDecimal("49.99"))
@@ -110,6 +129,7 @@ public class OrderPersistenceAdapter implements LoadOrderPort, SaveOrderPort {
         Long id;
         String customerId;
         String status;
+        long version;
         List<OrderItemEntity> items = new ArrayList<>();
     }
 
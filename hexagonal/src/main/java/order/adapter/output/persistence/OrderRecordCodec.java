@@ -0,0 +1,77 @@
+package order.adapter.output.persistence;
+
+import order.domain.model.*;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Binäres Format einer Order im Write-Ahead-Log.
+ *
+ * [long id][long version][short Länge][UTF-8 customerId][byte status][int Anzahl Positionen]
+ * je Position: [long productId][int quantity][long unitPrice in Cent]
+ *
+ * Status als Ordinal - neue OrderStatus-Werte nur hinten anhängen.
+ */
+final class OrderRecordCodec {
+
+    private static final int ITEM_BYTES = Long.BYTES + Integer.BYTES + Long.BYTES;
+
+    private OrderRecordCodec() {
+    }
+
+    static ByteBuffer encode(long id, long version, Order order) {
+        byte[] customerId = order.getCustomerId().value().getBytes(StandardCharsets.UTF_8);
+        if (customerId.length > 0xFFFF) {
+            throw new IllegalArgumentException("CustomerId too long for order record");
+        }
+        List<OrderItem> items = order.getItems();
+        ByteBuffer buffer = ByteBuffer.allocate(Long.BYTES + Long.BYTES + Short.BYTES + customerId.length + 1
+            + Integer.BYTES + items.size() * ITEM_BYTES);
+
+        buffer.putLong(id);
+        buffer.putLong(version);
+        buffer.putShort((short) customerId.length);
+        buffer.put(customerId);
+        buffer.put((byte) order.getStatus().ordinal());
+        buffer.putInt(items.size());
+        for (OrderItem item : items) {
+            buffer.putLong(item.getProductId().value());
+            buffer.putInt(item.getQuantity().value());
+            buffer.putLong(MoneyCents.of(item.getUnitPrice()).cents());
+        }
+        return buffer.flip();
+    }
+
+    // Version steht direkt hinter der ID - für den Replay ohne komplettes Dekodieren
+    static long versionOf(ByteBuffer record) {
+        return record.getLong(record.position() + Long.BYTES);
+    }
+
+    static Order decode(ByteBuffer record) {
+        ByteBuffer buffer = record.duplicate();
+        long id = buffer.getLong();
+        long version = buffer.getLong();
+        byte[] customerId = new byte[buffer.getShort() & 0xFFFF];
+        buffer.get(customerId);
+        OrderStatus status = OrderStatus.values()[buffer.get()];
+        int itemCount = buffer.getInt();
+        List<OrderItem> items = new ArrayList<>(itemCount);
+        for (int i = 0; i < itemCount; i++) {
+            items.add(OrderItem.reconstitute(
+                ProductId.of(buffer.getLong()),
+                Quantity.of(buffer.getInt()),
+                MoneyCents.of(buffer.getLong()).toMoney()
+            ));
+        }
+        return Order.reconstitute(
+            OrderId.of(id),
+            CustomerId.of(new String(customerId, StandardCharsets.UTF_8)),
+            items,
+            status,
+            version
+        );
+    }
+}
@@ -0,0 +1,153 @@
+package order.adapter.output.persistence;
+
+import order.application.port.output.LoadOrderPort;
+import order.application.port.output.SaveOrderPort;
+import order.domain.exception.OrderVersionConflictException;
+import order.domain.model.*;
+import shared.collection.ConcurrentLongHashMap;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Secondary Adapter - dauerhafte Persistenz über ein Write-Ahead-Log.
+ *
+ * Jedes save() hängt die Order binär an das Log an (OrderRecordCodec), gelesen wird
+ * aus einem Index im Speicher. Beim Start wird der Index aus dem Log aufgebaut,
+ * die höchste Version pro ID gewinnt, bei gleicher Version der spätere Eintrag.
+ *
+ * Optimistic Locking: save reserviert die nächste Version per Compare-and-Set
+ * im Index (Marker "in Arbeit"), hängt an das Log an und veröffentlicht den
+ * neuen Stand erst danach. Leser sehen bis dahin den letzten dauerhaften
+ * Stand, ein paralleles save derselben Order bekommt einen Konflikt - niemand
+ * baut auf einem Stand auf, der noch nicht im Log steht. Schlägt das Anhängen
+ * fehl, gilt wieder der vorherige Stand. Der Eintrag kann trotzdem im Log
+ * stehen (geschrieben, aber fsync fehlgeschlagen) - das nächste save schreibt
+ * dieselbe Version erneut, und beim Replay gewinnt dieser spätere Eintrag.
+ *
+ * Latenz vs. Dauerhaftigkeit über FsyncPolicy: everyWrite() (Group Commit)
+ * oder every(n) (höchstens n Verlust bei Absturz).
+ */
+public class WalOrderPersistenceAdapter implements LoadOrderPort, SaveOrderPort, AutoCloseable {
+
+    private static final long DEFAULT_SEGMENT_BYTES = 64L * 1024 * 1024;
+
+    // Index: ID → aktuelle Version. Kodiert gespeichert - jedes load liefert eine neue Order
+    private final ConcurrentLongHashMap<StoredOrder> index = new ConcurrentLongHashMap<>();
+    private final AtomicLong idSequence = new AtomicLong(1);
+    private final WriteAheadLog log;
+
+    public WalOrderPersistenceAdapter(Path directory, FsyncPolicy fsyncPolicy, long maxSegmentBytes) {
+        this.log = WriteAheadLog.open(directory, maxSegmentBytes, fsyncPolicy, this::replay);
+        if (index.isEmpty()) {
+            // Seed-Daten für Demo, nur bei leerem Log
+            seedData();
+        }
+    }
+
+    public WalOrderPersistenceAdapter(Path directory, FsyncPolicy fsyncPolicy) {
+        this(directory, fsyncPolicy, DEFAULT_SEGMENT_BYTES);
+    }
+
+    // Convenience Constructor: fsync pro save (Group Commit)
+    public WalOrderPersistenceAdapter(Path directory) {
+        this(directory, FsyncPolicy.everyWrite());
+    }
+
+    @Override
+    public Optional<Order> loadById(OrderId orderId) {
+        StoredOrder stored = index.get(orderId.value());
+        if (stored != null && stored.inFlight()) {
+            // save läuft noch: letzter dauerhafter Stand
+            stored = stored.durable();
+        }
+        if (stored == null) {
+            return Optional.empty();
+        }
+        return Optional.of(OrderRecordCodec.decode(ByteBuffer.wrap(stored.record())));
+    }
+
+    @Override
+    public Order save(Order order) {
+        // Neue Order bekommt generierte ID
+        long id = order.getId() != null ? order.getId().value() : idSequence.getAndIncrement();
+        long expectedVersion = order.getVersion();
+        ByteBuffer record = OrderRecordCodec.encode(id, expectedVersion + 1, order);
+        byte[] bytes = record.array();
+
+        StoredOrder[] reserved = new StoredOrder[1];
+        StoredOrder stored = index.compute(id, current -> {
+            if ((current != null && current.inFlight()) || versionOf(current) != expectedVersion) {
+                return current;
+            }
+            reserved[0] = StoredOrder.inFlight(expectedVersion + 1, current);
+            return reserved[0];
+        });
+        StoredOrder reservation = reserved[0];
+        if (stored != reservation) {
+            throw new OrderVersionConflictException(OrderId.of(id), expectedVersion, versionOf(stored));
+        }
+
+        try {
+            log.append(record);
+        } catch (RuntimeException e) {
+            // Vorheriger dauerhafter Stand gilt wieder (null: neue Order wird entfernt)
+            index.compute(id, current -> current == reservation ? reservation.durable() : current);
+            throw e;
+        }
+        // Erst jetzt sichtbar - der Stand steht im Log
+        StoredOrder committed = new StoredOrder(expectedVersion + 1, bytes, null);
+        index.compute(id, current -> current == reservation ? committed : current);
+        return OrderRecordCodec.decode(ByteBuffer.wrap(bytes));
+    }
+
+    private static long versionOf(StoredOrder stored) {
+        return stored != null ? stored.version() : 0;
+    }
+
+    @Override
+    public void close() {
+        log.close();
+    }
+
+    private void replay(ByteBuffer record) {
+        byte[] bytes = new byte[record.remaining()];
+        record.duplicate().get(bytes);
+        long id = ByteBuffer.wrap(bytes).getLong();
+        StoredOrder replayed = new StoredOrder(OrderRecordCodec.versionOf(ByteBuffer.wrap(bytes)), bytes, null);
+        // <=: bei gleicher Version gilt der spätere Eintrag (erneutes save nach fehlgeschlagenem fsync)
+        index.compute(id, current -> versionOf(current) <= replayed.version() ? replayed : current);
+        idSequence.accumulateAndGet(id + 1, Math::max);
+    }
+
+    private void seedData() {
+        save(Order.reconstitute(
+            OrderId.of(idSequence.getAndIncrement()),
+            CustomerId.of("CUST-001"),
+            List.of(
+                OrderItem.create(ProductId.of(1L), Quantity.of(2), Money.of(new BigDecimal("29.99"))),
+                OrderItem.create(ProductId.of(2L), Quantity.of(1), Money.of(new BigDecimal("49.99")))
+            ),
+            OrderStatus.DRAFT
+        ));
+    }
+
+    /**
+     * record == null: Version reserviert, Anhängen an das Log läuft noch.
+     * durable ist dann der letzte dauerhafte Stand (null bei neuer Order).
+     */
+    private record StoredOrder(long version, byte[] record, StoredOrder durable) {
+
+        static StoredOrder inFlight(long version, StoredOrder durable) {
+            return new StoredOrder(version, null, durable);
+        }
+
+        boolean inFlight() {
+            return record == null;
+        }
+    }
+}
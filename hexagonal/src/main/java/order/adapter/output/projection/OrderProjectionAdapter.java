@@ -0,0 +1,81 @@
+package order.adapter.output.projection;
+
+import order.application.dto.OrderResponse;
+import order.application.mapper.OrderMapper;
+import order.application.port.output.LoadOrderPort;
+import order.application.port.output.LoadOrderViewPort;
+import order.application.port.output.SaveOrderPort;
+import order.domain.model.Order;
+import order.domain.model.OrderId;
+import shared.collection.ConcurrentLongHashMap;
+
+import java.util.Optional;
+import java.util.function.LongConsumer;
+
+/**
+ * Decorator - Read Model (CQRS) vor der Order-Persistenz.
+ *
+ * Jeder save geht an den Delegate und legt danach die fertige OrderResponse
+ * ab. getOrder ist damit ein einzelner Map-Lookup: kein mapToDomain, kein
+ * OrderItem.create, kein erneutes Mapping. OrderResponse ist ein Record mit
+ * unveränderlicher Liste und darf geteilt werden.
+ *
+ * Jede View trägt die Version der Order. Ersetzt wird nur durch eine neuere
+ * Version - zwei parallele saves derselben Order können in umgekehrter
+ * Reihenfolge projizieren, ohne dass die ältere stehen bleibt.
+ *
+ * Orders, die vor dem Start schon im Store lagen (Seed, WAL-Recovery),
+ * werden beim ersten Lesen nachgeladen - mit derselben Regel, ein
+ * gleichzeitiger save gewinnt immer gegen den älteren Stand.
+ *
+ * onSaved: weitere Read Models (z.B. der JSON-Cache am Controller) erfahren
+ * nach jeder Projektion die ID der gespeicherten Order.
+ */
+public class OrderProjectionAdapter implements SaveOrderPort, LoadOrderViewPort {
+
+    private final LoadOrderPort loadOrderPort;
+    private final SaveOrderPort delegate;
+    private final OrderMapper mapper;
+    private final LongConsumer onSaved;
+    private final ConcurrentLongHashMap<View> views = new ConcurrentLongHashMap<>();
+
+    public OrderProjectionAdapter(LoadOrderPort loadOrderPort, SaveOrderPort delegate, OrderMapper mapper) {
+        this(loadOrderPort, delegate, mapper, orderId -> { });
+    }
+
+    public OrderProjectionAdapter(LoadOrderPort loadOrderPort, SaveOrderPort delegate, OrderMapper mapper,
+                                  LongConsumer onSaved) {
+        this.loadOrderPort = loadOrderPort;
+        this.delegate = delegate;
+        this.mapper = mapper;
+        this.onSaved = onSaved;
+    }
+
+    @Override
+    public Order save(Order order) {
+        Order saved = delegate.save(order);
+        project(saved);
+        onSaved.accept(saved.getId().value());
+        return saved;
+    }
+
+    @Override
+    public Optional<OrderResponse> loadViewById(OrderId orderId) {
+        View view = views.get(orderId.value());
+        if (view != null) {
+            return Optional.of(view.response());
+        }
+        return loadOrderPort.loadById(orderId).map(this::project);
+    }
+
+    // Neuere Version gewinnt, egal in welcher Reihenfolge die Threads ankommen
+    private OrderResponse project(Order order) {
+        View projected = new View(order.getVersion(), mapper.toResponse(order));
+        return views.compute(order.getId().value(),
+            current -> current == null || current.version() < projected.version() ? projected : current)
+            .response();
+    }
+
+    private record View(long version, OrderResponse response) {
+    }
+}
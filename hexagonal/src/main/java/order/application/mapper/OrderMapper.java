@@ -3,6 +3,7 @@ package order.application.mapper;
 import order.application.dto.*;
 import order.domain.model.*;
 
+import java.math.BigDecimal;
 import java.util.List;
 
 /**
@@ -11,13 +12,23 @@ import java.util.List;
  */
 public class OrderMapper {
 
+    private final MoneyArithmetic arithmetic;
+
+    public OrderMapper() {
+        this(MoneyArithmetic.BIG_DECIMAL);
+    }
+
+    public OrderMapper(MoneyArithmetic arithmetic) {
+        this.arithmetic = arithmetic;
+    }
+
     public OrderResponse toResponse(Order order) {
         return new OrderResponse(
             order.getId().value(),
             order.getCustomerId().value(),
             order.getStatus().name(),
             toItemResponses(order.getItems()),
-            order.calculateTotal().amount()
+            totalOf(order)
         );
     }
 
@@ -58,7 +69,21 @@ public class OrderMapper {
             item.getProductId().value(),
             item.getQuantity().value(),
             item.getUnitPrice().amount(),
-            item.calculateSubtotal().amount()
+            subtotalOf(item)
         );
     }
+
+    private BigDecimal totalOf(Order order) {
+        if (arithmetic == MoneyArithmetic.LONG_CENTS) {
+            return BigDecimal.valueOf(order.calculateTotalCents().cents(), 2);
+        }
+        return order.calculateTotal().amount();
+    }
+
+    private BigDecimal subtotalOf(OrderItem item) {
+        if (arithmetic == MoneyArithmetic.LONG_CENTS) {
+            return BigDecimal.valueOf(item.calculateSubtotalCents().cents(), 2);
+        }
+        return item.calculateSubtotal().amount();
+    }
 }
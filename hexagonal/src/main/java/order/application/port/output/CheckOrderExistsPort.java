@@ -2,9 +2,24 @@ package order.application.port.output;
 
 import order.domain.model.OrderId;
 
+import java.util.Collection;
+import java.util.Set;
+import java.util.stream.Collectors;
+
 /**
  * Output Port: Prüfen ob Order in externem System existiert.
  */
 public interface CheckOrderExistsPort {
     boolean existsInExternalSystem(OrderId orderId);
+
+    /**
+     * Prüft mehrere Orders auf einmal, liefert die existierenden.
+     * Standard: einzeln prüfen - Adapter mit Bulk-API überschreiben das.
+     */
+    default Set<OrderId> existsInExternalSystem(Collection<OrderId> orderIds) {
+        return orderIds.stream()
+            .distinct()
+            .filter(this::existsInExternalSystem)
+            .collect(Collectors.toUnmodifiableSet());
+    }
 }
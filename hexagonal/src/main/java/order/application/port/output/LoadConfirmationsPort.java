@@ -0,0 +1,18 @@
+package order.application.port.output;
+
+import order.domain.model.OrderConfirmation;
+
+import java.time.LocalDateTime;
+import java.util.stream.Stream;
+
+/**
+ * Output Port: Confirmations eines Zeitraums laden (z.B. für Finance).
+ */
+public interface LoadConfirmationsPort {
+
+    /**
+     * Alle Confirmations mit from <= confirmedAt < to, aufsteigend nach confirmedAt.
+     * Lazy - große Zeiträume werden nicht auf einmal in den Speicher geladen.
+     */
+    Stream<OrderConfirmation> findBetween(LocalDateTime from, LocalDateTime to);
+}
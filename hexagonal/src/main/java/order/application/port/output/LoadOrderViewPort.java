@@ -0,0 +1,14 @@
+package order.application.port.output;
+
+import order.application.dto.OrderResponse;
+import order.domain.model.OrderId;
+
+import java.util.Optional;
+
+/**
+ * Output Port: fertige Lese-Ansicht einer Order (Read Model).
+ * Kein Domain-Objekt, kein Mapping beim Lesen.
+ */
+public interface LoadOrderViewPort {
+    Optional<OrderResponse> loadViewById(OrderId orderId);
+}
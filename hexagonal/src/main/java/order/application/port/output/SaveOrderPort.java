@@ -6,5 +6,13 @@ import order.domain.model.Order;
  * Output Port: Order in Persistenz speichern.
  */
 public interface SaveOrderPort {
+
+    /**
+     * Compare-and-Set über die Version: gespeichert wird nur, wenn die Order
+     * seit dem Laden unverändert ist. Die zurückgegebene Order trägt die neue Version.
+     *
+     * @throws order.domain.exception.OrderVersionConflictException wenn die
+     *         gespeicherte Version nicht mehr order.getVersion() ist
+     */
     Order save(Order order);
 }
@@ -4,13 +4,22 @@ import order.application.dto.*;
 import order.application.mapper.OrderMapper;
 import order.application.port.input.*;
 import order.application.port.output.*;
+import order.application.port.output.LoadProductInfoPort.ProductInfo;
 import order.domain.exception.OrderAlreadyExistsException;
 import order.domain.exception.OrderNotFoundException;
 import order.domain.model.*;
 import order.domain.service.OrderConfirmationCalculator;
 import product.application.port.input.ReserveStockUseCase;
+import product.application.port.input.ReserveStockUseCase.StockReservation;
+import shared.log.EventLog;
+import shared.log.EventLogger;
 
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
 
 /**
  * Application Service - orchestriert Use Cases.
@@ -20,6 +29,8 @@ import java.util.List;
  */
 public class OrderService implements GetOrderUseCase, UpdateOrderUseCase, ConfirmOrderUseCase {
 
+    private static final EventLogger LOG = EventLog.logger("ORDER SERVICE");
+
     private final LoadOrderPort loadOrderPort;
     private final SaveOrderPort saveOrderPort;
     private final SaveConfirmationPort saveConfirmationPort;
@@ -29,6 +40,8 @@ public class OrderService implements GetOrderUseCase, UpdateOrderUseCase, Confir
     private final ReserveStockUseCase reserveStockUseCase;  // Product's Use Case direkt!
     private final OrderConfirmationCalculator calculator;
     private final OrderMapper mapper;
+    private final Executor ioExecutor;
+    private final LoadOrderViewPort loadOrderViewPort;  // null: getOrder lädt und mappt
 
     public OrderService(
             LoadOrderPort loadOrderPort,
@@ -38,6 +51,46 @@ public class OrderService implements GetOrderUseCase, UpdateOrderUseCase, Confir
             SendNotificationPort sendNotificationPort,
             LoadProductInfoPort loadProductInfoPort,
             ReserveStockUseCase reserveStockUseCase) {
+        // Ohne Executor: alle Schritte im aufrufenden Thread, nacheinander
+        this(loadOrderPort, saveOrderPort, saveConfirmationPort, checkOrderExistsPort,
+            sendNotificationPort, loadProductInfoPort, reserveStockUseCase, MoneyArithmetic.BIG_DECIMAL,
+            Runnable::run);
+    }
+
+    /**
+     * Konstruktor mit Auswahl der Geld-Arithmetik für Summen und Bestätigungen
+     * und dem Executor für die unabhängigen I/O-Schritte in confirmOrder.
+     */
+    public OrderService(
+            LoadOrderPort loadOrderPort,
+            SaveOrderPort saveOrderPort,
+            SaveConfirmationPort saveConfirmationPort,
+            CheckOrderExistsPort checkOrderExistsPort,
+            SendNotificationPort sendNotificationPort,
+            LoadProductInfoPort loadProductInfoPort,
+            ReserveStockUseCase reserveStockUseCase,
+            MoneyArithmetic arithmetic,
+            Executor ioExecutor) {
+        this(loadOrderPort, saveOrderPort, saveConfirmationPort, checkOrderExistsPort,
+            sendNotificationPort, loadProductInfoPort, reserveStockUseCase, arithmetic, ioExecutor, null);
+    }
+
+    /**
+     * Wie oben, zusätzlich mit Read Model: getOrder liest die fertige
+     * OrderResponse statt Order laden und mappen.
+     * saveOrderPort muss das Read Model dann mit aktualisieren.
+     */
+    public OrderService(
+            LoadOrderPort loadOrderPort,
+            SaveOrderPort saveOrderPort,
+            SaveConfirmationPort saveConfirmationPort,
+            CheckOrderExistsPort checkOrderExistsPort,
+            SendNotificationPort sendNotificationPort,
+            LoadProductInfoPort loadProductInfoPort,
+            ReserveStockUseCase reserveStockUseCase,
+            MoneyArithmetic arithmetic,
+            Executor ioExecutor,
+            LoadOrderViewPort loadOrderViewPort) {
         this.loadOrderPort = loadOrderPort;
         this.saveOrderPort = saveOrderPort;
         this.saveConfirmationPort = saveConfirmationPort;
@@ -45,16 +98,27 @@ public class OrderService implements GetOrderUseCase, UpdateOrderUseCase, Confir
         this.sendNotificationPort = sendNotificationPort;
         this.loadProductInfoPort = loadProductInfoPort;
         this.reserveStockUseCase = reserveStockUseCase;
-        this.calculator = new OrderConfirmationCalculator();
-        this.mapper = new OrderMapper();
+        this.calculator = new OrderConfirmationCalculator(arithmetic);
+        this.mapper = new OrderMapper(arithmetic);
+        this.ioExecutor = ioExecutor;
+        this.loadOrderViewPort = loadOrderViewPort;
     }
 
     @Override
     public OrderResponse getOrder(OrderId orderId) {
+        if (loadOrderViewPort != null) {
+            return loadOrderViewPort.loadViewById(orderId)
+                .orElseThrow(() -> new OrderNotFoundException(orderId));
+        }
         Order order = loadOrder(orderId);
         return mapper.toResponse(order);
     }
 
+    /**
+     * Optimistic Locking: wurde die Order seit dem Laden geändert (z.B. gleichzeitig
+     * bestätigt), wirft saveOrderPort eine OrderVersionConflictException - nichts
+     * wird überschrieben, der Aufrufer kann neu laden und es erneut versuchen.
+     */
     @Override
     public OrderResponse updateOrder(OrderId orderId, UpdateOrderCommand command) {
         Order order = loadOrder(orderId);
@@ -66,17 +130,41 @@ public class OrderService implements GetOrderUseCase, UpdateOrderUseCase, Confir
         return mapper.toResponse(savedOrder);
     }
 
+    /**
+     * Unabhängige I/O-Schritte laufen über den ioExecutor gleichzeitig:
+     * externe Prüfung und Produktinfos. Mit sequentiellem Executor kommt die
+     * externe Prüfung zuerst - wie ohne Executor.
+     *
+     * Der Order-Save ist der Commit-Punkt (Compare-and-Set über die Version):
+     * erst danach wird die Confirmation gespeichert und benachrichtigt. Schlägt
+     * er fehl (Konflikt mit einem gleichzeitigen Writer, aber auch z.B. ein
+     * I/O-Fehler), wird der reservierte Bestand zurückgegeben und die Exception
+     * durchgereicht.
+     */
     @Override
     public OrderConfirmationResponse confirmOrder(OrderId orderId) {
         Order order = loadOrder(orderId);
 
+        // Externe Prüfung und Produktinfos hängen nicht voneinander ab
+        CompletableFuture<Boolean> existsCheck =
+            async(() -> checkOrderExistsPort.existsInExternalSystem(orderId));
+        // Sequentieller Executor: die Prüfung ist schon gelaufen - bei einem
+        // Treffer (oder Fehler) gar nicht erst Produktinfos laden
+        if (existsCheck.isDone() && await(existsCheck)) {
+            throw new OrderAlreadyExistsException(orderId);
+        }
+        List<CompletableFuture<Optional<ProductInfo>>> productInfos = order.getItems().stream()
+            .map(item -> async(() -> loadProductInfoPort.loadProductInfo(item.getProductId())))
+            .toList();
+
         // Prüfung gegen externes System
-        if (checkOrderExistsPort.existsInExternalSystem(orderId)) {
+        if (await(existsCheck)) {
+            productInfos.forEach(info -> info.cancel(false));
             throw new OrderAlreadyExistsException(orderId);
         }
 
-        // Produktinformationen laden und Hersteller ausgeben
-        printProductManufacturers(order);
+        // Hersteller ausgeben
+        printProductManufacturers(order, productInfos);
 
         // Stock reservieren - DIREKT über Product's Use Case!
         reserveStockForOrder(order);
@@ -87,8 +175,13 @@ public class OrderService implements GetOrderUseCase, UpdateOrderUseCase, Confir
         // Berechnung (Domain Service)
         OrderConfirmation confirmation = calculator.calculate(order);
 
-        // Persistieren
-        saveOrderPort.save(order);
+        // Persistieren - Order zuerst, die Confirmation nur für eine gespeicherte Order
+        try {
+            saveOrderPort.save(order);
+        } catch (RuntimeException e) {
+            releaseStockForOrder(order, e);
+            throw e;
+        }
         OrderConfirmation savedConfirmation = saveConfirmationPort.save(confirmation);
 
         // Benachrichtigung
@@ -97,17 +190,20 @@ public class OrderService implements GetOrderUseCase, UpdateOrderUseCase, Confir
         return mapper.toResponse(savedConfirmation);
     }
 
-    private void printProductManufacturers(Order order) {
+    private void printProductManufacturers(Order order,
+                                           List<CompletableFuture<Optional<ProductInfo>>> productInfos) {
         // PSEUDO-CODE: Repräsentiert Logging/Audit-Action die in Produktion
         // über einen Logger oder AuditService erfolgen würde
-        System.out.println("[ORDER CONFIRM] Produkte in Bestellung " + order.getId().value() + ":");
-        for (OrderItem item : order.getItems()) {
-            loadProductInfoPort.loadProductInfo(item.getProductId())
+        Long orderId = order.getId().value();
+        List<OrderItem> items = order.getItems();
+        for (int i = 0; i < items.size(); i++) {
+            OrderItem item = items.get(i);
+            await(productInfos.get(i))
                 .ifPresentOrElse(
-                    info -> System.out.printf("  - %s (Hersteller: %s)%n",
-                        info.productName(), info.manufacturer()),
-                    () -> System.out.printf("  - Produkt %d (Hersteller: unbekannt)%n",
-                        item.getProductId().value())
+                    info -> LOG.info("Bestellung {}: {} (Hersteller: {})",
+                        orderId, info.productName(), info.manufacturer()),
+                    () -> LOG.info("Bestellung {}: Produkt {} (Hersteller: unbekannt)",
+                        orderId, item.getProductId().value())
                 );
         }
     }
@@ -120,19 +216,35 @@ public class OrderService implements GetOrderUseCase, UpdateOrderUseCase, Confir
      * Cross-Context-Kommunikation über Use Case Interfaces.
      * Product's InsufficientStockException wird durchgereicht - in Produktion
      * würde man diese ggf. in eine Order-spezifische Exception übersetzen.
+     *
+     * Ein Aufruf für alle Positionen: alles oder nichts, kein hängender Bestand
+     * wenn eine spätere Position nicht verfügbar ist.
      */
     private void reserveStockForOrder(Order order) {
         // PSEUDO-CODE: Logging-Action
-        System.out.println("[ORDER SERVICE] Reserviere Lagerbestand für Order " + order.getId().value());
+        LOG.info("Reserviere Lagerbestand für Order {}", order.getId().value());
 
-        for (OrderItem item : order.getItems()) {
-            // Konvertiere Order.ProductId → Product.ProductId
-            product.domain.model.ProductId productId =
-                product.domain.model.ProductId.of(item.getProductId().value());
+        List<StockReservation> reservations = order.getItems().stream()
+            .map(item -> new StockReservation(
+                // Konvertiere Order.ProductId → Product.ProductId
+                product.domain.model.ProductId.of(item.getProductId().value()),
+                item.getQuantity().value()
+            ))
+            .toList();
 
-            // DIREKT Product's Use Case aufrufen!
-            // InsufficientStockException wird durchgereicht
-            reserveStockUseCase.reserveStock(productId, item.getQuantity());
+        // DIREKT Product's Use Case aufrufen!
+        // InsufficientStockException wird durchgereicht
+        reserveStockUseCase.reserveAll(reservations);
+    }
+
+    // Kompensation zu reserveStockForOrder, wenn die Order nicht gespeichert wurde
+    private void releaseStockForOrder(Order order, RuntimeException cause) {
+        LOG.warn("Gebe Lagerbestand für Order {} zurück ({})", order.getId().value(), cause.getClass().getSimpleName());
+        for (OrderItem item : order.getItems()) {
+            reserveStockUseCase.releaseStock(
+                product.domain.model.ProductId.of(item.getProductId().value()),
+                item.getQuantity().value()
+            );
         }
     }
 
@@ -140,4 +252,23 @@ public class OrderService implements GetOrderUseCase, UpdateOrderUseCase, Confir
         return loadOrderPort.loadById(orderId)
             .orElseThrow(() -> new OrderNotFoundException(orderId));
     }
+
+    private <T> CompletableFuture<T> async(Supplier<T> step) {
+        return CompletableFuture.supplyAsync(step, ioExecutor);
+    }
+
+    // Wartet auf den Schritt und wirft dessen Exception unverändert weiter
+    private static <T> T await(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
 }
@@ -0,0 +1,31 @@
+package order.domain.event;
+
+import order.domain.model.OrderItem;
+
+import java.util.List;
+
+/**
+ * Fachliche Änderung an einer Order.
+ *
+ * Die Order sammelt ihre Änderungen seit dem Laden als Events
+ * (Order.getPendingEvents). Ein Event-Sourcing-Adapter speichert nur diese
+ * statt der ganzen Order, andere Adapter ignorieren sie.
+ */
+public interface OrderEvent {
+
+    // Alle Positionen ersetzt (updateOrder)
+    record ItemsReplaced(List<OrderItem> items) implements OrderEvent {
+        public ItemsReplaced {
+            items = List.copyOf(items);
+        }
+    }
+
+    record ItemAdded(OrderItem item) implements OrderEvent {
+    }
+
+    record Confirmed() implements OrderEvent {
+    }
+
+    record Cancelled() implements OrderEvent {
+    }
+}
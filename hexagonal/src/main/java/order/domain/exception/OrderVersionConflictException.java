@@ -0,0 +1,28 @@
+package order.domain.exception;
+
+import order.domain.model.OrderId;
+
+/**
+ * Optimistic Locking: die Order wurde seit dem Laden von jemand anderem gespeichert.
+ *
+ * Nichts wurde geschrieben. Wiederholbar: Order neu laden, Änderung erneut
+ * anwenden, erneut speichern.
+ */
+public class OrderVersionConflictException extends OrderException {
+
+    private final OrderId orderId;
+    private final long expectedVersion;
+    private final long actualVersion;
+
+    public OrderVersionConflictException(OrderId orderId, long expectedVersion, long actualVersion) {
+        super("Order " + orderId.value() + " was modified concurrently (expected version "
+            + expectedVersion + ", current version " + actualVersion + ")");
+        this.orderId = orderId;
+        this.expectedVersion = expectedVersion;
+        this.actualVersion = actualVersion;
+    }
+
+    public OrderId getOrderId() { return orderId; }
+    public long getExpectedVersion() { return expectedVersion; }
+    public long getActualVersion() { return actualVersion; }
+}
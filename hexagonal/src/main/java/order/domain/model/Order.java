@@ -2,6 +2,7 @@ package order.domain.model;
 
 import order.domain.exception.OrderAlreadyConfirmedException;
 import order.domain.exception.EmptyOrderException;
+import order.domain.event.OrderEvent;
 
 import java.util.ArrayList;
 import java.util.Collections;
@@ -18,34 +19,88 @@ public class Order {
     private final OrderId id;
     private final CustomerId customerId;
     private List<OrderItem> items;
+    // true: items gehört auch einer Kopie aus withVersion - vor dem Ändern kopieren
+    private boolean itemsShared;
     private OrderStatus status;
 
-    private Order(OrderId id, CustomerId customerId, List<OrderItem> items, OrderStatus status) {
+    // Optimistic Locking: Stand beim Laden, 0 = noch nie gespeichert
+    private final long version;
+
+    // Laufende Summe in Cent, bei jeder Änderung der Positionen nachgeführt.
+    // Money-Summe nur auf Anfrage daraus - kein BigDecimal pro Position
+    private long totalCents;
+
+    // Änderungen seit dem Laden - für Event-Sourcing-Adapter (nur das Delta speichern)
+    private final List<OrderEvent> pendingEvents = new ArrayList<>();
+
+    private Order(OrderId id, CustomerId customerId, List<OrderItem> items, OrderStatus status,
+                  long version) {
         this.id = id;
         this.customerId = customerId;
         this.items = new ArrayList<>(items);
         this.status = status;
+        this.version = version;
+        recalculateTotals(this.items);
+    }
+
+    // Kopie mit neuer Version - Positionen geteilt (Copy-on-Write), Summen übernommen
+    private Order(Order source, long version) {
+        this.id = source.id;
+        this.customerId = source.customerId;
+        this.items = source.items;
+        this.itemsShared = true;
+        source.itemsShared = true;
+        this.status = source.status;
+        this.version = version;
+        this.totalCents = source.totalCents;
     }
 
     // Factory für neue Orders
     public static Order create(OrderId id, CustomerId customerId) {
-        return new Order(id, customerId, new ArrayList<>(), OrderStatus.DRAFT);
+        return new Order(id, customerId, new ArrayList<>(), OrderStatus.DRAFT, 0);
     }
 
     // Factory für Rekonstruktion aus Persistenz
+    public static Order reconstitute(OrderId id, CustomerId customerId,
+                                      List<OrderItem> items, OrderStatus status, long version) {
+        return new Order(id, customerId, items, status, version);
+    }
+
+    // Wie oben, für Orders die noch nie gespeichert wurden (Version 0)
     public static Order reconstitute(OrderId id, CustomerId customerId,
                                       List<OrderItem> items, OrderStatus status) {
-        return new Order(id, customerId, items, status);
+        return reconstitute(id, customerId, items, status, 0);
+    }
+
+    /**
+     * Gespeicherter Stand für Persistenz-Adapter: gleiche Positionen und
+     * Summen, neue Version, keine offenen Events.
+     *
+     * O(1): die Positionsliste wird nicht kopiert, sondern geteilt. Wer von
+     * beiden zuerst eine Position hinzufügt, kopiert sie vorher (addItem).
+     */
+    public Order withVersion(long newVersion) {
+        return new Order(this, newVersion);
     }
 
     public void addItem(OrderItem item) {
         ensureModifiable();
-        this.items.add(item);
+        long newTotalCents = Math.addExact(totalCents, item.calculateSubtotalCents().cents());
+        if (itemsShared) {
+            items = new ArrayList<>(items);
+            itemsShared = false;
+        }
+        items.add(item);
+        totalCents = newTotalCents;
+        pendingEvents.add(new OrderEvent.ItemAdded(item));
     }
 
     public void replaceItems(List<OrderItem> newItems) {
         ensureModifiable();
+        recalculateTotals(newItems);
         this.items = new ArrayList<>(newItems);
+        this.itemsShared = false;
+        pendingEvents.add(new OrderEvent.ItemsReplaced(newItems));
     }
 
     public void confirm() {
@@ -54,6 +109,14 @@ public class Order {
             throw new EmptyOrderException(id);
         }
         this.status = OrderStatus.CONFIRMED;
+        pendingEvents.add(new OrderEvent.Confirmed());
+    }
+
+    // Nur Entwürfe - eine bestätigte Order wird nicht still storniert
+    public void cancel() {
+        ensureModifiable();
+        this.status = OrderStatus.CANCELLED;
+        pendingEvents.add(new OrderEvent.Cancelled());
     }
 
     private void ensureModifiable() {
@@ -62,10 +125,26 @@ public class Order {
         }
     }
 
+    // O(1): laufende Summe statt Stream über alle Positionen
     public Money calculateTotal() {
-        return items.stream()
-            .map(OrderItem::calculateSubtotal)
-            .reduce(Money.ZERO, Money::add);
+        // Money hat immer Scale 2 - exakt dieselbe Summe wie über BigDecimal
+        return MoneyCents.of(totalCents).toMoney();
+    }
+
+    public MoneyCents calculateTotalCents() {
+        return MoneyCents.of(totalCents);
+    }
+
+    /**
+     * Summen komplett neu berechnen (Konstruktor, replaceItems).
+     * Felder werden erst am Ende gesetzt - bei Überlauf bleibt der alte Stand.
+     */
+    private void recalculateTotals(List<OrderItem> newItems) {
+        long newTotalCents = 0;
+        for (OrderItem item : newItems) {
+            newTotalCents = Math.addExact(newTotalCents, item.calculateSubtotalCents().cents());
+        }
+        this.totalCents = newTotalCents;
     }
 
     public int getItemCount() {
@@ -77,5 +156,7 @@ public class Order {
     public CustomerId getCustomerId() { return customerId; }
     public List<OrderItem> getItems() { return Collections.unmodifiableList(items); }
     public OrderStatus getStatus() { return status; }
+    public long getVersion() { return version; }
+    public List<OrderEvent> getPendingEvents() { return Collections.unmodifiableList(pendingEvents); }
     public boolean isConfirmed() { return status == OrderStatus.CONFIRMED; }
 }
@@ -11,11 +11,13 @@ public class OrderItem {
     private final ProductId productId;
     private final Quantity quantity;
     private final Money unitPrice;
+    private final MoneyCents unitPriceCents;  // Einmal umgerechnet, für LONG_CENTS
 
     private OrderItem(ProductId productId, Quantity quantity, Money unitPrice) {
         this.productId = productId;
         this.quantity = quantity;
         this.unitPrice = unitPrice;
+        this.unitPriceCents = MoneyCents.of(unitPrice);
     }
 
     public static OrderItem create(ProductId productId, Quantity quantity, Money unitPrice) {
@@ -34,6 +36,10 @@ public class OrderItem {
         return unitPrice.multiply(quantity.value());
     }
 
+    public MoneyCents calculateSubtotalCents() {
+        return unitPriceCents.multiply(quantity.value());
+    }
+
     public ProductId getProductId() { return productId; }
     public Quantity getQuantity() { return quantity; }
     public Money getUnitPrice() { return unitPrice; }
@@ -1,6 +1,8 @@
 package order.domain.service;
 
 import order.domain.model.Money;
+import order.domain.model.MoneyArithmetic;
+import order.domain.model.MoneyCents;
 import order.domain.model.Order;
 import order.domain.model.OrderConfirmation;
 
@@ -18,8 +20,21 @@ public class OrderConfirmationCalculator {
     private static final Money BASE_SHIPPING = Money.of(5.99);
     private static final Money PER_ITEM_SHIPPING = Money.of(1.00);
 
+    private static final MoneyCents.Rate TAX_RATE_CENTS = MoneyCents.Rate.of(TAX_RATE);
+    private static final MoneyCents BASE_SHIPPING_CENTS = MoneyCents.of(BASE_SHIPPING);
+    private static final MoneyCents PER_ITEM_SHIPPING_CENTS = MoneyCents.of(PER_ITEM_SHIPPING);
+
+    private final MoneyArithmetic arithmetic;
     private long nextId = 1;
 
+    public OrderConfirmationCalculator() {
+        this(MoneyArithmetic.BIG_DECIMAL);
+    }
+
+    public OrderConfirmationCalculator(MoneyArithmetic arithmetic) {
+        this.arithmetic = arithmetic;
+    }
+
     /**
      * Berechnet die Bestätigungsdetails für eine Order.
      *
@@ -27,6 +42,10 @@ public class OrderConfirmationCalculator {
      * In Produktion würde die ID vom Repository/IdGenerator kommen.
      */
     public OrderConfirmation calculate(Order order) {
+        if (arithmetic == MoneyArithmetic.LONG_CENTS) {
+            return calculateInCents(order);
+        }
+
         Money totalAmount = order.calculateTotal();
         Money taxAmount = totalAmount.multiply(TAX_RATE);
         Money shippingCost = calculateShipping(order.getItemCount());
@@ -40,6 +59,24 @@ public class OrderConfirmationCalculator {
         );
     }
 
+    /**
+     * Gleiche Rechnung in Cent. Erst das Ergebnis wird in Money umgewandelt,
+     * die Summe über die Positionen läuft ohne BigDecimal.
+     */
+    private OrderConfirmation calculateInCents(Order order) {
+        MoneyCents totalAmount = order.calculateTotalCents();
+        MoneyCents taxAmount = totalAmount.multiply(TAX_RATE_CENTS);
+        MoneyCents shippingCost = BASE_SHIPPING_CENTS.add(PER_ITEM_SHIPPING_CENTS.multiply(order.getItemCount()));
+
+        return OrderConfirmation.create(
+            nextId++,
+            order.getId(),
+            totalAmount.toMoney(),
+            taxAmount.toMoney(),
+            shippingCost.toMoney()
+        );
+    }
+
     private Money calculateShipping(int itemCount) {
         return BASE_SHIPPING.add(PER_ITEM_SHIPPING.multiply(itemCount));
     }
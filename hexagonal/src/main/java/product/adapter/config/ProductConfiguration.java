@@ -1,29 +1,61 @@
 package product.adapter.config;
 
 import product.adapter.input.rest.ProductController;
+import product.adapter.output.persistence.OffHeapStockProductAdapter;
 import product.adapter.output.persistence.ProductPersistenceAdapter;
+import product.adapter.output.persistence.SnapshotProductPersistenceAdapter;
 import product.application.port.input.ReserveStockUseCase;
+import product.application.port.output.AtomicStockPort;
 import product.application.port.output.LoadProductPort;
+import product.application.port.output.LockProductPort;
 import product.application.port.output.SaveProductPort;
 import product.application.service.ProductService;
 
+import java.nio.file.Path;
+
 /**
  * Konfiguration - Dependency Injection für Product-Modul.
  */
 public class ProductConfiguration {
 
-    private final ProductPersistenceAdapter productPersistenceAdapter;
+    private final LoadProductPort loadProductPort;
+    private final SaveProductPort saveProductPort;
+    private final LockProductPort lockProductPort;
     private final ProductService productService;
     private final ProductController productController;
 
     public ProductConfiguration() {
+        this(new ProductPersistenceAdapter(), null);
+    }
+
+    /**
+     * Katalog aus einer Snapshot-Datei (schneller Start, Products erst bei Zugriff).
+     */
+    public ProductConfiguration(Path productSnapshot) {
+        this(new SnapshotProductPersistenceAdapter(productSnapshot), null);
+    }
+
+    /**
+     * Bestand in einer Off-Heap-Tabelle, Reservierungen atomar ohne Lock.
+     */
+    public ProductConfiguration(OffHeapStockProductAdapter offHeapStockAdapter) {
+        this(offHeapStockAdapter, offHeapStockAdapter);
+    }
+
+    // Ein Adapter implementiert alle drei Output Ports
+    private <A extends LoadProductPort & SaveProductPort & LockProductPort> ProductConfiguration(
+            A persistenceAdapter, AtomicStockPort atomicStockPort) {
         // 1. Output Adapter
-        this.productPersistenceAdapter = new ProductPersistenceAdapter();
+        this.loadProductPort = persistenceAdapter;
+        this.saveProductPort = persistenceAdapter;
+        this.lockProductPort = persistenceAdapter;
 
-        // 2. Application Service (mit beiden Ports)
+        // 2. Application Service (mit allen drei Ports)
         this.productService = new ProductService(
-            productPersistenceAdapter,  // LoadProductPort
-            productPersistenceAdapter   // SaveProductPort
+            loadProductPort,
+            saveProductPort,
+            lockProductPort,
+            atomicStockPort
         );
 
         // 3. Input Adapter
@@ -44,10 +76,14 @@ public class ProductConfiguration {
     }
 
     public LoadProductPort loadProductPort() {
-        return productPersistenceAdapter;
+        return loadProductPort;
     }
 
     public SaveProductPort saveProductPort() {
-        return productPersistenceAdapter;
+        return saveProductPort;
+    }
+
+    public LockProductPort lockProductPort() {
+        return lockProductPort;
     }
 }
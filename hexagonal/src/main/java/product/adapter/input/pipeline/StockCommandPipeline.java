@@ -0,0 +1,295 @@
+package product.adapter.input.pipeline;
+
+import product.application.port.input.ReserveStockUseCase;
+import product.domain.model.ProductId;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Stock-Änderungen als Befehle über einen Ringpuffer (Disruptor-Stil).
+ *
+ * Aufrufer reservieren per CAS einen vorab angelegten Slot, tragen den Befehl
+ * ein (reserve, reserveAll, release) und veröffentlichen ihn über die
+ * Sequenznummer des Slots (volatile). Ein einziger Business-Logic-Thread
+ * wendet die Befehle streng in Sequenz-Reihenfolge auf den Bestand an und
+ * meldet das Ergebnis über ein CompletableFuture zurück.
+ *
+ * - Kein Lock-Gerangel: nur ein Thread ändert den Bestand. Die Locks im
+ *   ProductService bleiben, werden aber nie bestritten.
+ * - Backpressure: ist der Ring voll, wartet der Aufrufer bis publishTimeout
+ *   und bekommt danach eine IllegalStateException.
+ * - Journal-Punkt: der Business-Thread sieht jeden Befehl in endgültiger
+ *   Reihenfolge - dort würde man journalisieren oder replizieren.
+ *
+ * PRAGMATISCH: Nur sinnvoll, wenn alle Stock-Änderungen durch die Pipeline
+ * gehen - direkte Aufrufe am ProductService laufen weiterhin parallel dazu.
+ */
+public class StockCommandPipeline implements ReserveStockUseCase, AutoCloseable {
+
+    private static final int DEFAULT_CAPACITY = 1 << 12;
+    private static final Duration DEFAULT_PUBLISH_TIMEOUT = Duration.ofMillis(50);
+    // Aktives Warten lohnt nur, wenn ein anderer Kern gleichzeitig veröffentlichen kann
+    private static final int SPINS_BEFORE_PARK = Runtime.getRuntime().availableProcessors() > 1 ? 1_000 : 0;
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final long FULL_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(10);
+
+    private static final int RESERVE = 1;
+    private static final int RESERVE_ALL = 2;
+    private static final int RELEASE = 3;
+
+    private final ReserveStockUseCase businessLogic;
+    private final Slot[] slots;
+    private final int mask;
+    private final long publishTimeoutNanos;
+    private final AtomicLong claimed = new AtomicLong();
+    private final AtomicLong processed = new AtomicLong();
+    private final Thread processor;
+    private volatile boolean processorParked;
+    private volatile boolean running = true;
+    // Processor beendet: nichts wird mehr angewendet, offene Befehle schlagen fehl
+    private volatile boolean terminated;
+    // close(timeout) abgelaufen: Processor bricht nach dem laufenden Befehl ab
+    private volatile boolean aborted;
+
+    /**
+     * @param capacity Anzahl Slots, wird auf die nächste Zweierpotenz aufgerundet
+     */
+    public StockCommandPipeline(ReserveStockUseCase businessLogic, int capacity, Duration publishTimeout) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be positive");
+        }
+        int size = Integer.highestOneBit(Math.max(2, capacity - 1)) << 1;
+        this.businessLogic = businessLogic;
+        this.slots = new Slot[size];
+        for (int i = 0; i < size; i++) {
+            slots[i] = new Slot(i - (long) size);
+        }
+        this.mask = size - 1;
+        this.publishTimeoutNanos = publishTimeout.toNanos();
+
+        this.processor = new Thread(this::processLoop, "stock-command-processor");
+        processor.setDaemon(true);
+        processor.start();
+    }
+
+    public StockCommandPipeline(ReserveStockUseCase businessLogic) {
+        this(businessLogic, DEFAULT_CAPACITY, DEFAULT_PUBLISH_TIMEOUT);
+    }
+
+    // ==================== ASYNCHRON ====================
+
+    public CompletableFuture<Void> reserveStockAsync(ProductId productId, int quantity) {
+        return publish(RESERVE, productId, quantity, null);
+    }
+
+    public CompletableFuture<Void> reserveAllAsync(List<StockReservation> reservations) {
+        return publish(RESERVE_ALL, null, 0, reservations);
+    }
+
+    public CompletableFuture<Void> releaseStockAsync(ProductId productId, int quantity) {
+        return publish(RELEASE, productId, quantity, null);
+    }
+
+    // ==================== USE CASE (wartet auf das Ergebnis) ====================
+
+    @Override
+    public void reserveStock(ProductId productId, int quantity) {
+        await(reserveStockAsync(productId, quantity));
+    }
+
+    @Override
+    public void reserveAll(List<StockReservation> reservations) {
+        await(reserveAllAsync(reservations));
+    }
+
+    @Override
+    public void releaseStock(ProductId productId, int quantity) {
+        await(releaseStockAsync(productId, quantity));
+    }
+
+    // Veröffentlicht, aber noch nicht angewendet - bei laufenden Aufrufen nur eine Momentaufnahme
+    public long backlog() {
+        return claimed.get() - processed.get();
+    }
+
+    /**
+     * Nimmt keine neuen Befehle mehr an und wartet, bis alle veröffentlichten
+     * Befehle angewendet sind (höchstens timeout). Danach noch offene Befehle
+     * schlagen mit einer IllegalStateException fehl.
+     */
+    public void close(Duration timeout) {
+        running = false;
+        LockSupport.unpark(processor);
+        try {
+            processor.join(Math.max(1, timeout.toMillis()));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (processor.isAlive()) {
+            // Zeit abgelaufen: übrige Befehle schlagen fehl statt ewig zu warten
+            aborted = true;
+            LockSupport.unpark(processor);
+        }
+    }
+
+    @Override
+    public void close() {
+        close(Duration.ofSeconds(5));
+    }
+
+    private CompletableFuture<Void> publish(int type, ProductId productId, int quantity,
+                                            List<StockReservation> reservations) {
+        if (!running || terminated) {
+            throw closed();
+        }
+        long sequence = claim();
+
+        CompletableFuture<Void> result = new CompletableFuture<>();
+        Slot slot = slots[(int) (sequence & mask)];
+        slot.type = type;
+        slot.productId = productId;
+        slot.quantity = quantity;
+        slot.reservations = reservations;
+        slot.result = result;
+        slot.sequence = sequence;  // veröffentlicht den Slot
+        if (terminated) {
+            // Processor ist schon weg und hat den Slot eventuell nicht mehr gesehen
+            result.completeExceptionally(closed());
+        }
+
+        if (processorParked) {
+            LockSupport.unpark(processor);
+        }
+        return result;
+    }
+
+    // Nächste freie Sequenznummer - bei vollem Ring warten, höchstens publishTimeout
+    private long claim() {
+        long deadline = System.nanoTime() + publishTimeoutNanos;
+        while (true) {
+            if (terminated) {
+                throw closed();
+            }
+            long sequence = claimed.get();
+            if (sequence - processed.get() < slots.length) {
+                if (claimed.compareAndSet(sequence, sequence + 1)) {
+                    return sequence;
+                }
+            } else if (System.nanoTime() - deadline > 0) {
+                throw new IllegalStateException("Stock command pipeline full");
+            } else {
+                LockSupport.parkNanos(FULL_PARK_NANOS);
+            }
+        }
+    }
+
+    private void processLoop() {
+        long next = 0;
+        int idleSpins = 0;
+        try {
+            while (!aborted && (running || next < claimed.get())) {
+                Slot slot = slots[(int) (next & mask)];
+                if (slot.sequence != next) {
+                    idleSpins = waitForCommand(idleSpins);
+                    continue;
+                }
+                idleSpins = 0;
+                apply(slot);
+                slot.clear();
+                processed.set(++next);  // gibt den Slot für Aufrufer frei
+            }
+        } finally {
+            terminated = true;
+            failUnprocessed(next);
+        }
+    }
+
+    // Veröffentlicht, aber nicht angewendet - noch nicht veröffentlichte schlagen beim Veröffentlichen fehl
+    private void failUnprocessed(long next) {
+        for (long sequence = next; sequence < claimed.get(); sequence++) {
+            Slot slot = slots[(int) (sequence & mask)];
+            if (slot.sequence == sequence) {
+                slot.result.completeExceptionally(closed());
+            }
+        }
+    }
+
+    private static IllegalStateException closed() {
+        return new IllegalStateException("Stock command pipeline is closed");
+    }
+
+    private void apply(Slot slot) {
+        // PSEUDO-CODE: journal.append(slot.sequence, slot) - Reihenfolge ist endgültig
+        CompletableFuture<Void> result = slot.result;
+        try {
+            switch (slot.type) {
+                case RESERVE -> businessLogic.reserveStock(slot.productId, slot.quantity);
+                case RESERVE_ALL -> businessLogic.reserveAll(slot.reservations);
+                case RELEASE -> businessLogic.releaseStock(slot.productId, slot.quantity);
+                default -> throw new IllegalStateException("Unknown stock command " + slot.type);
+            }
+            result.complete(null);
+        } catch (Throwable e) {
+            result.completeExceptionally(e);
+        }
+    }
+
+    // Erst kurz aktiv warten, dann parken - publish() weckt den Thread wieder auf
+    private int waitForCommand(int idleSpins) {
+        if (idleSpins < SPINS_BEFORE_PARK) {
+            Thread.onSpinWait();
+            return idleSpins + 1;
+        }
+        processorParked = true;
+        if (running && slots[(int) (processed.get() & mask)].sequence != processed.get()) {
+            LockSupport.parkNanos(IDLE_PARK_NANOS);
+        }
+        processorParked = false;
+        return idleSpins;
+    }
+
+    // Wartet auf den Befehl und wirft dessen Exception unverändert weiter
+    private static void await(CompletableFuture<Void> future) {
+        try {
+            future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Ein vorab angelegter Befehl im Ring. sequence sagt, für welche
+     * Runde der Slot gefüllt ist - erst danach sind die anderen Felder gültig.
+     */
+    private static final class Slot {
+        volatile long sequence;
+        int type;
+        ProductId productId;
+        int quantity;
+        List<StockReservation> reservations;
+        CompletableFuture<Void> result;
+
+        Slot(long initialSequence) {
+            this.sequence = initialSequence;
+        }
+
+        // Referenzen nicht länger als nötig festhalten
+        void clear() {
+            productId = null;
+            reservations = null;
+            result = null;
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package product.adapter.output.persistence;
+
+import product.application.port.output.AtomicStockPort;
+import product.application.port.output.LoadProductPort;
+import product.application.port.output.LockProductPort;
+import product.application.port.output.SaveProductPort;
+import product.domain.exception.ProductNotFoundException;
+import product.domain.exception.StockConflictException;
+import product.domain.model.Product;
+import product.domain.model.ProductId;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * Secondary Adapter - Products aus einem Snapshot, Lagerbestand in einer Off-Heap-Tabelle.
+ *
+ * Stammdaten (Name, Preis, ...) kommen unverändert aus dem gemappten ProductSnapshot,
+ * der Bestand liegt in einer OffHeapStockTable. Die Ordinalzahl ist die Position im
+ * Snapshot (nach ID sortiert) - keine Map von ID auf Index nötig.
+ *
+ * loadById liefert jedes Mal ein neues Product mit aktuellem Bestand.
+ * save() übernimmt nur den Bestand - die übrigen Felder eines Products sind unveränderlich.
+ * Geschrieben wird per Compare-and-Set gegen den geladenen Bestand: hat tryReserve
+ * oder release die Zelle inzwischen geändert, gibt es eine StockConflictException,
+ * statt die Reservierung still zu überschreiben.
+ *
+ * PRAGMATISCH: Fester Katalog. Neue Products brauchen einen neuen Snapshot.
+ */
+public class OffHeapStockProductAdapter
+        implements LoadProductPort, SaveProductPort, LockProductPort, AtomicStockPort {
+
+    private final ProductSnapshot snapshot;
+    private final OffHeapStockTable stock;
+    private final StripedLocks locks = new StripedLocks();
+
+    public OffHeapStockProductAdapter(Path snapshotFile) {
+        this.snapshot = ProductSnapshot.open(snapshotFile);
+        this.stock = new OffHeapStockTable(snapshot.size());
+        for (int ordinal = 0; ordinal < snapshot.size(); ordinal++) {
+            stock.set(ordinal, snapshot.stockAt(ordinal));
+        }
+    }
+
+    @Override
+    public Optional<Product> loadById(ProductId productId) {
+        int ordinal = snapshot.indexOf(productId.value());
+        return ordinal < 0 ? Optional.empty() : Optional.of(productAt(ordinal));
+    }
+
+    @Override
+    public List<Product> loadAll() {
+        List<Product> products = new ArrayList<>(snapshot.size());
+        for (int ordinal = 0; ordinal < snapshot.size(); ordinal++) {
+            products.add(productAt(ordinal));
+        }
+        return products;
+    }
+
+    @Override
+    public Product save(Product product) {
+        int ordinal = ordinalOf(product.getId());
+        int expected = product.getSavedStockQuantity();
+        int updated = product.getStockQuantity();
+        if (expected != updated && !stock.compareAndSet(ordinal, expected, updated)) {
+            throw new StockConflictException(product.getId(), expected, stock.get(ordinal));
+        }
+        product.markStockSaved();
+        return product;
+    }
+
+    @Override
+    public boolean tryReserve(ProductId productId, int quantity) {
+        return stock.tryReserve(ordinalOf(productId), quantity);
+    }
+
+    @Override
+    public int release(ProductId productId, int quantity) {
+        return stock.release(ordinalOf(productId), quantity);
+    }
+
+    @Override
+    public int stockOf(ProductId productId) {
+        return stock.get(ordinalOf(productId));
+    }
+
+    @Override
+    public <T> T withLock(ProductId productId, Supplier<T> action) {
+        return locks.withLock(productId.value(), action);
+    }
+
+    @Override
+    public <T> T withLocks(Collection<ProductId> productIds, Supplier<T> action) {
+        return locks.withLocks(productIds.stream().map(ProductId::value).toList(), action);
+    }
+
+    private Product productAt(int ordinal) {
+        return snapshot.productAt(ordinal, stock.get(ordinal));
+    }
+
+    private int ordinalOf(ProductId productId) {
+        int ordinal = snapshot.indexOf(productId.value());
+        if (ordinal < 0) {
+            throw new ProductNotFoundException(productId);
+        }
+        return ordinal;
+    }
+}
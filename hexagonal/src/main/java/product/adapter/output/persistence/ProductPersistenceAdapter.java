@@ -1,22 +1,29 @@
 package product.adapter.output.persistence;
 
 import product.application.port.output.LoadProductPort;
+import product.application.port.output.LockProductPort;
 import product.application.port.output.SaveProductPort;
 import product.domain.model.*;
+import shared.collection.ConcurrentLongHashMap;
 
 import java.math.BigDecimal;
 import java.util.*;
+import java.util.function.Supplier;
 
 /**
  * Secondary Adapter - Persistenz für Products.
  *
  * Speichert Products IN-MEMORY (in echter App: JPA/DB).
  * Wichtig: Gibt dieselbe Instanz zurück, damit Domain-Änderungen erhalten bleiben!
+ *
+ * Thread-safe: ConcurrentLongHashMap für die Instanzen, Lock-Striping pro Produkt
+ * für Stock-Änderungen (siehe {@link LockProductPort}).
  */
-public class ProductPersistenceAdapter implements LoadProductPort, SaveProductPort {
+public class ProductPersistenceAdapter implements LoadProductPort, SaveProductPort, LockProductPort {
 
     // Speichert Domain-Objekte direkt (für Stock-Änderungen)
-    private final Map<Long, Product> database = new HashMap<>();
+    private final ConcurrentLongHashMap<Product> database = new ConcurrentLongHashMap<>();
+    private final StripedLocks locks = new StripedLocks();
 
     public ProductPersistenceAdapter() {
         seedData();
@@ -29,7 +36,7 @@ public class ProductPersistenceAdapter implements LoadProductPort, SaveProductPo
 
     @Override
     public List<Product> loadAll() {
-        return new ArrayList<>(database.values());
+        return database.values();
     }
 
     @Override
@@ -38,6 +45,16 @@ public class ProductPersistenceAdapter implements LoadProductPort, SaveProductPo
         return product;
     }
 
+    @Override
+    public <T> T withLock(ProductId productId, Supplier<T> action) {
+        return locks.withLock(productId.value(), action);
+    }
+
+    @Override
+    public <T> T withLocks(Collection<ProductId> productIds, Supplier<T> action) {
+        return locks.withLocks(productIds.stream().map(ProductId::value).toList(), action);
+    }
+
     private void seedData() {
         // Produkte MIT Lagerbestand!
         addProduct(1L, "Laptop Pro 15", "High-performance laptop", "Apple",
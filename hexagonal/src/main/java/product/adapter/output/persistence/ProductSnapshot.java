@@ -0,0 +1,222 @@
+package product.adapter.output.persistence;
+
+import product.domain.model.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Produktkatalog als Snapshot-Datei mit festem Layout, gelesen per Memory Mapping.
+ *
+ * [Header 32 Byte]  magic, version, Anzahl, Record-Größe, Offset + Länge des String-Heaps
+ * [Records 48 Byte] aufsteigend nach ID:
+ *                   id, Preis in Cent, Bestand, Flags, je Offset + Länge für
+ *                   Name, Hersteller, Beschreibung im String-Heap
+ * [String-Heap]     UTF-8, gleiche Strings nur einmal (z.B. Hersteller)
+ *
+ * Öffnen = mmap + Header prüfen, unabhängig von der Anzahl Produkte.
+ * Suche per Binärsuche über die sortierten IDs, Product-Objekte erst bei Zugriff.
+ *
+ * PRAGMATISCH: Ein MappedByteBuffer - die Datei muss kleiner als 2 GB sein
+ * (reicht für ~5 Mio. Produkte mit kurzen Texten). Darüber: mehrere Mappings.
+ */
+final class ProductSnapshot {
+
+    private static final int MAGIC = 0x50534E50;  // "PSNP"
+    private static final int VERSION = 1;
+    private static final int HEADER_BYTES = 32;
+    private static final int RECORD_BYTES = 48;
+    private static final int FLAG_AVAILABLE = 1;
+
+    private final ByteBuffer data;
+    private final int count;
+    private final int heapOffset;
+
+    private ProductSnapshot(ByteBuffer data, int count, int heapOffset) {
+        this.data = data;
+        this.count = count;
+        this.heapOffset = heapOffset;
+    }
+
+    static ProductSnapshot open(Path file) {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IllegalStateException("Product snapshot larger than 2 GB: " + file);
+            }
+            ByteBuffer data = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            if (size < HEADER_BYTES || data.getInt(0) != MAGIC) {
+                throw new IllegalStateException("Not a product snapshot: " + file);
+            }
+            if (data.getInt(4) != VERSION || data.getInt(12) != RECORD_BYTES) {
+                throw new IllegalStateException("Unsupported product snapshot version: " + file);
+            }
+            int count = data.getInt(8);
+            long heapOffset = data.getLong(16);
+            long heapBytes = data.getLong(24);
+            if (heapOffset != HEADER_BYTES + (long) count * RECORD_BYTES || heapOffset + heapBytes != size) {
+                throw new IllegalStateException("Truncated product snapshot: " + file);
+            }
+            return new ProductSnapshot(data, count, (int) heapOffset);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot open product snapshot " + file, e);
+        }
+    }
+
+    /**
+     * Schreibt die Produkte als Snapshot. Erst in eine temporäre Datei,
+     * dann umbenennen - ein Leser sieht nie eine halbe Datei.
+     */
+    static void write(Path file, Collection<Product> products) {
+        List<Product> sorted = products.stream()
+            .sorted(Comparator.comparing(product -> product.getId().value()))
+            .toList();
+
+        StringHeap heap = new StringHeap();
+        ByteBuffer records = ByteBuffer.allocate(sorted.size() * RECORD_BYTES);
+        long previousId = Long.MIN_VALUE;
+        for (Product product : sorted) {
+            long id = product.getId().value();
+            if (id == previousId) {
+                throw new IllegalArgumentException("Duplicate product id " + id);
+            }
+            previousId = id;
+            records.putLong(id);
+            records.putLong(product.getPrice().amount().unscaledValue().longValueExact());
+            records.putInt(product.getStockQuantity());
+            records.putInt(product.isAvailable() ? FLAG_AVAILABLE : 0);
+            heap.put(records, product.getName().value());
+            heap.put(records, product.getManufacturer());
+            heap.put(records, product.getDescription());
+        }
+
+        byte[] heapBytes = heap.toByteArray();
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES)
+            .putInt(MAGIC)
+            .putInt(VERSION)
+            .putInt(sorted.size())
+            .putInt(RECORD_BYTES)
+            .putLong(HEADER_BYTES + (long) records.capacity())
+            .putLong(heapBytes.length)
+            .flip();
+
+        try {
+            Path temp = Files.createTempFile(file.toAbsolutePath().getParent(), file.getFileName().toString(), ".tmp");
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                for (ByteBuffer buffer : new ByteBuffer[]{header, records.flip(), ByteBuffer.wrap(heapBytes)}) {
+                    while (buffer.hasRemaining()) {
+                        channel.write(buffer);
+                    }
+                }
+                channel.force(true);
+            }
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot write product snapshot " + file, e);
+        }
+    }
+
+    int size() {
+        return count;
+    }
+
+    long idAt(int index) {
+        return data.getLong(recordOffset(index));
+    }
+
+    /**
+     * Binärsuche über die IDs. Liefert -1 wenn nicht enthalten.
+     * Bei lückenlosen IDs trifft schon der erste Versuch (ID - erste ID).
+     */
+    int indexOf(long productId) {
+        if (count == 0) {
+            return -1;
+        }
+        long dense = productId - idAt(0);
+        if (dense >= 0 && dense < count && idAt((int) dense) == productId) {
+            return (int) dense;
+        }
+        int low = 0;
+        int high = count - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            long id = idAt(mid);
+            if (id < productId) {
+                low = mid + 1;
+            } else if (id > productId) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -1;
+    }
+
+    int stockAt(int index) {
+        return data.getInt(recordOffset(index) + 16);
+    }
+
+    Product productAt(int index) {
+        return productAt(index, stockAt(index));
+    }
+
+    // Mit Bestand von außen, z.B. aus der OffHeapStockTable
+    Product productAt(int index, int stockQuantity) {
+        int offset = recordOffset(index);
+        return Product.reconstitute(
+            ProductId.of(data.getLong(offset)),
+            ProductName.of(string(offset + 24)),
+            string(offset + 40),
+            string(offset + 32),
+            Price.of(BigDecimal.valueOf(data.getLong(offset + 8), 2)),
+            (data.getInt(offset + 20) & FLAG_AVAILABLE) != 0,
+            stockQuantity
+        );
+    }
+
+    private int recordOffset(int index) {
+        return HEADER_BYTES + index * RECORD_BYTES;
+    }
+
+    // Offset + Länge an position, Bytes im Heap
+    private String string(int position) {
+        byte[] bytes = new byte[data.getInt(position + 4)];
+        data.get(heapOffset + data.getInt(position), bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static final class StringHeap {
+
+        private final Map<String, Integer> offsets = new HashMap<>();
+        private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+        void put(ByteBuffer record, String value) {
+            byte[] encoded = value.getBytes(StandardCharsets.UTF_8);
+            Integer offset = offsets.get(value);
+            if (offset == null) {
+                offset = bytes.size();
+                bytes.writeBytes(encoded);
+                offsets.put(value, offset);
+            }
+            record.putInt(offset).putInt(encoded.length);
+        }
+
+        byte[] toByteArray() {
+            return bytes.toByteArray();
+        }
+    }
+}
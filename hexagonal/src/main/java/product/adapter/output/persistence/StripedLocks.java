@@ -0,0 +1,90 @@
+package product.adapter.output.persistence;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Lock-Striping für Produkt-IDs.
+ *
+ * Feste Anzahl von Locks, jede Produkt-ID wird über ihren Hash auf einen
+ * Stripe abgebildet. Verschiedene Produkte landen (fast immer) auf
+ * verschiedenen Stripes und skalieren damit über alle Kerne,
+ * dasselbe Produkt landet immer auf demselben Stripe.
+ */
+final class StripedLocks {
+
+    private static final int STRIPES_PER_CORE = 16;
+
+    private final ReentrantLock[] locks;
+    private final int shift;
+
+    StripedLocks(int minimumStripes) {
+        int stripes = Integer.highestOneBit(Math.max(2, minimumStripes - 1)) << 1;
+        this.locks = new ReentrantLock[stripes];
+        for (int i = 0; i < stripes; i++) {
+            locks[i] = new ReentrantLock();
+        }
+        this.shift = Long.SIZE - Integer.numberOfTrailingZeros(stripes);
+    }
+
+    // Convenience Constructor: Stripe-Anzahl abhängig von der Kernanzahl
+    StripedLocks() {
+        this(Runtime.getRuntime().availableProcessors() * STRIPES_PER_CORE);
+    }
+
+    ReentrantLock lockFor(long productId) {
+        return locks[indexOf(productId)];
+    }
+
+    /**
+     * Locks für mehrere Produkt-IDs, aufsteigend nach Stripe-Index sortiert
+     * und ohne Duplikate. Holen in dieser Reihenfolge ist deadlock-frei,
+     * auch wenn mehrere Produkte auf denselben Stripe fallen.
+     */
+    ReentrantLock[] orderedLocksFor(Collection<Long> productIds) {
+        int[] indexes = productIds.stream()
+            .mapToInt(this::indexOf)
+            .distinct()
+            .sorted()
+            .toArray();
+        return Arrays.stream(indexes)
+            .mapToObj(index -> locks[index])
+            .toArray(ReentrantLock[]::new);
+    }
+
+    <T> T withLock(long productId, Supplier<T> action) {
+        ReentrantLock lock = lockFor(productId);
+        lock.lock();
+        try {
+            return action.get();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    <T> T withLocks(Collection<Long> productIds, Supplier<T> action) {
+        ReentrantLock[] ordered = orderedLocksFor(productIds);
+        int acquired = 0;
+        try {
+            for (ReentrantLock lock : ordered) {
+                lock.lock();
+                acquired++;
+            }
+            return action.get();
+        } finally {
+            // Freigabe in umgekehrter Reihenfolge
+            for (int i = acquired - 1; i >= 0; i--) {
+                ordered[i].unlock();
+            }
+        }
+    }
+
+    /**
+     * Fibonacci-Hashing: fortlaufende IDs werden gleichmäßig verteilt.
+     */
+    int indexOf(long productId) {
+        return (int) ((productId * 0x9E3779B97F4A7C15L) >>> shift);
+    }
+}
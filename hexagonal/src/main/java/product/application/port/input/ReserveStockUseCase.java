@@ -2,6 +2,9 @@ package product.application.port.input;
 
 import product.domain.model.ProductId;
 
+import java.util.List;
+import java.util.Objects;
+
 /**
  * Input Port - Stock-Reservierung.
  *
@@ -17,8 +20,33 @@ public interface ReserveStockUseCase {
      */
     void reserveStock(ProductId productId, int quantity);
 
+    /**
+     * Reserviert Lagerbestand für mehrere Produkte - alles oder nichts.
+     *
+     * Reicht der Bestand für eine Position nicht, bleibt der Bestand
+     * aller Produkte unverändert.
+     *
+     * @throws product.domain.exception.InsufficientStockException wenn nicht genug Bestand
+     */
+    void reserveAll(List<StockReservation> reservations);
+
     /**
      * Gibt reservierten Bestand zurück.
      */
     void releaseStock(ProductId productId, int quantity);
+
+    /**
+     * Eine Position einer Sammel-Reservierung.
+     */
+    record StockReservation(
+        ProductId productId,
+        int quantity
+    ) {
+        public StockReservation {
+            Objects.requireNonNull(productId, "productId cannot be null");
+            if (quantity <= 0) {
+                throw new IllegalArgumentException("quantity must be positive");
+            }
+        }
+    }
 }
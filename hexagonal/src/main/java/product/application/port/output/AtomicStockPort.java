@@ -0,0 +1,26 @@
+package product.application.port.output;
+
+import product.domain.model.ProductId;
+
+/**
+ * Output Port - Lagerbestand atomar ändern, ohne Lock und ohne Product-Objekt.
+ *
+ * Für Stores, die den Bestand getrennt vom Product halten (z.B. Off-Heap-Tabelle).
+ * Prüfen und Abbuchen sind eine atomare Operation - kein Überverkauf.
+ */
+public interface AtomicStockPort {
+
+    /**
+     * Bucht quantity ab, wenn genug Bestand da ist.
+     *
+     * @return false wenn nicht genug Bestand - dann bleibt der Bestand unverändert
+     */
+    boolean tryReserve(ProductId productId, int quantity);
+
+    /**
+     * Bucht quantity zurück, liefert den neuen Bestand.
+     */
+    int release(ProductId productId, int quantity);
+
+    int stockOf(ProductId productId);
+}
@@ -0,0 +1,26 @@
+package product.application.port.output;
+
+import product.domain.model.ProductId;
+
+import java.util.Collection;
+import java.util.function.Supplier;
+
+/**
+ * Output Port - Produkt für Lese-Änderungs-Schreib-Zyklen sperren.
+ *
+ * Garantiert, dass load → Domain-Logik → save für dasselbe Produkt
+ * nicht verschränkt läuft (kein Überverkauf bei parallelen Bestätigungen).
+ * Aktionen auf verschiedene Produkte dürfen parallel laufen.
+ */
+public interface LockProductPort {
+
+    <T> T withLock(ProductId productId, Supplier<T> action);
+
+    /**
+     * Sperrt mehrere Produkte gleichzeitig.
+     *
+     * Die Locks werden in einer deterministischen Reihenfolge geholt,
+     * damit sich parallele Mehrfach-Sperren nicht gegenseitig blockieren (kein Deadlock).
+     */
+    <T> T withLocks(Collection<ProductId> productIds, Supplier<T> action);
+}
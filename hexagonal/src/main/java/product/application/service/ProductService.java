@@ -4,28 +4,54 @@ import product.application.dto.ProductResponse;
 import product.application.mapper.ProductMapper;
 import product.application.port.input.GetProductUseCase;
 import product.application.port.input.ReserveStockUseCase;
+import product.application.port.output.AtomicStockPort;
 import product.application.port.output.LoadProductPort;
+import product.application.port.output.LockProductPort;
 import product.application.port.output.SaveProductPort;
+import product.domain.exception.InsufficientStockException;
 import product.domain.exception.ProductNotFoundException;
 import product.domain.model.Product;
 import product.domain.model.ProductId;
+import shared.log.EventLog;
+import shared.log.EventLogger;
 
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
 
 /**
  * Application Service - orchestriert Product Use Cases.
  *
  * Exponiert Stock-Operationen für andere Module (z.B. Order).
+ * Stock-Änderungen laufen unter dem Produkt-Lock, damit parallele
+ * Reservierungen desselben Produkts nicht überverkaufen.
+ *
+ * Mit AtomicStockPort: Reservierungen ohne Lock und ohne Product-Objekt,
+ * die Prüfung "genug Bestand" macht der Store atomar.
  */
 public class ProductService implements GetProductUseCase, ReserveStockUseCase {
 
+    private static final EventLogger LOG = EventLog.logger("PRODUCT");
+
     private final LoadProductPort loadProductPort;
     private final SaveProductPort saveProductPort;
+    private final LockProductPort lockProductPort;
+    private final AtomicStockPort atomicStockPort;  // null: Lock-Pfad
     private final ProductMapper mapper;
 
-    public ProductService(LoadProductPort loadProductPort, SaveProductPort saveProductPort) {
+    public ProductService(LoadProductPort loadProductPort, SaveProductPort saveProductPort,
+                          LockProductPort lockProductPort) {
+        this(loadProductPort, saveProductPort, lockProductPort, null);
+    }
+
+    public ProductService(LoadProductPort loadProductPort, SaveProductPort saveProductPort,
+                          LockProductPort lockProductPort, AtomicStockPort atomicStockPort) {
         this.loadProductPort = loadProductPort;
         this.saveProductPort = saveProductPort;
+        this.lockProductPort = lockProductPort;
+        this.atomicStockPort = atomicStockPort;
         this.mapper = new ProductMapper();
     }
 
@@ -46,22 +72,120 @@ public class ProductService implements GetProductUseCase, ReserveStockUseCase {
 
     @Override
     public void reserveStock(ProductId productId, int quantity) {
-        Product product = loadProductPort.loadById(productId)
-            .orElseThrow(() -> new ProductNotFoundException(productId));
+        if (atomicStockPort != null) {
+            reserveAtomically(productId, quantity);
+            return;
+        }
+        lockProductPort.withLock(productId, () -> {
+            Product product = loadProduct(productId);
+
+            // Domain-Logik aufrufen (wirft InsufficientStockException wenn nötig)
+            product.reserveStock(quantity);
+
+            return saveProductPort.save(product);
+        });
+    }
+
+    /**
+     * Sammel-Reservierung: alle Produkte gesperrt, erst prüfen, dann reservieren.
+     *
+     * Mehrfach genannte Produkte werden zusammengefasst. Schlägt das Reservieren
+     * trotzdem fehl (z.B. beim Speichern), werden bereits reservierte Mengen
+     * wieder freigegeben - es bleibt kein Bestand hängen.
+     */
+    @Override
+    public void reserveAll(List<StockReservation> reservations) {
+        Map<ProductId, Integer> quantities = new TreeMap<>(Comparator.comparing(ProductId::value));
+        for (StockReservation reservation : reservations) {
+            quantities.merge(reservation.productId(), reservation.quantity(), Math::addExact);
+        }
+
+        if (atomicStockPort != null) {
+            reserveAllAtomically(quantities);
+            return;
+        }
 
-        // Domain-Logik aufrufen (wirft InsufficientStockException wenn nötig)
-        product.reserveStock(quantity);
+        lockProductPort.withLocks(quantities.keySet(), () -> {
+            // 1. Prüfen - noch nichts verändert
+            List<Product> products = new ArrayList<>(quantities.size());
+            for (Map.Entry<ProductId, Integer> entry : quantities.entrySet()) {
+                Product product = loadProduct(entry.getKey());
+                if (!product.hasEnoughStock(entry.getValue())) {
+                    throw new InsufficientStockException(
+                        entry.getKey(), entry.getValue(), product.getStockQuantity());
+                }
+                products.add(product);
+            }
 
-        saveProductPort.save(product);
+            // 2. Reservieren - bei Fehler zurückrollen
+            List<Product> reserved = new ArrayList<>(products.size());
+            try {
+                for (Product product : products) {
+                    product.reserveStock(quantities.get(product.getId()));
+                    reserved.add(product);
+                    saveProductPort.save(product);
+                }
+            } catch (RuntimeException e) {
+                for (Product product : reserved) {
+                    product.releaseStock(quantities.get(product.getId()));
+                    saveProductPort.save(product);
+                }
+                throw e;
+            }
+            return null;
+        });
     }
 
     @Override
     public void releaseStock(ProductId productId, int quantity) {
-        Product product = loadProductPort.loadById(productId)
-            .orElseThrow(() -> new ProductNotFoundException(productId));
+        if (atomicStockPort != null) {
+            int now = atomicStockPort.release(productId, quantity);
+
+            // PSEUDO-CODE: publish(new StockReleasedEvent(...))
+            LOG.info("Stock released: {}, qty: {}, now: {}", productId.value(), quantity, now);
+            return;
+        }
+        lockProductPort.withLock(productId, () -> {
+            Product product = loadProduct(productId);
+
+            product.releaseStock(quantity);
+
+            return saveProductPort.save(product);
+        });
+    }
 
-        product.releaseStock(quantity);
+    // Gleiche Geschäftsregel wie Product.reserveStock, atomar im Store geprüft
+    private void reserveAtomically(ProductId productId, int quantity) {
+        if (!atomicStockPort.tryReserve(productId, quantity)) {
+            throw new InsufficientStockException(productId, quantity, atomicStockPort.stockOf(productId));
+        }
 
-        saveProductPort.save(product);
+        // PSEUDO-CODE: publish(new StockReservedEvent(...))
+        LOG.info("Stock reserved: {}, qty: {}", productId.value(), quantity);
+    }
+
+    /**
+     * Ohne Locks: der Reihe nach reservieren, bei Fehlschlag bereits Reserviertes
+     * zurückbuchen. Das Ergebnis ist alles oder nichts, parallele Reservierungen
+     * können den Zwischenstand aber kurz sehen.
+     */
+    private void reserveAllAtomically(Map<ProductId, Integer> quantities) {
+        List<Map.Entry<ProductId, Integer>> reserved = new ArrayList<>(quantities.size());
+        try {
+            for (Map.Entry<ProductId, Integer> entry : quantities.entrySet()) {
+                reserveAtomically(entry.getKey(), entry.getValue());
+                reserved.add(entry);
+            }
+        } catch (RuntimeException e) {
+            for (Map.Entry<ProductId, Integer> entry : reserved) {
+                atomicStockPort.release(entry.getKey(), entry.getValue());
+            }
+            throw e;
+        }
+    }
+
+    private Product loadProduct(ProductId productId) {
+        return loadProductPort.loadById(productId)
+            .orElseThrow(() -> new ProductNotFoundException(productId));
     }
 }
@@ -0,0 +1,29 @@
+package product.domain.exception;
+
+import product.domain.model.ProductId;
+
+/**
+ * Der Bestand wurde seit dem Laden von jemand anderem geändert
+ * (z.B. eine atomare Reservierung zwischen Laden und Speichern).
+ *
+ * Nichts wurde geschrieben. Wiederholbar: Product neu laden, Änderung erneut
+ * anwenden, erneut speichern.
+ */
+public class StockConflictException extends IllegalStateException {
+
+    private final ProductId productId;
+    private final int expectedStock;
+    private final int actualStock;
+
+    public StockConflictException(ProductId productId, int expectedStock, int actualStock) {
+        super("Stock of product " + productId.value() + " was modified concurrently (expected "
+            + expectedStock + ", current " + actualStock + ")");
+        this.productId = productId;
+        this.expectedStock = expectedStock;
+        this.actualStock = actualStock;
+    }
+
+    public ProductId getProductId() { return productId; }
+    public int getExpectedStock() { return expectedStock; }
+    public int getActualStock() { return actualStock; }
+}
@@ -1,6 +1,8 @@
 package product.domain.model;
 
 import product.domain.exception.InsufficientStockException;
+import shared.log.EventLog;
+import shared.log.EventLogger;
 
 import java.util.Objects;
 
@@ -11,6 +13,8 @@ import java.util.Objects;
  */
 public class Product {
 
+    private static final EventLogger LOG = EventLog.logger("PRODUCT DOMAIN");
+
     private final ProductId id;
     private final ProductName name;
     private final String description;
@@ -18,6 +22,8 @@ public class Product {
     private final Price price;
     private final boolean available;
     private int stockQuantity;  // Mutable: Lagerbestand ändert sich
+    // Bestand beim Laden bzw. letzten Speichern - Erwartungswert für Compare-and-Set im Adapter
+    private int savedStockQuantity;
 
     private Product(ProductId id, ProductName name, String description, String manufacturer,
                     Price price, boolean available, int stockQuantity) {
@@ -28,6 +34,7 @@ public class Product {
         this.price = Objects.requireNonNull(price, "Product price cannot be null");
         this.available = available;
         this.stockQuantity = stockQuantity;
+        this.savedStockQuantity = stockQuantity;
     }
 
     // Factory Method für neue Produkte
@@ -69,8 +76,7 @@ public class Product {
 
         // PSEUDO-CODE: Repräsentiert Domain Event / Action die in Produktion
         // über einen EventPublisher publiziert würde: publish(new StockReservedEvent(...))
-        System.out.printf("[PRODUCT DOMAIN] Stock reserved: %s, qty: %d, remaining: %d%n",
-            name.value(), quantity, stockQuantity);
+        LOG.info("Stock reserved: {}, qty: {}, remaining: {}", name.value(), quantity, stockQuantity);
     }
 
     /**
@@ -81,8 +87,7 @@ public class Product {
 
         // PSEUDO-CODE: Repräsentiert Domain Event / Action die in Produktion
         // über einen EventPublisher publiziert würde: publish(new StockReleasedEvent(...))
-        System.out.printf("[PRODUCT DOMAIN] Stock released: %s, qty: %d, now: %d%n",
-            name.value(), quantity, stockQuantity);
+        LOG.info("Stock released: {}, qty: {}, now: {}", name.value(), quantity, stockQuantity);
     }
 
     // Getters
@@ -114,6 +119,15 @@ public class Product {
         return stockQuantity;
     }
 
+    public int getSavedStockQuantity() {
+        return savedStockQuantity;
+    }
+
+    // Für Persistenz-Adapter: der aktuelle Bestand ist gespeichert
+    public void markStockSaved() {
+        this.savedStockQuantity = stockQuantity;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
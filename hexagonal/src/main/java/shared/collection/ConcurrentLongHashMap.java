@@ -0,0 +1,187 @@
+package shared.collection;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Consumer;
+import java.util.function.LongFunction;
+import java.util.function.UnaryOperator;
+
+/**
+ * Thread-safe Variante der LongHashMap.
+ *
+ * Aufgeteilt in Segmente (obere Hash-Bits), jedes mit eigenem StampedLock.
+ * Lesen meist ohne Lock (optimistisch, danach validieren), Schreiben sperrt
+ * nur das eine Segment.
+ *
+ * Die Funktionen von computeIfAbsent/compute laufen unter dem Segment-Lock
+ * und dürfen die Map nicht selbst verwenden.
+ */
+public class ConcurrentLongHashMap<V> {
+
+    private static final int SEGMENTS_PER_CORE = 4;
+
+    private final Segment<V>[] segments;
+    private final int shift;
+
+    @SuppressWarnings("unchecked")
+    public ConcurrentLongHashMap(int expectedSize, int minimumSegments) {
+        int count = Integer.highestOneBit(Math.max(2, minimumSegments - 1)) << 1;
+        this.segments = (Segment<V>[]) new Segment<?>[count];
+        for (int i = 0; i < count; i++) {
+            segments[i] = new Segment<>(Math.max(1, expectedSize / count));
+        }
+        this.shift = Long.SIZE - Integer.numberOfTrailingZeros(count);
+    }
+
+    public ConcurrentLongHashMap(int expectedSize) {
+        this(expectedSize, Runtime.getRuntime().availableProcessors() * SEGMENTS_PER_CORE);
+    }
+
+    public ConcurrentLongHashMap() {
+        this(16);
+    }
+
+    public V get(long key) {
+        Segment<V> segment = segmentFor(key);
+        long stamp = segment.lock.tryOptimisticRead();
+        V value = segment.map.getOptimistic(key);
+        if (segment.lock.validate(stamp)) {
+            return value;
+        }
+        stamp = segment.lock.readLock();
+        try {
+            return segment.map.get(key);
+        } finally {
+            segment.lock.unlockRead(stamp);
+        }
+    }
+
+    public boolean containsKey(long key) {
+        return get(key) != null;
+    }
+
+    public V put(long key, V value) {
+        Segment<V> segment = segmentFor(key);
+        long stamp = segment.lock.writeLock();
+        try {
+            return segment.map.put(key, value);
+        } finally {
+            segment.lock.unlockWrite(stamp);
+        }
+    }
+
+    public V putIfAbsent(long key, V value) {
+        Segment<V> segment = segmentFor(key);
+        long stamp = segment.lock.writeLock();
+        try {
+            return segment.map.putIfAbsent(key, value);
+        } finally {
+            segment.lock.unlockWrite(stamp);
+        }
+    }
+
+    public V computeIfAbsent(long key, LongFunction<? extends V> mappingFunction) {
+        V current = get(key);
+        if (current != null) {
+            return current;
+        }
+        Segment<V> segment = segmentFor(key);
+        long stamp = segment.lock.writeLock();
+        try {
+            return segment.map.computeIfAbsent(key, mappingFunction);
+        } finally {
+            segment.lock.unlockWrite(stamp);
+        }
+    }
+
+    public V compute(long key, UnaryOperator<V> remappingFunction) {
+        Segment<V> segment = segmentFor(key);
+        long stamp = segment.lock.writeLock();
+        try {
+            return segment.map.compute(key, remappingFunction);
+        } finally {
+            segment.lock.unlockWrite(stamp);
+        }
+    }
+
+    public V remove(long key) {
+        Segment<V> segment = segmentFor(key);
+        long stamp = segment.lock.writeLock();
+        try {
+            return segment.map.remove(key);
+        } finally {
+            segment.lock.unlockWrite(stamp);
+        }
+    }
+
+    public boolean remove(long key, V expected) {
+        Segment<V> segment = segmentFor(key);
+        long stamp = segment.lock.writeLock();
+        try {
+            return segment.map.remove(key, expected);
+        } finally {
+            segment.lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Summe über alle Segmente - bei gleichzeitigen Änderungen nur eine Momentaufnahme.
+     */
+    public int size() {
+        int size = 0;
+        for (Segment<V> segment : segments) {
+            long stamp = segment.lock.readLock();
+            try {
+                size += segment.map.size();
+            } finally {
+                segment.lock.unlockRead(stamp);
+            }
+        }
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * Segment für Segment, jeweils unter Lese-Lock.
+     */
+    public void forEach(LongHashMap.EntryConsumer<? super V> action) {
+        for (Segment<V> segment : segments) {
+            long stamp = segment.lock.readLock();
+            try {
+                segment.map.forEach(action);
+            } finally {
+                segment.lock.unlockRead(stamp);
+            }
+        }
+    }
+
+    public void forEachValue(Consumer<? super V> action) {
+        forEach((key, value) -> action.accept(value));
+    }
+
+    /**
+     * Kopie aller Werte.
+     */
+    public List<V> values() {
+        List<V> result = new ArrayList<>();
+        forEachValue(result::add);
+        return result;
+    }
+
+    private Segment<V> segmentFor(long key) {
+        return segments[(int) (LongHashMap.mix(key) >>> shift)];
+    }
+
+    private static final class Segment<V> {
+        final StampedLock lock = new StampedLock();
+        final LongHashMap<V> map;
+
+        Segment(int expectedSize) {
+            this.map = new LongHashMap<>(expectedSize);
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package shared.collection;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.stream.Stream;
+
+/**
+ * Zeitlich partitionierter Speicher: eine Partition pro Kalendertag,
+ * innerhalb eines Tages sortiert nach Zeitstempel (bei Gleichstand nach ID).
+ *
+ * - findBetween: nur die betroffenen Tage, dort Bereichssuche - O(log n) bis
+ *   zum ersten Treffer statt Scan über alles. Lazy, in Zeitreihenfolge.
+ * - dropBefore: Retention wirft ganze Tage weg - O(Tage), nicht O(Einträge).
+ *
+ * Thread-safe über ConcurrentSkipListMap. Streams sind schwach konsistent:
+ * parallele Einfügungen sind eventuell schon sichtbar, nie eine
+ * ConcurrentModificationException.
+ *
+ * Tage werden aus LocalDateTime gebildet - Zeitzone ist Sache des Aufrufers.
+ */
+public class DayPartitionedStore<V> {
+
+    private final ConcurrentSkipListMap<LocalDate, ConcurrentSkipListMap<Key, V>> partitions =
+        new ConcurrentSkipListMap<>();
+
+    /**
+     * Ein Eintrag in einen bereits verworfenen Tag (parallel zu dropBefore)
+     * kann verloren gehen - er läge ohnehin außerhalb der Retention.
+     */
+    public void put(LocalDateTime timestamp, long id, V value) {
+        partitions.computeIfAbsent(timestamp.toLocalDate(), day -> new ConcurrentSkipListMap<>())
+            .put(new Key(timestamp, id), value);
+    }
+
+    /**
+     * Alle Einträge mit from <= Zeitstempel < to, aufsteigend sortiert.
+     */
+    public Stream<V> findBetween(LocalDateTime from, LocalDateTime to) {
+        if (!from.isBefore(to)) {
+            return Stream.empty();
+        }
+        Key lower = new Key(from, Long.MIN_VALUE);
+        Key upper = new Key(to, Long.MIN_VALUE);
+        return partitions.subMap(from.toLocalDate(), true, to.toLocalDate(), true).values().stream()
+            .flatMap(partition -> partition.subMap(lower, true, upper, false).values().stream());
+    }
+
+    /**
+     * Verwirft alle Tage vor day.
+     *
+     * @return Anzahl verworfener Tage
+     */
+    public int dropBefore(LocalDate day) {
+        int dropped = 0;
+        for (LocalDate expired : partitions.headMap(day).keySet()) {
+            if (partitions.remove(expired) != null) {
+                dropped++;
+            }
+        }
+        return dropped;
+    }
+
+    public int partitionCount() {
+        return partitions.size();
+    }
+
+    // O(Einträge) - nur für Diagnose
+    public long size() {
+        return partitions.values().stream().mapToLong(ConcurrentSkipListMap::size).sum();
+    }
+
+    private record Key(LocalDateTime timestamp, long id) implements Comparable<Key> {
+
+        @Override
+        public int compareTo(Key other) {
+            int byTime = timestamp.compareTo(other.timestamp);
+            return byTime != 0 ? byTime : Long.compare(id, other.id);
+        }
+    }
+}
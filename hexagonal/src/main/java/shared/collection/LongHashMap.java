@@ -0,0 +1,292 @@
+package shared.collection;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.LongFunction;
+import java.util.function.UnaryOperator;
+
+/**
+ * Map von long auf V mit offener Adressierung (lineares Sondieren).
+ *
+ * Schlüssel liegen in einem long[] statt als Long-Objekte: kein Boxing,
+ * keine Entry-Objekte pro Eintrag. Ein leerer Slot hat value == null,
+ * deshalb sind null-Werte nicht erlaubt.
+ * Löschen per Backward Shift - keine Grabsteine, Suchketten bleiben kurz.
+ *
+ * Nicht thread-safe, für gleichzeitigen Zugriff: ConcurrentLongHashMap.
+ */
+public class LongHashMap<V> {
+
+    private static final float LOAD_FACTOR = 0.6f;
+    private static final int MIN_CAPACITY = 8;
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    private long[] keys;
+    private Object[] values;
+    private int mask;
+    private int size;
+    private int resizeAt;
+
+    public LongHashMap() {
+        this(MIN_CAPACITY);
+    }
+
+    public LongHashMap(int expectedSize) {
+        allocate(capacityFor(expectedSize));
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public V get(long key) {
+        int index = indexOf(key);
+        return index < 0 ? null : valueAt(index);
+    }
+
+    public boolean containsKey(long key) {
+        return indexOf(key) >= 0;
+    }
+
+    /**
+     * @return der vorherige Wert oder null
+     */
+    public V put(long key, V value) {
+        requireValue(value);
+        int index = slot(key);
+        while (values[index] != null) {
+            if (keys[index] == key) {
+                V previous = valueAt(index);
+                values[index] = value;
+                return previous;
+            }
+            index = (index + 1) & mask;
+        }
+        insertAt(index, key, value);
+        return null;
+    }
+
+    public V putIfAbsent(long key, V value) {
+        V current = get(key);
+        if (current != null) {
+            return current;
+        }
+        put(key, value);
+        return null;
+    }
+
+    public V computeIfAbsent(long key, LongFunction<? extends V> mappingFunction) {
+        V current = get(key);
+        if (current != null) {
+            return current;
+        }
+        V created = mappingFunction.apply(key);
+        if (created != null) {
+            put(key, created);
+        }
+        return created;
+    }
+
+    /**
+     * Neuer Wert aus dem aktuellen (null wenn nicht vorhanden). Liefert die Funktion null,
+     * wird der Eintrag entfernt.
+     */
+    public V compute(long key, UnaryOperator<V> remappingFunction) {
+        V updated = remappingFunction.apply(get(key));
+        if (updated == null) {
+            remove(key);
+        } else {
+            put(key, updated);
+        }
+        return updated;
+    }
+
+    public V remove(long key) {
+        int index = indexOf(key);
+        if (index < 0) {
+            return null;
+        }
+        V removed = valueAt(index);
+        removeAt(index);
+        return removed;
+    }
+
+    public boolean remove(long key, V expected) {
+        int index = indexOf(key);
+        if (index < 0 || !values[index].equals(expected)) {
+            return false;
+        }
+        removeAt(index);
+        return true;
+    }
+
+    public void clear() {
+        allocate(MIN_CAPACITY);
+    }
+
+    public void forEach(EntryConsumer<? super V> action) {
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] != null) {
+                action.accept(keys[i], valueAt(i));
+            }
+        }
+    }
+
+    public void forEachValue(Consumer<? super V> action) {
+        for (Object value : values) {
+            if (value != null) {
+                action.accept(cast(value));
+            }
+        }
+    }
+
+    /**
+     * Kopie aller Werte.
+     */
+    public List<V> values() {
+        List<V> result = new ArrayList<>(size);
+        forEachValue(result::add);
+        return result;
+    }
+
+    /**
+     * Lesen ohne Lock für ConcurrentLongHashMap: Bei gleichzeitiger Änderung kann das
+     * Ergebnis falsch sein (der Aufrufer validiert danach), aber die Methode wirft nie
+     * und terminiert immer.
+     */
+    V getOptimistic(long key) {
+        long[] currentKeys = keys;
+        Object[] currentValues = values;
+        int length = Math.min(currentKeys.length, currentValues.length);
+        int currentMask = length - 1;
+        int index = (int) mix(key) & currentMask;
+        for (int probes = 0; probes < length; probes++) {
+            Object value = currentValues[index];
+            if (value == null) {
+                return null;
+            }
+            if (currentKeys[index] == key) {
+                return cast(value);
+            }
+            index = (index + 1) & currentMask;
+        }
+        return null;
+    }
+
+    /**
+     * Fibonacci-Hashing, die oberen Bits in die unteren gefaltet:
+     * fortlaufende IDs verteilen sich gleichmäßig über die Slots.
+     */
+    static long mix(long key) {
+        long hash = key * 0x9E3779B97F4A7C15L;
+        return hash ^ (hash >>> 32);
+    }
+
+    private int slot(long key) {
+        return (int) mix(key) & mask;
+    }
+
+    private int indexOf(long key) {
+        int index = slot(key);
+        while (values[index] != null) {
+            if (keys[index] == key) {
+                return index;
+            }
+            index = (index + 1) & mask;
+        }
+        return -1;
+    }
+
+    private void insertAt(int index, long key, V value) {
+        keys[index] = key;
+        values[index] = value;
+        if (++size > resizeAt) {
+            rehash(keys.length << 1);
+        }
+    }
+
+    /**
+     * Backward Shift: Nachfolger der Suchkette rücken in die Lücke,
+     * wenn ihr Heimat-Slot nicht zwischen Lücke und aktueller Position liegt.
+     */
+    private void removeAt(int index) {
+        int gap = index;
+        int current = index;
+        while (true) {
+            current = (current + 1) & mask;
+            if (values[current] == null) {
+                break;
+            }
+            int home = slot(keys[current]);
+            if (((current - home) & mask) >= ((current - gap) & mask)) {
+                keys[gap] = keys[current];
+                values[gap] = values[current];
+                gap = current;
+            }
+        }
+        keys[gap] = 0;
+        values[gap] = null;
+        size--;
+    }
+
+    private void rehash(int capacity) {
+        if (capacity > MAX_CAPACITY) {
+            throw new IllegalStateException("LongHashMap capacity exceeded");
+        }
+        long[] oldKeys = keys;
+        Object[] oldValues = values;
+        allocate(capacity);
+        for (int i = 0; i < oldValues.length; i++) {
+            if (oldValues[i] != null) {
+                int index = slot(oldKeys[i]);
+                while (values[index] != null) {
+                    index = (index + 1) & mask;
+                }
+                keys[index] = oldKeys[i];
+                values[index] = oldValues[i];
+                size++;
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new Object[capacity];
+        mask = capacity - 1;
+        size = 0;
+        resizeAt = (int) (capacity * LOAD_FACTOR);
+    }
+
+    private static int capacityFor(int expectedSize) {
+        long needed = (long) Math.ceil(Math.max(expectedSize, 1) / LOAD_FACTOR) + 1;
+        if (needed > MAX_CAPACITY) {
+            throw new IllegalArgumentException("Expected size too large: " + expectedSize);
+        }
+        return Math.max(MIN_CAPACITY, Integer.highestOneBit((int) needed - 1) << 1);
+    }
+
+    private V valueAt(int index) {
+        return cast(values[index]);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <V> V cast(Object value) {
+        return (V) value;
+    }
+
+    private static void requireValue(Object value) {
+        if (value == null) {
+            throw new NullPointerException("LongHashMap does not support null values");
+        }
+    }
+
+    @FunctionalInterface
+    public interface EntryConsumer<V> {
+        void accept(long key, V value);
+    }
+}
@@ -0,0 +1,236 @@
+package shared.http;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.reflect.Method;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.ToIntFunction;
+
+/**
+ * Eingebetteter HTTP-Server vor den Controllern (JDK com.sun.net.httpserver).
+ *
+ * - Ein Kontext "/", geroutet über eine kleine Tabelle: Methode + Pfad-Template
+ *   mit höchstens einem numerischen Platzhalter, z.B. "/orders/{id}/confirm".
+ *   Kein Regex, keine Substrings - die ID wird direkt aus dem Pfad gelesen.
+ * - Keep-Alive: jede Antwort mit fester Content-Length, die Verbindung bleibt offen.
+ * - Exceptions der Handler bildet errorStatus auf einen HTTP-Status ab.
+ */
+public final class HttpServerAdapter implements AutoCloseable {
+
+    /**
+     * Handler einer Route. id ist der Platzhalter aus dem Pfad, -1 wenn die Route keinen hat.
+     * Die Antwort wird als letzter Schritt geschrieben.
+     */
+    @FunctionalInterface
+    public interface Handler {
+        void handle(HttpExchange exchange, long id) throws IOException;
+    }
+
+    private static final int BACKLOG = 1024;
+    private static final int POOL_THREADS = 200;
+    private static final int MAX_BODY_BYTES = 1 << 20;
+    private static final String CONTENT_TYPE_JSON = "application/json; charset=utf-8";
+
+    static {
+        // Header und Body gehen als zwei Writes raus - mit Nagle wartet der Body auf das
+        // verzögerte ACK des Clients, rund 40 ms pro Request auf einer Keep-Alive-Verbindung
+        if (System.getProperty("sun.net.httpserver.nodelay") == null) {
+            System.setProperty("sun.net.httpserver.nodelay", "true");
+        }
+    }
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final ToIntFunction<RuntimeException> errorStatus;
+    private final List<Route> routes = new CopyOnWriteArrayList<>();
+
+    public HttpServerAdapter(InetSocketAddress address, ExecutorService executor,
+                             ToIntFunction<RuntimeException> errorStatus) throws IOException {
+        this.server = HttpServer.create(address, BACKLOG);
+        this.executor = executor;
+        this.errorStatus = errorStatus;
+        server.setExecutor(executor);
+        server.createContext("/", this::dispatch);
+    }
+
+    // Convenience Constructor: alle Interfaces, Executor nach defaultExecutor()
+    public HttpServerAdapter(int port, ToIntFunction<RuntimeException> errorStatus) throws IOException {
+        this(new InetSocketAddress(port), defaultExecutor(), errorStatus);
+    }
+
+    /**
+     * Virtual Threads, wenn die JVM sie hat (ab Java 21) - das Projekt baut mit
+     * Java 17, daher per Reflection. Sonst ein fester Pool, blockierende Handler
+     * (fsync, externe Aufrufe) brauchen mehr Threads als Kerne.
+     */
+    public static ExecutorService defaultExecutor() {
+        try {
+            Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) factory.invoke(null);
+        } catch (ReflectiveOperationException | UnsupportedOperationException e) {
+            AtomicInteger threadNumber = new AtomicInteger();
+            return Executors.newFixedThreadPool(POOL_THREADS, task -> {
+                Thread thread = new Thread(task, "http-" + threadNumber.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
+
+    public HttpServerAdapter route(String method, String pathTemplate, Handler handler) {
+        routes.add(new Route(method, PathTemplate.parse(pathTemplate), handler));
+        return this;
+    }
+
+    public void start() {
+        server.start();
+    }
+
+    public int port() {
+        return server.getAddress().getPort();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdown();
+    }
+
+    // ==================== ANTWORTEN ====================
+
+    public static void sendJson(HttpExchange exchange, int status, byte[] body) throws IOException {
+        send(exchange, status, CONTENT_TYPE_JSON, body);
+    }
+
+    public static void send(HttpExchange exchange, int status, String contentType, byte[] body) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", contentType);
+        exchange.sendResponseHeaders(status, body.length == 0 ? -1 : body.length);
+        if (body.length > 0) {
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        }
+    }
+
+    public static void sendJson(HttpExchange exchange, int status, byte[] body, String etag) throws IOException {
+        exchange.getResponseHeaders().set("ETag", etag);
+        sendJson(exchange, status, body);
+    }
+
+    public static void sendNotModified(HttpExchange exchange, String etag) throws IOException {
+        exchange.getResponseHeaders().set("ETag", etag);
+        exchange.sendResponseHeaders(304, -1);
+    }
+
+    public static void sendError(HttpExchange exchange, int status, String message) throws IOException {
+        StringBuilder json = new StringBuilder(32 + (message == null ? 0 : message.length()));
+        json.append("{\"error\":");
+        Json.appendString(json, message);
+        json.append('}');
+        sendJson(exchange, status, json.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Request Body, höchstens 1 MB (sonst IllegalArgumentException → errorStatus).
+     */
+    public static byte[] readBody(HttpExchange exchange) throws IOException {
+        try (InputStream in = exchange.getRequestBody()) {
+            byte[] body = in.readNBytes(MAX_BODY_BYTES + 1);
+            if (body.length > MAX_BODY_BYTES) {
+                throw new IllegalArgumentException("Request body too large");
+            }
+            return body;
+        }
+    }
+
+    // ==================== ROUTING ====================
+
+    private void dispatch(HttpExchange exchange) throws IOException {
+        try {
+            String path = exchange.getRequestURI().getRawPath();
+            String method = exchange.getRequestMethod();
+            boolean pathMatched = false;
+            for (Route route : routes) {
+                long id = route.template().match(path);
+                if (id == PathTemplate.NO_MATCH) {
+                    continue;
+                }
+                pathMatched = true;
+                if (route.method().equals(method)) {
+                    invoke(route, exchange, id);
+                    return;
+                }
+            }
+            if (pathMatched) {
+                sendError(exchange, 405, "Method not allowed");
+            } else {
+                sendError(exchange, 404, "Not found");
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private void invoke(Route route, HttpExchange exchange, long id) throws IOException {
+        try {
+            route.handler().handle(exchange, id);
+        } catch (RuntimeException e) {
+            sendError(exchange, errorStatus.applyAsInt(e), e.getMessage());
+        }
+    }
+
+    private record Route(String method, PathTemplate template, Handler handler) {}
+
+    /**
+     * "/orders/{id}/confirm" → Präfix "/orders/", Suffix "/confirm", ID dazwischen.
+     */
+    private record PathTemplate(String prefix, String suffix, boolean hasId) {
+
+        static final long NO_MATCH = -2;
+
+        // Mehr Ziffern passen nicht sicher in einen long
+        private static final int MAX_ID_DIGITS = 18;
+
+        static PathTemplate parse(String template) {
+            int open = template.indexOf("{id}");
+            if (open < 0) {
+                return new PathTemplate(template, "", false);
+            }
+            if (template.indexOf('{', open + 1) >= 0) {
+                throw new IllegalArgumentException("Only one {id} per route: " + template);
+            }
+            return new PathTemplate(template.substring(0, open), template.substring(open + 4), true);
+        }
+
+        long match(String path) {
+            if (!hasId) {
+                return path.equals(prefix) ? -1 : NO_MATCH;
+            }
+            int start = prefix.length();
+            int end = path.length() - suffix.length();
+            if (end <= start || end - start > MAX_ID_DIGITS
+                    || !path.startsWith(prefix) || !path.startsWith(suffix, end)) {
+                return NO_MATCH;
+            }
+            long id = 0;
+            for (int i = start; i < end; i++) {
+                char c = path.charAt(i);
+                if (c < '0' || c > '9') {
+                    return NO_MATCH;
+                }
+                id = id * 10 + (c - '0');
+            }
+            return id;
+        }
+    }
+}
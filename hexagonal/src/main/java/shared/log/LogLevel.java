@@ -0,0 +1,15 @@
+package shared.log;
+
+/**
+ * Log-Level, aufsteigend nach Schwere.
+ */
+public enum LogLevel {
+    DEBUG,
+    INFO,
+    WARN,
+    ERROR;
+
+    boolean isAtLeast(LogLevel other) {
+        return ordinal() >= other.ordinal();
+    }
+}
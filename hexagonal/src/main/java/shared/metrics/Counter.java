@@ -0,0 +1,29 @@
+package shared.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Monoton steigender Zähler. LongAdder: viele Threads zählen ohne gemeinsame Cache-Line.
+ */
+public final class Counter {
+
+    private final LongAdder count = new LongAdder();
+
+    Counter() {
+    }
+
+    public void increment() {
+        count.increment();
+    }
+
+    public void add(long amount) {
+        if (amount < 0) {
+            throw new IllegalArgumentException("Counter cannot decrease");
+        }
+        count.add(amount);
+    }
+
+    public long value() {
+        return count.sum();
+    }
+}
@@ -0,0 +1,29 @@
+package shared.metrics;
+
+import com.sun.net.httpserver.HttpExchange;
+import shared.http.HttpServerAdapter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * GET /metrics - Momentaufnahme der Registry für Prometheus.
+ */
+public class MetricsHttpRoutes {
+
+    private static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+
+    private final MetricsRegistry registry;
+
+    public MetricsHttpRoutes(MetricsRegistry registry) {
+        this.registry = registry;
+    }
+
+    public void registerOn(HttpServerAdapter server) {
+        server.route("GET", "/metrics", this::scrape);
+    }
+
+    private void scrape(HttpExchange exchange, long id) throws IOException {
+        HttpServerAdapter.send(exchange, 200, CONTENT_TYPE, registry.scrape().getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,142 @@
+package shared.metrics;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Sammelt Counter und Timer und exportiert sie im Prometheus-Textformat.
+ *
+ * Metriken werden einmal beim Verdrahten angelegt und danach direkt gehalten -
+ * im Hot Path gibt es keinen Lookup über Name und Labels.
+ * Gleicher Name und gleiche Labels liefern dieselbe Instanz.
+ */
+public final class MetricsRegistry {
+
+    private enum Type { COUNTER, TIMER }
+
+    private final ConcurrentMap<String, Family> families = new ConcurrentHashMap<>();
+
+    /**
+     * @param labels abwechselnd Name und Wert, z.B. "port", "LoadOrderPort"
+     */
+    public Counter counter(String name, String help, String... labels) {
+        return (Counter) family(name, help, Type.COUNTER)
+            .metrics.computeIfAbsent(labelString(labels), key -> new Counter());
+    }
+
+    /**
+     * Exportiert als name_seconds (Histogramm), name_errors_total und name_max_seconds.
+     */
+    public Timer timer(String name, String help, String... labels) {
+        return (Timer) family(name, help, Type.TIMER)
+            .metrics.computeIfAbsent(labelString(labels), key -> new Timer());
+    }
+
+    /**
+     * Momentaufnahme im Prometheus-Textformat (Version 0.0.4), nach Namen sortiert.
+     * Die Werte einer Metrik werden nacheinander gelesen, nicht atomar.
+     */
+    public String scrape() {
+        StringBuilder out = new StringBuilder(4096);
+        for (Family family : new TreeMap<>(families).values()) {
+            Map<String, Object> metrics = new TreeMap<>(family.metrics);
+            if (family.type == Type.COUNTER) {
+                writeCounters(out, family, metrics);
+            } else {
+                writeTimers(out, family, metrics);
+            }
+        }
+        return out.toString();
+    }
+
+    private Family family(String name, String help, Type type) {
+        Family family = families.computeIfAbsent(name, key -> new Family(key, help, type));
+        if (family.type != type) {
+            throw new IllegalArgumentException("Metric " + name + " already registered as " + family.type);
+        }
+        return family;
+    }
+
+    private static void writeCounters(StringBuilder out, Family family, Map<String, Object> metrics) {
+        String name = family.name + "_total";
+        header(out, name, family.help, "counter");
+        metrics.forEach((labels, metric) -> sample(out, name, labels, ((Counter) metric).value()));
+    }
+
+    private static void writeTimers(StringBuilder out, Family family, Map<String, Object> metrics) {
+        List<Map.Entry<String, Timer>> timers = new ArrayList<>();
+        metrics.forEach((labels, metric) -> timers.add(Map.entry(labels, (Timer) metric)));
+
+        String histogram = family.name + "_seconds";
+        header(out, histogram, family.help, "histogram");
+        for (Map.Entry<String, Timer> entry : timers) {
+            String labels = entry.getKey();
+            long[] counts = entry.getValue().bucketCounts();
+            long cumulative = 0;
+            for (int i = 0; i < counts.length; i++) {
+                cumulative += counts[i];
+                long bound = Timer.upperBoundNanos(i);
+                String le = bound == Long.MAX_VALUE ? "+Inf" : Double.toString(bound / 1e9);
+                sample(out, histogram + "_bucket", withLabel(labels, "le", le), cumulative);
+            }
+            sample(out, histogram + "_sum", labels, entry.getValue().totalNanos() / 1e9);
+            sample(out, histogram + "_count", labels, cumulative);
+        }
+
+        String errors = family.name + "_errors_total";
+        header(out, errors, "Failed calls: " + family.help, "counter");
+        timers.forEach(entry -> sample(out, errors, entry.getKey(), entry.getValue().errors()));
+
+        String max = family.name + "_max_seconds";
+        header(out, max, "Slowest call since start: " + family.help, "gauge");
+        timers.forEach(entry -> sample(out, max, entry.getKey(), entry.getValue().maxNanos() / 1e9));
+    }
+
+    private static void header(StringBuilder out, String name, String help, String type) {
+        out.append("# HELP ").append(name).append(' ')
+            .append(help.replace("\\", "\\\\").replace("\n", "\\n")).append('\n');
+        out.append("# TYPE ").append(name).append(' ').append(type).append('\n');
+    }
+
+    private static void sample(StringBuilder out, String name, String labels, long value) {
+        out.append(name).append(labels).append(' ').append(value).append('\n');
+    }
+
+    private static void sample(StringBuilder out, String name, String labels, double value) {
+        out.append(name).append(labels).append(' ').append(value).append('\n');
+    }
+
+    // {a="1",b="2"} - fertig formatiert, dient auch als Schlüssel
+    private static String labelString(String... labels) {
+        if (labels.length % 2 != 0) {
+            throw new IllegalArgumentException("labels must be name/value pairs");
+        }
+        String result = "";
+        for (int i = 0; i < labels.length; i += 2) {
+            result = withLabel(result, labels[i], labels[i + 1]);
+        }
+        return result;
+    }
+
+    private static String withLabel(String labels, String name, String value) {
+        String label = name + "=\"" + value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n") + "\"";
+        return labels.isEmpty() ? "{" + label + "}" : labels.substring(0, labels.length() - 1) + "," + label + "}";
+    }
+
+    private static final class Family {
+        final String name;
+        final String help;
+        final Type type;
+        final ConcurrentMap<String, Object> metrics = new ConcurrentHashMap<>();
+
+        Family(String name, String help, Type type) {
+            this.name = name;
+            this.help = help;
+            this.type = type;
+        }
+    }
+}
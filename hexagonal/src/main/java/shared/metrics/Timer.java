@@ -0,0 +1,92 @@
+package shared.metrics;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Aufrufzähler mit Latenzverteilung und Fehlerquote.
+ *
+ * Verteilung wie bei HdrHistogram logarithmisch, aber grob: ein Bucket pro
+ * Zweierpotenz von 1 µs bis 8,6 s (Obergrenze 2^k ns), darüber +Inf.
+ * Der Bucket ergibt sich aus den führenden Nullbits - kein Suchen, keine
+ * Allokation, jeder Bucket ein LongAdder.
+ *
+ * Aufruf im Hot Path:
+ *   long start = System.nanoTime();
+ *   ... timer.record(System.nanoTime() - start);
+ */
+public final class Timer {
+
+    static final int MIN_EXPONENT = 10;   // 2^10 ns ≈ 1 µs
+    static final int MAX_EXPONENT = 33;   // 2^33 ns ≈ 8,6 s
+    static final int BUCKETS = MAX_EXPONENT - MIN_EXPONENT + 2;  // + Überlauf (+Inf)
+
+    private final LongAdder[] buckets = new LongAdder[BUCKETS];
+    private final LongAdder totalNanos = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+    private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+
+    Timer() {
+        for (int i = 0; i < BUCKETS; i++) {
+            buckets[i] = new LongAdder();
+        }
+    }
+
+    public void record(long nanos) {
+        long value = Math.max(0, nanos);
+        buckets[bucketOf(value)].increment();
+        totalNanos.add(value);
+        maxNanos.accumulate(value);
+    }
+
+    // Fehlgeschlagener Aufruf: zählt in die Verteilung und als Fehler
+    public void recordError(long nanos) {
+        record(nanos);
+        errors.increment();
+    }
+
+    public long count() {
+        long count = 0;
+        for (LongAdder bucket : buckets) {
+            count += bucket.sum();
+        }
+        return count;
+    }
+
+    public long errors() {
+        return errors.sum();
+    }
+
+    public long totalNanos() {
+        return totalNanos.sum();
+    }
+
+    public long maxNanos() {
+        return maxNanos.get();
+    }
+
+    /**
+     * Anzahl pro Bucket (nicht kumuliert), Index wie upperBoundNanos.
+     */
+    long[] bucketCounts() {
+        long[] counts = new long[BUCKETS];
+        for (int i = 0; i < BUCKETS; i++) {
+            counts[i] = buckets[i].sum();
+        }
+        return counts;
+    }
+
+    // Obergrenze (inklusive) von Bucket index, Long.MAX_VALUE für den Überlauf
+    static long upperBoundNanos(int index) {
+        return index == BUCKETS - 1 ? Long.MAX_VALUE : 1L << (MIN_EXPONENT + index);
+    }
+
+    static int bucketOf(long nanos) {
+        if (nanos <= 1L << MIN_EXPONENT) {
+            return 0;
+        }
+        // Kleinstes k mit nanos <= 2^k
+        int exponent = Long.SIZE - Long.numberOfLeadingZeros(nanos - 1);
+        return Math.min(exponent - MIN_EXPONENT, BUCKETS - 1);
+    }
+}
@@ -0,0 +1,62 @@
+import order.config.OrderConfiguration;
+import order.exception.OrderAlreadyExistsException;
+import order.exception.OrderNotFoundException;
+import order.presentation.OrderHttpRoutes;
+import product.config.ProductConfiguration;
+import product.exception.InsufficientStockException;
+import product.exception.ProductNotFoundException;
+import product.presentation.ProductHttpRoutes;
+import shared.http.HttpServerAdapter;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.util.concurrent.Executors;
+
+/**
+ * Startet die Layered-Variante hinter einem echten HTTP-Server.
+ *
+ *   GET  /orders/{id}            (ETag, If-None-Match → 304)
+ *   PUT  /orders/{id}            {"items":[{"productId":1,"quantity":2,"unitPrice":29.99}]}
+ *   POST /orders/{id}/confirm
+ *   GET  /products, /products/{id}
+ *
+ * Aufruf: java LayeredHttpApplication [port], Standard 8080.
+ *
+ * PRAGMATISCH: Die Repositories der Layered-Variante sind nicht thread-safe,
+ * der Server bearbeitet Requests deshalb nacheinander (ein Thread).
+ * Keep-Alive und parallele Verbindungen funktionieren trotzdem.
+ */
+public class LayeredHttpApplication {
+
+    private static final int DEFAULT_PORT = 8080;
+
+    public static void main(String[] args) throws IOException {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_PORT;
+
+        ProductConfiguration productConfig = new ProductConfiguration();
+        OrderConfiguration orderConfig = new OrderConfiguration(productConfig.productRepository());
+
+        HttpServerAdapter server = new HttpServerAdapter(
+            new InetSocketAddress(port), Executors.newSingleThreadExecutor(), LayeredHttpApplication::statusOf);
+        new OrderHttpRoutes(orderConfig.orderController()).registerOn(server);
+        new ProductHttpRoutes(productConfig.productController()).registerOn(server);
+        server.start();
+
+        Runtime.getRuntime().addShutdownHook(new Thread(server::close));
+        System.out.println("Layered HTTP server listening on port " + server.port());
+    }
+
+    static int statusOf(RuntimeException e) {
+        if (e instanceof OrderNotFoundException || e instanceof ProductNotFoundException) {
+            return 404;
+        }
+        if (e instanceof OrderAlreadyExistsException || e instanceof InsufficientStockException
+                || e instanceof IllegalStateException) {
+            return 409;
+        }
+        if (e instanceof IllegalArgumentException || e instanceof ArithmeticException) {
+            return 400;
+        }
+        return 500;
+    }
+}
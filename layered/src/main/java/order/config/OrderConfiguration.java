@@ -1,6 +1,9 @@
 package order.config;
 
+import order.model.MoneyArithmetic;
 import order.presentation.OrderController;
+import order.presentation.OrderJsonCache;
+import order.repository.InMemoryOrderRepository;
 import order.repository.OrderConfirmationRepository;
 import order.repository.OrderRepository;
 import order.service.EmailService;
@@ -15,6 +18,7 @@ import order.service.OrderService;
 public class OrderConfiguration {
 
     private final OrderRepository orderRepository;
+    private final OrderJsonCache orderJsonCache;
     private final OrderConfirmationRepository confirmationRepository;
     private final EmailService emailService;
     private final ExternalOrderApiService externalApiService;
@@ -26,8 +30,27 @@ public class OrderConfiguration {
      * In Layered: Direkte Abhängigkeit zu konkreter Klasse.
      */
     public OrderConfiguration(product.repository.ProductRepository productRepository) {
+        this(productRepository, MoneyArithmetic.BIG_DECIMAL);
+    }
+
+    /**
+     * Wie oben, mit Auswahl der Geld-Arithmetik (LONG_CENTS für den Hot Path).
+     */
+    public OrderConfiguration(product.repository.ProductRepository productRepository,
+                              MoneyArithmetic arithmetic) {
+        this(productRepository, arithmetic, new InMemoryOrderRepository());
+    }
+
+    /**
+     * Wie oben, mit eigenem Order Repository (z.B. WalOrderRepository für Dauerhaftigkeit).
+     */
+    public OrderConfiguration(product.repository.ProductRepository productRepository,
+                              MoneyArithmetic arithmetic, OrderRepository orderRepository) {
         // Data Access Layer
-        this.orderRepository = new OrderRepository();
+        this.orderRepository = orderRepository;
+        // Jeder save invalidiert die serialisierte GET-Antwort
+        this.orderJsonCache = new OrderJsonCache();
+        orderRepository.onSave(orderJsonCache::invalidate);
         this.confirmationRepository = new OrderConfirmationRepository();
 
         // Service Layer (externe Dienste)
@@ -40,11 +63,12 @@ public class OrderConfiguration {
             confirmationRepository,
             emailService,
             externalApiService,
-            productRepository
+            productRepository,
+            arithmetic
         );
 
         // Presentation Layer
-        this.orderController = new OrderController(orderService);
+        this.orderController = new OrderController(orderService, orderJsonCache);
     }
 
     public OrderController orderController() {
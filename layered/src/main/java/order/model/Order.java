@@ -17,11 +17,16 @@ public class Order {
     private final List<OrderItem> items;
     private OrderStatus status;
 
+    // Laufende Summe in Cent, bei jeder Änderung der Positionen nachgeführt.
+    // Money-Summe nur auf Anfrage daraus - kein BigDecimal pro Position
+    private long totalCents;
+
     private Order(OrderId id, CustomerId customerId, List<OrderItem> items, OrderStatus status) {
         this.id = Objects.requireNonNull(id);
         this.customerId = Objects.requireNonNull(customerId);
         this.items = new ArrayList<>(items);
         this.status = status;
+        recalculateTotals(this.items);
     }
 
     public static Order create(OrderId id, CustomerId customerId) {
@@ -34,11 +39,14 @@ public class Order {
 
     public void addItem(OrderItem item) {
         validateModifiable();
+        long newTotalCents = Math.addExact(totalCents, item.calculateSubtotalCents().cents());
         items.add(item);
+        totalCents = newTotalCents;
     }
 
     public void replaceItems(List<OrderItem> newItems) {
         validateModifiable();
+        recalculateTotals(newItems);
         items.clear();
         items.addAll(newItems);
     }
@@ -51,10 +59,26 @@ public class Order {
         this.status = OrderStatus.CONFIRMED;
     }
 
+    // O(1): laufende Summe statt Stream über alle Positionen
     public Money calculateTotal() {
-        return items.stream()
-            .map(OrderItem::calculateSubtotal)
-            .reduce(Money.ZERO, Money::add);
+        // Money hat immer Scale 2 - exakt dieselbe Summe wie über BigDecimal
+        return MoneyCents.of(totalCents).toMoney();
+    }
+
+    public MoneyCents calculateTotalCents() {
+        return MoneyCents.of(totalCents);
+    }
+
+    /**
+     * Summen komplett neu berechnen (Konstruktor, replaceItems).
+     * Felder werden erst am Ende gesetzt - bei Überlauf bleibt der alte Stand.
+     */
+    private void recalculateTotals(List<OrderItem> newItems) {
+        long newTotalCents = 0;
+        for (OrderItem item : newItems) {
+            newTotalCents = Math.addExact(newTotalCents, item.calculateSubtotalCents().cents());
+        }
+        this.totalCents = newTotalCents;
     }
 
     private void validateModifiable() {
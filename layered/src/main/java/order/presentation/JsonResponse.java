@@ -0,0 +1,26 @@
+package order.presentation;
+
+/**
+ * Fertige HTTP-Antwort: Status, ETag und UTF-8 JSON-Bytes.
+ *
+ * Die Bytes werden zwischen Aufrufen geteilt und dürfen nicht verändert werden.
+ */
+public record JsonResponse(int status, String etag, byte[] body) {
+
+    public static final int OK = 200;
+    public static final int NOT_MODIFIED = 304;
+
+    private static final byte[] NO_BODY = new byte[0];
+
+    static JsonResponse ok(String etag, byte[] body) {
+        return new JsonResponse(OK, etag, body);
+    }
+
+    static JsonResponse notModified(String etag) {
+        return new JsonResponse(NOT_MODIFIED, etag, NO_BODY);
+    }
+
+    public boolean isNotModified() {
+        return status == NOT_MODIFIED;
+    }
+}
@@ -0,0 +1,67 @@
+package order.presentation;
+
+import com.sun.net.httpserver.HttpExchange;
+import order.dto.OrderItemRequest;
+import order.dto.UpdateOrderRequest;
+import shared.http.HttpServerAdapter;
+import shared.http.Json;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Presentation Layer - HTTP-Routen für Orders.
+ *
+ * Übersetzt HTTP in Controller-Aufrufe und zurück in JSON.
+ * GET nutzt die fertig serialisierte Antwort des Controllers (ETag, 304).
+ */
+public class OrderHttpRoutes {
+
+    private final OrderController controller;
+
+    public OrderHttpRoutes(OrderController controller) {
+        this.controller = controller;
+    }
+
+    public void registerOn(HttpServerAdapter server) {
+        server.route("GET", "/orders/{id}", this::getOrder)
+            .route("PUT", "/orders/{id}", this::updateOrder)
+            .route("POST", "/orders/{id}/confirm", this::confirmOrder);
+    }
+
+    private void getOrder(HttpExchange exchange, long id) throws IOException {
+        String ifNoneMatch = exchange.getRequestHeaders().getFirst("If-None-Match");
+        JsonResponse response = controller.getOrderJson(id, ifNoneMatch);
+        if (response.isNotModified()) {
+            HttpServerAdapter.sendNotModified(exchange, response.etag());
+        } else {
+            HttpServerAdapter.sendJson(exchange, response.status(), response.body(), response.etag());
+        }
+    }
+
+    // Body: {"items":[{"productId":1,"quantity":2,"unitPrice":29.99}]}
+    private void updateOrder(HttpExchange exchange, long id) throws IOException {
+        UpdateOrderRequest request = toRequest(Json.parseObject(HttpServerAdapter.readBody(exchange)));
+        HttpServerAdapter.sendJson(exchange, 200, OrderJson.write(controller.updateOrder(id, request)));
+    }
+
+    private void confirmOrder(HttpExchange exchange, long id) throws IOException {
+        HttpServerAdapter.sendJson(exchange, 200, OrderJson.write(controller.confirmOrder(id)));
+    }
+
+    private static UpdateOrderRequest toRequest(Map<String, Object> body) {
+        List<OrderItemRequest> items = Json.asArray(body.get("items"), "items").stream()
+            .map(item -> toItemRequest(Json.asObject(item, "item")))
+            .toList();
+        return new UpdateOrderRequest(items);
+    }
+
+    private static OrderItemRequest toItemRequest(Map<String, Object> item) {
+        return new OrderItemRequest(
+            Json.asNumber(item.get("productId"), "productId").longValueExact(),
+            Json.asNumber(item.get("quantity"), "quantity").intValueExact(),
+            Json.asNumber(item.get("unitPrice"), "unitPrice")
+        );
+    }
+}
@@ -0,0 +1,62 @@
+package order.presentation;
+
+import order.dto.OrderConfirmationResponse;
+import order.dto.OrderItemResponse;
+import order.dto.OrderResponse;
+import shared.http.Json;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * JSON-Serialisierung der Response DTOs, direkt in UTF-8 Bytes.
+ *
+ * PRAGMATISCH: Handgeschrieben statt Jackson - die DTOs sind flach und bekannt.
+ * Feldnamen wie die Record-Komponenten, Beträge als Zahl (toPlainString).
+ */
+public final class OrderJson {
+
+    private OrderJson() {
+    }
+
+    public static byte[] write(OrderResponse order) {
+        StringBuilder json = new StringBuilder(128 + order.items().size() * 80);
+        json.append("{\"id\":").append(order.id())
+            .append(",\"customerId\":");
+        Json.appendString(json, order.customerId());
+        json.append(",\"status\":");
+        Json.appendString(json, order.status());
+        json.append(",\"items\":[");
+        for (int i = 0; i < order.items().size(); i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            appendItem(json, order.items().get(i));
+        }
+        json.append("],\"totalAmount\":").append(order.totalAmount().toPlainString())
+            .append('}');
+        return json.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    public static byte[] write(OrderConfirmationResponse confirmation) {
+        StringBuilder json = new StringBuilder(256);
+        json.append("{\"confirmationId\":").append(confirmation.confirmationId())
+            .append(",\"orderId\":").append(confirmation.orderId())
+            .append(",\"totalAmount\":").append(confirmation.totalAmount().toPlainString())
+            .append(",\"taxAmount\":").append(confirmation.taxAmount().toPlainString())
+            .append(",\"shippingCost\":").append(confirmation.shippingCost().toPlainString())
+            .append(",\"grandTotal\":").append(confirmation.grandTotal().toPlainString())
+            .append(",\"confirmedAt\":");
+        // ISO-8601, wie LocalDateTime.toString()
+        Json.appendString(json, String.valueOf(confirmation.confirmedAt()));
+        json.append('}');
+        return json.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static void appendItem(StringBuilder json, OrderItemResponse item) {
+        json.append("{\"productId\":").append(item.productId())
+            .append(",\"quantity\":").append(item.quantity())
+            .append(",\"unitPrice\":").append(item.unitPrice().toPlainString())
+            .append(",\"subtotal\":").append(item.subtotal().toPlainString())
+            .append('}');
+    }
+}
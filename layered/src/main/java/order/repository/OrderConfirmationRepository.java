@@ -1,16 +1,14 @@
 package order.repository;
 
 import order.model.OrderConfirmation;
-
-import java.util.HashMap;
-import java.util.Map;
+import shared.collection.LongHashMap;
 
 /**
  * Data Access Layer - OrderConfirmation Repository.
  */
 public class OrderConfirmationRepository {
 
-    private final Map<Long, OrderConfirmation> database = new HashMap<>();
+    private final LongHashMap<OrderConfirmation> database = new LongHashMap<>();
     private long idSequence = 1;
 
     public OrderConfirmation save(OrderConfirmation confirmation) {
@@ -0,0 +1,104 @@
+package order.repository;
+
+import order.model.*;
+import shared.collection.ConcurrentLongHashMap;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Data Access Layer - Order Repository mit Write-Ahead-Log.
+ *
+ * In Layered: Unterklasse von OrderRepository, damit die Business-Schicht
+ * unverändert bleibt.
+ *
+ * Jedes save() hängt die Order binär an das Log an (OrderRecordCodec), gelesen wird
+ * aus einem Index im Speicher. Beim Start wird der Index aus dem Log aufgebaut,
+ * der letzte Eintrag pro ID gewinnt.
+ *
+ * Latenz vs. Dauerhaftigkeit über FsyncPolicy: everyWrite() (Group Commit)
+ * oder every(n) (höchstens n Verlust bei Absturz).
+ */
+public class WalOrderRepository extends OrderRepository implements AutoCloseable {
+
+    private static final long DEFAULT_SEGMENT_BYTES = 64L * 1024 * 1024;
+
+    // Index: ID → letzter Eintrag. Kodiert gespeichert - jedes findById liefert eine neue Order
+    private final ConcurrentLongHashMap<StoredOrder> index = new ConcurrentLongHashMap<>();
+    private final AtomicLong idSequence = new AtomicLong(1);
+    private final WriteAheadLog log;
+    private long replayedEntries;
+
+    public WalOrderRepository(Path directory, FsyncPolicy fsyncPolicy, long maxSegmentBytes) {
+        this.log = WriteAheadLog.open(directory, maxSegmentBytes, fsyncPolicy, this::replay);
+        if (index.isEmpty()) {
+            // Seed-Daten für Demo, nur bei leerem Log
+            seedData();
+        }
+    }
+
+    public WalOrderRepository(Path directory, FsyncPolicy fsyncPolicy) {
+        this(directory, fsyncPolicy, DEFAULT_SEGMENT_BYTES);
+    }
+
+    // Convenience Constructor: fsync pro save (Group Commit)
+    public WalOrderRepository(Path directory) {
+        this(directory, FsyncPolicy.everyWrite());
+    }
+
+    @Override
+    public Optional<Order> findById(OrderId orderId) {
+        StoredOrder stored = index.get(orderId.value());
+        if (stored == null) {
+            return Optional.empty();
+        }
+        return Optional.of(OrderRecordCodec.decode(ByteBuffer.wrap(stored.record())));
+    }
+
+    @Override
+    public Order save(Order order) {
+        // Neue Order bekommt generierte ID
+        long id = order.getId() != null ? order.getId().value() : idSequence.getAndIncrement();
+        ByteBuffer record = OrderRecordCodec.encode(id, order);
+        byte[] bytes = record.array();
+
+        long sequence = log.append(record);
+
+        // Gleichzeitige saves derselben ID: der spätere Log-Eintrag gewinnt, wie beim Replay
+        StoredOrder candidate = new StoredOrder(sequence, bytes);
+        index.compute(id, current -> current == null || candidate.sequence() > current.sequence() ? candidate : current);
+        notifySaved(id);
+        return OrderRecordCodec.decode(ByteBuffer.wrap(bytes));
+    }
+
+    @Override
+    public void close() {
+        log.close();
+    }
+
+    private void replay(ByteBuffer record) {
+        byte[] bytes = new byte[record.remaining()];
+        record.duplicate().get(bytes);
+        long id = ByteBuffer.wrap(bytes).getLong();
+        index.put(id, new StoredOrder(++replayedEntries, bytes));
+        idSequence.accumulateAndGet(id + 1, Math::max);
+    }
+
+    private void seedData() {
+        save(Order.reconstitute(
+            OrderId.of(idSequence.getAndIncrement()),
+            CustomerId.of("CUST-001"),
+            List.of(
+                OrderItem.create(ProductId.of(1L), Quantity.of(2), Money.of(new BigDecimal("29.99"))),
+                OrderItem.create(ProductId.of(2L), Quantity.of(1), Money.of(new BigDecimal("49.99")))
+            ),
+            OrderStatus.DRAFT
+        ));
+    }
+
+    private record StoredOrder(long sequence, byte[] record) {}
+}
@@ -0,0 +1,330 @@
+package order.repository;
+
+import shared.log.EventLog;
+import shared.log.EventLogger;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+/**
+ * Append-only Log in Segment-Dateien (wal-00000000000000000001.log, ...).
+ *
+ * Eintrag: [int Länge][int CRC32C][Payload]. Ist das aktive Segment größer als
+ * maxSegmentBytes, wird ein neues angefangen.
+ *
+ * Group Commit: Wer auf Dauerhaftigkeit wartet und keinen laufenden fsync vorfindet,
+ * wird Leader und synct alles bis zum zuletzt geschriebenen Eintrag - auch die
+ * Einträge der anderen wartenden Threads. Ein fsync für viele saves.
+ *
+ * Recovery: Alle Segmente werden der Reihe nach gelesen. Ein abgeschnittener oder
+ * beschädigter Eintrag am Ende des letzten Segments (Absturz mitten im write)
+ * wird abgeschnitten, Beschädigung davor ist ein Fehler.
+ *
+ * Schreibfehler: ein halb geschriebener Eintrag wird sofort wieder abgeschnitten,
+ * damit spätere Einträge nicht hinter Müll landen. Klappt das nicht, nimmt das
+ * Log keine Einträge mehr an.
+ *
+ * PRAGMATISCH: Keine Kompaktierung - das Log wächst, Recovery liest alles.
+ */
+final class WriteAheadLog implements AutoCloseable {
+
+    private static final EventLogger LOG = EventLog.logger("WAL");
+
+    private static final int HEADER_BYTES = 2 * Integer.BYTES;
+    private static final String SEGMENT_PREFIX = "wal-";
+    private static final String SEGMENT_SUFFIX = ".log";
+
+    private final Path directory;
+    private final long maxSegmentBytes;
+    private final FsyncPolicy fsyncPolicy;
+    private final ScheduledExecutorService syncScheduler;
+
+    // appendLock: Reihenfolge der Einträge. forceLock: kein Segmentwechsel während fsync.
+    private final ReentrantLock appendLock = new ReentrantLock();
+    private final ReentrantLock forceLock = new ReentrantLock();
+    private final ReentrantLock syncLock = new ReentrantLock();
+    private final Condition syncDone = syncLock.newCondition();
+
+    private FileChannel activeChannel;
+    private long activeSegment;
+    private long activeSize;
+    private volatile long writtenSequence;
+    private long syncedSequence;
+    private boolean syncing;
+    private IOException failure;  // null: Log intakt, sonst nicht reparierbarer Schreibfehler
+
+    private WriteAheadLog(Path directory, long maxSegmentBytes, FsyncPolicy fsyncPolicy) {
+        this.directory = directory;
+        this.maxSegmentBytes = maxSegmentBytes;
+        this.fsyncPolicy = fsyncPolicy;
+        this.syncScheduler = fsyncPolicy.isEveryWrite() ? null : Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "wal-fsync");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Öffnet das Log, spielt alle vorhandenen Einträge an replay ab
+     * und hängt danach an das letzte Segment an.
+     * Der Payload-Buffer ist nur während des replay-Aufrufs gültig.
+     */
+    static WriteAheadLog open(Path directory, long maxSegmentBytes, FsyncPolicy fsyncPolicy,
+                              Consumer<ByteBuffer> replay) {
+        WriteAheadLog log = new WriteAheadLog(directory, maxSegmentBytes, fsyncPolicy);
+        try {
+            Files.createDirectories(directory);
+            log.recover(replay);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot open write-ahead log in " + directory, e);
+        }
+        if (log.syncScheduler != null) {
+            long intervalNanos = fsyncPolicy.interval().toNanos();
+            log.syncScheduler.scheduleWithFixedDelay(log::syncQuietly, intervalNanos, intervalNanos,
+                TimeUnit.NANOSECONDS);
+        }
+        return log;
+    }
+
+    /**
+     * Hängt einen Eintrag an. Liefert die Sequenznummer, sobald der Eintrag
+     * gemäß FsyncPolicy dauerhaft ist.
+     */
+    long append(ByteBuffer payload) {
+        int length = payload.remaining();
+        CRC32C crc = new CRC32C();
+        crc.update(payload.duplicate());
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES)
+            .putInt(length)
+            .putInt((int) crc.getValue())
+            .flip();
+
+        long sequence;
+        appendLock.lock();
+        try {
+            if (failure != null) {
+                throw new UncheckedIOException("Write-ahead log is unusable after an earlier write failure", failure);
+            }
+            if (activeSize > 0 && activeSize + HEADER_BYTES + length > maxSegmentBytes) {
+                rollSegment();
+            }
+            writeFully(new ByteBuffer[]{header, payload.duplicate()});
+            activeSize += HEADER_BYTES + length;
+            sequence = writtenSequence + 1;
+            writtenSequence = sequence;
+        } catch (IOException e) {
+            discardTornWrite(e);
+            throw new UncheckedIOException("Write-ahead log append failed", e);
+        } finally {
+            appendLock.unlock();
+        }
+
+        if (fsyncPolicy.isEveryWrite()) {
+            awaitDurable(sequence);
+        }
+        return sequence;
+    }
+
+    /**
+     * Group Commit: Ein Leader synct, alle anderen warten auf sein Ergebnis.
+     */
+    private void awaitDurable(long sequence) {
+        syncLock.lock();
+        try {
+            while (syncedSequence < sequence) {
+                if (syncing) {
+                    syncDone.awaitUninterruptibly();
+                    continue;
+                }
+                syncing = true;
+                long target = writtenSequence;
+                syncLock.unlock();
+                try {
+                    forceActive();
+                } finally {
+                    syncLock.lock();
+                    syncing = false;
+                    syncDone.signalAll();
+                }
+                syncedSequence = Math.max(syncedSequence, target);
+            }
+        } finally {
+            syncLock.unlock();
+        }
+    }
+
+    private void syncQuietly() {
+        try {
+            awaitDurable(writtenSequence);
+        } catch (RuntimeException e) {
+            LOG.error("Periodic fsync failed: {}", e.getMessage());
+        }
+    }
+
+    private void forceActive() {
+        forceLock.lock();
+        try {
+            activeChannel.force(false);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Write-ahead log fsync failed", e);
+        } finally {
+            forceLock.unlock();
+        }
+    }
+
+    // Nur unter appendLock: Position und Datei zurück auf den letzten vollständigen Eintrag
+    private void discardTornWrite(IOException cause) {
+        try {
+            activeChannel.truncate(activeSize);
+            activeChannel.position(activeSize);
+        } catch (IOException e) {
+            cause.addSuppressed(e);
+            failure = cause;
+            LOG.error("Write-ahead log is unusable: {}", e.getMessage());
+        }
+    }
+
+    // Nur unter appendLock: altes Segment ist vollständig gesynct, bevor es geschlossen wird
+    private void rollSegment() throws IOException {
+        forceLock.lock();
+        try {
+            activeChannel.force(false);
+            activeChannel.close();
+            openSegment(activeSegment + 1, 0);
+        } finally {
+            forceLock.unlock();
+        }
+    }
+
+    private void openSegment(long segment, long validSize) throws IOException {
+        FileChannel channel = FileChannel.open(segmentPath(segment),
+            StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+        channel.truncate(validSize);
+        channel.position(validSize);
+        activeChannel = channel;
+        activeSegment = segment;
+        activeSize = validSize;
+    }
+
+    private void writeFully(ByteBuffer[] buffers) throws IOException {
+        for (ByteBuffer buffer : buffers) {
+            while (buffer.hasRemaining()) {
+                activeChannel.write(buffer);
+            }
+        }
+    }
+
+    private void recover(Consumer<ByteBuffer> replay) throws IOException {
+        List<Long> segments = listSegments();
+        long lastValidSize = 0;
+        long entries = 0;
+        for (int i = 0; i < segments.size(); i++) {
+            boolean last = i == segments.size() - 1;
+            Path path = segmentPath(segments.get(i));
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+                MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+                while (true) {
+                    ByteBuffer payload = nextEntry(mapped);
+                    if (payload == null) {
+                        break;
+                    }
+                    replay.accept(payload);
+                    entries++;
+                }
+                if (mapped.hasRemaining()) {
+                    if (!last) {
+                        throw new IllegalStateException("Corrupt write-ahead log segment " + path);
+                    }
+                    LOG.warn("Truncating torn tail of {} at {} ({} bytes)",
+                        path.getFileName(), mapped.position(), mapped.remaining());
+                }
+                lastValidSize = mapped.position();
+            }
+        }
+        writtenSequence = entries;
+        syncedSequence = entries;
+        if (segments.isEmpty()) {
+            openSegment(1, 0);
+        } else {
+            openSegment(segments.get(segments.size() - 1), lastValidSize);
+        }
+    }
+
+    /**
+     * Liest den nächsten vollständigen Eintrag mit gültiger Prüfsumme,
+     * sonst null (Position bleibt am Anfang des ungültigen Eintrags).
+     */
+    private static ByteBuffer nextEntry(ByteBuffer buffer) {
+        int start = buffer.position();
+        if (buffer.remaining() < HEADER_BYTES) {
+            return null;
+        }
+        int length = buffer.getInt();
+        int checksum = buffer.getInt();
+        if (length < 0 || length > buffer.remaining()) {
+            buffer.position(start);
+            return null;
+        }
+        ByteBuffer payload = buffer.slice(buffer.position(), length);
+        CRC32C crc = new CRC32C();
+        crc.update(payload.duplicate());
+        if ((int) crc.getValue() != checksum) {
+            buffer.position(start);
+            return null;
+        }
+        buffer.position(buffer.position() + length);
+        return payload;
+    }
+
+    private List<Long> listSegments() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files
+                .map(path -> path.getFileName().toString())
+                .filter(name -> name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX))
+                .map(name -> Long.parseLong(name.substring(SEGMENT_PREFIX.length(),
+                    name.length() - SEGMENT_SUFFIX.length())))
+                .sorted()
+                .toList();
+        }
+    }
+
+    private Path segmentPath(long segment) {
+        return directory.resolve(String.format("%s%020d%s", SEGMENT_PREFIX, segment, SEGMENT_SUFFIX));
+    }
+
+    @Override
+    public void close() {
+        if (syncScheduler != null) {
+            syncScheduler.shutdownNow();
+        }
+        appendLock.lock();
+        try {
+            forceLock.lock();
+            try {
+                activeChannel.force(false);
+                activeChannel.close();
+            } finally {
+                forceLock.unlock();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot close write-ahead log", e);
+        } finally {
+            appendLock.unlock();
+        }
+    }
+}
@@ -2,6 +2,8 @@ package order.service;
 
 import order.model.CustomerId;
 import order.model.OrderConfirmation;
+import shared.log.EventLog;
+import shared.log.EventLogger;
 
 /**
  * Service Layer - Email Service.
@@ -10,6 +12,8 @@ import order.model.OrderConfirmation;
  */
 public class EmailService {
 
+    private static final EventLogger LOG = EventLog.logger("EMAIL");
+
     private final String smtpHost;
     private final int smtpPort;
 
@@ -25,13 +29,8 @@ public class EmailService {
     public void sendOrderConfirmation(CustomerId customerId, OrderConfirmation confirmation) {
         String content = buildEmailContent(customerId, confirmation);
 
-        System.out.printf(
-            "[EMAIL] Sending to customer %s via %s:%d%n",
-            customerId.value(),
-            smtpHost,
-            smtpPort
-        );
-        System.out.println("[EMAIL] Content: " + content);
+        LOG.info("Sending to customer {} via {}:{}", customerId.value(), smtpHost, smtpPort);
+        LOG.info("Content: {}", content);
     }
 
     private String buildEmailContent(CustomerId customerId, OrderConfirmation confirmation) {
@@ -1,6 +1,8 @@
 package order.service;
 
 import order.model.OrderId;
+import shared.log.EventLog;
+import shared.log.EventLogger;
 
 import java.util.Set;
 
@@ -9,6 +11,8 @@ import java.util.Set;
  */
 public class ExternalOrderApiService {
 
+    private static final EventLogger LOG = EventLog.logger("EXTERNAL API");
+
     private final String apiBaseUrl;
     private final String apiKey;
 
@@ -25,19 +29,11 @@ public class ExternalOrderApiService {
     }
 
     public boolean existsInExternalSystem(OrderId orderId) {
-        System.out.printf(
-            "[EXTERNAL API] Checking order %d at %s%n",
-            orderId.value(),
-            apiBaseUrl
-        );
+        LOG.info("Checking order {} at {}", orderId.value(), apiBaseUrl);
 
         boolean exists = existingExternalOrders.contains(orderId.value());
 
-        System.out.printf(
-            "[EXTERNAL API] Order %d exists: %s%n",
-            orderId.value(),
-            exists
-        );
+        LOG.info("Order {} exists: {}", orderId.value(), exists);
 
         return exists;
     }
@@ -6,6 +6,8 @@ import order.exception.OrderNotFoundException;
 import order.model.*;
 import order.repository.OrderConfirmationRepository;
 import order.repository.OrderRepository;
+import shared.log.EventLog;
+import shared.log.EventLogger;
 
 import java.util.List;
 
@@ -17,6 +19,8 @@ import java.util.List;
  */
 public class OrderService {
 
+    private static final EventLogger LOG = EventLog.logger("ORDER SERVICE");
+
     private final OrderRepository orderRepository;
     private final OrderConfirmationRepository confirmationRepository;
     private final EmailService emailService;
@@ -31,13 +35,27 @@ public class OrderService {
             EmailService emailService,
             ExternalOrderApiService externalApiService,
             product.repository.ProductRepository productRepository) {
+        this(orderRepository, confirmationRepository, emailService, externalApiService,
+            productRepository, MoneyArithmetic.BIG_DECIMAL);
+    }
+
+    /**
+     * Konstruktor mit Auswahl der Geld-Arithmetik für Summen und Bestätigungen.
+     */
+    public OrderService(
+            OrderRepository orderRepository,
+            OrderConfirmationRepository confirmationRepository,
+            EmailService emailService,
+            ExternalOrderApiService externalApiService,
+            product.repository.ProductRepository productRepository,
+            MoneyArithmetic arithmetic) {
         this.orderRepository = orderRepository;
         this.confirmationRepository = confirmationRepository;
         this.emailService = emailService;
         this.externalApiService = externalApiService;
         this.productRepository = productRepository;
-        this.calculator = new OrderConfirmationCalculator();
-        this.mapper = new OrderMapper();
+        this.calculator = new OrderConfirmationCalculator(arithmetic);
+        this.mapper = new OrderMapper(arithmetic);
     }
 
     public OrderResponse getOrder(OrderId orderId) {
@@ -90,7 +108,7 @@ public class OrderService {
     private void printProductManufacturers(Order order) {
         // PSEUDO-CODE: Repräsentiert Logging/Audit-Action die in Produktion
         // über einen Logger oder AuditService erfolgen würde
-        System.out.println("[ORDER CONFIRM] Produkte in Bestellung " + order.getId().value() + ":");
+        Long orderId = order.getId().value();
         for (OrderItem item : order.getItems()) {
             // Direkter Zugriff auf ProductRepository (Layered Style)
             product.model.ProductId productProductId =
@@ -98,10 +116,10 @@ public class OrderService {
 
             productRepository.findById(productProductId)
                 .ifPresentOrElse(
-                    p -> System.out.printf("  - %s (Hersteller: %s)%n",
-                        p.getName().value(), p.getManufacturer()),
-                    () -> System.out.printf("  - Produkt %d (Hersteller: unbekannt)%n",
-                        item.getProductId().value())
+                    p -> LOG.info("Bestellung {}: {} (Hersteller: {})",
+                        orderId, p.getName().value(), p.getManufacturer()),
+                    () -> LOG.info("Bestellung {}: Produkt {} (Hersteller: unbekannt)",
+                        orderId, item.getProductId().value())
                 );
         }
     }
@@ -121,7 +139,7 @@ public class OrderService {
      */
     private void reserveStockForOrder(Order order) {
         // PSEUDO-CODE: Logging-Action
-        System.out.println("[ORDER SERVICE] Reserviere Lagerbestand für Order " + order.getId().value());
+        LOG.info("Reserviere Lagerbestand für Order {}", order.getId().value());
 
         for (OrderItem item : order.getItems()) {
             // Konvertiere Order.ProductId → Product.ProductId
@@ -136,16 +154,13 @@ public class OrderService {
 
             // RUFE PRODUCT'S DOMAIN-LOGIK DIREKT AUF!
             // Keine Übersetzung, keine Exception-Wrapping
-            product.reserveStock(item.getQuantity());
+            product.reserveStock(item.getQuantity().value());
 
             // Speichere DIREKT
             productRepository.save(product);
 
-            System.out.printf("[ORDER SERVICE] Stock reserviert: %s, Menge: %d, Verbleibend: %d%n",
-                product.getName().value(),
-                item.getQuantity(),
-                product.getStockQuantity()
-            );
+            LOG.info("Stock reserviert: {}, Menge: {}, Verbleibend: {}",
+                product.getName().value(), item.getQuantity().value(), product.getStockQuantity());
         }
     }
 
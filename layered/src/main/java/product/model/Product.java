@@ -1,6 +1,8 @@
 package product.model;
 
 import product.exception.InsufficientStockException;
+import shared.log.EventLog;
+import shared.log.EventLogger;
 
 import java.util.Objects;
 
@@ -11,6 +13,8 @@ import java.util.Objects;
  */
 public class Product {
 
+    private static final EventLogger LOG = EventLog.logger("PRODUCT");
+
     private final ProductId id;
     private final ProductName name;
     private final String description;
@@ -60,8 +64,7 @@ public class Product {
 
         // PSEUDO-CODE: Repräsentiert Domain Event / Action die in Produktion
         // über einen EventPublisher publiziert würde: publish(new StockReservedEvent(...))
-        System.out.printf("[PRODUCT] Stock reserved: %s, qty: %d, remaining: %d%n",
-            name.value(), quantity, stockQuantity);
+        LOG.info("Stock reserved: {}, qty: {}, remaining: {}", name.value(), quantity, stockQuantity);
     }
 
     /**
@@ -72,8 +75,7 @@ public class Product {
 
         // PSEUDO-CODE: Repräsentiert Domain Event / Action die in Produktion
         // über einen EventPublisher publiziert würde: publish(new StockReleasedEvent(...))
-        System.out.printf("[PRODUCT] Stock released: %s, qty: %d, now: %d%n",
-            name.value(), quantity, stockQuantity);
+        LOG.info("Stock released: {}, qty: {}, now: {}", name.value(), quantity, stockQuantity);
     }
 
     // Getters
@@ -1,6 +1,7 @@
 package product.repository;
 
 import product.model.*;
+import shared.collection.LongHashMap;
 
 import java.math.BigDecimal;
 import java.util.*;
@@ -12,7 +13,7 @@ import java.util.*;
  */
 public class ProductRepository {
 
-    private final Map<Long, Product> database = new HashMap<>();
+    private final LongHashMap<Product> database = new LongHashMap<>();
 
     public ProductRepository() {
         seedData();
@@ -23,7 +24,7 @@ public class ProductRepository {
     }
 
     public List<Product> findAll() {
-        return new ArrayList<>(database.values());
+        return database.values();
     }
 
     public Product save(Product product) {
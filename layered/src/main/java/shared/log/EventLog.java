@@ -0,0 +1,207 @@
+package shared.log;
+
+import java.io.PrintStream;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+/**
+ * Asynchrones Event-Log: Ringpuffer ohne Locks, ein Writer-Thread schreibt.
+ *
+ * Aufrufer reservieren per CAS einen Platz im Ring, füllen die vorab
+ * angelegten Felder und veröffentlichen ihn über die Sequenznummer des Slots
+ * (volatile). Der Writer-Thread liest die Slots der Reihe nach, formatiert
+ * und schreibt - nur er hält den Lock von System.out.
+ *
+ * Ist der Ring voll, wird das Event verworfen und gezählt (dropped()):
+ * Logging bremst den Hot Path nie aus.
+ *
+ * Level global, Standard INFO, änderbar über -Deventlog.level=WARN oder setLevel().
+ * Ausgabe: 2024-01-01T12:00:00.123Z INFO  [KATEGORIE] Nachricht
+ */
+public final class EventLog {
+
+    private static final int DEFAULT_CAPACITY = 1 << 14;
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final long SHUTDOWN_FLUSH_MILLIS = 1_000;
+
+    private static final EventLog INSTANCE = new EventLog(DEFAULT_CAPACITY, () -> System.out);
+    private static volatile LogLevel level = LogLevel.valueOf(System.getProperty("eventlog.level", "INFO"));
+
+    private final Slot[] slots;
+    private final int mask;
+    private final AtomicLong claimed = new AtomicLong();
+    private final AtomicLong written = new AtomicLong();
+    private final LongAdder dropped = new LongAdder();
+    // System.out erst beim Schreiben auflösen - Benchmarks schalten es per setOut stumm
+    private final Supplier<PrintStream> output;
+    private final StringBuilder line = new StringBuilder(256);
+
+    private EventLog(int capacity, Supplier<PrintStream> output) {
+        this.slots = new Slot[capacity];
+        for (int i = 0; i < capacity; i++) {
+            slots[i] = new Slot(i - (long) capacity);
+        }
+        this.mask = capacity - 1;
+        this.output = output;
+
+        Thread writer = new Thread(this::writeLoop, "event-log-writer");
+        writer.setDaemon(true);
+        writer.start();
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> flush(SHUTDOWN_FLUSH_MILLIS)));
+    }
+
+    public static EventLogger logger(String category) {
+        return new EventLogger(category, INSTANCE);
+    }
+
+    public static LogLevel level() {
+        return level;
+    }
+
+    public static void setLevel(LogLevel newLevel) {
+        level = newLevel;
+    }
+
+    // Verworfene Events, weil der Ring voll war
+    public static long dropped() {
+        return INSTANCE.dropped.sum();
+    }
+
+    /**
+     * Wartet, bis alle bisher veröffentlichten Events geschrieben sind.
+     *
+     * @return false, wenn das in timeoutMillis nicht geklappt hat
+     */
+    public static boolean flush(long timeoutMillis) {
+        long target = INSTANCE.claimed.get();
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        while (INSTANCE.written.get() < target) {
+            if (System.nanoTime() - deadline > 0) {
+                return false;
+            }
+            LockSupport.parkNanos(IDLE_PARK_NANOS);
+        }
+        return true;
+    }
+
+    void publish(LogLevel eventLevel, String category, String pattern, int argCount,
+                 Object arg0, Object arg1, Object arg2) {
+        long sequence;
+        do {
+            sequence = claimed.get();
+            if (sequence - written.get() >= slots.length) {
+                dropped.increment();
+                return;
+            }
+        } while (!claimed.compareAndSet(sequence, sequence + 1));
+
+        Slot slot = slots[(int) (sequence & mask)];
+        slot.timestampMillis = System.currentTimeMillis();
+        slot.level = eventLevel;
+        slot.category = category;
+        slot.pattern = pattern;
+        slot.argCount = argCount;
+        slot.arg0 = arg0;
+        slot.arg1 = arg1;
+        slot.arg2 = arg2;
+        slot.sequence = sequence;  // veröffentlicht den Slot
+    }
+
+    private void writeLoop() {
+        while (true) {
+            if (writeAvailable() == 0) {
+                LockSupport.parkNanos(IDLE_PARK_NANOS);
+            }
+        }
+    }
+
+    private int writeAvailable() {
+        long next = written.get();
+        int count = 0;
+        Slot slot;
+        while ((slot = slots[(int) (next & mask)]).sequence == next) {
+            line.setLength(0);
+            try {
+                slot.formatTo(line);
+            } catch (RuntimeException e) {
+                // toString() eines Arguments ist fremder Code - der Writer-Thread darf daran nicht sterben
+                line.setLength(0);
+                slot.formatFallbackTo(line, e);
+            }
+            slot.clear();
+            written.set(++next);  // gibt den Slot für Aufrufer frei
+            output.get().println(line);
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * Ein vorab angelegter Eintrag im Ring. sequence sagt, für welche
+     * Runde der Slot gefüllt ist - erst danach sind die anderen Felder gültig.
+     */
+    private static final class Slot {
+        volatile long sequence;
+        long timestampMillis;
+        LogLevel level;
+        String category;
+        String pattern;
+        int argCount;
+        Object arg0;
+        Object arg1;
+        Object arg2;
+
+        Slot(long initialSequence) {
+            this.sequence = initialSequence;
+        }
+
+        void formatTo(StringBuilder out) {
+            formatHeaderTo(out);
+
+            int argIndex = 0;
+            int from = 0;
+            int placeholder;
+            while (argIndex < argCount && (placeholder = pattern.indexOf("{}", from)) >= 0) {
+                out.append(pattern, from, placeholder).append(arg(argIndex++));
+                from = placeholder + 2;
+            }
+            out.append(pattern, from, pattern.length());
+        }
+
+        // Kopfzeile, Muster unformatiert, Hinweis auf den Fehler - ohne toString() der Argumente
+        void formatFallbackTo(StringBuilder out, RuntimeException failure) {
+            formatHeaderTo(out);
+            out.append(pattern).append(" <formatting failed: ").append(failure.getClass().getName()).append('>');
+        }
+
+        private void formatHeaderTo(StringBuilder out) {
+            out.append(Instant.ofEpochMilli(timestampMillis)).append(' ');
+            out.append(level);
+            for (int i = level.name().length(); i < 6; i++) {
+                out.append(' ');
+            }
+            out.append('[').append(category).append("] ");
+        }
+
+        private Object arg(int index) {
+            return switch (index) {
+                case 0 -> arg0;
+                case 1 -> arg1;
+                default -> arg2;
+            };
+        }
+
+        // Referenzen nicht länger als nötig festhalten
+        void clear() {
+            category = null;
+            pattern = null;
+            arg0 = null;
+            arg1 = null;
+            arg2 = null;
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package loadtest;
+
+/**
+ * java -jar loadtest/clean/target/loadtest.jar [--clients 16 --rate 10000 ...]
+ */
+public class ArchitectureLoadTest {
+
+    public static void main(String[] args) throws Exception {
+        LoadTest.run(args, CleanSystem::new);
+    }
+}
@@ -0,0 +1,126 @@
+package loadtest;
+
+import order.entity.exception.OrderException;
+import order.entity.exception.OrderNotFoundException;
+import order.entity.model.*;
+import order.framework.config.OrderModuleConfiguration;
+import order.framework.web.OrderHttpRoutes;
+import order.interfaceadapter.controller.OrderController;
+import order.usecase.dto.OrderItemRequest;
+import order.usecase.dto.UpdateOrderRequest;
+import product.entity.exception.InsufficientStockException;
+import product.entity.model.Product;
+import product.framework.config.ProductModuleConfiguration;
+import product.usecase.boundary.output.ProductGateway;
+import shared.http.HttpServerAdapter;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.util.List;
+import java.util.concurrent.Executors;
+
+/**
+ * Clean architecture: the gateways are not thread-safe - all calls run one
+ * after another, like CleanHttpApplication with its single worker thread.
+ *
+ * The demo external order system reports every id above 1000 as existing,
+ * which would reject nearly every confirmation. The load test wires an
+ * external system that knows no orders instead.
+ */
+final class CleanSystem implements SystemUnderTest {
+
+    private static final long FIRST_ORDER_ID = 2_000;
+    private static final long PRODUCT_ID = 1;
+    private static final CustomerId CUSTOMER_ID = new CustomerId("CUST-LOAD");
+    private static final UpdateOrderRequest UPDATE = new UpdateOrderRequest(
+            List.of(new OrderItemRequest(PRODUCT_ID, 1, new BigDecimal("29.99"))));
+
+    private final ProductModuleConfiguration productConfig = new ProductModuleConfiguration();
+    private final OrderModuleConfiguration orderConfig = new OrderModuleConfiguration(
+            productConfig.getProductGateway(),
+            productConfig.getReserveStockUseCase(),
+            MoneyArithmetic.BIG_DECIMAL,
+            orderId -> false
+    );
+    private HttpServerAdapter server;
+
+    @Override
+    public String name() {
+        return "clean";
+    }
+
+    @Override
+    public long seed(int orders) {
+        replenishStock(productConfig.getProductGateway());
+        List<OrderItem> items = List.of(OrderItem.create(new ProductId(PRODUCT_ID), Quantity.of(1), Money.of(29.99)));
+        for (long id = FIRST_ORDER_ID; id < FIRST_ORDER_ID + orders; id++) {
+            orderConfig.getOrderGateway().save(
+                    Order.reconstitute(new OrderId(id), CUSTOMER_ID, items, OrderStatus.DRAFT));
+        }
+        return FIRST_ORDER_ID;
+    }
+
+    @Override
+    public Target inProcessTarget() {
+        OrderController controller = orderConfig.getOrderController();
+        return Target.serialized(new Target() {
+            @Override
+            public void getOrder(long orderId) {
+                controller.getOrder(orderId);
+            }
+
+            @Override
+            public void updateOrder(long orderId) {
+                controller.updateOrder(orderId, UPDATE);
+            }
+
+            @Override
+            public void confirmOrder(long orderId) {
+                controller.confirmOrder(orderId);
+            }
+        });
+    }
+
+    @Override
+    public URI startHttpServer() throws IOException {
+        server = new HttpServerAdapter(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0),
+                Executors.newSingleThreadExecutor(), CleanSystem::statusOf);
+        new OrderHttpRoutes(orderConfig.getOrderController()).registerOn(server);
+        server.start();
+        return URI.create("http://127.0.0.1:" + server.port());
+    }
+
+    @Override
+    public String updateOrderJson() {
+        return "{\"items\":[{\"productId\":1,\"quantity\":1,\"price\":29.99}]}";
+    }
+
+    @Override
+    public void close() {
+        if (server != null) {
+            server.close();
+        }
+    }
+
+    // Same as CleanHttpApplication.statusOf (default package, not importable here)
+    private static int statusOf(RuntimeException e) {
+        if (e instanceof OrderNotFoundException) {
+            return 404;
+        }
+        if (e instanceof OrderException || e instanceof InsufficientStockException
+                || e instanceof IllegalStateException) {
+            return 409;
+        }
+        return e instanceof IllegalArgumentException ? 400 : 500;
+    }
+
+    // Every confirmation reserves one unit - enough stock for any run
+    private static void replenishStock(ProductGateway productGateway) {
+        Product stocked = productGateway.findById(new product.entity.model.ProductId(PRODUCT_ID)).orElseThrow();
+        stocked.releaseStock(Integer.MAX_VALUE - stocked.getStock());
+        productGateway.save(stocked);
+    }
+}
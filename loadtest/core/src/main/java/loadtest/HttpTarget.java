@@ -0,0 +1,56 @@
+package loadtest;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+
+/**
+ * Ruft die Architektur über HTTP/1.1 auf (java.net.http, Keep-Alive-Pool).
+ * Status außer 200 und 304 zählt als Fehler.
+ */
+final class HttpTarget implements Target {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(30);
+
+    private final HttpClient client;
+    private final String baseUri;
+    private final HttpRequest.BodyPublisher updateBody;
+
+    HttpTarget(URI baseUri, String updateOrderJson) {
+        this.client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(TIMEOUT)
+            .build();
+        this.baseUri = baseUri.toString();
+        this.updateBody = HttpRequest.BodyPublishers.ofString(updateOrderJson);
+    }
+
+    @Override
+    public void getOrder(long orderId) throws Exception {
+        send(HttpRequest.newBuilder(URI.create(baseUri + "/orders/" + orderId)).GET());
+    }
+
+    @Override
+    public void updateOrder(long orderId) throws Exception {
+        send(HttpRequest.newBuilder(URI.create(baseUri + "/orders/" + orderId))
+            .header("Content-Type", "application/json")
+            .PUT(updateBody));
+    }
+
+    @Override
+    public void confirmOrder(long orderId) throws Exception {
+        send(HttpRequest.newBuilder(URI.create(baseUri + "/orders/" + orderId + "/confirm"))
+            .POST(HttpRequest.BodyPublishers.noBody()));
+    }
+
+    private void send(HttpRequest.Builder request) throws Exception {
+        HttpResponse<Void> response = client.send(request.timeout(TIMEOUT).build(),
+            HttpResponse.BodyHandlers.discarding());
+        int status = response.statusCode();
+        if (status != 200 && status != 304) {
+            throw new IllegalStateException("HTTP " + status);
+        }
+    }
+}
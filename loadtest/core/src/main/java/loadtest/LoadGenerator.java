@@ -0,0 +1,131 @@
+package loadtest;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Erzeugt die Last: ein Thread pro Client, gemischte Operationen nach Workload.
+ *
+ * Offenes Modell: Jeder Client hat Sollzeitpunkte im festen Abstand, versetzt
+ * gegenüber den anderen Clients. Hängt das System hinterher, werden die
+ * verpassten Zeitpunkte sofort nachgeholt und die Latenz ab dem Sollzeitpunkt
+ * gemessen - sonst würden genau die langsamen Phasen zu selten gemessen.
+ *
+ * Bestellungen: confirmOrder nimmt jeweils die nächste noch nicht bestätigte
+ * (von oben), updateOrder eine zufällige darunter, getOrder eine beliebige.
+ */
+final class LoadGenerator {
+
+    // Darunter aktiv warten statt parken - parkNanos ist zu ungenau
+    private static final long SPIN_THRESHOLD_NANOS = 50_000;
+    private static final long START_DELAY_NANOS = 20_000_000;
+
+    private final Target target;
+    private final Workload workload;
+    private final long firstOrderId;
+    private final long lastOrderId;
+    private final AtomicLong nextToConfirm;
+
+    LoadGenerator(Target target, Workload workload, long firstOrderId) {
+        this.target = target;
+        this.workload = workload;
+        this.firstOrderId = firstOrderId;
+        this.lastOrderId = firstOrderId + workload.orders() - 1;
+        this.nextToConfirm = new AtomicLong(lastOrderId);
+    }
+
+    Results run() throws InterruptedException {
+        long start = System.nanoTime() + START_DELAY_NANOS;
+        long measureFrom = start + workload.warmup().toNanos();
+        long end = measureFrom + workload.duration().toNanos();
+        long interval = workload.intervalNanos();
+
+        Results[] perClient = new Results[workload.clients()];
+        Thread[] threads = new Thread[workload.clients()];
+        for (int i = 0; i < threads.length; i++) {
+            Results results = new Results();
+            perClient[i] = results;
+            long firstSlot = start + interval * i / workload.clients();
+            SplittableRandom random = new SplittableRandom(i);
+            threads[i] = new Thread(() -> runClient(results, random, firstSlot, measureFrom, end, interval),
+                "load-client-" + i);
+            threads[i].start();
+        }
+
+        Results total = new Results();
+        for (int i = 0; i < threads.length; i++) {
+            threads[i].join();
+            total.add(perClient[i]);
+        }
+        return total;
+    }
+
+    private void runClient(Results results, SplittableRandom random, long firstSlot,
+                           long measureFrom, long end, long interval) {
+        waitUntil(firstSlot);
+        long intended = firstSlot;
+        while (true) {
+            long now = System.nanoTime();
+            if (interval == 0) {
+                intended = now;
+            } else if (intended > now) {
+                waitUntil(intended);
+            }
+            if (Math.max(intended, now) >= end) {
+                break;
+            }
+
+            Operation operation = workload.pick(random.nextInt(100));
+            long orderId = orderIdFor(operation, random);
+            long sent = System.nanoTime();
+            Exception error = invoke(operation, orderId);
+            long finished = System.nanoTime();
+
+            if (intended >= measureFrom) {
+                if (error == null) {
+                    results.record(operation, finished - intended, finished - sent);
+                } else {
+                    results.recordError(operation, finished - intended, finished - sent, error);
+                }
+            }
+            intended += interval;
+        }
+        if (interval > 0 && intended < end) {
+            results.recordNotSent((end - intended + interval - 1) / interval);
+        }
+    }
+
+    private long orderIdFor(Operation operation, SplittableRandom random) {
+        return switch (operation) {
+            case GET_ORDER -> random.nextLong(firstOrderId, lastOrderId + 1);
+            // Alle aufgebraucht: bestätigt eine schon bestätigte - zählt als Fehler
+            case CONFIRM_ORDER -> Math.max(firstOrderId, nextToConfirm.getAndDecrement());
+            case UPDATE_ORDER -> random.nextLong(firstOrderId, Math.max(firstOrderId, nextToConfirm.get()) + 1);
+        };
+    }
+
+    private Exception invoke(Operation operation, long orderId) {
+        try {
+            switch (operation) {
+                case GET_ORDER -> target.getOrder(orderId);
+                case UPDATE_ORDER -> target.updateOrder(orderId);
+                case CONFIRM_ORDER -> target.confirmOrder(orderId);
+            }
+            return null;
+        } catch (Exception e) {
+            return e;
+        }
+    }
+
+    private static void waitUntil(long deadline) {
+        long remaining;
+        while ((remaining = deadline - System.nanoTime()) > 0) {
+            if (remaining > SPIN_THRESHOLD_NANOS) {
+                LockSupport.parkNanos(remaining - SPIN_THRESHOLD_NANOS);
+            } else {
+                Thread.onSpinWait();
+            }
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package loadtest;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Einstiegspunkt für die Architektur-Module.
+ *
+ * Optionen (alle optional):
+ *   --clients 16        parallele Clients (je ein Thread)
+ *   --rate 10000        Soll-Operationen pro Sekunde über alle Clients, 0 = so schnell wie möglich
+ *   --warmup 10         Sekunden ohne Messung
+ *   --duration 30       Sekunden mit Messung
+ *   --orders 100000     angelegte Bestellungen
+ *   --mix 80,15,5       Prozent getOrder, updateOrder, confirmOrder
+ *   --transport inprocess|http
+ *   --hgrm DIR          schreibt pro Operation eine .hgrm-Datei
+ */
+public final class LoadTest {
+
+    private LoadTest() {
+    }
+
+    public static void run(String[] args, Supplier<SystemUnderTest> systems) throws Exception {
+        Map<String, String> options = parse(args);
+        String[] mix = options.getOrDefault("mix", "80,15,5").split(",");
+        if (mix.length != 3) {
+            throw new IllegalArgumentException("--mix expects get,update,confirm");
+        }
+        Workload workload = new Workload(
+            intOption(options, "clients", 16),
+            intOption(options, "rate", 10_000),
+            Duration.ofSeconds(intOption(options, "warmup", 10)),
+            Duration.ofSeconds(intOption(options, "duration", 30)),
+            Integer.parseInt(mix[0].trim()),
+            Integer.parseInt(mix[1].trim()),
+            Integer.parseInt(mix[2].trim()),
+            intOption(options, "orders", 100_000));
+        String transport = options.getOrDefault("transport", "inprocess");
+        if (!transport.equals("inprocess") && !transport.equals("http")) {
+            throw new IllegalArgumentException("--transport expects inprocess or http");
+        }
+
+        // Die Architekturen loggen jeden Aufruf auf System.out - das misst sonst die Konsole
+        PrintStream console = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+        String name;
+        Results results;
+        try (SystemUnderTest system = systems.get()) {
+            name = system.name();
+            console.printf("%s: lege %d Bestellungen an ...%n", name, workload.orders());
+            long firstOrderId = system.seed(workload.orders());
+
+            Target target = transport.equals("http")
+                ? new HttpTarget(system.startHttpServer(), system.updateOrderJson())
+                : system.inProcessTarget();
+            console.printf("%s: %d s Warmup, %d s Messung ...%n",
+                name, workload.warmup().toSeconds(), workload.duration().toSeconds());
+            try (target) {
+                results = new LoadGenerator(target, workload, firstOrderId).run();
+            }
+        } finally {
+            System.setOut(console);
+        }
+
+        String rate = workload.ratePerSecond() == 0 ? "unbegrenzt" : workload.ratePerSecond() + "/s";
+        results.print(console, String.format("%s (%s), %d Clients, Soll %s, Mix %d/%d/%d, %d s",
+            name, transport, workload.clients(), rate,
+            workload.getPercent(), workload.updatePercent(), workload.confirmPercent(),
+            workload.duration().toSeconds()), workload.duration());
+
+        String hgrm = options.get("hgrm");
+        if (hgrm != null) {
+            results.writeHgrm(Path.of(hgrm), name + "-" + transport);
+            console.println("Histogramme: " + Path.of(hgrm).toAbsolutePath());
+        }
+    }
+
+    private static Map<String, String> parse(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (int i = 0; i < args.length; i += 2) {
+            if (!args[i].startsWith("--") || i + 1 >= args.length) {
+                throw new IllegalArgumentException("Expected --option value, got: " + args[i]);
+            }
+            options.put(args[i].substring(2), args[i + 1]);
+        }
+        return options;
+    }
+
+    private static int intOption(Map<String, String> options, String key, int defaultValue) {
+        String value = options.get(key);
+        return value == null ? defaultValue : Integer.parseInt(value);
+    }
+}
@@ -0,0 +1,10 @@
+package loadtest;
+
+/**
+ * Die drei Use Cases des Lastprofils.
+ */
+public enum Operation {
+    GET_ORDER,
+    UPDATE_ORDER,
+    CONFIRM_ORDER
+}
@@ -0,0 +1,128 @@
+package loadtest;
+
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Locale;
+
+/**
+ * Latenzen pro Operation als HdrHistogram (Nanosekunden, 3 signifikante Stellen).
+ *
+ * responseTime: ab Sollzeitpunkt - enthält die Wartezeit, wenn das System
+ * hinterherhängt (Coordinated Omission korrigiert).
+ * serviceTime: ab tatsächlichem Senden - was ein naiver Messer sehen würde.
+ *
+ * Nicht thread-safe: ein Results pro Client, am Ende zusammengeführt.
+ */
+final class Results {
+
+    private static final Operation[] OPERATIONS = Operation.values();
+    private static final double NANOS_PER_MICRO = 1_000.0;
+
+    private final Histogram[] responseTime = new Histogram[OPERATIONS.length];
+    private final Histogram[] serviceTime = new Histogram[OPERATIONS.length];
+    private final long[] errors = new long[OPERATIONS.length];
+    private final String[] firstError = new String[OPERATIONS.length];
+    private long notSent;
+
+    Results() {
+        for (int i = 0; i < OPERATIONS.length; i++) {
+            responseTime[i] = new Histogram(3);
+            serviceTime[i] = new Histogram(3);
+        }
+    }
+
+    void record(Operation operation, long responseNanos, long serviceNanos) {
+        responseTime[operation.ordinal()].recordValue(responseNanos);
+        serviceTime[operation.ordinal()].recordValue(serviceNanos);
+    }
+
+    void recordError(Operation operation, long responseNanos, long serviceNanos, Exception error) {
+        record(operation, responseNanos, serviceNanos);
+        int index = operation.ordinal();
+        if (errors[index]++ == 0) {
+            firstError[index] = error.getClass().getSimpleName() + ": " + error.getMessage();
+        }
+    }
+
+    // Sollzeitpunkte, die bis zum Ende nicht mehr drankamen (System zu langsam für die Rate)
+    void recordNotSent(long count) {
+        notSent += count;
+    }
+
+    void add(Results other) {
+        for (int i = 0; i < OPERATIONS.length; i++) {
+            responseTime[i].add(other.responseTime[i]);
+            serviceTime[i].add(other.serviceTime[i]);
+            if (errors[i] == 0) {
+                firstError[i] = other.firstError[i];
+            }
+            errors[i] += other.errors[i];
+        }
+        notSent += other.notSent;
+    }
+
+    void print(PrintStream out, String title, Duration measured) {
+        double seconds = measured.toNanos() / 1e9;
+        out.println();
+        out.println(title);
+        out.printf(Locale.ROOT, "%-14s %10s %8s %12s %10s %10s %10s %10s %16s%n",
+            "Operation", "Anzahl", "Fehler", "Durchsatz/s", "p50 us", "p99 us", "p999 us", "max us", "p99 Service us");
+
+        Histogram totalResponse = new Histogram(3);
+        Histogram totalService = new Histogram(3);
+        long totalErrors = 0;
+        for (Operation operation : OPERATIONS) {
+            int i = operation.ordinal();
+            printRow(out, operation.name(), responseTime[i], serviceTime[i], errors[i], seconds);
+            totalResponse.add(responseTime[i]);
+            totalService.add(serviceTime[i]);
+            totalErrors += errors[i];
+        }
+        printRow(out, "TOTAL", totalResponse, totalService, totalErrors, seconds);
+
+        if (notSent > 0) {
+            out.printf("Nicht gesendet (hinter dem Zeitplan): %d%n", notSent);
+        }
+        for (Operation operation : OPERATIONS) {
+            if (firstError[operation.ordinal()] != null) {
+                out.printf("Erster Fehler %s: %s%n", operation, firstError[operation.ordinal()]);
+            }
+        }
+    }
+
+    /**
+     * Eine .hgrm-Datei pro Operation (Werte in µs), z.B. für den HdrHistogram-Plotter.
+     */
+    void writeHgrm(Path directory, String prefix) throws IOException {
+        Files.createDirectories(directory);
+        for (Operation operation : OPERATIONS) {
+            Path file = directory.resolve(prefix + "-" + operation.name().toLowerCase(Locale.ROOT) + ".hgrm");
+            try (PrintStream out = new PrintStream(Files.newOutputStream(file))) {
+                responseTime[operation.ordinal()].outputPercentileDistribution(out, NANOS_PER_MICRO);
+            }
+        }
+    }
+
+    private static void printRow(PrintStream out, String name, Histogram response, Histogram service,
+                                 long errors, double seconds) {
+        out.printf(Locale.ROOT, "%-14s %10d %8d %12.0f %10.1f %10.1f %10.1f %10.1f %16.1f%n",
+            name,
+            response.getTotalCount(),
+            errors,
+            response.getTotalCount() / seconds,
+            micros(response.getValueAtPercentile(50.0)),
+            micros(response.getValueAtPercentile(99.0)),
+            micros(response.getValueAtPercentile(99.9)),
+            micros(response.getMaxValue()),
+            micros(service.getValueAtPercentile(99.0)));
+    }
+
+    private static double micros(long nanos) {
+        return nanos / NANOS_PER_MICRO;
+    }
+}
@@ -0,0 +1,34 @@
+package loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+
+/**
+ * Eine Architektur, aufgebaut über ihre eigene Konfiguration.
+ * Implementiert pro Architektur-Modul.
+ */
+public interface SystemUnderTest extends AutoCloseable {
+
+    String name();
+
+    /**
+     * Legt orders Bestellungen im Status DRAFT an (je eine Position) und füllt
+     * den Lagerbestand auf, damit confirmOrder nicht am Bestand scheitert.
+     *
+     * @return ID der ersten Bestellung, die weiteren sind fortlaufend
+     */
+    long seed(int orders);
+
+    Target inProcessTarget();
+
+    /**
+     * Startet den HTTP-Server der Architektur auf einem freien Port (Loopback).
+     */
+    URI startHttpServer() throws IOException;
+
+    // Body für PUT /orders/{id}, Feldnamen je Architektur
+    String updateOrderJson();
+
+    @Override
+    void close();
+}
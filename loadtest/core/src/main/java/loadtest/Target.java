@@ -0,0 +1,46 @@
+package loadtest;
+
+/**
+ * Was der Lastgenerator aufruft - Controller im selben Prozess oder HTTP.
+ * Jede Exception zählt als Fehler, die Latenz wird trotzdem erfasst.
+ */
+public interface Target extends AutoCloseable {
+
+    void getOrder(long orderId) throws Exception;
+
+    void updateOrder(long orderId) throws Exception;
+
+    void confirmOrder(long orderId) throws Exception;
+
+    @Override
+    default void close() throws Exception {
+    }
+
+    /**
+     * Für Architekturen mit nicht thread-safe Stores: alle Aufrufe nacheinander,
+     * wie deren HTTP-Server mit einem Worker-Thread.
+     */
+    static Target serialized(Target target) {
+        return new Target() {
+            @Override
+            public synchronized void getOrder(long orderId) throws Exception {
+                target.getOrder(orderId);
+            }
+
+            @Override
+            public synchronized void updateOrder(long orderId) throws Exception {
+                target.updateOrder(orderId);
+            }
+
+            @Override
+            public synchronized void confirmOrder(long orderId) throws Exception {
+                target.confirmOrder(orderId);
+            }
+
+            @Override
+            public void close() throws Exception {
+                target.close();
+            }
+        };
+    }
+}
@@ -0,0 +1,54 @@
+package loadtest;
+
+import java.time.Duration;
+
+/**
+ * Lastprofil.
+ *
+ * ratePerSecond > 0: offenes Modell - jeder Client hat feste Sollzeitpunkte,
+ * Latenz zählt ab Sollzeitpunkt (Coordinated Omission korrigiert).
+ * ratePerSecond = 0: geschlossenes Modell - so schnell wie möglich,
+ * dann gibt es nur die Service-Zeit.
+ */
+public record Workload(
+    int clients,
+    int ratePerSecond,
+    Duration warmup,
+    Duration duration,
+    int getPercent,
+    int updatePercent,
+    int confirmPercent,
+    int orders
+) {
+
+    public Workload {
+        if (clients < 1) {
+            throw new IllegalArgumentException("clients must be positive");
+        }
+        if (ratePerSecond < 0) {
+            throw new IllegalArgumentException("rate cannot be negative");
+        }
+        if (getPercent < 0 || updatePercent < 0 || confirmPercent < 0
+                || getPercent + updatePercent + confirmPercent != 100) {
+            throw new IllegalArgumentException("mix must add up to 100");
+        }
+        if (orders < 1) {
+            throw new IllegalArgumentException("orders must be positive");
+        }
+    }
+
+    // Abstand der Sollzeitpunkte eines Clients, 0 im geschlossenen Modell
+    long intervalNanos() {
+        return ratePerSecond == 0 ? 0 : Math.max(1, 1_000_000_000L * clients / ratePerSecond);
+    }
+
+    Operation pick(int roll) {
+        if (roll < getPercent) {
+            return Operation.GET_ORDER;
+        }
+        if (roll < getPercent + updatePercent) {
+            return Operation.UPDATE_ORDER;
+        }
+        return Operation.CONFIRM_ORDER;
+    }
+}
@@ -0,0 +1,129 @@
+package loadtest;
+
+import order.adapter.config.ConfirmExecutors;
+import order.adapter.config.OrderConfiguration;
+import order.adapter.input.http.OrderHttpRoutes;
+import order.adapter.input.rest.OrderController;
+import order.application.dto.OrderItemRequest;
+import order.application.dto.UpdateOrderCommand;
+import order.domain.exception.OrderException;
+import order.domain.exception.OrderNotFoundException;
+import order.domain.model.*;
+import product.adapter.config.ProductConfiguration;
+import product.application.port.output.LoadProductPort;
+import product.application.port.output.SaveProductPort;
+import product.domain.exception.InsufficientStockException;
+import product.domain.model.Product;
+import shared.http.HttpServerAdapter;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.util.List;
+
+/**
+ * Hexagonal: Stores sind thread-safe, Controller wird direkt von allen Clients aufgerufen.
+ *
+ * -Dorder.shards=N: Use Cases laufen auf N Single-Writer-Shards (ShardedOrderUseCases).
+ */
+final class HexagonalSystem implements SystemUnderTest {
+
+    // Unterhalb liegen die IDs, die das externe System als "existiert bereits" meldet
+    private static final long FIRST_ORDER_ID = 2_000;
+    private static final long PRODUCT_ID = 1;
+    private static final CustomerId CUSTOMER_ID = CustomerId.of("CUST-LOAD");
+    private static final UpdateOrderCommand UPDATE = new UpdateOrderCommand(
+        List.of(new OrderItemRequest(PRODUCT_ID, 1, new BigDecimal("29.99"))));
+
+    private final ProductConfiguration productConfig = new ProductConfiguration();
+    private final OrderConfiguration orderConfig = new OrderConfiguration(
+        productConfig.loadProductPort(),
+        productConfig.reserveStockUseCase(),
+        MoneyArithmetic.BIG_DECIMAL,
+        ConfirmExecutors.sequential(),
+        null,
+        Integer.getInteger("order.shards", 0)
+    );
+    private HttpServerAdapter server;
+
+    @Override
+    public String name() {
+        return orderConfig.orderShards() != null
+            ? "hexagonal-" + orderConfig.orderShards().shardCount() + "-shards"
+            : "hexagonal";
+    }
+
+    @Override
+    public long seed(int orders) {
+        replenishStock(productConfig.loadProductPort(), productConfig.saveProductPort());
+        List<OrderItem> items = List.of(OrderItem.create(ProductId.of(PRODUCT_ID), Quantity.of(1), Money.of(29.99)));
+        for (long id = FIRST_ORDER_ID; id < FIRST_ORDER_ID + orders; id++) {
+            orderConfig.saveOrderPort().save(Order.reconstitute(OrderId.of(id), CUSTOMER_ID, items, OrderStatus.DRAFT));
+        }
+        return FIRST_ORDER_ID;
+    }
+
+    @Override
+    public Target inProcessTarget() {
+        OrderController controller = orderConfig.orderController();
+        return new Target() {
+            @Override
+            public void getOrder(long orderId) {
+                controller.getOrder(orderId);
+            }
+
+            @Override
+            public void updateOrder(long orderId) {
+                controller.updateOrder(orderId, UPDATE);
+            }
+
+            @Override
+            public void confirmOrder(long orderId) {
+                controller.confirmOrder(orderId);
+            }
+        };
+    }
+
+    @Override
+    public URI startHttpServer() throws IOException {
+        server = new HttpServerAdapter(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0),
+            HttpServerAdapter.defaultExecutor(), HexagonalSystem::statusOf);
+        new OrderHttpRoutes(orderConfig.orderController()).registerOn(server);
+        server.start();
+        return URI.create("http://127.0.0.1:" + server.port());
+    }
+
+    @Override
+    public String updateOrderJson() {
+        return "{\"items\":[{\"productId\":1,\"quantity\":1,\"unitPrice\":29.99}]}";
+    }
+
+    @Override
+    public void close() {
+        if (server != null) {
+            server.close();
+        }
+        orderConfig.close();
+    }
+
+    // Wie HexagonalHttpApplication.statusOf (Default-Package, hier nicht importierbar)
+    private static int statusOf(RuntimeException e) {
+        if (e instanceof OrderNotFoundException) {
+            return 404;
+        }
+        if (e instanceof OrderException || e instanceof InsufficientStockException
+                || e instanceof IllegalStateException) {
+            return 409;
+        }
+        return e instanceof IllegalArgumentException ? 400 : 500;
+    }
+
+    // Jede Bestätigung reserviert eine Einheit - Bestand reicht für jeden Lauf
+    private static void replenishStock(LoadProductPort loadProductPort, SaveProductPort saveProductPort) {
+        Product stocked = loadProductPort.loadById(product.domain.model.ProductId.of(PRODUCT_ID)).orElseThrow();
+        stocked.releaseStock(Integer.MAX_VALUE - stocked.getStockQuantity());
+        saveProductPort.save(stocked);
+    }
+}
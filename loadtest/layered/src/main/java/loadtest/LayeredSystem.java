@@ -0,0 +1,117 @@
+package loadtest;
+
+import order.config.OrderConfiguration;
+import order.dto.OrderItemRequest;
+import order.dto.UpdateOrderRequest;
+import order.exception.OrderAlreadyExistsException;
+import order.exception.OrderNotFoundException;
+import order.model.*;
+import order.presentation.OrderController;
+import order.presentation.OrderHttpRoutes;
+import product.config.ProductConfiguration;
+import product.exception.InsufficientStockException;
+import product.model.Product;
+import product.repository.ProductRepository;
+import shared.http.HttpServerAdapter;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.util.List;
+import java.util.concurrent.Executors;
+
+/**
+ * Layered: Repositories sind nicht thread-safe - alle Aufrufe nacheinander,
+ * wie LayeredHttpApplication mit einem Worker-Thread.
+ */
+final class LayeredSystem implements SystemUnderTest {
+
+    // Unterhalb liegen die IDs, die das externe System als "existiert bereits" meldet
+    private static final long FIRST_ORDER_ID = 2_000;
+    private static final long PRODUCT_ID = 1;
+    private static final CustomerId CUSTOMER_ID = CustomerId.of("CUST-LOAD");
+    private static final UpdateOrderRequest UPDATE = new UpdateOrderRequest(
+        List.of(new OrderItemRequest(PRODUCT_ID, 1, new BigDecimal("29.99"))));
+
+    private final ProductConfiguration productConfig = new ProductConfiguration();
+    private final OrderConfiguration orderConfig = new OrderConfiguration(productConfig.productRepository());
+    private HttpServerAdapter server;
+
+    @Override
+    public String name() {
+        return "layered";
+    }
+
+    @Override
+    public long seed(int orders) {
+        replenishStock(productConfig.productRepository());
+        List<OrderItem> items = List.of(OrderItem.create(ProductId.of(PRODUCT_ID), Quantity.of(1), Money.of(29.99)));
+        for (long id = FIRST_ORDER_ID; id < FIRST_ORDER_ID + orders; id++) {
+            orderConfig.orderRepository().save(Order.reconstitute(OrderId.of(id), CUSTOMER_ID, items, OrderStatus.DRAFT));
+        }
+        return FIRST_ORDER_ID;
+    }
+
+    @Override
+    public Target inProcessTarget() {
+        OrderController controller = orderConfig.orderController();
+        return Target.serialized(new Target() {
+            @Override
+            public void getOrder(long orderId) {
+                controller.getOrder(orderId);
+            }
+
+            @Override
+            public void updateOrder(long orderId) {
+                controller.updateOrder(orderId, UPDATE);
+            }
+
+            @Override
+            public void confirmOrder(long orderId) {
+                controller.confirmOrder(orderId);
+            }
+        });
+    }
+
+    @Override
+    public URI startHttpServer() throws IOException {
+        server = new HttpServerAdapter(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0),
+            Executors.newSingleThreadExecutor(), LayeredSystem::statusOf);
+        new OrderHttpRoutes(orderConfig.orderController()).registerOn(server);
+        server.start();
+        return URI.create("http://127.0.0.1:" + server.port());
+    }
+
+    @Override
+    public String updateOrderJson() {
+        return "{\"items\":[{\"productId\":1,\"quantity\":1,\"unitPrice\":29.99}]}";
+    }
+
+    @Override
+    public void close() {
+        if (server != null) {
+            server.close();
+        }
+    }
+
+    // Wie LayeredHttpApplication.statusOf (Default-Package, hier nicht importierbar)
+    private static int statusOf(RuntimeException e) {
+        if (e instanceof OrderNotFoundException) {
+            return 404;
+        }
+        if (e instanceof OrderAlreadyExistsException || e instanceof InsufficientStockException
+                || e instanceof IllegalStateException) {
+            return 409;
+        }
+        return e instanceof IllegalArgumentException ? 400 : 500;
+    }
+
+    // Jede Bestätigung reserviert eine Einheit - Bestand reicht für jeden Lauf
+    private static void replenishStock(ProductRepository productRepository) {
+        Product stocked = productRepository.findById(product.model.ProductId.of(PRODUCT_ID)).orElseThrow();
+        stocked.releaseStock(Integer.MAX_VALUE - stocked.getStockQuantity());
+        productRepository.save(stocked);
+    }
+}
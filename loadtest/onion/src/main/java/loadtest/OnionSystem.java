@@ -0,0 +1,122 @@
+package loadtest;
+
+import order.application.dto.OrderItemRequest;
+import order.application.dto.UpdateOrderCommand;
+import order.core.exception.OrderAlreadyExistsException;
+import order.core.exception.OrderNotFoundException;
+import order.core.exception.OrderVersionConflictException;
+import order.core.model.*;
+import order.infrastructure.config.OrderModuleConfiguration;
+import order.infrastructure.web.OrderController;
+import order.infrastructure.web.OrderHttpRoutes;
+import product.application.repository.ProductRepository;
+import product.core.exception.InsufficientStockException;
+import product.core.model.Product;
+import product.infrastructure.config.ProductModuleConfiguration;
+import shared.http.HttpServerAdapter;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.util.List;
+
+/**
+ * Onion: Repositories sind thread-safe, Stock-Änderungen laufen pro Produkt
+ * unter einem Lock (ProductStockService) und Order-Saves per Compare-and-Set.
+ * Controller wird daher direkt von allen Clients aufgerufen - alle Clients
+ * bestätigen gegen dasselbe Produkt und messen damit auch den Lock.
+ */
+final class OnionSystem implements SystemUnderTest {
+
+    // Unterhalb liegen die IDs, die das externe System als "existiert bereits" meldet
+    private static final long FIRST_ORDER_ID = 2_000;
+    private static final long PRODUCT_ID = 1;
+    private static final CustomerId CUSTOMER_ID = CustomerId.of("CUST-LOAD");
+    private static final UpdateOrderCommand UPDATE = new UpdateOrderCommand(
+        List.of(new OrderItemRequest(PRODUCT_ID, 1, new BigDecimal("29.99"))));
+
+    private final ProductModuleConfiguration productConfig = new ProductModuleConfiguration();
+    private final OrderModuleConfiguration orderConfig = new OrderModuleConfiguration(
+        productConfig.productRepository(),
+        productConfig.productStockService()
+    );
+    private HttpServerAdapter server;
+
+    @Override
+    public String name() {
+        return "onion";
+    }
+
+    @Override
+    public long seed(int orders) {
+        replenishStock(productConfig.productRepository());
+        List<OrderItem> items = List.of(OrderItem.create(ProductId.of(PRODUCT_ID), Quantity.of(1), Money.of(29.99)));
+        for (long id = FIRST_ORDER_ID; id < FIRST_ORDER_ID + orders; id++) {
+            orderConfig.orderRepository().save(Order.reconstitute(OrderId.of(id), CUSTOMER_ID, items, OrderStatus.DRAFT));
+        }
+        return FIRST_ORDER_ID;
+    }
+
+    @Override
+    public Target inProcessTarget() {
+        OrderController controller = orderConfig.orderController();
+        return new Target() {
+            @Override
+            public void getOrder(long orderId) {
+                controller.getOrder(orderId);
+            }
+
+            @Override
+            public void updateOrder(long orderId) {
+                controller.updateOrder(orderId, UPDATE);
+            }
+
+            @Override
+            public void confirmOrder(long orderId) {
+                controller.confirmOrder(orderId);
+            }
+        };
+    }
+
+    @Override
+    public URI startHttpServer() throws IOException {
+        server = new HttpServerAdapter(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0),
+            HttpServerAdapter.defaultExecutor(), OnionSystem::statusOf);
+        new OrderHttpRoutes(orderConfig.orderController()).registerOn(server);
+        server.start();
+        return URI.create("http://127.0.0.1:" + server.port());
+    }
+
+    @Override
+    public String updateOrderJson() {
+        return "{\"items\":[{\"productId\":1,\"quantity\":1,\"unitPrice\":29.99}]}";
+    }
+
+    @Override
+    public void close() {
+        if (server != null) {
+            server.close();
+        }
+    }
+
+    // Wie OnionHttpApplication.statusOf (Default-Package, hier nicht importierbar)
+    private static int statusOf(RuntimeException e) {
+        if (e instanceof OrderNotFoundException) {
+            return 404;
+        }
+        if (e instanceof OrderAlreadyExistsException || e instanceof OrderVersionConflictException
+                || e instanceof InsufficientStockException || e instanceof IllegalStateException) {
+            return 409;
+        }
+        return e instanceof IllegalArgumentException ? 400 : 500;
+    }
+
+    // Jede Bestätigung reserviert eine Einheit - Bestand reicht für jeden Lauf
+    private static void replenishStock(ProductRepository productRepository) {
+        Product stocked = productRepository.findById(product.core.model.ProductId.of(PRODUCT_ID)).orElseThrow();
+        stocked.releaseStock(Integer.MAX_VALUE - stocked.getStockQuantity());
+        productRepository.save(stocked);
+    }
+}
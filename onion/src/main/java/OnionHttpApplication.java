@@ -0,0 +1,59 @@
+import order.core.exception.OrderAlreadyExistsException;
+import order.core.exception.OrderNotFoundException;
+import order.core.exception.OrderVersionConflictException;
+import order.infrastructure.config.OrderModuleConfiguration;
+import order.infrastructure.web.OrderHttpRoutes;
+import product.core.exception.InsufficientStockException;
+import product.core.exception.ProductNotFoundException;
+import product.infrastructure.config.ProductModuleConfiguration;
+import product.infrastructure.web.ProductHttpRoutes;
+import shared.http.HttpServerAdapter;
+
+import java.io.IOException;
+
+/**
+ * Startet die Onion-Variante hinter einem echten HTTP-Server.
+ *
+ *   GET  /orders/{id}            (ETag, If-None-Match → 304)
+ *   PUT  /orders/{id}            {"items":[{"productId":1,"quantity":2,"unitPrice":29.99}]}
+ *   POST /orders/{id}/confirm
+ *   GET  /products, /products/{id}
+ *
+ * Aufruf: java OnionHttpApplication [port], Standard 8080.
+ */
+public class OnionHttpApplication {
+
+    private static final int DEFAULT_PORT = 8080;
+
+    public static void main(String[] args) throws IOException {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_PORT;
+
+        ProductModuleConfiguration productConfig = new ProductModuleConfiguration();
+        OrderModuleConfiguration orderConfig = new OrderModuleConfiguration(
+            productConfig.productRepository(),
+            productConfig.productStockService()
+        );
+
+        HttpServerAdapter server = new HttpServerAdapter(port, OnionHttpApplication::statusOf);
+        new OrderHttpRoutes(orderConfig.orderController()).registerOn(server);
+        new ProductHttpRoutes(productConfig.productController()).registerOn(server);
+        server.start();
+
+        Runtime.getRuntime().addShutdownHook(new Thread(server::close));
+        System.out.println("Onion HTTP server listening on port " + server.port());
+    }
+
+    static int statusOf(RuntimeException e) {
+        if (e instanceof OrderNotFoundException || e instanceof ProductNotFoundException) {
+            return 404;
+        }
+        if (e instanceof OrderAlreadyExistsException || e instanceof OrderVersionConflictException
+                || e instanceof InsufficientStockException || e instanceof IllegalStateException) {
+            return 409;
+        }
+        if (e instanceof IllegalArgumentException || e instanceof ArithmeticException) {
+            return 400;
+        }
+        return 500;
+    }
+}
@@ -7,13 +7,21 @@ import order.application.repository.OrderRepository;
 import order.application.service.ExternalOrderService;
 import order.application.service.NotificationService;
 import order.application.service.ProductInfoService;
+import order.application.service.ProductInfoService.ProductInfo;
 import order.core.exception.OrderAlreadyExistsException;
 import order.core.exception.OrderNotFoundException;
 import order.core.model.*;
 import order.domainservices.OrderConfirmationCalculator;
 import product.application.service.ProductStockService;  // Product's Service direkt!
+import shared.log.EventLog;
+import shared.log.EventLogger;
 
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
 
 /**
  * Application Service - Orchestriert Use Cases.
@@ -23,6 +31,8 @@ import java.util.List;
  */
 public class OrderApplicationService {
 
+    private static final EventLogger LOG = EventLog.logger("ORDER SERVICE");
+
     private final OrderRepository orderRepository;
     private final OrderConfirmationRepository confirmationRepository;
     private final NotificationService notificationService;
@@ -31,6 +41,7 @@ public class OrderApplicationService {
     private final ProductStockService productStockService;  // Product's Service!
     private final OrderConfirmationCalculator calculator;
     private final OrderMapper mapper;
+    private final Executor ioExecutor;
 
     public OrderApplicationService(
             OrderRepository orderRepository,
@@ -39,14 +50,33 @@ public class OrderApplicationService {
             ExternalOrderService externalOrderService,
             ProductInfoService productInfoService,
             ProductStockService productStockService) {
+        // Ohne Executor: alle Schritte im aufrufenden Thread, nacheinander
+        this(orderRepository, confirmationRepository, notificationService, externalOrderService,
+            productInfoService, productStockService, MoneyArithmetic.BIG_DECIMAL, Runnable::run);
+    }
+
+    /**
+     * Konstruktor mit Auswahl der Geld-Arithmetik für Summen und Bestätigungen
+     * und dem Executor für die unabhängigen I/O-Schritte in confirmOrder.
+     */
+    public OrderApplicationService(
+            OrderRepository orderRepository,
+            OrderConfirmationRepository confirmationRepository,
+            NotificationService notificationService,
+            ExternalOrderService externalOrderService,
+            ProductInfoService productInfoService,
+            ProductStockService productStockService,
+            MoneyArithmetic arithmetic,
+            Executor ioExecutor) {
         this.orderRepository = orderRepository;
         this.confirmationRepository = confirmationRepository;
         this.notificationService = notificationService;
         this.externalOrderService = externalOrderService;
         this.productInfoService = productInfoService;
         this.productStockService = productStockService;
-        this.calculator = new OrderConfirmationCalculator();
-        this.mapper = new OrderMapper();
+        this.calculator = new OrderConfirmationCalculator(arithmetic);
+        this.mapper = new OrderMapper(arithmetic);
+        this.ioExecutor = ioExecutor;
     }
 
     public OrderResponse getOrder(OrderId orderId) {
@@ -54,6 +84,11 @@ public class OrderApplicationService {
         return mapper.toResponse(order);
     }
 
+    /**
+     * Optimistic Locking: wurde die Order seit dem Laden geändert (z.B. gleichzeitig
+     * bestätigt), wirft das Repository eine OrderVersionConflictException - nichts
+     * wird überschrieben, der Aufrufer kann neu laden und es erneut versuchen.
+     */
     public OrderResponse updateOrder(OrderId orderId, UpdateOrderCommand command) {
         Order order = findOrder(orderId);
 
@@ -64,16 +99,40 @@ public class OrderApplicationService {
         return mapper.toResponse(savedOrder);
     }
 
+    /**
+     * Unabhängige I/O-Schritte laufen über den ioExecutor gleichzeitig:
+     * externe Prüfung und Produktinfos. Mit sequentiellem Executor kommt die
+     * externe Prüfung zuerst - wie ohne Executor.
+     *
+     * Der Order-Save ist der Commit-Punkt (Compare-and-Set über die Version):
+     * erst danach wird die Confirmation gespeichert und benachrichtigt. Schlägt
+     * er fehl (Konflikt mit einem gleichzeitigen Writer, aber auch z.B. ein
+     * I/O-Fehler), wird der reservierte Bestand zurückgegeben und die Exception
+     * durchgereicht.
+     */
     public OrderConfirmationResponse confirmOrder(OrderId orderId) {
         Order order = findOrder(orderId);
 
+        // Externe Prüfung und Produktinfos hängen nicht voneinander ab
+        CompletableFuture<Boolean> existsCheck =
+            async(() -> externalOrderService.existsInExternalSystem(orderId));
+        // Sequentieller Executor: die Prüfung ist schon gelaufen - bei einem
+        // Treffer (oder Fehler) gar nicht erst Produktinfos laden
+        if (existsCheck.isDone() && await(existsCheck)) {
+            throw new OrderAlreadyExistsException(orderId);
+        }
+        List<CompletableFuture<Optional<ProductInfo>>> productInfos = order.getItems().stream()
+            .map(item -> async(() -> productInfoService.getProductInfo(item.getProductId())))
+            .toList();
+
         // Prüfung gegen externes System
-        if (externalOrderService.existsInExternalSystem(orderId)) {
+        if (await(existsCheck)) {
+            productInfos.forEach(info -> info.cancel(false));
             throw new OrderAlreadyExistsException(orderId);
         }
 
-        // Produktinformationen laden und Hersteller ausgeben
-        printProductManufacturers(order);
+        // Hersteller ausgeben
+        printProductManufacturers(order, productInfos);
 
         // Stock reservieren - DIREKT über Product's Service!
         reserveStockForOrder(order);
@@ -84,8 +143,13 @@ public class OrderApplicationService {
         // Berechnung (Domain Service)
         OrderConfirmation confirmation = calculator.calculate(order);
 
-        // Persistieren
-        orderRepository.save(order);
+        // Persistieren - Order zuerst, die Confirmation nur für eine gespeicherte Order
+        try {
+            orderRepository.save(order);
+        } catch (RuntimeException e) {
+            releaseStockForOrder(order, e);
+            throw e;
+        }
         OrderConfirmation savedConfirmation = confirmationRepository.save(confirmation);
 
         // Benachrichtigung
@@ -94,17 +158,20 @@ public class OrderApplicationService {
         return mapper.toResponse(savedConfirmation);
     }
 
-    private void printProductManufacturers(Order order) {
+    private void printProductManufacturers(Order order,
+                                           List<CompletableFuture<Optional<ProductInfo>>> productInfos) {
         // PSEUDO-CODE: Repräsentiert Logging/Audit-Action die in Produktion
         // über einen Logger oder AuditService erfolgen würde
-        System.out.println("[ORDER CONFIRM] Produkte in Bestellung " + order.getId().value() + ":");
-        for (OrderItem item : order.getItems()) {
-            productInfoService.getProductInfo(item.getProductId())
+        Long orderId = order.getId().value();
+        List<OrderItem> items = order.getItems();
+        for (int i = 0; i < items.size(); i++) {
+            OrderItem item = items.get(i);
+            await(productInfos.get(i))
                 .ifPresentOrElse(
-                    info -> System.out.printf("  - %s (Hersteller: %s)%n",
-                        info.productName(), info.manufacturer()),
-                    () -> System.out.printf("  - Produkt %d (Hersteller: unbekannt)%n",
-                        item.getProductId().value())
+                    info -> LOG.info("Bestellung {}: {} (Hersteller: {})",
+                        orderId, info.productName(), info.manufacturer()),
+                    () -> LOG.info("Bestellung {}: Produkt {} (Hersteller: unbekannt)",
+                        orderId, item.getProductId().value())
                 );
         }
     }
@@ -120,7 +187,7 @@ public class OrderApplicationService {
      */
     private void reserveStockForOrder(Order order) {
         // PSEUDO-CODE: Logging-Action
-        System.out.println("[ORDER SERVICE] Reserviere Lagerbestand für Order " + order.getId().value());
+        LOG.info("Reserviere Lagerbestand für Order {}", order.getId().value());
 
         for (OrderItem item : order.getItems()) {
             // Konvertiere Order.ProductId → Product.ProductId
@@ -128,7 +195,18 @@ public class OrderApplicationService {
                 product.core.model.ProductId.of(item.getProductId().value());
 
             // DIREKT Product's Service aufrufen!
-            productStockService.reserveStock(productId, item.getQuantity());
+            productStockService.reserveStock(productId, item.getQuantity().value());
+        }
+    }
+
+    // Kompensation zu reserveStockForOrder, wenn die Order nicht gespeichert wurde
+    private void releaseStockForOrder(Order order, RuntimeException cause) {
+        LOG.warn("Gebe Lagerbestand für Order {} zurück ({})", order.getId().value(), cause.getClass().getSimpleName());
+        for (OrderItem item : order.getItems()) {
+            productStockService.releaseStock(
+                product.core.model.ProductId.of(item.getProductId().value()),
+                item.getQuantity().value()
+            );
         }
     }
 
@@ -136,4 +214,23 @@ public class OrderApplicationService {
         return orderRepository.findById(orderId)
             .orElseThrow(() -> new OrderNotFoundException(orderId));
     }
+
+    private <T> CompletableFuture<T> async(Supplier<T> step) {
+        return CompletableFuture.supplyAsync(step, ioExecutor);
+    }
+
+    // Wartet auf den Schritt und wirft dessen Exception unverändert weiter
+    private static <T> T await(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
 }
@@ -2,10 +2,19 @@ package order.application.repository;
 
 import order.core.model.OrderConfirmation;
 
+import java.time.LocalDateTime;
+import java.util.stream.Stream;
+
 /**
  * Repository Interface - OrderConfirmation.
  */
 public interface OrderConfirmationRepository {
 
     OrderConfirmation save(OrderConfirmation confirmation);
+
+    /**
+     * Alle Confirmations mit from <= confirmedAt < to, aufsteigend nach confirmedAt.
+     * Lazy - große Zeiträume werden nicht auf einmal in den Speicher geladen.
+     */
+    Stream<OrderConfirmation> findBetween(LocalDateTime from, LocalDateTime to);
 }
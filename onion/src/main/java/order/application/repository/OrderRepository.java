@@ -15,5 +15,12 @@ public interface OrderRepository {
 
     Optional<Order> findById(OrderId orderId);
 
+    /**
+     * Compare-and-Set über die Version: gespeichert wird nur, wenn die Order
+     * seit dem Laden unverändert ist. Die zurückgegebene Order trägt die neue Version.
+     *
+     * @throws order.core.exception.OrderVersionConflictException wenn die
+     *         gespeicherte Version nicht mehr order.getVersion() ist
+     */
     Order save(Order order);
 }
@@ -0,0 +1,36 @@
+package order.core.exception;
+
+import order.core.model.OrderId;
+
+/**
+ * Domain Exception - Order wurde seit dem Laden von jemand anderem gespeichert.
+ *
+ * Optimistic Locking: nichts wurde geschrieben. Wiederholbar: Order neu laden,
+ * Änderung erneut anwenden, erneut speichern.
+ */
+public class OrderVersionConflictException extends RuntimeException {
+
+    private final OrderId orderId;
+    private final long expectedVersion;
+    private final long actualVersion;
+
+    public OrderVersionConflictException(OrderId orderId, long expectedVersion, long actualVersion) {
+        super("Order was modified concurrently: " + orderId.value()
+            + " (expected version " + expectedVersion + ", current version " + actualVersion + ")");
+        this.orderId = orderId;
+        this.expectedVersion = expectedVersion;
+        this.actualVersion = actualVersion;
+    }
+
+    public OrderId getOrderId() {
+        return orderId;
+    }
+
+    public long getExpectedVersion() {
+        return expectedVersion;
+    }
+
+    public long getActualVersion() {
+        return actualVersion;
+    }
+}
@@ -0,0 +1,12 @@
+package order.core.model;
+
+/**
+ * Auswahl der Geld-Arithmetik für Summen und Bestätigungen.
+ *
+ * BIG_DECIMAL: Money (BigDecimal) - Standard.
+ * LONG_CENTS: MoneyCents (long) - gleiches Ergebnis, ohne Allokation pro Position.
+ */
+public enum MoneyArithmetic {
+    BIG_DECIMAL,
+    LONG_CENTS
+}
@@ -0,0 +1,69 @@
+package order.core.model;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Value Object für Geldbeträge in Cent.
+ *
+ * Alternative zu Money für den Hot Path: rechnet auf einem long statt
+ * auf BigDecimal, keine Zwischenobjekte pro Position.
+ * Überlauf wird erkannt (ArithmeticException) statt still abgeschnitten.
+ */
+public record MoneyCents(long cents) {
+
+    public static final MoneyCents ZERO = new MoneyCents(0);
+
+    public static MoneyCents of(long cents) {
+        return new MoneyCents(cents);
+    }
+
+    // Money hat immer Scale 2 - der unskalierte Wert sind genau die Cent
+    public static MoneyCents of(Money money) {
+        return new MoneyCents(money.amount().unscaledValue().longValueExact());
+    }
+
+    public MoneyCents add(MoneyCents other) {
+        return new MoneyCents(Math.addExact(cents, other.cents));
+    }
+
+    public MoneyCents multiply(int factor) {
+        return new MoneyCents(Math.multiplyExact(cents, factor));
+    }
+
+    /**
+     * Multiplikation mit einem Satz (z.B. Steuer), gerundet wie Money: HALF_UP.
+     */
+    public MoneyCents multiply(Rate rate) {
+        long scaled = Math.multiplyExact(Math.abs(cents), rate.basisPoints());
+        long rounded = Math.addExact(scaled, Rate.BASIS / 2) / Rate.BASIS;
+        return new MoneyCents(cents < 0 ? -rounded : rounded);
+    }
+
+    public boolean isGreaterThanOrEqual(MoneyCents other) {
+        return cents >= other.cents;
+    }
+
+    public Money toMoney() {
+        return Money.of(BigDecimal.valueOf(cents, 2));
+    }
+
+    /**
+     * Satz in Basispunkten (1/10000), z.B. 0.19 → 1900.
+     */
+    public record Rate(long basisPoints) {
+
+        static final long BASIS = 10_000;
+
+        public Rate {
+            if (basisPoints < 0) {
+                throw new IllegalArgumentException("Rate cannot be negative");
+            }
+        }
+
+        // Wirft ArithmeticException wenn der Satz mehr als 4 Nachkommastellen hat
+        public static Rate of(BigDecimal rate) {
+            return new Rate(rate.setScale(4, RoundingMode.UNNECESSARY).unscaledValue().longValueExact());
+        }
+    }
+}
@@ -18,31 +18,49 @@ public class Order {
     private final List<OrderItem> items;
     private OrderStatus status;
 
-    private Order(OrderId id, CustomerId customerId, List<OrderItem> items, OrderStatus status) {
+    // Optimistic Locking: Stand beim Laden, 0 = noch nie gespeichert
+    private final long version;
+
+    // Laufende Summe in Cent, bei jeder Änderung der Positionen nachgeführt.
+    // Money-Summe nur auf Anfrage daraus - kein BigDecimal pro Position
+    private long totalCents;
+
+    private Order(OrderId id, CustomerId customerId, List<OrderItem> items, OrderStatus status, long version) {
         this.id = Objects.requireNonNull(id);
         this.customerId = Objects.requireNonNull(customerId);
         this.items = new ArrayList<>(items);
         this.status = status;
+        this.version = version;
+        recalculateTotals(this.items);
     }
 
     // Factory: Neue Order erstellen
     public static Order create(OrderId id, CustomerId customerId) {
-        return new Order(id, customerId, new ArrayList<>(), OrderStatus.DRAFT);
+        return new Order(id, customerId, new ArrayList<>(), OrderStatus.DRAFT, 0);
     }
 
     // Factory: Aus Persistenz rekonstruieren
+    public static Order reconstitute(OrderId id, CustomerId customerId, List<OrderItem> items, OrderStatus status,
+                                     long version) {
+        return new Order(id, customerId, items, status, version);
+    }
+
+    // Wie oben, für Orders die noch nie gespeichert wurden (Version 0)
     public static Order reconstitute(OrderId id, CustomerId customerId, List<OrderItem> items, OrderStatus status) {
-        return new Order(id, customerId, items, status);
+        return reconstitute(id, customerId, items, status, 0);
     }
 
     // Geschäftslogik
     public void addItem(OrderItem item) {
         validateModifiable();
+        long newTotalCents = Math.addExact(totalCents, item.calculateSubtotalCents().cents());
         items.add(item);
+        totalCents = newTotalCents;
     }
 
     public void replaceItems(List<OrderItem> newItems) {
         validateModifiable();
+        recalculateTotals(newItems);
         items.clear();
         items.addAll(newItems);
     }
@@ -55,10 +73,26 @@ public class Order {
         this.status = OrderStatus.CONFIRMED;
     }
 
+    // O(1): laufende Summe statt Stream über alle Positionen
     public Money calculateTotal() {
-        return items.stream()
-            .map(OrderItem::calculateSubtotal)
-            .reduce(Money.ZERO, Money::add);
+        // Money hat immer Scale 2 - exakt dieselbe Summe wie über BigDecimal
+        return MoneyCents.of(totalCents).toMoney();
+    }
+
+    public MoneyCents calculateTotalCents() {
+        return MoneyCents.of(totalCents);
+    }
+
+    /**
+     * Summen komplett neu berechnen (Konstruktor, replaceItems).
+     * Felder werden erst am Ende gesetzt - bei Überlauf bleibt der alte Stand.
+     */
+    private void recalculateTotals(List<OrderItem> newItems) {
+        long newTotalCents = 0;
+        for (OrderItem item : newItems) {
+            newTotalCents = Math.addExact(newTotalCents, item.calculateSubtotalCents().cents());
+        }
+        this.totalCents = newTotalCents;
     }
 
     private void validateModifiable() {
@@ -84,6 +118,10 @@ public class Order {
         return status;
     }
 
+    public long getVersion() {
+        return version;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -1,6 +1,8 @@
 package order.domainservices;
 
 import order.core.model.Money;
+import order.core.model.MoneyArithmetic;
+import order.core.model.MoneyCents;
 import order.core.model.Order;
 import order.core.model.OrderConfirmation;
 
@@ -19,7 +21,25 @@ public class OrderConfirmationCalculator {
     private static final BigDecimal FREE_SHIPPING_THRESHOLD = new BigDecimal("100.00");
     private static final Money STANDARD_SHIPPING = Money.of(new BigDecimal("5.99"));
 
+    private static final MoneyCents.Rate TAX_RATE_CENTS = MoneyCents.Rate.of(TAX_RATE);
+    private static final MoneyCents FREE_SHIPPING_THRESHOLD_CENTS = MoneyCents.of(Money.of(FREE_SHIPPING_THRESHOLD));
+    private static final MoneyCents STANDARD_SHIPPING_CENTS = MoneyCents.of(STANDARD_SHIPPING);
+
+    private final MoneyArithmetic arithmetic;
+
+    public OrderConfirmationCalculator() {
+        this(MoneyArithmetic.BIG_DECIMAL);
+    }
+
+    public OrderConfirmationCalculator(MoneyArithmetic arithmetic) {
+        this.arithmetic = arithmetic;
+    }
+
     public OrderConfirmation calculate(Order order) {
+        if (arithmetic == MoneyArithmetic.LONG_CENTS) {
+            return calculateInCents(order);
+        }
+
         Money totalAmount = order.calculateTotal();
         Money taxAmount = calculateTax(totalAmount);
         Money shippingCost = calculateShipping(totalAmount);
@@ -34,6 +54,27 @@ public class OrderConfirmationCalculator {
         );
     }
 
+    /**
+     * Gleiche Rechnung in Cent. Erst das Ergebnis wird in Money umgewandelt,
+     * die Summe über die Positionen läuft ohne BigDecimal.
+     */
+    private OrderConfirmation calculateInCents(Order order) {
+        MoneyCents totalAmount = order.calculateTotalCents();
+        MoneyCents taxAmount = totalAmount.multiply(TAX_RATE_CENTS);
+        MoneyCents shippingCost = totalAmount.isGreaterThanOrEqual(FREE_SHIPPING_THRESHOLD_CENTS)
+            ? MoneyCents.ZERO
+            : STANDARD_SHIPPING_CENTS;
+
+        return OrderConfirmation.create(
+            null,
+            order.getId(),
+            totalAmount.toMoney(),
+            taxAmount.toMoney(),
+            shippingCost.toMoney(),
+            LocalDateTime.now()
+        );
+    }
+
     private Money calculateTax(Money amount) {
         return amount.multiply(TAX_RATE);
     }
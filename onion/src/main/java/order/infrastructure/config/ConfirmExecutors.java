@@ -0,0 +1,48 @@
+package order.infrastructure.config;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Executors für die I/O-Schritte im Confirm-Flow.
+ *
+ * sequential(): alles im aufrufenden Thread - Verhalten wie ohne Executor.
+ * concurrent(): ein Virtual Thread pro Schritt (ab Java 21),
+ * auf älteren JVMs ein Pool aus Daemon-Threads.
+ *
+ * Gleichzeitig laufen nur externe Prüfung und Produktinfos. Order-Save und
+ * Confirmation-Save laufen immer nacheinander im aufrufenden Thread - der
+ * Order-Save ist der Commit-Punkt, die Confirmation folgt erst danach.
+ */
+public final class ConfirmExecutors {
+
+    private ConfirmExecutors() {
+    }
+
+    public static Executor sequential() {
+        return Runnable::run;
+    }
+
+    public static ExecutorService concurrent() {
+        try {
+            // Per Reflection: das Projekt kompiliert gegen Java 17
+            Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) factory.invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return Executors.newCachedThreadPool(daemonThreads());
+        }
+    }
+
+    private static ThreadFactory daemonThreads() {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "order-confirm-io-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
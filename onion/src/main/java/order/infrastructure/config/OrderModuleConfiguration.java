@@ -6,14 +6,19 @@ import order.application.repository.OrderRepository;
 import order.application.service.ExternalOrderService;
 import order.application.service.NotificationService;
 import order.application.service.ProductInfoService;
+import order.core.model.MoneyArithmetic;
 import order.infrastructure.external.ExternalOrderApiService;
 import order.infrastructure.notification.EmailNotificationService;
 import order.infrastructure.persistence.InMemoryOrderConfirmationRepository;
 import order.infrastructure.persistence.InMemoryOrderRepository;
+import order.infrastructure.persistence.NotifyingOrderRepository;
 import order.infrastructure.product.ProductInfoServiceImpl;
 import order.infrastructure.web.OrderController;
+import order.infrastructure.web.OrderJsonCache;
 import product.application.service.ProductStockService;  // Product's Service direkt!
 
+import java.util.concurrent.Executor;
+
 /**
  * Konfiguration - Dependency Injection.
  *
@@ -23,6 +28,7 @@ import product.application.service.ProductStockService;  // Product's Service di
 public class OrderModuleConfiguration {
 
     private final OrderRepository orderRepository;
+    private final OrderJsonCache orderJsonCache;
     private final OrderConfirmationRepository confirmationRepository;
     private final NotificationService notificationService;
     private final ExternalOrderService externalOrderService;
@@ -38,9 +44,33 @@ public class OrderModuleConfiguration {
     public OrderModuleConfiguration(
             product.application.repository.ProductRepository productRepository,
             ProductStockService productStockService) {
+        this(productRepository, productStockService, MoneyArithmetic.BIG_DECIMAL);
+    }
+
+    /**
+     * Wie oben, mit Auswahl der Geld-Arithmetik (LONG_CENTS für den Hot Path).
+     */
+    public OrderModuleConfiguration(
+            product.application.repository.ProductRepository productRepository,
+            ProductStockService productStockService,
+            MoneyArithmetic arithmetic) {
+        this(productRepository, productStockService, arithmetic, ConfirmExecutors.sequential());
+    }
+
+    /**
+     * Wie oben, zusätzlich mit Executor für die I/O-Schritte in confirmOrder
+     * (ConfirmExecutors.concurrent() für gleichzeitige Prüfung und Produktinfos).
+     */
+    public OrderModuleConfiguration(
+            product.application.repository.ProductRepository productRepository,
+            ProductStockService productStockService,
+            MoneyArithmetic arithmetic,
+            Executor confirmExecutor) {
 
         // Infrastructure Layer
-        this.orderRepository = new InMemoryOrderRepository();
+        // Jeder save invalidiert die serialisierte GET-Antwort
+        this.orderJsonCache = new OrderJsonCache();
+        this.orderRepository = new NotifyingOrderRepository(new InMemoryOrderRepository(), orderJsonCache::invalidate);
         this.confirmationRepository = new InMemoryOrderConfirmationRepository();
         this.notificationService = new EmailNotificationService();
         this.externalOrderService = new ExternalOrderApiService();
@@ -53,11 +83,13 @@ public class OrderModuleConfiguration {
             notificationService,
             externalOrderService,
             productInfoService,
-            productStockService  // Product's Service direkt!
+            productStockService,  // Product's Service direkt!
+            arithmetic,
+            confirmExecutor
         );
 
         // Web Layer
-        this.orderController = new OrderController(orderService);
+        this.orderController = new OrderController(orderService, orderJsonCache);
     }
 
     public OrderController orderController() {
@@ -71,4 +103,8 @@ public class OrderModuleConfiguration {
     public OrderRepository orderRepository() {
         return orderRepository;
     }
+
+    public OrderConfirmationRepository confirmationRepository() {
+        return confirmationRepository;
+    }
 }
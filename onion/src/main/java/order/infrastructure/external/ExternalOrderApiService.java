@@ -2,6 +2,8 @@ package order.infrastructure.external;
 
 import order.application.service.ExternalOrderService;
 import order.core.model.OrderId;
+import shared.log.EventLog;
+import shared.log.EventLogger;
 
 import java.util.Set;
 
@@ -12,6 +14,8 @@ import java.util.Set;
  */
 public class ExternalOrderApiService implements ExternalOrderService {
 
+    private static final EventLogger LOG = EventLog.logger("EXTERNAL API");
+
     private final String apiBaseUrl;
     private final String apiKey;
 
@@ -29,19 +33,11 @@ public class ExternalOrderApiService implements ExternalOrderService {
 
     @Override
     public boolean existsInExternalSystem(OrderId orderId) {
-        System.out.printf(
-            "[EXTERNAL API] Checking order %d at %s%n",
-            orderId.value(),
-            apiBaseUrl
-        );
+        LOG.info("Checking order {} at {}", orderId.value(), apiBaseUrl);
 
         boolean exists = existingExternalOrders.contains(orderId.value());
 
-        System.out.printf(
-            "[EXTERNAL API] Order %d exists: %s%n",
-            orderId.value(),
-            exists
-        );
+        LOG.info("Order {} exists: {}", orderId.value(), exists);
 
         return exists;
     }
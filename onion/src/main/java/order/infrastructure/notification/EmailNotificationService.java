@@ -3,6 +3,8 @@ package order.infrastructure.notification;
 import order.application.service.NotificationService;
 import order.core.model.CustomerId;
 import order.core.model.OrderConfirmation;
+import shared.log.EventLog;
+import shared.log.EventLogger;
 
 /**
  * Infrastructure - Email Benachrichtigung.
@@ -11,6 +13,8 @@ import order.core.model.OrderConfirmation;
  */
 public class EmailNotificationService implements NotificationService {
 
+    private static final EventLogger LOG = EventLog.logger("EMAIL");
+
     private final String smtpHost;
     private final int smtpPort;
 
@@ -27,13 +31,8 @@ public class EmailNotificationService implements NotificationService {
     public void sendOrderConfirmation(CustomerId customerId, OrderConfirmation confirmation) {
         String content = buildEmailContent(customerId, confirmation);
 
-        System.out.printf(
-            "[EMAIL] Sending to customer %s via %s:%d%n",
-            customerId.value(),
-            smtpHost,
-            smtpPort
-        );
-        System.out.println("[EMAIL] Content: " + content);
+        LOG.info("Sending to customer {} via {}:{}", customerId.value(), smtpHost, smtpPort);
+        LOG.info("Content: {}", content);
     }
 
     private String buildEmailContent(CustomerId customerId, OrderConfirmation confirmation) {
@@ -2,21 +2,27 @@ package order.infrastructure.persistence;
 
 import order.application.repository.OrderConfirmationRepository;
 import order.core.model.OrderConfirmation;
+import shared.collection.DayPartitionedStore;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
 
 /**
  * Infrastructure - In-Memory Repository für OrderConfirmations.
+ *
+ * Partitioniert nach Tag, innerhalb sortiert nach confirmedAt: Zeitraum-
+ * Abfragen lesen nur die betroffenen Tage, Retention verwirft ganze Tage.
  */
 public class InMemoryOrderConfirmationRepository implements OrderConfirmationRepository {
 
-    private final Map<Long, OrderConfirmation> database = new HashMap<>();
-    private long idSequence = 1;
+    private final DayPartitionedStore<OrderConfirmation> database = new DayPartitionedStore<>();
+    private final AtomicLong idSequence = new AtomicLong(1);
 
     @Override
     public OrderConfirmation save(OrderConfirmation confirmation) {
-        Long id = idSequence++;
+        long id = idSequence.getAndIncrement();
 
         OrderConfirmation persisted = OrderConfirmation.create(
             id,
@@ -27,7 +33,21 @@ public class InMemoryOrderConfirmationRepository implements OrderConfirmationRep
             confirmation.getConfirmedAt()
         );
 
-        database.put(id, persisted);
+        database.put(persisted.getConfirmedAt(), id, persisted);
         return persisted;
     }
+
+    @Override
+    public Stream<OrderConfirmation> findBetween(LocalDateTime from, LocalDateTime to) {
+        return database.findBetween(from, to);
+    }
+
+    /**
+     * Retention: verwirft alle Confirmations vor day, tageweise.
+     *
+     * @return Anzahl verworfener Tage
+     */
+    public int dropBefore(LocalDate day) {
+        return database.dropBefore(day);
+    }
 }
@@ -1,21 +1,29 @@
 package order.infrastructure.persistence;
 
 import order.application.repository.OrderRepository;
+import order.core.exception.OrderVersionConflictException;
 import order.core.model.*;
+import shared.collection.ConcurrentLongHashMap;
 
 import java.math.BigDecimal;
 import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Infrastructure - In-Memory Repository für Orders.
  *
  * Äußerste Schicht der Onion.
  * Implementiert Interface aus Application Layer.
+ *
+ * Optimistic Locking: jeder Datensatz trägt eine Version, save ist ein
+ * Compare-and-Set pro Order. Parallele Writer auf verschiedene Orders
+ * blockieren sich nicht, auf dieselbe Order gewinnt genau einer.
  */
 public class InMemoryOrderRepository implements OrderRepository {
 
-    private final Map<Long, OrderData> database = new HashMap<>();
-    private long idSequence = 1;
+    // long-Schlüssel ohne Boxing, thread-safe für parallele confirmOrder
+    private final ConcurrentLongHashMap<OrderData> database = new ConcurrentLongHashMap<>();
+    private final AtomicLong idSequence = new AtomicLong(1);
 
     public InMemoryOrderRepository() {
         seedData();
@@ -35,13 +43,23 @@ public class InMemoryOrderRepository implements OrderRepository {
         OrderData data = mapToData(order);
 
         if (data.id == null) {
-            data.id = idSequence++;
+            data.id = idSequence.getAndIncrement();
         }
 
-        database.put(data.id, data);
+        long expectedVersion = order.getVersion();
+        data.version = expectedVersion + 1;
+        OrderData stored = database.compute(data.id,
+            current -> versionOf(current) == expectedVersion ? data : current);
+        if (stored != data) {
+            throw new OrderVersionConflictException(OrderId.of(data.id), expectedVersion, versionOf(stored));
+        }
         return mapToDomain(data);
     }
 
+    private static long versionOf(OrderData data) {
+        return data != null ? data.version : 0;
+    }
+
     private Order mapToDomain(OrderData data) {
         List<OrderItem> items = data.items.stream()
             .map(this::mapItemToDomain)
@@ -51,7 +69,8 @@ public class InMemoryOrderRepository implements OrderRepository {
             OrderId.of(data.id),
             CustomerId.of(data.customerId),
             items,
-            OrderStatus.valueOf(data.status)
+            OrderStatus.valueOf(data.status),
+            data.version
         );
     }
 
@@ -84,9 +103,10 @@ public class InMemoryOrderRepository implements OrderRepository {
 
     private void seedData() {
         OrderData order = new OrderData();
-        order.id = idSequence++;
+        order.id = idSequence.getAndIncrement();
         order.customerId = "CUST-001";
         order.status = "DRAFT";
+        order.version = 1;
         order.items = List.of(
             createItemData(1L, 2, new BigDecimal("29.99")),
             createItemData(2L, 1, new BigDecimal("49.99"))
@@ -107,6 +127,7 @@ public class InMemoryOrderRepository implements OrderRepository {
         Long id;
         String customerId;
         String status;
+        long version;
         List<OrderItemData> items = new ArrayList<>();
     }
 
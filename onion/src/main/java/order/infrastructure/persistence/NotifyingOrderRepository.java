@@ -0,0 +1,37 @@
+package order.infrastructure.persistence;
+
+import order.application.repository.OrderRepository;
+import order.core.model.Order;
+import order.core.model.OrderId;
+
+import java.util.Optional;
+import java.util.function.LongConsumer;
+
+/**
+ * Decorator - meldet nach jedem save die ID der gespeicherten Order.
+ *
+ * Damit bleiben abgeleitete Daten (z.B. der JSON-Cache am Controller) aktuell,
+ * ohne dass Application Layer oder Repository davon wissen.
+ */
+public class NotifyingOrderRepository implements OrderRepository {
+
+    private final OrderRepository delegate;
+    private final LongConsumer onSaved;
+
+    public NotifyingOrderRepository(OrderRepository delegate, LongConsumer onSaved) {
+        this.delegate = delegate;
+        this.onSaved = onSaved;
+    }
+
+    @Override
+    public Optional<Order> findById(OrderId orderId) {
+        return delegate.findById(orderId);
+    }
+
+    @Override
+    public Order save(Order order) {
+        Order saved = delegate.save(order);
+        onSaved.accept(saved.getId().value());
+        return saved;
+    }
+}
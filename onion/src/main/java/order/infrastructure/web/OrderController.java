@@ -4,6 +4,8 @@ import order.application.OrderApplicationService;
 import order.application.dto.*;
 import order.core.model.OrderId;
 
+import java.util.function.LongFunction;
+
 /**
  * Infrastructure - REST Controller.
  *
@@ -13,9 +15,21 @@ import order.core.model.OrderId;
 public class OrderController {
 
     private final OrderApplicationService orderService;
+    private final OrderJsonCache jsonCache;  // null: jedes GET wird neu serialisiert
+    private final LongFunction<OrderResponse> loadOrder;
 
     public OrderController(OrderApplicationService orderService) {
+        this(orderService, null);
+    }
+
+    /**
+     * Mit Cache der serialisierten GET-Antworten.
+     * Der Cache muss bei jedem save der Order invalidiert werden.
+     */
+    public OrderController(OrderApplicationService orderService, OrderJsonCache jsonCache) {
         this.orderService = orderService;
+        this.jsonCache = jsonCache;
+        this.loadOrder = id -> orderService.getOrder(OrderId.of(id));
     }
 
     // GET /orders/{id}
@@ -23,6 +37,14 @@ public class OrderController {
         return orderService.getOrder(OrderId.of(id));
     }
 
+    // GET /orders/{id} - fertige JSON-Bytes mit ETag, 304 bei passendem If-None-Match
+    public JsonResponse getOrderJson(Long id, String ifNoneMatch) {
+        if (jsonCache == null) {
+            return OrderJsonCache.render(id, loadOrder.apply(id), ifNoneMatch);
+        }
+        return jsonCache.get(id, ifNoneMatch, loadOrder);
+    }
+
     // PUT /orders/{id}
     public OrderResponse updateOrder(Long id, UpdateOrderCommand command) {
         return orderService.updateOrder(OrderId.of(id), command);
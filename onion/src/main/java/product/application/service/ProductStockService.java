@@ -10,10 +10,15 @@ import product.core.model.ProductId;
  *
  * Product exponiert diesen Service für andere Module (z.B. Order).
  * Pragmatisch: Keine ACL nötig - andere Module nutzen dies direkt.
+ *
+ * Laden, Ändern, Speichern läuft pro Produkt unter einem Lock (Lock-Striping):
+ * parallele Reservierungen desselben Produkts überbuchen nicht, verschiedene
+ * Produkte blockieren sich nicht.
  */
 public class ProductStockService {
 
     private final ProductRepository productRepository;
+    private final StripedLocks locks = new StripedLocks();
 
     public ProductStockService(ProductRepository productRepository) {
         this.productRepository = productRepository;
@@ -25,24 +30,28 @@ public class ProductStockService {
      * @throws product.core.exception.InsufficientStockException wenn nicht genug Bestand
      */
     public void reserveStock(ProductId productId, int quantity) {
-        Product product = productRepository.findById(productId)
-            .orElseThrow(() -> new ProductNotFoundException(productId));
+        locks.withLock(productId.value(), () -> {
+            Product product = productRepository.findById(productId)
+                .orElseThrow(() -> new ProductNotFoundException(productId));
 
-        // Domain-Logik aufrufen
-        product.reserveStock(quantity);
+            // Domain-Logik aufrufen
+            product.reserveStock(quantity);
 
-        productRepository.save(product);
+            productRepository.save(product);
+        });
     }
 
     /**
      * Gibt reservierten Bestand zurück.
      */
     public void releaseStock(ProductId productId, int quantity) {
-        Product product = productRepository.findById(productId)
-            .orElseThrow(() -> new ProductNotFoundException(productId));
+        locks.withLock(productId.value(), () -> {
+            Product product = productRepository.findById(productId)
+                .orElseThrow(() -> new ProductNotFoundException(productId));
 
-        product.releaseStock(quantity);
+            product.releaseStock(quantity);
 
-        productRepository.save(product);
+            productRepository.save(product);
+        });
     }
 }
@@ -0,0 +1,50 @@
+package product.application.service;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Lock-Striping für Produkt-IDs.
+ *
+ * Feste Anzahl von Locks, jede Produkt-ID wird über ihren Hash auf einen
+ * Stripe abgebildet. Verschiedene Produkte landen (fast immer) auf
+ * verschiedenen Stripes und skalieren damit über alle Kerne,
+ * dasselbe Produkt landet immer auf demselben Stripe.
+ */
+final class StripedLocks {
+
+    private static final int STRIPES_PER_CORE = 16;
+
+    private final ReentrantLock[] locks;
+    private final int shift;
+
+    StripedLocks(int minimumStripes) {
+        int stripes = Integer.highestOneBit(Math.max(2, minimumStripes - 1)) << 1;
+        this.locks = new ReentrantLock[stripes];
+        for (int i = 0; i < stripes; i++) {
+            locks[i] = new ReentrantLock();
+        }
+        this.shift = Long.SIZE - Integer.numberOfTrailingZeros(stripes);
+    }
+
+    // Convenience Constructor: Stripe-Anzahl abhängig von der Kernanzahl
+    StripedLocks() {
+        this(Runtime.getRuntime().availableProcessors() * STRIPES_PER_CORE);
+    }
+
+    void withLock(long productId, Runnable action) {
+        ReentrantLock lock = locks[indexOf(productId)];
+        lock.lock();
+        try {
+            action.run();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Fibonacci-Hashing: fortlaufende IDs werden gleichmäßig verteilt.
+     */
+    private int indexOf(long productId) {
+        return (int) ((productId * 0x9E3779B97F4A7C15L) >>> shift);
+    }
+}
@@ -4,8 +4,11 @@ import product.application.ProductApplicationService;
 import product.application.repository.ProductRepository;
 import product.application.service.ProductStockService;
 import product.infrastructure.persistence.InMemoryProductRepository;
+import product.infrastructure.persistence.SnapshotProductRepository;
 import product.infrastructure.web.ProductController;
 
+import java.nio.file.Path;
+
 /**
  * Konfiguration - Dependency Injection für Product-Modul.
  */
@@ -17,7 +20,18 @@ public class ProductModuleConfiguration {
     private final ProductController productController;
 
     public ProductModuleConfiguration() {
-        this.productRepository = new InMemoryProductRepository();
+        this(new InMemoryProductRepository());
+    }
+
+    /**
+     * Katalog aus einer Snapshot-Datei (schneller Start, Products erst bei Zugriff).
+     */
+    public ProductModuleConfiguration(Path productSnapshot) {
+        this(new SnapshotProductRepository(productSnapshot));
+    }
+
+    private ProductModuleConfiguration(ProductRepository productRepository) {
+        this.productRepository = productRepository;
         this.productService = new ProductApplicationService(productRepository);
         this.productStockService = new ProductStockService(productRepository);
         this.productController = new ProductController(productService);
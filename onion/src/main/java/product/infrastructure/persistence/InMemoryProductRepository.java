@@ -2,6 +2,7 @@ package product.infrastructure.persistence;
 
 import product.application.repository.ProductRepository;
 import product.core.model.*;
+import shared.collection.ConcurrentLongHashMap;
 
 import java.math.BigDecimal;
 import java.util.*;
@@ -13,7 +14,7 @@ import java.util.*;
  */
 public class InMemoryProductRepository implements ProductRepository {
 
-    private final Map<Long, Product> database = new HashMap<>();
+    private final ConcurrentLongHashMap<Product> database = new ConcurrentLongHashMap<>();
 
     public InMemoryProductRepository() {
         seedData();
@@ -26,7 +27,7 @@ public class InMemoryProductRepository implements ProductRepository {
 
     @Override
     public List<Product> findAll() {
-        return new ArrayList<>(database.values());
+        return database.values();
     }
 
     @Override
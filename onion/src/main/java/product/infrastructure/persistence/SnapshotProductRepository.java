@@ -0,0 +1,86 @@
+package product.infrastructure.persistence;
+
+import product.application.repository.ProductRepository;
+import product.core.model.Product;
+import product.core.model.ProductId;
+import shared.collection.ConcurrentLongHashMap;
+import shared.collection.LongHashMap;
+
+import java.nio.file.Path;
+import java.util.*;
+
+/**
+ * Infrastructure - Product Repository auf Basis eines Snapshots (ProductSnapshot).
+ *
+ * Start in Millisekunden: Die Snapshot-Datei wird nur gemappt, nicht eingelesen.
+ * Ein Product-Objekt entsteht erst beim ersten Zugriff und bleibt dann im Speicher,
+ * damit Stock-Änderungen erhalten bleiben.
+ *
+ * Gespeicherte Products liegen nur im Speicher, bis writeSnapshot() einen neuen Snapshot schreibt.
+ */
+public class SnapshotProductRepository implements ProductRepository {
+
+    private final ProductSnapshot snapshot;
+    private final ConcurrentLongHashMap<Product> materialized = new ConcurrentLongHashMap<>();
+
+    public SnapshotProductRepository(Path snapshotFile) {
+        this.snapshot = ProductSnapshot.open(snapshotFile);
+    }
+
+    /**
+     * Schreibt die Products als Snapshot für einen schnellen Start.
+     */
+    public static void writeSnapshot(Path snapshotFile, Collection<Product> products) {
+        ProductSnapshot.write(snapshotFile, products);
+    }
+
+    @Override
+    public Optional<Product> findById(ProductId productId) {
+        Product product = materialized.get(productId.value());
+        if (product != null) {
+            return Optional.of(product);
+        }
+        int index = snapshot.indexOf(productId.value());
+        if (index < 0) {
+            return Optional.empty();
+        }
+        return Optional.of(materialized.computeIfAbsent(productId.value(), id -> snapshot.productAt(index)));
+    }
+
+    /**
+     * ACHTUNG: Materialisiert den gesamten Katalog.
+     */
+    @Override
+    public List<Product> findAll() {
+        List<Product> products = new ArrayList<>(snapshot.size());
+        for (int index = 0; index < snapshot.size(); index++) {
+            int current = index;
+            products.add(materialized.computeIfAbsent(snapshot.idAt(index), id -> snapshot.productAt(current)));
+        }
+        // Neu gespeicherte Products, die nicht im Snapshot sind
+        materialized.values().stream()
+            .filter(product -> snapshot.indexOf(product.getId().value()) < 0)
+            .forEach(products::add);
+        return products;
+    }
+
+    @Override
+    public Product save(Product product) {
+        materialized.put(product.getId().value(), product);
+        return product;
+    }
+
+    /**
+     * Schreibt den aktuellen Stand (Snapshot + Änderungen) in eine neue Snapshot-Datei.
+     * Nicht geladene Products werden nur für das Schreiben erzeugt, nicht gecached.
+     */
+    public void writeSnapshot(Path snapshotFile) {
+        LongHashMap<Product> current = new LongHashMap<>(snapshot.size());
+        materialized.forEach(current::put);
+        for (int index = 0; index < snapshot.size(); index++) {
+            int position = index;
+            current.computeIfAbsent(snapshot.idAt(index), id -> snapshot.productAt(position));
+        }
+        ProductSnapshot.write(snapshotFile, current.values());
+    }
+}
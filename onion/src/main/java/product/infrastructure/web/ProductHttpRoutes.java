@@ -0,0 +1,60 @@
+package product.infrastructure.web;
+
+import com.sun.net.httpserver.HttpExchange;
+import product.application.dto.ProductResponse;
+import shared.http.HttpServerAdapter;
+import shared.http.Json;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * Infrastructure - HTTP-Routen für Products.
+ */
+public class ProductHttpRoutes {
+
+    private final ProductController controller;
+
+    public ProductHttpRoutes(ProductController controller) {
+        this.controller = controller;
+    }
+
+    public void registerOn(HttpServerAdapter server) {
+        server.route("GET", "/products", this::getAllProducts)
+            .route("GET", "/products/{id}", this::getProduct);
+    }
+
+    private void getAllProducts(HttpExchange exchange, long id) throws IOException {
+        List<ProductResponse> products = controller.getAllProducts();
+        StringBuilder json = new StringBuilder(32 + products.size() * 160);
+        json.append('[');
+        for (int i = 0; i < products.size(); i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            appendProduct(json, products.get(i));
+        }
+        json.append(']');
+        HttpServerAdapter.sendJson(exchange, 200, json.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    private void getProduct(HttpExchange exchange, long id) throws IOException {
+        StringBuilder json = new StringBuilder(160);
+        appendProduct(json, controller.getProduct(id));
+        HttpServerAdapter.sendJson(exchange, 200, json.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void appendProduct(StringBuilder json, ProductResponse product) {
+        json.append("{\"id\":").append(product.id())
+            .append(",\"name\":");
+        Json.appendString(json, product.name());
+        json.append(",\"description\":");
+        Json.appendString(json, product.description());
+        json.append(",\"manufacturer\":");
+        Json.appendString(json, product.manufacturer());
+        json.append(",\"price\":").append(product.price().toPlainString())
+            .append(",\"available\":").append(product.available())
+            .append('}');
+    }
+}